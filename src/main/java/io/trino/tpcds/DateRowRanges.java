@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Parallel.ChunkBoundaries;
+import io.trino.tpcds.Parallel.DateNextIndexPair;
+import io.trino.tpcds.column.Column;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Parallel.skipDaysUntilFirstRowOfChunk;
+import static io.trino.tpcds.Parallel.splitWork;
+import static io.trino.tpcds.Table.CATALOG_SALES;
+import static io.trino.tpcds.Table.INVENTORY;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.WAREHOUSE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.InventoryColumn.INV_DATE_SK;
+import static io.trino.tpcds.type.Date.JULIAN_DATE_MINIMUM;
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+// Maps a range of dates of a date column to the row numbers of the chunk of the session that
+// can hold rows with these dates, so a reader can skip rows, or whole chunks, without generating
+// them. Row numbers are those of Results, i.e. orders for the sales tables.
+// The rows of inventory are laid out week by week and the orders of catalog_sales day by day, so
+// for inv_date_sk and cs_sold_date_sk the range is exact. The dates of the other columns are
+// picked at random for every row, so for them the whole chunk is returned.
+public final class DateRowRanges
+{
+    private DateRowRanges() {}
+
+    // firstJulianDate and lastJulianDate are inclusive, as are the returned ranges
+    public static List<RowRange> getRowRanges(Column dateColumn, long firstJulianDate, long lastJulianDate, Session session)
+    {
+        requireNonNull(dateColumn, "dateColumn is null");
+        requireNonNull(session, "session is null");
+        Table table = dateColumn.getTable();
+        ChunkBoundaries chunk = splitWork(table, session);
+        if (firstJulianDate > lastJulianDate || chunk.getFirstRow() > chunk.getLastRow()) {
+            return ImmutableList.of();
+        }
+        if (dateColumn == INV_DATE_SK) {
+            return getInventoryRowRanges(firstJulianDate, lastJulianDate, chunk, session.getScaling());
+        }
+        if (dateColumn == CS_SOLD_DATE_SK) {
+            return getCatalogSalesRowRanges(firstJulianDate, lastJulianDate, chunk, session);
+        }
+        return ImmutableList.of(new RowRange(chunk.getFirstRow(), chunk.getLastRow()));
+    }
+
+    private static List<RowRange> getInventoryRowRanges(long firstJulianDate, long lastJulianDate, ChunkBoundaries chunk, Scaling scaling)
+    {
+        // every week has a row for each item in each warehouse, see InventoryRowGenerator
+        long rowsPerWeek = scaling.getIdCount(ITEM) * scaling.getIdCount(WAREHOUSE);
+        // clamp open bounds to the dates of the table first, so the arithmetic below cannot overflow
+        long lastDateOfTable = JULIAN_DATE_MINIMUM + (scaling.getRowCount(INVENTORY) / rowsPerWeek - 1) * 7;
+        firstJulianDate = max(firstJulianDate, JULIAN_DATE_MINIMUM);
+        lastJulianDate = min(lastJulianDate, lastDateOfTable);
+        if (firstJulianDate > lastJulianDate) {
+            return ImmutableList.of();
+        }
+        long firstWeek = floorDiv(firstJulianDate - JULIAN_DATE_MINIMUM + 6, 7);
+        long lastWeek = floorDiv(lastJulianDate - JULIAN_DATE_MINIMUM, 7);
+        if (lastWeek < firstWeek) {
+            return ImmutableList.of();
+        }
+        return toRowRanges(firstWeek * rowsPerWeek + 1, (lastWeek + 1) * rowsPerWeek, chunk);
+    }
+
+    private static List<RowRange> getCatalogSalesRowRanges(long firstJulianDate, long lastJulianDate, ChunkBoundaries chunk, Session session)
+    {
+        // walk the dates the way CatalogSalesRowGenerator does: starting from the date of the
+        // first row of the chunk, a date lasts until the row number reaches the next date index
+        Scaling scaling = session.getScaling();
+        DateNextIndexPair start = skipDaysUntilFirstRowOfChunk(CATALOG_SALES, session);
+        long julianDate = start.getJulianDate();
+        long firstRowOfDate = chunk.getFirstRow();
+        long lastRowOfDate = start.getNextDateIndex();
+        long firstRow = 0;
+        long lastRow = -1;
+        while (firstRowOfDate <= chunk.getLastRow() && julianDate <= lastJulianDate) {
+            if (julianDate >= firstJulianDate && firstRowOfDate <= lastRowOfDate) {
+                if (firstRow > lastRow) {
+                    firstRow = firstRowOfDate;
+                }
+                lastRow = lastRowOfDate;
+            }
+            firstRowOfDate = max(firstRowOfDate, lastRowOfDate + 1);
+            julianDate++;
+            lastRowOfDate += scaling.getRowCountForDate(CATALOG_SALES, julianDate);
+        }
+        return toRowRanges(firstRow, lastRow, chunk);
+    }
+
+    private static List<RowRange> toRowRanges(long firstRow, long lastRow, ChunkBoundaries chunk)
+    {
+        firstRow = max(firstRow, chunk.getFirstRow());
+        lastRow = min(lastRow, chunk.getLastRow());
+        if (firstRow > lastRow) {
+            return ImmutableList.of();
+        }
+        return ImmutableList.of(new RowRange(firstRow, lastRow));
+    }
+
+    public static final class RowRange
+    {
+        private final long firstRow;
+        private final long lastRow;
+
+        public RowRange(long firstRow, long lastRow)
+        {
+            checkArgument(firstRow >= 1, "firstRow must be at least 1");
+            checkArgument(lastRow >= firstRow, "lastRow must not be less than firstRow");
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+        }
+
+        public long getFirstRow()
+        {
+            return firstRow;
+        }
+
+        public long getLastRow()
+        {
+            return lastRow;
+        }
+
+        @Override
+        public String toString()
+        {
+            return firstRow + "-" + lastRow;
+        }
+    }
+}
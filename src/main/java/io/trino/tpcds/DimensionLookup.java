@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.row.TableRow;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.SlowlyChangingDimensionUtils.computeScdKey;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CATALOG_PAGE;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.CUSTOMER_ADDRESS;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.INCOME_BAND;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.PROMOTION;
+import static io.trino.tpcds.Table.REASON;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.STORE;
+import static io.trino.tpcds.Table.WAREHOUSE;
+import static io.trino.tpcds.Table.WEB_PAGE;
+import static io.trino.tpcds.Table.WEB_SITE;
+import static java.util.Objects.requireNonNull;
+
+// Generates single rows of the dimension tables by their surrogate key, without scanning the
+// table up to them. The values are the same as those returned by Results for the row, and
+// the most recently used rows are kept in a bounded cache. Instances are thread safe.
+public class DimensionLookup
+{
+    public static final long DEFAULT_MAXIMUM_CACHED_ROWS = 10_000;
+
+    // the tables whose surrogate key is the row number
+    private static final Set<Table> TABLES = ImmutableSet.of(
+            CALL_CENTER,
+            CATALOG_PAGE,
+            CUSTOMER,
+            CUSTOMER_ADDRESS,
+            CUSTOMER_DEMOGRAPHICS,
+            HOUSEHOLD_DEMOGRAPHICS,
+            INCOME_BAND,
+            ITEM,
+            PROMOTION,
+            REASON,
+            SHIP_MODE,
+            STORE,
+            WAREHOUSE,
+            WEB_PAGE,
+            WEB_SITE);
+
+    private final Session session;
+    private final Cache<RowKey, List<String>> cache;
+
+    public DimensionLookup(Session session)
+    {
+        this(session, DEFAULT_MAXIMUM_CACHED_ROWS);
+    }
+
+    public DimensionLookup(Session session, long maximumCachedRows)
+    {
+        this.session = requireNonNull(session, "session is null");
+        checkArgument(maximumCachedRows >= 0, "maximumCachedRows is negative");
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumCachedRows)
+                .build();
+    }
+
+    public static boolean supportsLookup(Table table)
+    {
+        return TABLES.contains(table);
+    }
+
+    // Returns the values of the row as an unmodifiable list, in the same format as Results
+    public List<String> lookup(Table table, long surrogateKey)
+    {
+        requireNonNull(table, "table is null");
+        checkArgument(supportsLookup(table), "Lookup by surrogate key is not supported for table %s", table.getName());
+        long rowCount = session.getScaling().getRowCount(table);
+        checkArgument(surrogateKey >= 1 && surrogateKey <= rowCount, "Surrogate key %s of table %s is not between 1 and %s", surrogateKey, table.getName(), rowCount);
+
+        List<String> values = cache.getIfPresent(new RowKey(table, surrogateKey));
+        if (values == null) {
+            values = generateRows(table, surrogateKey);
+        }
+        return values;
+    }
+
+    private List<String> generateRows(Table table, long rowNumber)
+    {
+        // A revision of a slowly changing dimension keeps some of the values of the previous
+        // revision of its business key, so the generation starts at the first revision
+        long firstRowNumber = rowNumber;
+        if (table.keepsHistory()) {
+            while (!computeScdKey(table, firstRowNumber).isNewBusinessKey()) {
+                firstRowNumber--;
+            }
+        }
+
+        RowIterator rows = new RowIterator(table, firstRowNumber, rowNumber, session);
+        List<String> values = null;
+        while (rows.hasNext()) {
+            TableRow row = rows.next().get(0);
+            values = Collections.unmodifiableList(row.getValues());
+            cache.put(new RowKey(table, rows.getRowNumber()), values);
+        }
+        return values;
+    }
+
+    private static final class RowKey
+    {
+        private final Table table;
+        private final long rowNumber;
+
+        private RowKey(Table table, long rowNumber)
+        {
+            this.table = table;
+            this.rowNumber = rowNumber;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RowKey that = (RowKey) o;
+            return rowNumber == that.rowNumber && table == that.table;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(table, rowNumber);
+        }
+    }
+}
@@ -15,12 +15,25 @@
 package io.trino.tpcds;
 
 import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.output.JdbcLoader;
+import io.trino.tpcds.output.JdbcLoader.ConnectionFactory;
+import io.trino.tpcds.server.TableServer;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.DriverManager;
+import java.util.ArrayList;
 import java.util.List;
 
+import static io.trino.tpcds.Options.DEFAULT_CHUNK;
+import static io.trino.tpcds.Options.DEFAULT_SERVER_PORT;
+import static io.trino.tpcds.output.ChunkMerger.mergeChunks;
+
 @Command(name = "dsdgen", description = "data generator for TPC-DS", mixinStandardHelpOptions = true)
 public class Driver
         implements Runnable
@@ -37,6 +50,11 @@ public class Driver
     public void run()
     {
         Session session = options.toSession();
+        if (options.serverPort != DEFAULT_SERVER_PORT) {
+            serve(session);
+            return;
+        }
+
         List<Table> tablesToGenerate;
         if (session.generateOnlyOneTable()) {
             tablesToGenerate = ImmutableList.of(session.getOnlyTableToGenerate());
@@ -45,12 +63,74 @@ public class Driver
             tablesToGenerate = Table.getBaseTables();
         }
 
-        for (int i = 1; i <= session.getParallelism(); i++) {
+        // the JDBC driver is found by DriverManager, so its jar has to be on the class path
+        ConnectionFactory connectionFactory = () -> DriverManager.getConnection(session.getJdbcUrl().orElseThrow());
+        if (session.getJdbcUrl().isPresent()) {
+            new JdbcLoader(session, connectionFactory).createTables(tablesToGenerate);
+        }
+
+        int firstChunk = options.chunk == DEFAULT_CHUNK ? 1 : options.chunk;
+        int lastChunk = options.chunk == DEFAULT_CHUNK ? session.getParallelism() : options.chunk;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = firstChunk; i <= lastChunk; i++) {
             int chunkNumber = i;
-            new Thread(() -> {
-                TableGenerator tableGenerator = new TableGenerator(session.withChunkNumber(chunkNumber));
-                tablesToGenerate.forEach(tableGenerator::generateTable);
-            }).start();
+            Thread thread = new Thread(() -> {
+                Session chunkSession = session.withChunkNumber(chunkNumber);
+                if (session.getJdbcUrl().isPresent()) {
+                    JdbcLoader loader = new JdbcLoader(chunkSession, connectionFactory);
+                    tablesToGenerate.forEach(loader::loadTable);
+                }
+                else {
+                    TableGenerator tableGenerator = new TableGenerator(chunkSession);
+                    tablesToGenerate.forEach(tableGenerator::generateTable);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // main() exits the JVM as soon as run() returns, so wait for all the chunks to be written
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TpcdsException("Interrupted while generating tables");
+            }
+        }
+
+        if (session.shouldMergeChunks() && session.getParallelism() > 1) {
+            Path targetDirectory = Paths.get(session.getTargetDirectory());
+            for (Table table : tablesToGenerate) {
+                try {
+                    mergeChunks(targetDirectory, table, session);
+                }
+                catch (IOException e) {
+                    throw new TpcdsException(e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Session session)
+    {
+        TableServer server;
+        try {
+            server = new TableServer(new InetSocketAddress(options.serverPort), session, options.serverThreads, options.serverQueue);
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+        try {
+            // serve until the process is killed
+            Thread.currentThread().join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            server.close();
         }
     }
 }
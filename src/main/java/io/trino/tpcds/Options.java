@@ -14,8 +14,21 @@
 
 package io.trino.tpcds;
 
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.output.Bucketing;
+import io.trino.tpcds.output.FsyncPolicy;
+import io.trino.tpcds.output.OutputFormat;
+import io.trino.tpcds.output.OutputType;
+import io.trino.tpcds.output.SortKey;
 import picocli.CommandLine.Option;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class Options
@@ -30,6 +43,33 @@ public class Options
     public static final boolean DEFAULT_NO_SEXISM = false;
     public static final int DEFAULT_PARALLELISM = 1;
     public static final boolean DEFAULT_OVERWRITE = false;
+    public static final long DEFAULT_MAX_FILE_BYTES = 0;
+    public static final long DEFAULT_MAX_FILE_ROWS = 0;
+    public static final OutputType DEFAULT_OUTPUT_TYPE = OutputType.FILE;
+    public static final int DEFAULT_CHUNK = 0;
+    public static final OutputFormat DEFAULT_OUTPUT_FORMAT = OutputFormat.TEXT;
+    public static final boolean DEFAULT_PARTITION_BY_DATE = false;
+    // per table, and a chunk writes a sales and a returns table at once, so the default stays
+    // well below the usual limit of 1024 open files; the rows are buffered per partition anyway
+    public static final int DEFAULT_MAX_OPEN_PARTITIONS = 128;
+    public static final Map<Table, Bucketing> DEFAULT_BUCKETING = ImmutableMap.of();
+    public static final Map<Table, SortKey> DEFAULT_SORT_KEYS = ImmutableMap.of();
+    public static final long DEFAULT_SORT_MEMORY = 256L * 1024 * 1024;
+    public static final int DEFAULT_ZONE_MAP_BLOCK_ROWS = 0;
+    public static final boolean DEFAULT_MERGE_CHUNKS = false;
+    public static final int DEFAULT_WRITE_BUFFER_SIZE = 1024 * 1024;
+    public static final int DEFAULT_WRITE_BUFFER_COUNT = 1;
+    public static final FsyncPolicy DEFAULT_FSYNC_POLICY = FsyncPolicy.NONE;
+    public static final String DEFAULT_JDBC_URL = null;
+    public static final int DEFAULT_JDBC_BATCH_SIZE = 1000;
+    public static final int DEFAULT_JDBC_CONNECTIONS = 4;
+    public static final long DEFAULT_JDBC_COMMIT_ROWS = 0;
+    public static final boolean DEFAULT_REUSE_ROWS = false;
+    public static final String DEFAULT_CACHE_DIRECTORY = null;
+    public static final long DEFAULT_CACHE_MAX_BYTES = 100L * 1024 * 1024 * 1024;
+    public static final int DEFAULT_SERVER_PORT = 0;
+    public static final int DEFAULT_SERVER_THREADS = 4;
+    public static final int DEFAULT_SERVER_QUEUE = 16;
 
     @Option(names = {"--scale", "-s"}, paramLabel = "scale", description = "Volume of data to generate in GB (Default: 1)")
     public double scale = DEFAULT_SCALE;
@@ -65,6 +105,82 @@ public class Options
     @Option(names = "--overwrite", paramLabel = "overwrite", description = "Overwrite existing data files for tables")
     public boolean overwrite = DEFAULT_OVERWRITE;
 
+    @Option(names = "--max-file-bytes", paramLabel = "max-file-bytes", description = "Roll output into numbered part files of at most roughly this many bytes. Files are only split between orders (Default: 0, no limit)")
+    public long maxFileBytes = DEFAULT_MAX_FILE_BYTES;
+
+    @Option(names = "--max-file-rows", paramLabel = "max-file-rows", description = "Roll output into numbered part files of at most roughly this many rows. Files are only split between orders (Default: 0, no limit)")
+    public long maxFileRows = DEFAULT_MAX_FILE_ROWS;
+
+    @Option(names = "--output", paramLabel = "output", description = "Where to write the generated rows: file, stdout or pipe. " +
+            "stdout requires a single table and chunk. pipe writes to pre-created named pipes at the paths the data files would have (Default: file)")
+    public String output = DEFAULT_OUTPUT_TYPE.getName();
+
+    @Option(names = "--chunk", paramLabel = "chunk", description = "Build only chunk <n> of a parallel build (Default: all chunks)")
+    public int chunk = DEFAULT_CHUNK;
+
+    @Option(names = "--format", paramLabel = "format", description = "Format of the generated rows: text (delimited) or binary (fixed width, little-endian) (Default: text)")
+    public String format = DEFAULT_OUTPUT_FORMAT.getName();
+
+    @Option(names = "--partition-by-date", paramLabel = "partition-by-date", description = "Write the sales, returns and inventory tables into Hive-style <table>/<date_sk column>=<julian day> directories")
+    public boolean partitionByDate = DEFAULT_PARTITION_BY_DATE;
+
+    @Option(names = "--max-open-partitions", paramLabel = "max-open-partitions", description = "Partition files kept open per table with --partition-by-date. When more are needed, the least recently used one is closed and reopened later for appending (Default: 128)")
+    public int maxOpenPartitions = DEFAULT_MAX_OPEN_PARTITIONS;
+
+    @Option(names = "--bucket-by", paramLabel = "table=column:buckets", description = "Hash the rows of a table into Hive-compatible bucket files by a key column, e.g. store_sales=ss_item_sk:32. Can be repeated for several tables")
+    public List<String> bucketBy = new ArrayList<>();
+
+    @Option(names = "--sort-by", paramLabel = "table=columns", description = "Sort the rows of a table by a comma separated list of columns before writing them, e.g. store_sales=ss_sold_date_sk,ss_customer_sk. Every chunk is sorted on its own. Can be repeated for several tables")
+    public List<String> sortBy = new ArrayList<>();
+
+    @Option(names = "--sort-memory", paramLabel = "sort-memory", description = "Bytes of rows each sorted table of each chunk buffers before spilling a sorted run to disk (Default: 268435456)")
+    public long sortMemory = DEFAULT_SORT_MEMORY;
+
+    @Option(names = "--zone-map-block-rows", paramLabel = "zone-map-block-rows", description = "Write a JSON sidecar with min, max, null count and distinct estimate of every column for each data file and each block of this many rows (Default: 0, no zone maps)")
+    public int zoneMapBlockRows = DEFAULT_ZONE_MAP_BLOCK_ROWS;
+
+    @Option(names = "--merge-chunks", paramLabel = "merge-chunks", description = "After a parallel build, concatenate the chunk files of every table into a single <table> file and delete the chunk files")
+    public boolean mergeChunks = DEFAULT_MERGE_CHUNKS;
+
+    @Option(names = "--write-buffer-size", paramLabel = "write-buffer-size", description = "Size in bytes of each output buffer of a data file (Default: 1048576)")
+    public int writeBufferSize = DEFAULT_WRITE_BUFFER_SIZE;
+
+    @Option(names = "--write-buffers", paramLabel = "write-buffers", description = "Output buffers per data file. With more than one, full buffers are written on a separate I/O thread while the next one is filled (Default: 1)")
+    public int writeBufferCount = DEFAULT_WRITE_BUFFER_COUNT;
+
+    @Option(names = "--fsync", paramLabel = "fsync", description = "When to force written data to disk: none, close (when each file is closed) or buffer (after every buffer) (Default: none)")
+    public String fsync = DEFAULT_FSYNC_POLICY.getName();
+
+    @Option(names = "--jdbc-url", paramLabel = "jdbc-url", description = "Load the tables into the database at this JDBC URL instead of writing files. Missing tables are created")
+    public String jdbcUrl = DEFAULT_JDBC_URL;
+
+    @Option(names = "--jdbc-batch-size", paramLabel = "jdbc-batch-size", description = "Rows per batch of inserts when loading into a JDBC target (Default: 1000)")
+    public int jdbcBatchSize = DEFAULT_JDBC_BATCH_SIZE;
+
+    @Option(names = "--jdbc-connections", paramLabel = "jdbc-connections", description = "Connections loading each table (or chunk of a table) in parallel into a JDBC target (Default: 4)")
+    public int jdbcConnections = DEFAULT_JDBC_CONNECTIONS;
+
+    @Option(names = "--jdbc-commit-rows", paramLabel = "jdbc-commit-rows", description = "Commit every n rows inserted on a connection, at a row boundary. 0 commits once at the end (Default: 0)")
+    public long jdbcCommitRows = DEFAULT_JDBC_COMMIT_ROWS;
+
+    @Option(names = "--reuse-rows", paramLabel = "reuse-rows", description = "Fill the same row objects for every row of the sales, returns and inventory tables instead of allocating new ones")
+    public boolean reuseRows = DEFAULT_REUSE_ROWS;
+
+    @Option(names = "--cache-directory", paramLabel = "cache-directory", description = "Keep the generated files in this directory and link or copy them from there when the same files are generated again")
+    public String cacheDirectory = DEFAULT_CACHE_DIRECTORY;
+
+    @Option(names = "--cache-max-bytes", paramLabel = "cache-max-bytes", description = "Size of the cache directory above which the least recently used files are removed (Default: 100 GiB)")
+    public long cacheMaxBytes = DEFAULT_CACHE_MAX_BYTES;
+
+    @Option(names = "--serve", paramLabel = "port", description = "Instead of generating tables, serve row ranges of them over HTTP on this port: GET /table/<name>?scale=&start=&end=&format=")
+    public int serverPort = DEFAULT_SERVER_PORT;
+
+    @Option(names = "--server-threads", paramLabel = "server-threads", description = "Requests the server generates rows for concurrently (Default: 4)")
+    public int serverThreads = DEFAULT_SERVER_THREADS;
+
+    @Option(names = "--server-queue", paramLabel = "server-queue", description = "Requests the server keeps waiting for a thread before rejecting new ones with 503 (Default: 16)")
+    public int serverQueue = DEFAULT_SERVER_QUEUE;
+
     public Session toSession()
     {
         validateProperties();
@@ -77,7 +193,28 @@ public class Options
                 doNotTerminate,
                 noSexism,
                 parallelism,
-                overwrite);
+                overwrite)
+                .withMaxFileBytes(maxFileBytes)
+                .withMaxFileRows(maxFileRows)
+                .withOutputType(toOutputType(output))
+                .withOutputFormat(toOutputFormat(format))
+                .withPartitionByDate(partitionByDate)
+                .withMaxOpenPartitions(maxOpenPartitions)
+                .withBucketing(toBucketing(bucketBy))
+                .withSortKeys(toSortKeys(sortBy))
+                .withSortMemory(sortMemory)
+                .withZoneMapBlockRows(zoneMapBlockRows)
+                .withMergeChunks(mergeChunks)
+                .withWriteBufferSize(writeBufferSize)
+                .withWriteBufferCount(writeBufferCount)
+                .withFsyncPolicy(toFsyncPolicy(fsync))
+                .withJdbcUrl(Optional.ofNullable(jdbcUrl))
+                .withJdbcBatchSize(jdbcBatchSize)
+                .withJdbcConnections(jdbcConnections)
+                .withJdbcCommitRows(jdbcCommitRows)
+                .withReuseRows(reuseRows)
+                .withCacheDirectory(Optional.ofNullable(cacheDirectory))
+                .withCacheMaxBytes(cacheMaxBytes);
     }
 
     private static Optional<Table> toTableOptional(String table)
@@ -94,6 +231,87 @@ public class Options
         }
     }
 
+    private static OutputType toOutputType(String output)
+    {
+        try {
+            return OutputType.valueOf(output.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("output", output);
+        }
+    }
+
+    private static OutputFormat toOutputFormat(String format)
+    {
+        try {
+            return OutputFormat.valueOf(format.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("format", format);
+        }
+    }
+
+    private static FsyncPolicy toFsyncPolicy(String fsync)
+    {
+        try {
+            return FsyncPolicy.valueOf(fsync.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("fsync", fsync);
+        }
+    }
+
+    private static Map<Table, Bucketing> toBucketing(List<String> bucketBy)
+    {
+        Map<Table, Bucketing> bucketing = new LinkedHashMap<>();
+        for (String value : bucketBy) {
+            int equalsIndex = value.indexOf('=');
+            int colonIndex = value.lastIndexOf(':');
+            if (equalsIndex < 0 || colonIndex < equalsIndex) {
+                throw new InvalidOptionException("bucket-by", value, "Expected <table>=<column>:<bucket count>");
+            }
+            try {
+                Table table = Table.getTable(value.substring(0, equalsIndex));
+                Bucketing tableBucketing = new Bucketing(table.getColumn(value.substring(equalsIndex + 1, colonIndex)), Integer.parseInt(value.substring(colonIndex + 1)));
+                if (bucketing.put(table, tableBucketing) != null) {
+                    throw new InvalidOptionException("bucket-by", value, "Table is bucketed more than once");
+                }
+            }
+            catch (IllegalStateException e) {
+                throw new InvalidOptionException("bucket-by", value, "Unknown table or column");
+            }
+            catch (IllegalArgumentException e) {
+                throw new InvalidOptionException("bucket-by", value, e.getMessage());
+            }
+        }
+        return ImmutableMap.copyOf(bucketing);
+    }
+
+    private static Map<Table, SortKey> toSortKeys(List<String> sortBy)
+    {
+        Map<Table, SortKey> sortKeys = new LinkedHashMap<>();
+        for (String value : sortBy) {
+            int equalsIndex = value.indexOf('=');
+            if (equalsIndex < 0) {
+                throw new InvalidOptionException("sort-by", value, "Expected <table>=<column>[,<column>...]");
+            }
+            try {
+                Table table = Table.getTable(value.substring(0, equalsIndex));
+                ImmutableList.Builder<Column> columns = ImmutableList.builder();
+                for (String column : Splitter.on(',').trimResults().split(value.substring(equalsIndex + 1))) {
+                    columns.add(table.getColumn(column));
+                }
+                if (sortKeys.put(table, new SortKey(table, columns.build())) != null) {
+                    throw new InvalidOptionException("sort-by", value, "Table is sorted more than once");
+                }
+            }
+            catch (IllegalStateException e) {
+                throw new InvalidOptionException("sort-by", value, "Unknown table or column");
+            }
+        }
+        return ImmutableMap.copyOf(sortKeys);
+    }
+
     private void validateProperties()
     {
         if (scale < 0 || scale > 100000) {
@@ -108,5 +326,80 @@ public class Options
         if (parallelism < 1) {
             throw new InvalidOptionException("parallelism", Integer.toString(parallelism), "Parallelism must be >= 1");
         }
+        if (maxFileBytes < 0) {
+            throw new InvalidOptionException("max-file-bytes", Long.toString(maxFileBytes), "Max file bytes must be >= 0");
+        }
+        if (maxFileRows < 0) {
+            throw new InvalidOptionException("max-file-rows", Long.toString(maxFileRows), "Max file rows must be >= 0");
+        }
+        if (chunk < 0 || chunk > parallelism) {
+            throw new InvalidOptionException("chunk", Integer.toString(chunk), "Chunk must be between 1 and the parallelism");
+        }
+        OutputType outputType = toOutputType(output);
+        if (outputType == OutputType.STDOUT && (table == null || (parallelism > 1 && chunk == DEFAULT_CHUNK))) {
+            throw new InvalidOptionException("output", output, "Writing to stdout requires a single table and, for parallel builds, a single chunk");
+        }
+        if (outputType != OutputType.FILE && (maxFileBytes > 0 || maxFileRows > 0)) {
+            throw new InvalidOptionException("output", output, "Output can only be split into part files when writing to files");
+        }
+        if (partitionByDate && (outputType != OutputType.FILE || maxFileBytes > 0 || maxFileRows > 0)) {
+            throw new InvalidOptionException("partition-by-date", "true", "Partitioned output must be written to files and cannot be split into part files");
+        }
+        if (maxOpenPartitions < 1) {
+            throw new InvalidOptionException("max-open-partitions", Integer.toString(maxOpenPartitions), "Max open partitions must be >= 1");
+        }
+        if (!bucketBy.isEmpty() && (outputType != OutputType.FILE || maxFileBytes > 0 || maxFileRows > 0 || partitionByDate)) {
+            throw new InvalidOptionException("bucket-by", bucketBy.get(0), "Bucketed output must be written to files and cannot be split into part files or partitioned by date");
+        }
+        if (zoneMapBlockRows < 0) {
+            throw new InvalidOptionException("zone-map-block-rows", Integer.toString(zoneMapBlockRows), "Zone map block rows must be >= 0");
+        }
+        if (zoneMapBlockRows > 0 && (outputType != OutputType.FILE || partitionByDate || !bucketBy.isEmpty())) {
+            throw new InvalidOptionException("zone-map-block-rows", Integer.toString(zoneMapBlockRows), "Zone maps can only be written for flat or rolled files");
+        }
+        if (mergeChunks && (chunk != DEFAULT_CHUNK || outputType != OutputType.FILE || maxFileBytes > 0 || maxFileRows > 0 || partitionByDate || !bucketBy.isEmpty() || zoneMapBlockRows > 0)) {
+            throw new InvalidOptionException("merge-chunks", "true", "Merging requires all chunks to be written to flat files without zone maps");
+        }
+        if (writeBufferSize < 1) {
+            throw new InvalidOptionException("write-buffer-size", Integer.toString(writeBufferSize), "Write buffer size must be >= 1");
+        }
+        if (writeBufferCount < 1) {
+            throw new InvalidOptionException("write-buffers", Integer.toString(writeBufferCount), "Write buffers must be >= 1");
+        }
+        if (jdbcBatchSize < 1) {
+            throw new InvalidOptionException("jdbc-batch-size", Integer.toString(jdbcBatchSize), "JDBC batch size must be >= 1");
+        }
+        if (jdbcConnections < 1) {
+            throw new InvalidOptionException("jdbc-connections", Integer.toString(jdbcConnections), "JDBC connections must be >= 1");
+        }
+        if (jdbcCommitRows < 0) {
+            throw new InvalidOptionException("jdbc-commit-rows", Long.toString(jdbcCommitRows), "JDBC commit rows must be >= 0");
+        }
+        if (jdbcUrl != null && (outputType != OutputType.FILE || toOutputFormat(format) != OutputFormat.TEXT || maxFileBytes > 0 || maxFileRows > 0 || partitionByDate || !bucketBy.isEmpty() || !sortBy.isEmpty() || zoneMapBlockRows > 0 || mergeChunks)) {
+            // the URL can hold credentials, so it is not echoed back
+            throw new InvalidOptionException("jdbc-url", "...", "Loading into a JDBC target cannot be combined with options for the output files");
+        }
+        if (cacheMaxBytes < 0) {
+            throw new InvalidOptionException("cache-max-bytes", Long.toString(cacheMaxBytes), "Cache max bytes must be >= 0");
+        }
+        if (cacheDirectory != null && (outputType != OutputType.FILE || jdbcUrl != null)) {
+            throw new InvalidOptionException("cache-directory", cacheDirectory, "The cache only holds files written to the output directory");
+        }
+        if (serverPort < 0 || serverPort > 65535) {
+            throw new InvalidOptionException("serve", Integer.toString(serverPort), "Port must be between 0 and 65535");
+        }
+        if (serverThreads < 1) {
+            throw new InvalidOptionException("server-threads", Integer.toString(serverThreads), "Server threads must be >= 1");
+        }
+        if (serverQueue < 0) {
+            throw new InvalidOptionException("server-queue", Integer.toString(serverQueue), "Server queue must be >= 0");
+        }
+        if (sortMemory <= 0) {
+            throw new InvalidOptionException("sort-memory", Long.toString(sortMemory), "Sort memory must be > 0");
+        }
+        // merging concatenates the chunks, which are only sorted on their own
+        if (!sortBy.isEmpty() && (maxFileBytes > 0 || maxFileRows > 0 || partitionByDate || !bucketBy.isEmpty() || mergeChunks)) {
+            throw new InvalidOptionException("sort-by", sortBy.get(0), "Sorted output cannot be split into part files, partitioned, bucketed or merged");
+        }
     }
 }
@@ -17,16 +17,22 @@ package io.trino.tpcds;
 import com.google.common.collect.AbstractIterator;
 import io.trino.tpcds.Parallel.ChunkBoundaries;
 import io.trino.tpcds.row.TableRow;
+import io.trino.tpcds.row.TableRowWithNulls;
 import io.trino.tpcds.row.generator.RowGenerator;
 import io.trino.tpcds.row.generator.RowGeneratorResult;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static io.trino.tpcds.Parallel.splitWork;
+import static io.trino.tpcds.SlowlyChangingDimensionUtils.computeScdKey;
+import static io.trino.tpcds.row.TableRowWithNulls.getUnprojectedColumns;
 import static java.util.Objects.requireNonNull;
 
 public class Results
@@ -57,23 +63,193 @@ public class Results
     }
 
     @Override
-    public Iterator<List<List<String>>> iterator()
+    public ResultsIterator iterator()
     {
         return new ResultsIterator(table, startingRowNumber, rowCount, session);
     }
 
-    private static class ResultsIterator
+    // Splits the rows into ranges that seek their own generators, so a parallel stream generates
+    // them on all cores of the common pool without having to set up chunks in the session.
+    @Override
+    public Spliterator<List<List<String>>> spliterator()
+    {
+        return new ResultsSpliterator(table, startingRowNumber, rowCount, session);
+    }
+
+    public Stream<List<List<String>>> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<List<List<String>>> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Iterates over the generated rows without formatting their values. A consumer that needs
+    // only some of the columns reads them with TableRow.getString() and skips formatting the rest.
+    public RowIterator rowIterator()
+    {
+        return new RowIterator(table, startingRowNumber, rowCount, session);
+    }
+
+    // When the session reuses rows, next() returns the same list every time and the generators
+    // fill the same row objects, so a caller has to copy what it keeps before calling next() again.
+    public static class ResultsIterator
             extends AbstractIterator<List<List<String>>>
+    {
+        private final RowIterator rows;
+        private final boolean reuseRows;
+        // returned by every call to next() when the session reuses rows
+        private final List<List<String>> reusedTableRows = new ArrayList<>(2);
+
+        public ResultsIterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
+        {
+            this.rows = new RowIterator(table, startingRowNumber, endingRowNumber, session);
+            this.reuseRows = session.shouldReuseRows();
+        }
+
+        @Override
+        protected List<List<String>> computeNext()
+        {
+            if (!rows.hasNext()) {
+                return endOfData();
+            }
+
+            List<TableRow> rowAndChildRows = rows.next();
+            List<List<String>> tableRows;
+            if (reuseRows) {
+                reusedTableRows.clear();
+                tableRows = reusedTableRows;
+            }
+            else {
+                tableRows = new ArrayList<>(rowAndChildRows.size());
+            }
+            for (TableRow row : rowAndChildRows) {
+                // the columns outside the projection of the session read as null
+                tableRows.add(row.getValues());
+            }
+            return tableRows;
+        }
+
+        // The row number that produced the rows returned by the last call to next().
+        // For the sales tables a row is an order, which can span several line items.
+        public long getRowNumber()
+        {
+            return rows.getRowNumber();
+        }
+
+        // Whether the rows returned by the last call to next() completed their row, e.g. they
+        // were the last line item of an order. Output can be split after such rows without
+        // splitting an order.
+        public boolean isEndOfRow()
+        {
+            return rows.isEndOfRow();
+        }
+    }
+
+    // Splits in halves of row numbers, so the line items of an order, or the revisions of a
+    // business key of a slowly changing dimension, are never split. A range can only be split
+    // before it starts generating. The size is exact when every row number yields one row, and
+    // the number of orders for the sales and returns tables.
+    public static class ResultsSpliterator
+            implements Spliterator<List<List<String>>>
+    {
+        // a range seeks its generators before the first row, which is not worth it for fewer rows
+        private static final long MINIMUM_SPLIT_ROWS = 1024;
+
+        private final Table table;
+        private final Session session;
+        private final int characteristics;
+        private long startingRowNumber;
+        private final long endingRowNumber;
+        private long returnedRows;
+        private ResultsIterator iterator;
+
+        public ResultsSpliterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
+        {
+            this.table = requireNonNull(table, "table is null");
+            this.session = requireNonNull(session, "session is null");
+            this.startingRowNumber = startingRowNumber;
+            this.endingRowNumber = endingRowNumber;
+            int characteristics = ORDERED | NONNULL;
+            if (!table.hasChild() && !table.isChild()) {
+                characteristics |= SIZED | SUBSIZED;
+            }
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<List<String>>> action)
+        {
+            requireNonNull(action, "action is null");
+            if (iterator == null) {
+                if (startingRowNumber > endingRowNumber) {
+                    return false;
+                }
+                iterator = new ResultsIterator(table, startingRowNumber, endingRowNumber, session);
+            }
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            action.accept(iterator.next());
+            returnedRows++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<List<List<String>>> trySplit()
+        {
+            if (iterator != null || endingRowNumber - startingRowNumber + 1 < 2 * MINIMUM_SPLIT_ROWS) {
+                return null;
+            }
+            long splitRowNumber = startingRowNumber + (endingRowNumber - startingRowNumber + 1) / 2;
+            if (table.keepsHistory()) {
+                while (splitRowNumber > startingRowNumber && !computeScdKey(table, splitRowNumber).isNewBusinessKey()) {
+                    splitRowNumber--;
+                }
+                if (splitRowNumber == startingRowNumber) {
+                    return null;
+                }
+            }
+            ResultsSpliterator prefix = new ResultsSpliterator(table, startingRowNumber, splitRowNumber - 1, session);
+            startingRowNumber = splitRowNumber;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return Math.max(0, endingRowNumber - startingRowNumber + 1 - returnedRows);
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return characteristics;
+        }
+    }
+
+    // Returns the row of the table, followed by the row of its child table if one was generated
+    // along with it. The same reuse rules as for ResultsIterator apply.
+    public static class RowIterator
+            extends AbstractIterator<List<TableRow>>
     {
         private final long endingRowNumber;
         private final Table table;
         private final Session session;
         private long rowNumber;
+        private long lastRowNumber;
+        private boolean lastRowEnded;
+        private long lastCompletedRowNumber;
         private final RowGenerator rowGenerator;
         private final RowGenerator parentRowGenerator;
         private final RowGenerator childRowGenerator;
+        private final boolean projected;
+        private final long unprojectedColumns;
+        private final long unprojectedChildColumns;
 
-        public ResultsIterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
+        public RowIterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
         {
             requireNonNull(table, "table is null");
             requireNonNull(session, "session is null");
@@ -83,6 +259,7 @@ public class Results
             this.table = table;
             this.rowNumber = startingRowNumber;
             this.endingRowNumber = endingRowNumber;
+            this.lastCompletedRowNumber = startingRowNumber - 1;
             this.session = session;
             try {
                 this.rowGenerator = table.getRowGeneratorClass().getDeclaredConstructor().newInstance();
@@ -92,6 +269,9 @@ public class Results
             catch (NoSuchMethodException | InstantiationException | InvocationTargetException | IllegalAccessException e) {
                 throw new TpcdsException(e.toString());
             }
+            this.projected = session.getProjection().isPresent();
+            this.unprojectedColumns = projected ? getUnprojectedColumns(table, session) : 0;
+            this.unprojectedChildColumns = projected && table.hasChild() ? getUnprojectedColumns(table.getChild(), session) : 0;
             skipRowsUntilStartingRowNumber(startingRowNumber);
         }
 
@@ -107,7 +287,7 @@ public class Results
         }
 
         @Override
-        protected List<List<String>> computeNext()
+        protected List<TableRow> computeNext()
         {
             if (rowNumber > endingRowNumber) {
                 return endOfData();
@@ -115,21 +295,51 @@ public class Results
 
             RowGeneratorResult result = rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator);
             List<TableRow> rowAndChildRows = result.getRowAndChildRows();
-            List<List<String>> tableRows = new ArrayList<>(rowAndChildRows.size());
-            for (TableRow row : rowAndChildRows) {
-                tableRows.add(row.getValues());
-            }
 
+            lastRowNumber = rowNumber;
+            lastRowEnded = result.shouldEndRow();
             if (result.shouldEndRow()) {
                 rowStop();
+                lastCompletedRowNumber = rowNumber;
                 rowNumber++;
             }
 
             if (rowAndChildRows.isEmpty()) {
-                tableRows = computeNext();
+                rowAndChildRows = computeNext();
+            }
+            else if (projected) {
+                // the generators may have skipped the columns outside the projection, so make them read as null
+                for (TableRow row : rowAndChildRows) {
+                    TableRowWithNulls tableRow = (TableRowWithNulls) row;
+                    tableRow.setUnprojectedColumns(tableRow.getTable() == table ? unprojectedColumns : unprojectedChildColumns);
+                }
             }
 
-            return tableRows;
+            return rowAndChildRows;
+        }
+
+        // The row number that produced the rows returned by the last call to next().
+        // For the sales tables a row is an order, which can span several line items.
+        public long getRowNumber()
+        {
+            return lastRowNumber;
+        }
+
+        // Whether the rows returned by the last call to next() completed their row, e.g. they
+        // were the last line item of an order. Output can be split after such rows without
+        // splitting an order.
+        public boolean isEndOfRow()
+        {
+            return lastRowEnded;
+        }
+
+        // The last row number whose rows have all been generated, including the row numbers that
+        // produced no rows at all, e.g. orders without returns when a returns table is generated
+        // on its own. Those are never returned, so once hasNext() is false this is the ending
+        // row number, even if the last row returned by next() ended before it.
+        public long getLastCompletedRowNumber()
+        {
+            return lastCompletedRowNumber;
         }
 
         private void rowStop()
@@ -14,17 +14,47 @@
 
 package io.trino.tpcds;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.output.Bucketing;
+import io.trino.tpcds.output.FsyncPolicy;
+import io.trino.tpcds.output.OutputFormat;
+import io.trino.tpcds.output.OutputType;
+import io.trino.tpcds.output.SortKey;
+
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static io.trino.tpcds.Options.DEFAULT_BUCKETING;
+import static io.trino.tpcds.Options.DEFAULT_CACHE_MAX_BYTES;
 import static io.trino.tpcds.Options.DEFAULT_DIRECTORY;
 import static io.trino.tpcds.Options.DEFAULT_DO_NOT_TERMINATE;
+import static io.trino.tpcds.Options.DEFAULT_FSYNC_POLICY;
+import static io.trino.tpcds.Options.DEFAULT_JDBC_BATCH_SIZE;
+import static io.trino.tpcds.Options.DEFAULT_JDBC_COMMIT_ROWS;
+import static io.trino.tpcds.Options.DEFAULT_JDBC_CONNECTIONS;
+import static io.trino.tpcds.Options.DEFAULT_MAX_FILE_BYTES;
+import static io.trino.tpcds.Options.DEFAULT_MAX_FILE_ROWS;
+import static io.trino.tpcds.Options.DEFAULT_MAX_OPEN_PARTITIONS;
+import static io.trino.tpcds.Options.DEFAULT_MERGE_CHUNKS;
 import static io.trino.tpcds.Options.DEFAULT_NO_SEXISM;
 import static io.trino.tpcds.Options.DEFAULT_NULL_STRING;
+import static io.trino.tpcds.Options.DEFAULT_OUTPUT_FORMAT;
+import static io.trino.tpcds.Options.DEFAULT_OUTPUT_TYPE;
 import static io.trino.tpcds.Options.DEFAULT_OVERWRITE;
 import static io.trino.tpcds.Options.DEFAULT_PARALLELISM;
+import static io.trino.tpcds.Options.DEFAULT_PARTITION_BY_DATE;
+import static io.trino.tpcds.Options.DEFAULT_REUSE_ROWS;
 import static io.trino.tpcds.Options.DEFAULT_SCALE;
 import static io.trino.tpcds.Options.DEFAULT_SEPARATOR;
+import static io.trino.tpcds.Options.DEFAULT_SORT_KEYS;
+import static io.trino.tpcds.Options.DEFAULT_SORT_MEMORY;
 import static io.trino.tpcds.Options.DEFAULT_SUFFIX;
+import static io.trino.tpcds.Options.DEFAULT_WRITE_BUFFER_COUNT;
+import static io.trino.tpcds.Options.DEFAULT_WRITE_BUFFER_SIZE;
+import static io.trino.tpcds.Options.DEFAULT_ZONE_MAP_BLOCK_ROWS;
 
 public class Session
 {
@@ -39,6 +69,28 @@ public class Session
     private final int parallelism;
     private final int chunkNumber;
     private final boolean overwrite;
+    private final long maxFileBytes;
+    private final long maxFileRows;
+    private final OutputType outputType;
+    private final OutputFormat outputFormat;
+    private final boolean partitionByDate;
+    private final int maxOpenPartitions;
+    private final Map<Table, Bucketing> bucketing;
+    private final Map<Table, SortKey> sortKeys;
+    private final long sortMemory;
+    private final int zoneMapBlockRows;
+    private final boolean mergeChunks;
+    private final int writeBufferSize;
+    private final int writeBufferCount;
+    private final FsyncPolicy fsyncPolicy;
+    private final Optional<String> jdbcUrl;
+    private final int jdbcBatchSize;
+    private final int jdbcConnections;
+    private final long jdbcCommitRows;
+    private final boolean reuseRows;
+    private final Optional<Set<Column>> projection;
+    private final Optional<String> cacheDirectory;
+    private final long cacheMaxBytes;
 
     public Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, boolean overwrite)
     {
@@ -46,6 +98,11 @@ public class Session
     }
 
     public Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, int chunkNumber, boolean overwrite)
+    {
+        this(scale, targetDirectory, suffix, table, nullString, separator, doNotTerminate, noSexism, parallelism, chunkNumber, overwrite, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILE_ROWS, DEFAULT_OUTPUT_TYPE, DEFAULT_OUTPUT_FORMAT, DEFAULT_PARTITION_BY_DATE, DEFAULT_MAX_OPEN_PARTITIONS, DEFAULT_BUCKETING, DEFAULT_SORT_KEYS, DEFAULT_SORT_MEMORY, DEFAULT_ZONE_MAP_BLOCK_ROWS, DEFAULT_MERGE_CHUNKS, DEFAULT_WRITE_BUFFER_SIZE, DEFAULT_WRITE_BUFFER_COUNT, DEFAULT_FSYNC_POLICY, Optional.empty(), DEFAULT_JDBC_BATCH_SIZE, DEFAULT_JDBC_CONNECTIONS, DEFAULT_JDBC_COMMIT_ROWS, DEFAULT_REUSE_ROWS, Optional.empty(), Optional.empty(), DEFAULT_CACHE_MAX_BYTES);
+    }
+
+    private Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, int chunkNumber, boolean overwrite, long maxFileBytes, long maxFileRows, OutputType outputType, OutputFormat outputFormat, boolean partitionByDate, int maxOpenPartitions, Map<Table, Bucketing> bucketing, Map<Table, SortKey> sortKeys, long sortMemory, int zoneMapBlockRows, boolean mergeChunks, int writeBufferSize, int writeBufferCount, FsyncPolicy fsyncPolicy, Optional<String> jdbcUrl, int jdbcBatchSize, int jdbcConnections, long jdbcCommitRows, boolean reuseRows, Optional<Set<Column>> projection, Optional<String> cacheDirectory, long cacheMaxBytes)
     {
         this.scaling = new Scaling(scale);
         this.targetDirectory = targetDirectory;
@@ -58,6 +115,28 @@ public class Session
         this.parallelism = parallelism;
         this.chunkNumber = chunkNumber;
         this.overwrite = overwrite;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFileRows = maxFileRows;
+        this.outputType = outputType;
+        this.outputFormat = outputFormat;
+        this.partitionByDate = partitionByDate;
+        this.maxOpenPartitions = maxOpenPartitions;
+        this.bucketing = ImmutableMap.copyOf(bucketing);
+        this.sortKeys = ImmutableMap.copyOf(sortKeys);
+        this.sortMemory = sortMemory;
+        this.zoneMapBlockRows = zoneMapBlockRows;
+        this.mergeChunks = mergeChunks;
+        this.writeBufferSize = writeBufferSize;
+        this.writeBufferCount = writeBufferCount;
+        this.fsyncPolicy = fsyncPolicy;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.jdbcConnections = jdbcConnections;
+        this.jdbcCommitRows = jdbcCommitRows;
+        this.reuseRows = reuseRows;
+        this.projection = projection.map(ImmutableSet::copyOf);
+        this.cacheDirectory = cacheDirectory;
+        this.cacheMaxBytes = cacheMaxBytes;
     }
 
     public static Session getDefaultSession()
@@ -78,7 +157,29 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
     }
 
     public Session withScale(double scale)
@@ -94,7 +195,29 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
     }
 
     public Session withParallelism(int parallelism)
@@ -110,7 +233,29 @@ public class Session
                 this.noSexism,
                 parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
     }
 
     public Session withChunkNumber(int chunkNumber)
@@ -126,7 +271,29 @@ public class Session
                 this.noSexism,
                 this.parallelism,
                 chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
     }
 
     public Session withNoSexism(boolean noSexism)
@@ -142,7 +309,867 @@ public class Session
                 noSexism,
                 this.parallelism,
                 this.chunkNumber,
-                this.overwrite);
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withMaxFileBytes(long maxFileBytes)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withMaxFileRows(long maxFileRows)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withOutputType(OutputType outputType)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withOutputFormat(OutputFormat outputFormat)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withPartitionByDate(boolean partitionByDate)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withMaxOpenPartitions(int maxOpenPartitions)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withBucketing(Map<Table, Bucketing> bucketing)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withSortKeys(Map<Table, SortKey> sortKeys)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withSortMemory(long sortMemory)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withZoneMapBlockRows(int zoneMapBlockRows)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withMergeChunks(boolean mergeChunks)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withWriteBufferSize(int writeBufferSize)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withWriteBufferCount(int writeBufferCount)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withFsyncPolicy(FsyncPolicy fsyncPolicy)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withJdbcUrl(Optional<String> jdbcUrl)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withJdbcBatchSize(int jdbcBatchSize)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withJdbcConnections(int jdbcConnections)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withJdbcCommitRows(long jdbcCommitRows)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withReuseRows(boolean reuseRows)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    // Only the columns in the projection are read from the generated rows. The generators may
+    // skip the work for the other columns, whose values come out as nulls.
+    public Session withProjection(Set<Column> projection)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                Optional.of(projection),
+                this.cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withCacheDirectory(Optional<String> cacheDirectory)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                cacheDirectory,
+                this.cacheMaxBytes);
+    }
+
+    public Session withCacheMaxBytes(long cacheMaxBytes)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                this.targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite,
+                this.maxFileBytes,
+                this.maxFileRows,
+                this.outputType,
+                this.outputFormat,
+                this.partitionByDate,
+                this.maxOpenPartitions,
+                this.bucketing,
+                this.sortKeys,
+                this.sortMemory,
+                this.zoneMapBlockRows,
+                this.mergeChunks,
+                this.writeBufferSize,
+                this.writeBufferCount,
+                this.fsyncPolicy,
+                this.jdbcUrl,
+                this.jdbcBatchSize,
+                this.jdbcConnections,
+                this.jdbcCommitRows,
+                this.reuseRows,
+                this.projection,
+                this.cacheDirectory,
+                cacheMaxBytes);
     }
 
     public Scaling getScaling()
@@ -208,6 +1235,126 @@ public class Session
         return overwrite;
     }
 
+    public long getMaxFileBytes()
+    {
+        return maxFileBytes;
+    }
+
+    public long getMaxFileRows()
+    {
+        return maxFileRows;
+    }
+
+    public boolean shouldRollFiles()
+    {
+        return maxFileBytes > 0 || maxFileRows > 0;
+    }
+
+    public OutputType getOutputType()
+    {
+        return outputType;
+    }
+
+    public OutputFormat getOutputFormat()
+    {
+        return outputFormat;
+    }
+
+    public boolean shouldPartitionByDate()
+    {
+        return partitionByDate;
+    }
+
+    public int getMaxOpenPartitions()
+    {
+        return maxOpenPartitions;
+    }
+
+    public Map<Table, Bucketing> getBucketing()
+    {
+        return bucketing;
+    }
+
+    public Map<Table, SortKey> getSortKeys()
+    {
+        return sortKeys;
+    }
+
+    public long getSortMemory()
+    {
+        return sortMemory;
+    }
+
+    public int getZoneMapBlockRows()
+    {
+        return zoneMapBlockRows;
+    }
+
+    public boolean shouldMergeChunks()
+    {
+        return mergeChunks;
+    }
+
+    public int getWriteBufferSize()
+    {
+        return writeBufferSize;
+    }
+
+    public int getWriteBufferCount()
+    {
+        return writeBufferCount;
+    }
+
+    public FsyncPolicy getFsyncPolicy()
+    {
+        return fsyncPolicy;
+    }
+
+    public Optional<String> getJdbcUrl()
+    {
+        return jdbcUrl;
+    }
+
+    public int getJdbcBatchSize()
+    {
+        return jdbcBatchSize;
+    }
+
+    public int getJdbcConnections()
+    {
+        return jdbcConnections;
+    }
+
+    public long getJdbcCommitRows()
+    {
+        return jdbcCommitRows;
+    }
+
+    public boolean shouldReuseRows()
+    {
+        return reuseRows;
+    }
+
+    public Optional<Set<Column>> getProjection()
+    {
+        return projection;
+    }
+
+    public boolean isProjected(Column column)
+    {
+        return projection.isEmpty() || projection.get().contains(column);
+    }
+
+    public Optional<String> getCacheDirectory()
+    {
+        return cacheDirectory;
+    }
+
+    public long getCacheMaxBytes()
+    {
+        return cacheMaxBytes;
+    }
+
     public String getCommandLineArguments()
     {
         StringBuilder output = new StringBuilder();
@@ -241,6 +1388,67 @@ public class Session
         if (overwrite != DEFAULT_OVERWRITE) {
             output.append("--overwrite ");
         }
+        if (maxFileBytes != DEFAULT_MAX_FILE_BYTES) {
+            output.append("--max-file-bytes ").append(maxFileBytes).append(" ");
+        }
+        if (maxFileRows != DEFAULT_MAX_FILE_ROWS) {
+            output.append("--max-file-rows ").append(maxFileRows).append(" ");
+        }
+        if (outputType != DEFAULT_OUTPUT_TYPE) {
+            output.append("--output ").append(outputType.getName()).append(" ");
+        }
+        if (outputFormat != DEFAULT_OUTPUT_FORMAT) {
+            output.append("--format ").append(outputFormat.getName()).append(" ");
+        }
+        if (partitionByDate != DEFAULT_PARTITION_BY_DATE) {
+            output.append("--partition-by-date ");
+        }
+        if (maxOpenPartitions != DEFAULT_MAX_OPEN_PARTITIONS) {
+            output.append("--max-open-partitions ").append(maxOpenPartitions).append(" ");
+        }
+        for (Bucketing tableBucketing : bucketing.values()) {
+            output.append("--bucket-by ").append(tableBucketing).append(" ");
+        }
+        for (SortKey sortKey : sortKeys.values()) {
+            output.append("--sort-by ").append(sortKey).append(" ");
+        }
+        if (sortMemory != DEFAULT_SORT_MEMORY) {
+            output.append("--sort-memory ").append(sortMemory).append(" ");
+        }
+        if (zoneMapBlockRows != DEFAULT_ZONE_MAP_BLOCK_ROWS) {
+            output.append("--zone-map-block-rows ").append(zoneMapBlockRows).append(" ");
+        }
+        if (mergeChunks != DEFAULT_MERGE_CHUNKS) {
+            output.append("--merge-chunks ");
+        }
+        if (writeBufferSize != DEFAULT_WRITE_BUFFER_SIZE) {
+            output.append("--write-buffer-size ").append(writeBufferSize).append(" ");
+        }
+        if (writeBufferCount != DEFAULT_WRITE_BUFFER_COUNT) {
+            output.append("--write-buffers ").append(writeBufferCount).append(" ");
+        }
+        if (fsyncPolicy != DEFAULT_FSYNC_POLICY) {
+            output.append("--fsync ").append(fsyncPolicy.getName()).append(" ");
+        }
+        // --jdbc-url is left out, since the URL can hold credentials and the arguments end up in dbgen_version
+        if (jdbcBatchSize != DEFAULT_JDBC_BATCH_SIZE) {
+            output.append("--jdbc-batch-size ").append(jdbcBatchSize).append(" ");
+        }
+        if (jdbcConnections != DEFAULT_JDBC_CONNECTIONS) {
+            output.append("--jdbc-connections ").append(jdbcConnections).append(" ");
+        }
+        if (jdbcCommitRows != DEFAULT_JDBC_COMMIT_ROWS) {
+            output.append("--jdbc-commit-rows ").append(jdbcCommitRows).append(" ");
+        }
+        if (reuseRows != DEFAULT_REUSE_ROWS) {
+            output.append("--reuse-rows ");
+        }
+        if (cacheDirectory.isPresent()) {
+            output.append("--cache-directory ").append(cacheDirectory.get()).append(" ");
+        }
+        if (cacheMaxBytes != DEFAULT_CACHE_MAX_BYTES) {
+            output.append("--cache-max-bytes ").append(cacheMaxBytes).append(" ");
+        }
 
         // remove trailing space
         if (output.length() > 0) {
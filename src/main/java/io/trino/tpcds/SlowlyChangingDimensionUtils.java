@@ -79,6 +79,19 @@ public final class SlowlyChangingDimensionUtils
         return new SlowlyChangingDimensionKey(businessKey, startDate, endDate, isNewKey);
     }
 
+    // A revision of a business key keeps some of the values of the previous revision, so
+    // generating a range of rows has to start at the first revision of a business key.
+    public static long getFirstRowOfBusinessKey(Table table, long rowNumber)
+    {
+        long firstRowNumber = rowNumber;
+        if (table.keepsHistory()) {
+            while (!computeScdKey(table, firstRowNumber).isNewBusinessKey()) {
+                firstRowNumber--;
+            }
+        }
+        return firstRowNumber;
+    }
+
     public static <T> T getValueForSlowlyChangingDimension(int fieldChangeFlag, boolean isNewKey, T oldValue, T newValue)
     {
         return shouldChangeDimension(fieldChangeFlag, isNewKey) ? newValue : oldValue;
@@ -0,0 +1,262 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.Parallel.ChunkBoundaries;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.ByteArrayOutputStream;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Parallel.splitWork;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.INCOME_BAND;
+import static io.trino.tpcds.Table.REASON;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.TIME_DIM;
+import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Keeps the rows of the tables that are the same at every scale, once generated, for all the
+// sessions and threads of the process. A table is generated by the first thread that asks for
+// it and kept in an encoded form, a length-prefixed byte string per value, until the cache
+// grows over its maximum size. Only the no-sexism flag changes the values of these tables;
+// the null string and separator are applied when the values are formatted, so the same
+// entry serves sessions that differ in those.
+// The cache is opt in: Results and TableGenerator always generate the tables, so only callers
+// that read these tables over and over, such as a benchmark harness that joins against them,
+// go through getRows instead.
+public final class StaticTableCache
+{
+    public static final long DEFAULT_MAXIMUM_BYTES = 256L * 1024 * 1024;
+
+    private static final Set<Table> STATIC_TABLES = ImmutableSet.of(
+            CUSTOMER_DEMOGRAPHICS,
+            DATE_DIM,
+            HOUSEHOLD_DEMOGRAPHICS,
+            INCOME_BAND,
+            REASON,
+            SHIP_MODE,
+            TIME_DIM);
+
+    private static final StaticTableCache INSTANCE = new StaticTableCache(DEFAULT_MAXIMUM_BYTES);
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private final Cache<TableKey, EncodedTable> cache;
+
+    public StaticTableCache(long maximumBytes)
+    {
+        checkArgument(maximumBytes >= 0, "maximumBytes is negative");
+        // Guava splits the maximum weight between the segments of the cache, and a table heavier
+        // than its segment would be evicted as soon as it is loaded, so use a single segment
+        this.cache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maximumBytes)
+                .weigher((TableKey key, EncodedTable table) -> table.getSizeInBytes())
+                .build();
+    }
+
+    // the cache shared by the whole process
+    public static StaticTableCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public static boolean isStaticTable(Table table)
+    {
+        return STATIC_TABLES.contains(table);
+    }
+
+    // Returns the rows of the chunk of the table given by the session, in the same format as Results
+    public List<List<String>> getRows(Table table, Session session)
+    {
+        ChunkBoundaries chunk = splitWork(table, session);
+        return getRows(table, chunk.getFirstRow(), chunk.getLastRow(), session);
+    }
+
+    public List<List<String>> getRows(Table table, long startingRowNumber, long endingRowNumber, Session session)
+    {
+        requireNonNull(table, "table is null");
+        requireNonNull(session, "session is null");
+        checkArgument(isStaticTable(table), "Table %s is not a static table", table.getName());
+        long rowCount = session.getScaling().getRowCount(table);
+        checkArgument(startingRowNumber >= 1 && endingRowNumber <= rowCount && startingRowNumber <= endingRowNumber + 1,
+                "Rows %s to %s are not in table %s of %s rows", startingRowNumber, endingRowNumber, table.getName(), rowCount);
+
+        // the row count is part of the key in case a table ever changes with the scale
+        TableKey key = new TableKey(table, rowCount, session.isSexist());
+        EncodedTable encodedTable;
+        try {
+            encodedTable = cache.get(key, () -> encodeTable(table, session));
+        }
+        catch (ExecutionException e) {
+            throw new TpcdsException(e.getCause().toString());
+        }
+        return encodedTable.getRows(table.getColumns().length, toIntExact(startingRowNumber - 1), toIntExact(endingRowNumber));
+    }
+
+    public long getSizeInBytes()
+    {
+        return cache.asMap().values().stream()
+                .mapToLong(EncodedTable::getSizeInBytes)
+                .sum();
+    }
+
+    public void invalidateAll()
+    {
+        cache.invalidateAll();
+    }
+
+    private static EncodedTable encodeTable(Table table, Session session)
+    {
+        // a session of its own, so that the projection or the chunk of the caller do not matter
+        Session tableSession = getDefaultSession()
+                .withScale(session.getScaling().getScale())
+                .withNoSexism(!session.isSexist())
+                .withTable(table);
+        Column[] columns = table.getColumns();
+        int rowCount = toIntExact(tableSession.getScaling().getRowCount(table));
+        int[] rowOffsets = new int[rowCount + 1];
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        RowIterator rows = constructResults(table, tableSession).rowIterator();
+        int row = 0;
+        while (rows.hasNext()) {
+            TableRow tableRow = rows.next().get(0);
+            rowOffsets[row] = data.size();
+            for (Column column : columns) {
+                byte[] bytes = tableRow.getBytes(column);
+                if (bytes == null) {
+                    data.write(NULL_LENGTH >>> 8);
+                    data.write(NULL_LENGTH & 0xFF);
+                }
+                else {
+                    checkArgument(bytes.length < NULL_LENGTH, "Value of %s is too long", column);
+                    data.write(bytes.length >>> 8);
+                    data.write(bytes.length & 0xFF);
+                    data.write(bytes, 0, bytes.length);
+                }
+            }
+            row++;
+        }
+        rowOffsets[row] = data.size();
+        return new EncodedTable(data.toByteArray(), rowOffsets);
+    }
+
+    private static final class EncodedTable
+    {
+        private final byte[] data;
+        // the offset of every row in data, followed by the length of data
+        private final int[] rowOffsets;
+
+        private EncodedTable(byte[] data, int[] rowOffsets)
+        {
+            this.data = data;
+            this.rowOffsets = rowOffsets;
+        }
+
+        private int getSizeInBytes()
+        {
+            return data.length + rowOffsets.length * Integer.BYTES;
+        }
+
+        // the rows from index first, inclusive, to index last, exclusive, decoded when they are read
+        private List<List<String>> getRows(int columnCount, int first, int last)
+        {
+            return new AbstractList<>()
+            {
+                @Override
+                public List<String> get(int index)
+                {
+                    Objects.checkIndex(index, size());
+                    return decodeRow(first + index, columnCount);
+                }
+
+                @Override
+                public int size()
+                {
+                    return last - first;
+                }
+            };
+        }
+
+        private List<String> decodeRow(int row, int columnCount)
+        {
+            List<String> values = new ArrayList<>(columnCount);
+            int position = rowOffsets[row];
+            for (int i = 0; i < columnCount; i++) {
+                int length = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+                position += 2;
+                if (length == NULL_LENGTH) {
+                    values.add(null);
+                }
+                else {
+                    values.add(new String(data, position, length, ISO_8859_1));
+                    position += length;
+                }
+            }
+            return values;
+        }
+    }
+
+    private static final class TableKey
+    {
+        private final Table table;
+        private final long rowCount;
+        private final boolean sexist;
+
+        private TableKey(Table table, long rowCount, boolean sexist)
+        {
+            this.table = table;
+            this.rowCount = rowCount;
+            this.sexist = sexist;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TableKey that = (TableKey) o;
+            return table == that.table && rowCount == that.rowCount && sexist == that.sexist;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(table, rowCount, sexist);
+        }
+    }
+}
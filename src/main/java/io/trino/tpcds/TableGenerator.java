@@ -14,25 +14,58 @@
 
 package io.trino.tpcds;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.output.FileRowSink;
+import io.trino.tpcds.output.OutputCache;
+import io.trino.tpcds.output.RowSink;
+import io.trino.tpcds.row.TableRow;
+
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 
+import static io.trino.tpcds.Parallel.splitWork;
 import static io.trino.tpcds.Results.constructResults;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+// Generates the rows of the chunk of a table given by the session, along with those of its
+// child table, and hands them to a RowSink. By default the rows are written to files, and
+// when the session has a cache directory the files are taken from an OutputCache.
 public class TableGenerator
 {
     private final Session session;
+    private final RowSink sink;
+    private final Optional<Path> targetDirectory;
+    private final Optional<OutputCache> outputCache;
 
     public TableGenerator(Session session)
+    {
+        this(session, Paths.get(session.getTargetDirectory()));
+    }
+
+    // Writes the tables under targetDirectory, which can be on any java.nio file system
+    public TableGenerator(Session session, Path targetDirectory)
+    {
+        this(session, new FileRowSink(session, targetDirectory), Optional.of(targetDirectory));
+    }
+
+    public TableGenerator(Session session, RowSink sink)
+    {
+        this(session, sink, Optional.empty());
+    }
+
+    private TableGenerator(Session session, RowSink sink, Optional<Path> targetDirectory)
     {
         this.session = requireNonNull(session, "session is null");
+        this.sink = requireNonNull(sink, "sink is null");
+        this.targetDirectory = requireNonNull(targetDirectory, "targetDirectory is null");
+        // the cache holds files, so it is only used when the rows are written to files
+        this.outputCache = targetDirectory.isPresent()
+                ? session.getCacheDirectory().map(directory -> new OutputCache(Paths.get(directory), session.getCacheMaxBytes()))
+                : Optional.empty();
     }
 
     public void generateTable(Table table)
@@ -42,17 +75,12 @@ public class TableGenerator
             return;
         }
 
-        try (OutputStreamWriter parentWriter = addFileWriterForTable(table);
-                OutputStreamWriter childWriter = table.hasChild() && !session.generateOnlyOneTable() ? addFileWriterForTable(table.getChild()) : null) {
-            Results results = constructResults(table, session);
-            for (List<List<String>> parentAndChildRows : results) {
-                if (parentAndChildRows.size() > 0) {
-                    writeResults(parentWriter, parentAndChildRows.get(0));
-                }
-                if (parentAndChildRows.size() > 1) {
-                    requireNonNull(childWriter, "childWriter is null, but a child row was produced");
-                    writeResults(childWriter, parentAndChildRows.get(1));
-                }
+        try {
+            if (outputCache.isPresent() && OutputCache.isCacheable(table, session)) {
+                outputCache.get().generateTable(table, session, targetDirectory.orElseThrow(), directory -> generateRows(table, new FileRowSink(session, directory)));
+            }
+            else {
+                generateRows(table, sink);
             }
         }
         catch (IOException e) {
@@ -60,49 +88,42 @@ public class TableGenerator
         }
     }
 
-    private OutputStreamWriter addFileWriterForTable(Table table)
+    private void generateRows(Table table, RowSink rowSink)
             throws IOException
     {
-        String path = getPath(table);
-        File file = new File(path);
-        boolean newFileCreated = file.createNewFile();
-        if (!newFileCreated) {
-            if (session.shouldOverwrite()) {
-                // truncate the file
-                new FileOutputStream(path).close();
+        Optional<Table> childTable = table.hasChild() && !session.generateOnlyOneTable() ? Optional.of(table.getChild()) : Optional.empty();
+        long firstRowNumber = splitWork(table, session).getFirstRow();
+        try {
+            rowSink.beginTable(table, childTable, firstRowNumber);
+            RowIterator iterator = constructResults(table, session).rowIterator();
+            long lastEndedRowNumber = firstRowNumber - 1;
+            while (iterator.hasNext()) {
+                List<TableRow> parentAndChildRows = iterator.next();
+                if (parentAndChildRows.size() > 0) {
+                    rowSink.acceptParentRow(parentAndChildRows.get(0));
+                }
+                if (parentAndChildRows.size() > 1) {
+                    rowSink.acceptChildRow(parentAndChildRows.get(1));
+                }
+                if (iterator.isEndOfRow()) {
+                    rowSink.endOfRow(iterator.getRowNumber());
+                    lastEndedRowNumber = iterator.getRowNumber();
+                }
             }
-            else {
-                throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
+            // the last rows of the chunk may have produced no rows, e.g. orders without returns
+            if (iterator.getLastCompletedRowNumber() > lastEndedRowNumber) {
+                rowSink.endOfRow(iterator.getLastCompletedRowNumber());
             }
         }
-
-        return new OutputStreamWriter(new FileOutputStream(path, true), StandardCharsets.ISO_8859_1);
-    }
-
-    private String getPath(Table table)
-    {
-        if (session.getParallelism() > 1) {
-            return format("%s%s%s_%d_%d%s",
-                    session.getTargetDirectory(),
-                    File.separator,
-                    table.getName(),
-                    session.getChunkNumber(),
-                    session.getParallelism(),
-                    session.getSuffix());
+        finally {
+            rowSink.endTable();
         }
-
-        // TODO: path names for update case
-        return format("%s%s%s%s",
-                session.getTargetDirectory(),
-                File.separator,
-                table.getName(),
-                session.getSuffix());
     }
 
-    private void writeResults(Writer writer, List<String> values)
-            throws IOException
+    // the name of the output file of a chunk of a parallel build, without the suffix
+    public static String getChunkBaseName(Table table, int chunkNumber, int parallelism)
     {
-        writer.write(formatRow(values, session));
+        return format("%s_%d_%d", table.getName(), chunkNumber, parallelism);
     }
 
     public static String formatRow(List<String> values, Session session)
@@ -0,0 +1,227 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.ColumnType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.output.BinaryFormat.BYTE_ORDER;
+import static io.trino.tpcds.output.BinaryFormat.getNullBitmapSize;
+import static io.trino.tpcds.output.BinaryFormat.getSlotSize;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static io.trino.tpcds.output.BinaryFormat.readHeader;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.READ;
+
+// Reads a file written with --format binary into column batches. The file is memory-mapped
+// in windows of up to MAX_WINDOW_SIZE bytes, so the rows are decoded straight from the page
+// cache without going through an intermediate copy.
+public class BinaryTableReader
+        extends AbstractIterator<ColumnBatch>
+        implements Closeable
+{
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    private static final long MAX_WINDOW_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int batchSize;
+    private final List<ColumnType> types;
+    private final int nullBitmapSize;
+    private final int[] slotOffsets; // offset of the slot of each fixed width column, from the start of the slots
+    private final int[] variableWidthIndexes; // index of each CHAR or VARCHAR column among the variable width columns
+    private final int fixedSize;
+    private final int variableWidthColumns;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    public BinaryTableReader(Path path)
+            throws IOException
+    {
+        this(path, DEFAULT_BATCH_SIZE);
+    }
+
+    public BinaryTableReader(Path path, int batchSize)
+            throws IOException
+    {
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        this.batchSize = batchSize;
+        this.channel = FileChannel.open(path, READ);
+        this.fileSize = channel.size();
+
+        map(0, Math.min(fileSize, MAX_WINDOW_SIZE));
+        this.types = readHeader(window);
+        this.position = window.position();
+
+        this.nullBitmapSize = getNullBitmapSize(types.size());
+        this.slotOffsets = new int[types.size()];
+        this.variableWidthIndexes = new int[types.size()];
+        int slotOffset = 0;
+        int variableWidthIndex = 0;
+        for (int i = 0; i < types.size(); i++) {
+            ColumnType type = types.get(i);
+            if (isVariableWidth(type)) {
+                variableWidthIndexes[i] = variableWidthIndex++;
+            }
+            else {
+                slotOffsets[i] = slotOffset;
+                slotOffset += getSlotSize(type);
+            }
+        }
+        this.fixedSize = slotOffset;
+        this.variableWidthColumns = variableWidthIndex;
+    }
+
+    public List<ColumnType> getTypes()
+    {
+        return types;
+    }
+
+    @Override
+    protected ColumnBatch computeNext()
+    {
+        if (position >= fileSize) {
+            return endOfData();
+        }
+
+        BatchBuilder builder = new BatchBuilder();
+        while (builder.positionCount < batchSize && position < fileSize) {
+            ensureMapped(position, Integer.BYTES);
+            int rowSize = window.getInt(toIntExact(position - windowStart));
+            ensureMapped(position, Integer.BYTES + (long) rowSize);
+            decodeRow(toIntExact(position - windowStart) + Integer.BYTES, builder);
+            position += Integer.BYTES + rowSize;
+        }
+        return builder.build();
+    }
+
+    private void decodeRow(int rowStart, BatchBuilder builder)
+    {
+        int slotsStart = rowStart + nullBitmapSize;
+        int offsetsStart = slotsStart + fixedSize;
+        int stringsStart = offsetsStart + variableWidthColumns * Integer.BYTES;
+        int row = builder.positionCount;
+        for (int i = 0; i < types.size(); i++) {
+            boolean isNull = (window.get(rowStart + i / 8) & (1 << (i % 8))) != 0;
+            builder.nulls[i][row] = isNull;
+            ColumnType type = types.get(i);
+            if (isVariableWidth(type)) {
+                int index = variableWidthIndexes[i];
+                int start = index == 0 ? 0 : window.getInt(offsetsStart + (index - 1) * Integer.BYTES);
+                int end = window.getInt(offsetsStart + index * Integer.BYTES);
+                builder.appendBytes(i, stringsStart + start, end - start);
+            }
+            else {
+                int slot = slotsStart + slotOffsets[i];
+                builder.longs[i][row] = getSlotSize(type) == Long.BYTES ? window.getLong(slot) : window.getInt(slot);
+            }
+        }
+        builder.positionCount++;
+    }
+
+    // makes sure that [start, start + length) of the file is inside the mapped window
+    private void ensureMapped(long start, long length)
+    {
+        if (start + length > fileSize) {
+            throw new TpcdsException(format("Binary file is truncated: row at offset %d extends past the end of the file", start));
+        }
+        if (start >= windowStart && start + length <= windowStart + window.limit()) {
+            return;
+        }
+        map(start, Math.min(fileSize - start, Math.max(MAX_WINDOW_SIZE, length)));
+    }
+
+    private void map(long start, long size)
+    {
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        window.order(BYTE_ORDER);
+        windowStart = start;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        channel.close();
+    }
+
+    private class BatchBuilder
+    {
+        private final boolean[][] nulls = new boolean[types.size()][batchSize];
+        private final long[][] longs = new long[types.size()][];
+        private final byte[][] data = new byte[types.size()][];
+        private final int[][] offsets = new int[types.size()][];
+        private int positionCount;
+
+        private BatchBuilder()
+        {
+            for (int i = 0; i < types.size(); i++) {
+                if (isVariableWidth(types.get(i))) {
+                    data[i] = new byte[batchSize * 16];
+                    offsets[i] = new int[batchSize + 1];
+                }
+                else {
+                    longs[i] = new long[batchSize];
+                }
+            }
+        }
+
+        private void appendBytes(int column, int windowOffset, int length)
+        {
+            int start = offsets[column][positionCount];
+            int end = start + length;
+            if (end > data[column].length) {
+                data[column] = Arrays.copyOf(data[column], Math.max(end, data[column].length * 2));
+            }
+            window.get(windowOffset, data[column], start, length);
+            offsets[column][positionCount + 1] = end;
+        }
+
+        private ColumnBatch build()
+        {
+            ImmutableList.Builder<ColumnVector> columns = ImmutableList.builder();
+            for (int i = 0; i < types.size(); i++) {
+                boolean[] columnNulls = Arrays.copyOf(nulls[i], positionCount);
+                if (isVariableWidth(types.get(i))) {
+                    columns.add(new VarcharColumnVector(types.get(i), columnNulls, data[i], Arrays.copyOf(offsets[i], positionCount + 1)));
+                }
+                else {
+                    columns.add(new LongColumnVector(types.get(i), columnNulls, Arrays.copyOf(longs[i], positionCount)));
+                }
+            }
+            return new ColumnBatch(positionCount, columns.build());
+        }
+    }
+}
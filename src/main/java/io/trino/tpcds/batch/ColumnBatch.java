@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+// A set of rows held column by column
+public class ColumnBatch
+{
+    private final int positionCount;
+    private final List<ColumnVector> columns;
+
+    public ColumnBatch(int positionCount, List<ColumnVector> columns)
+    {
+        checkArgument(positionCount >= 0, "positionCount is negative");
+        this.positionCount = positionCount;
+        this.columns = ImmutableList.copyOf(requireNonNull(columns, "columns is null"));
+    }
+
+    public int getPositionCount()
+    {
+        return positionCount;
+    }
+
+    public int getColumnCount()
+    {
+        return columns.size();
+    }
+
+    public ColumnVector getColumn(int column)
+    {
+        return columns.get(column);
+    }
+
+    public List<ColumnVector> getColumns()
+    {
+        return columns;
+    }
+}
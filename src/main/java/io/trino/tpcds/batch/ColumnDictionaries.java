@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.column.Column;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.trino.tpcds.column.CallCenterColumn.CC_CLASS;
+import static io.trino.tpcds.column.CallCenterColumn.CC_COUNTRY;
+import static io.trino.tpcds.column.CallCenterColumn.CC_HOURS;
+import static io.trino.tpcds.column.CallCenterColumn.CC_STATE;
+import static io.trino.tpcds.column.CallCenterColumn.CC_STREET_TYPE;
+import static io.trino.tpcds.column.CatalogPageColumn.CP_TYPE;
+import static io.trino.tpcds.column.CustomerAddressColumn.CA_COUNTRY;
+import static io.trino.tpcds.column.CustomerAddressColumn.CA_LOCATION_TYPE;
+import static io.trino.tpcds.column.CustomerAddressColumn.CA_STATE;
+import static io.trino.tpcds.column.CustomerAddressColumn.CA_STREET_TYPE;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_CREDIT_RATING;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_EDUCATION_STATUS;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_GENDER;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_MARITAL_STATUS;
+import static io.trino.tpcds.column.HouseholdDemographicsColumn.HD_BUY_POTENTIAL;
+import static io.trino.tpcds.column.ItemColumn.I_CATEGORY;
+import static io.trino.tpcds.column.ItemColumn.I_COLOR;
+import static io.trino.tpcds.column.ItemColumn.I_SIZE;
+import static io.trino.tpcds.column.ItemColumn.I_UNITS;
+import static io.trino.tpcds.column.ReasonColumn.R_REASON_DESC;
+import static io.trino.tpcds.column.ShipModeColumn.SM_CARRIER;
+import static io.trino.tpcds.column.ShipModeColumn.SM_CODE;
+import static io.trino.tpcds.column.ShipModeColumn.SM_TYPE;
+import static io.trino.tpcds.column.StoreColumn.S_COUNTRY;
+import static io.trino.tpcds.column.StoreColumn.S_HOURS;
+import static io.trino.tpcds.column.StoreColumn.S_STATE;
+import static io.trino.tpcds.column.StoreColumn.S_STREET_TYPE;
+import static io.trino.tpcds.column.WarehouseColumn.W_COUNTRY;
+import static io.trino.tpcds.column.WarehouseColumn.W_STATE;
+import static io.trino.tpcds.column.WarehouseColumn.W_STREET_TYPE;
+import static io.trino.tpcds.column.WebPageColumn.WP_TYPE;
+import static io.trino.tpcds.column.WebSiteColumn.WEB_COUNTRY;
+import static io.trino.tpcds.column.WebSiteColumn.WEB_STATE;
+import static io.trino.tpcds.column.WebSiteColumn.WEB_STREET_TYPE;
+import static io.trino.tpcds.distribution.AddressDistributions.getStreetTypes;
+import static io.trino.tpcds.distribution.CallCenterDistributions.getCallCenterClasses;
+import static io.trino.tpcds.distribution.CallCenterDistributions.getCallCenterHours;
+import static io.trino.tpcds.distribution.CatalogPageDistributions.getCatalogPageTypes;
+import static io.trino.tpcds.distribution.CategoriesDistribution.getCategories;
+import static io.trino.tpcds.distribution.DemographicsDistributions.BUY_POTENTIAL_DISTRIBUTION;
+import static io.trino.tpcds.distribution.DemographicsDistributions.CREDIT_RATING_DISTRIBUTION;
+import static io.trino.tpcds.distribution.DemographicsDistributions.EDUCATION_DISTRIBUTION;
+import static io.trino.tpcds.distribution.DemographicsDistributions.GENDER_DISTRIBUTION;
+import static io.trino.tpcds.distribution.DemographicsDistributions.MARITAL_STATUS_DISTRIBUTION;
+import static io.trino.tpcds.distribution.FipsCountyDistribution.getStateAbbreviations;
+import static io.trino.tpcds.distribution.ItemsDistributions.COLORS_DISTRIBUTION;
+import static io.trino.tpcds.distribution.ItemsDistributions.SIZES_DISTRIBUTION;
+import static io.trino.tpcds.distribution.ItemsDistributions.UNITS_DISTRIBUTION;
+import static io.trino.tpcds.distribution.LocationTypesDistribution.getLocationTypes;
+import static io.trino.tpcds.distribution.ReturnReasonsDistribution.getReturnReasons;
+import static io.trino.tpcds.distribution.ShipModeDistributions.SHIP_MODE_CARRIER_DISTRIBUTION;
+import static io.trino.tpcds.distribution.ShipModeDistributions.SHIP_MODE_CODE_DISTRIBUTION;
+import static io.trino.tpcds.distribution.ShipModeDistributions.SHIP_MODE_TYPE_DISTRIBUTION;
+import static io.trino.tpcds.distribution.WebPageUseDistribution.getWebPageUseTypes;
+
+// The columns whose values are all drawn from a small distribution, with a dictionary of the
+// values of that distribution. Every generated value of these columns is in the dictionary.
+public final class ColumnDictionaries
+{
+    // the country of every generated address
+    private static final Dictionary COUNTRIES = new Dictionary(List.of("United States"));
+
+    private static final Map<Column, Dictionary> DICTIONARIES = buildDictionaries();
+
+    private ColumnDictionaries() {}
+
+    public static Optional<Dictionary> getDictionary(Column column)
+    {
+        return Optional.ofNullable(DICTIONARIES.get(column));
+    }
+
+    private static Map<Column, Dictionary> buildDictionaries()
+    {
+        Dictionary states = new Dictionary(getStateAbbreviations());
+        Dictionary streetTypes = new Dictionary(getStreetTypes());
+        Dictionary hours = new Dictionary(getCallCenterHours());
+        return ImmutableMap.<Column, Dictionary>builder()
+                .put(CA_STREET_TYPE, streetTypes)
+                .put(CA_STATE, states)
+                .put(CA_COUNTRY, COUNTRIES)
+                .put(CA_LOCATION_TYPE, new Dictionary(getLocationTypes()))
+                .put(CC_CLASS, new Dictionary(getCallCenterClasses()))
+                .put(CC_HOURS, hours)
+                .put(CC_STREET_TYPE, streetTypes)
+                .put(CC_STATE, states)
+                .put(CC_COUNTRY, COUNTRIES)
+                .put(CP_TYPE, new Dictionary(getCatalogPageTypes()))
+                .put(CD_GENDER, new Dictionary(GENDER_DISTRIBUTION.getValues(0)))
+                .put(CD_MARITAL_STATUS, new Dictionary(MARITAL_STATUS_DISTRIBUTION.getValues(0)))
+                .put(CD_EDUCATION_STATUS, new Dictionary(EDUCATION_DISTRIBUTION.getValues(0)))
+                .put(CD_CREDIT_RATING, new Dictionary(CREDIT_RATING_DISTRIBUTION.getValues(0)))
+                .put(HD_BUY_POTENTIAL, new Dictionary(BUY_POTENTIAL_DISTRIBUTION.getValues(0)))
+                .put(I_CATEGORY, new Dictionary(getCategories()))
+                .put(I_SIZE, new Dictionary(SIZES_DISTRIBUTION.getValues(0)))
+                .put(I_COLOR, new Dictionary(COLORS_DISTRIBUTION.getValues(0)))
+                .put(I_UNITS, new Dictionary(UNITS_DISTRIBUTION.getValues(0)))
+                .put(R_REASON_DESC, new Dictionary(getReturnReasons()))
+                .put(SM_TYPE, new Dictionary(SHIP_MODE_TYPE_DISTRIBUTION.getValues(0)))
+                .put(SM_CODE, new Dictionary(SHIP_MODE_CODE_DISTRIBUTION.getValues(0)))
+                .put(SM_CARRIER, new Dictionary(SHIP_MODE_CARRIER_DISTRIBUTION.getValues(0)))
+                .put(S_HOURS, hours)
+                .put(S_STREET_TYPE, streetTypes)
+                .put(S_STATE, states)
+                .put(S_COUNTRY, COUNTRIES)
+                .put(W_STREET_TYPE, streetTypes)
+                .put(W_STATE, states)
+                .put(W_COUNTRY, COUNTRIES)
+                .put(WP_TYPE, new Dictionary(getWebPageUseTypes()))
+                .put(WEB_STREET_TYPE, streetTypes)
+                .put(WEB_STATE, states)
+                .put(WEB_COUNTRY, COUNTRIES)
+                .buildOrThrow();
+    }
+}
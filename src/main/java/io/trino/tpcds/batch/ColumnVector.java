@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.column.ColumnType;
+
+import static java.util.Objects.requireNonNull;
+
+public abstract class ColumnVector
+{
+    private final ColumnType type;
+    private final boolean[] nulls;
+
+    protected ColumnVector(ColumnType type, boolean[] nulls)
+    {
+        this.type = requireNonNull(type, "type is null");
+        this.nulls = requireNonNull(nulls, "nulls is null");
+    }
+
+    public ColumnType getType()
+    {
+        return type;
+    }
+
+    public int getPositionCount()
+    {
+        return nulls.length;
+    }
+
+    public boolean isNull(int position)
+    {
+        return nulls[position];
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// The distinct values of a low cardinality column, numbered from 0 in the order they first
+// appear in the distribution they are drawn from. A dictionary is shared by every batch of the column.
+public final class Dictionary
+{
+    private final List<String> values;
+    private final Map<String, Integer> ids;
+
+    public Dictionary(List<String> values)
+    {
+        this.values = ImmutableList.copyOf(new LinkedHashSet<>(values));
+        ImmutableMap.Builder<String, Integer> ids = ImmutableMap.builder();
+        for (int i = 0; i < this.values.size(); i++) {
+            ids.put(this.values.get(i), i);
+        }
+        this.ids = ids.buildOrThrow();
+    }
+
+    public int size()
+    {
+        return values.size();
+    }
+
+    public List<String> getValues()
+    {
+        return values;
+    }
+
+    public String getValue(int id)
+    {
+        return values.get(id);
+    }
+
+    public boolean contains(String value)
+    {
+        return ids.containsKey(value);
+    }
+
+    public int getId(String value)
+    {
+        Integer id = ids.get(value);
+        checkArgument(id != null, "Value is not in the dictionary: '%s'", value);
+        return id;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.column.ColumnType;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+// Values of a CHAR or VARCHAR column as ids into a shared Dictionary.
+// The id of a null position is zero.
+public class DictionaryColumnVector
+        extends ColumnVector
+{
+    private final Dictionary dictionary;
+    private final int[] ids;
+
+    public DictionaryColumnVector(ColumnType type, boolean[] nulls, Dictionary dictionary, int[] ids)
+    {
+        super(type, nulls);
+        this.dictionary = requireNonNull(dictionary, "dictionary is null");
+        this.ids = requireNonNull(ids, "ids is null");
+        checkArgument(ids.length == nulls.length, "ids and nulls have different lengths");
+    }
+
+    public Dictionary getDictionary()
+    {
+        return dictionary;
+    }
+
+    public int getId(int position)
+    {
+        return ids[position];
+    }
+
+    public String getString(int position)
+    {
+        return dictionary.getValue(ids[position]);
+    }
+}
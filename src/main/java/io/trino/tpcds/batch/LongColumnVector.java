@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.column.ColumnType;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+// Values of INTEGER and IDENTIFIER columns, DATE columns as julian days, TIME columns as
+// seconds of the day and DECIMAL columns as unscaled values at the scale of the column.
+// The value of a null position is zero.
+public class LongColumnVector
+        extends ColumnVector
+{
+    private final long[] values;
+
+    public LongColumnVector(ColumnType type, boolean[] nulls, long[] values)
+    {
+        super(type, nulls);
+        this.values = requireNonNull(values, "values is null");
+        checkArgument(values.length == nulls.length, "values and nulls have different lengths");
+    }
+
+    public long getLong(int position)
+    {
+        return values[position];
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.row.TableRow;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static java.util.Objects.requireNonNull;
+
+// Generates the rows of a table (or of the chunk of it selected by the session) as column
+// batches. Columns that have a dictionary in ColumnDictionaries are delivered as dictionary
+// ids, so the strings of these columns are never copied into the batches, and numeric, date
+// and time values are read from the rows without formatting them.
+public class TableBatchGenerator
+        extends AbstractIterator<ColumnBatch>
+{
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final List<Column> columns;
+    private final Dictionary[] dictionaries;
+    private final boolean[] projected;
+    private final int batchSize;
+    private final RowIterator rows;
+
+    public TableBatchGenerator(Table table, Session session)
+    {
+        this(table, session, DEFAULT_BATCH_SIZE);
+    }
+
+    public TableBatchGenerator(Table table, Session session, int batchSize)
+    {
+        requireNonNull(table, "table is null");
+        requireNonNull(session, "session is null");
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        this.columns = ImmutableList.copyOf(table.getColumns());
+        this.dictionaries = new Dictionary[columns.size()];
+        this.projected = new boolean[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            dictionaries[i] = ColumnDictionaries.getDictionary(columns.get(i)).orElse(null);
+            projected[i] = session.isProjected(columns.get(i));
+        }
+        this.batchSize = batchSize;
+        // a session restricted to the table makes a child table come out on its own
+        this.rows = constructResults(table, session.withTable(table)).rowIterator();
+    }
+
+    @Override
+    protected ColumnBatch computeNext()
+    {
+        BatchBuilder builder = new BatchBuilder();
+        while (builder.positionCount < batchSize && rows.hasNext()) {
+            List<TableRow> parentAndChildRows = rows.next();
+            if (!parentAndChildRows.isEmpty()) {
+                builder.append(parentAndChildRows.get(0));
+            }
+        }
+        if (builder.positionCount == 0) {
+            return endOfData();
+        }
+        return builder.build();
+    }
+
+    private class BatchBuilder
+    {
+        private final boolean[][] nulls = new boolean[columns.size()][batchSize];
+        private final long[][] longs = new long[columns.size()][];
+        private final int[][] ids = new int[columns.size()][];
+        private final byte[][] data = new byte[columns.size()][];
+        private final int[][] offsets = new int[columns.size()][];
+        private int positionCount;
+
+        private BatchBuilder()
+        {
+            for (int i = 0; i < columns.size(); i++) {
+                if (dictionaries[i] != null) {
+                    ids[i] = new int[batchSize];
+                }
+                else if (isVariableWidth(columns.get(i).getType())) {
+                    data[i] = new byte[batchSize * 16];
+                    offsets[i] = new int[batchSize + 1];
+                }
+                else {
+                    longs[i] = new long[batchSize];
+                }
+            }
+        }
+
+        private void append(TableRow tableRow)
+        {
+            int row = positionCount;
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                // the columns outside the projection of the session are not generated
+                boolean isNull = !projected[i] || tableRow.isNull(column);
+                nulls[i][row] = isNull;
+                if (dictionaries[i] != null) {
+                    if (!isNull) {
+                        ids[i][row] = getId(i, tableRow.getString(column));
+                    }
+                }
+                else if (offsets[i] != null) {
+                    appendBytes(i, row, isNull ? new byte[0] : tableRow.getBytes(column));
+                }
+                else if (!isNull) {
+                    longs[i][row] = tableRow.getLong(column);
+                }
+            }
+            positionCount++;
+        }
+
+        private int getId(int column, String value)
+        {
+            if (!dictionaries[column].contains(value)) {
+                throw new TpcdsException("Value of " + columns.get(column).getName() + " is not in its dictionary: '" + value + "'");
+            }
+            return dictionaries[column].getId(value);
+        }
+
+        private void appendBytes(int column, int row, byte[] bytes)
+        {
+            int start = offsets[column][row];
+            int end = start + bytes.length;
+            if (end > data[column].length) {
+                data[column] = Arrays.copyOf(data[column], Math.max(end, data[column].length * 2));
+            }
+            System.arraycopy(bytes, 0, data[column], start, bytes.length);
+            offsets[column][row + 1] = end;
+        }
+
+        private ColumnBatch build()
+        {
+            ImmutableList.Builder<ColumnVector> vectors = ImmutableList.builder();
+            for (int i = 0; i < columns.size(); i++) {
+                ColumnType type = columns.get(i).getType();
+                boolean[] columnNulls = Arrays.copyOf(nulls[i], positionCount);
+                if (dictionaries[i] != null) {
+                    vectors.add(new DictionaryColumnVector(type, columnNulls, dictionaries[i], Arrays.copyOf(ids[i], positionCount)));
+                }
+                else if (offsets[i] != null) {
+                    vectors.add(new VarcharColumnVector(type, columnNulls, data[i], Arrays.copyOf(offsets[i], positionCount + 1)));
+                }
+                else {
+                    vectors.add(new LongColumnVector(type, columnNulls, Arrays.copyOf(longs[i], positionCount)));
+                }
+            }
+            return new ColumnBatch(positionCount, vectors.build());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.column.ColumnType;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Values of CHAR and VARCHAR columns. The bytes of position i are data[offsets[i]..offsets[i + 1]).
+public class VarcharColumnVector
+        extends ColumnVector
+{
+    private final byte[] data;
+    private final int[] offsets;
+
+    public VarcharColumnVector(ColumnType type, boolean[] nulls, byte[] data, int[] offsets)
+    {
+        super(type, nulls);
+        this.data = requireNonNull(data, "data is null");
+        this.offsets = requireNonNull(offsets, "offsets is null");
+        checkArgument(offsets.length == nulls.length + 1, "offsets must have one more entry than nulls");
+    }
+
+    public byte[] getData()
+    {
+        return data;
+    }
+
+    public int getOffset(int position)
+    {
+        return offsets[position];
+    }
+
+    public int getLength(int position)
+    {
+        return offsets[position + 1] - offsets[position];
+    }
+
+    public byte[] getBytes(int position)
+    {
+        return Arrays.copyOfRange(data, offsets[position], offsets[position + 1]);
+    }
+
+    public String getString(int position)
+    {
+        return new String(data, offsets[position], getLength(position), ISO_8859_1);
+    }
+}
@@ -16,6 +16,8 @@ package io.trino.tpcds.distribution;
 
 import io.trino.tpcds.random.RandomNumberStream;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public final class AddressDistributions
@@ -67,4 +69,9 @@ public final class AddressDistributions
         SMALL,
         UNIFIED_STEP_FUNCTION
     }
+
+    public static List<String> getStreetTypes()
+    {
+        return STREET_TYPES_DISTRIBUTION.getValues(0);
+    }
 }
@@ -16,6 +16,8 @@ package io.trino.tpcds.distribution;
 
 import io.trino.tpcds.random.RandomNumberStream;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public final class CallCenterDistributions
@@ -45,4 +47,14 @@ public final class CallCenterDistributions
     {
         return CALL_CENTER_HOURS_DISTRIBUTION.pickRandomValue(0, 0, stream);
     }
+
+    public static List<String> getCallCenterClasses()
+    {
+        return CALL_CENTER_CLASSES_DISTRIBUTION.getValues(0);
+    }
+
+    public static List<String> getCallCenterHours()
+    {
+        return CALL_CENTER_HOURS_DISTRIBUTION.getValues(0);
+    }
 }
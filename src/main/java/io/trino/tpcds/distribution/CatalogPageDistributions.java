@@ -16,6 +16,8 @@ package io.trino.tpcds.distribution;
 
 import io.trino.tpcds.random.RandomNumberStream;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public final class CatalogPageDistributions
@@ -29,4 +31,9 @@ public final class CatalogPageDistributions
         // only the second set of weights is ever used for random picking
         return CATALOG_PAGE_TYPES_DISTRIBUTION.pickRandomValue(0, 1, stream);
     }
+
+    public static List<String> getCatalogPageTypes()
+    {
+        return CATALOG_PAGE_TYPES_DISTRIBUTION.getValues(0);
+    }
 }
@@ -85,4 +85,9 @@ public class CategoriesDistribution
     {
         return CATEGORIES_DISTRIBUTION.hasSizes.get(index);
     }
+
+    public static List<String> getCategories()
+    {
+        return CATEGORIES_DISTRIBUTION.names;
+    }
 }
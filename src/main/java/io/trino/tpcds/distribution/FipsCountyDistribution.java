@@ -130,4 +130,9 @@ public class FipsCountyDistribution
         IN_ZONE_2,
         IN_ZONE_3
     }
+
+    public static List<String> getStateAbbreviations()
+    {
+        return FIPS_COUNTY_DISTRIBUTION.stateAbbreviations;
+    }
 }
@@ -16,6 +16,8 @@ package io.trino.tpcds.distribution;
 
 import io.trino.tpcds.random.RandomNumberStream;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public final class LocationTypesDistribution
@@ -34,4 +36,9 @@ public final class LocationTypesDistribution
         UNIFORM,
         DISTRIBUTION_FREQUENCY
     }
+
+    public static List<String> getLocationTypes()
+    {
+        return LOCATION_TYPES_DISTRIBUTION.getValues(0);
+    }
 }
@@ -14,6 +14,8 @@
 
 package io.trino.tpcds.distribution;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public final class ReturnReasonsDistribution
@@ -26,4 +28,9 @@ public final class ReturnReasonsDistribution
     {
         return RETURN_REASONS_DISTRIBUTION.getValueAtIndex(0, index);
     }
+
+    public static List<String> getReturnReasons()
+    {
+        return RETURN_REASONS_DISTRIBUTION.getValues(0);
+    }
 }
@@ -117,4 +117,10 @@ public class StringValuesDistribution
     {
         return valuesLists.get(valueListIndex).get(valueIndex);
     }
+
+    public List<String> getValues(int valueListIndex)
+    {
+        checkArgument(valueListIndex < valuesLists.size(), "index out of range, max value index is " + (valuesLists.size() - 1));
+        return valuesLists.get(valueListIndex);
+    }
 }
@@ -16,6 +16,8 @@ package io.trino.tpcds.distribution;
 
 import io.trino.tpcds.random.RandomNumberStream;
 
+import java.util.List;
+
 import static io.trino.tpcds.distribution.StringValuesDistribution.buildStringValuesDistribution;
 
 public class WebPageUseDistribution
@@ -28,4 +30,9 @@ public class WebPageUseDistribution
     {
         return WEB_PAGE_USE_DISTRIBUTION.pickRandomValue(0, 0, stream);
     }
+
+    public static List<String> getWebPageUseTypes()
+    {
+        return WEB_PAGE_USE_DISTRIBUTION.getValues(0);
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.memory;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Results.ResultsIterator;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.trino.tpcds.Results.constructResults;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+// Materializes tables off-heap on first use, so that tests can query generated data without
+// keeping it on the Java heap. Tables are either allocated in memory, or written to
+// <directory>/<table>.tpcdsmem and memory-mapped; a later database over the same directory
+// maps the files written by an earlier one instead of generating the tables again, as long
+// as they were generated with the same scale. All memory is released by close, after which
+// the tables can no longer be read.
+public final class OffHeapDatabase
+        implements Closeable
+{
+    public static final String FILE_SUFFIX = ".tpcdsmem";
+
+    // generation options that change the data, checked when reattaching to a file
+    static final int FLAG_NO_SEXISM = 2;
+
+    private final Session session;
+    private final Optional<Path> directory;
+    private final Arena arena = Arena.ofShared();
+    private final Map<Table, OffHeapTable> tables = new EnumMap<>(Table.class);
+    private boolean closed;
+
+    private OffHeapDatabase(Session session, Optional<Path> directory)
+    {
+        this.session = requireNonNull(session, "session is null");
+        this.directory = requireNonNull(directory, "directory is null");
+    }
+
+    public static OffHeapDatabase inMemory(Session session)
+    {
+        return new OffHeapDatabase(session, Optional.empty());
+    }
+
+    public static OffHeapDatabase mapped(Session session, Path directory)
+            throws IOException
+    {
+        Files.createDirectories(directory);
+        return new OffHeapDatabase(session, Optional.of(directory));
+    }
+
+    public synchronized OffHeapTable getTable(Table table)
+    {
+        checkState(!closed, "database is closed");
+        if (!tables.containsKey(table)) {
+            try {
+                materialize(table);
+            }
+            catch (IOException e) {
+                throw new TpcdsException(e.getMessage());
+            }
+        }
+        return tables.get(table);
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        if (!closed) {
+            closed = true;
+            tables.clear();
+            arena.close();
+        }
+    }
+
+    private void materialize(Table table)
+            throws IOException
+    {
+        // As when writing files, a child table is generated with its parent unless it is the only table of the session
+        Table root = table.isChild() && !session.generateOnlyOneTable() ? table.getParent() : table;
+        List<Table> generated = root.hasChild() && !session.generateOnlyOneTable() ? ImmutableList.of(root, root.getChild()) : ImmutableList.of(root);
+
+        if (directory.isPresent()) {
+            List<OffHeapTable> existing = new ArrayList<>();
+            for (Table generatedTable : generated) {
+                mapExisting(generatedTable).ifPresent(existing::add);
+            }
+            if (existing.size() == generated.size()) {
+                existing.forEach(offHeapTable -> tables.put(offHeapTable.getTable(), offHeapTable));
+                return;
+            }
+        }
+
+        List<OffHeapTableBuilder> builders = new ArrayList<>();
+        try {
+            for (Table generatedTable : generated) {
+                builders.add(new OffHeapTableBuilder(generatedTable));
+            }
+            long rowCount = session.getScaling().getRowCount(root);
+            if (rowCount > 0) {
+                ResultsIterator iterator = constructResults(root, 1, rowCount, session).iterator();
+                while (iterator.hasNext()) {
+                    List<List<String>> parentAndChildRows = iterator.next();
+                    for (int i = 0; i < parentAndChildRows.size(); i++) {
+                        builders.get(i).append(parentAndChildRows.get(i));
+                    }
+                }
+            }
+            for (OffHeapTableBuilder builder : builders) {
+                tables.put(builder.getTable(), directory.isPresent() ? writeFile(builder) : allocate(builder));
+            }
+        }
+        finally {
+            builders.forEach(OffHeapTableBuilder::close);
+        }
+    }
+
+    private OffHeapTable allocate(OffHeapTableBuilder builder)
+    {
+        MemorySegment segment = arena.allocate(builder.getLayoutSize(), Long.BYTES);
+        builder.writeTo(segment, session.getScaling().getScale(), getFlags());
+        return new OffHeapTable(segment);
+    }
+
+    private OffHeapTable writeFile(OffHeapTableBuilder builder)
+            throws IOException
+    {
+        Path path = getPath(builder.getTable());
+        // written under a temporary name, so that a database never maps a partially written file
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        long size = builder.getLayoutSize();
+        try (FileChannel channel = FileChannel.open(temporaryPath, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+                Arena writeArena = Arena.ofConfined()) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, writeArena);
+            builder.writeTo(segment, session.getScaling().getScale(), getFlags());
+            segment.force();
+        }
+        Files.move(temporaryPath, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        return map(path);
+    }
+
+    private Optional<OffHeapTable> mapExisting(Table table)
+            throws IOException
+    {
+        Path path = getPath(table);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        OffHeapTable offHeapTable;
+        try {
+            offHeapTable = map(path);
+        }
+        catch (TpcdsException e) {
+            // written by an incompatible version; generate it again
+            return Optional.empty();
+        }
+        if (offHeapTable.getTable() != table || offHeapTable.getScale() != session.getScaling().getScale() || offHeapTable.getFlags() != getFlags()) {
+            return Optional.empty();
+        }
+        return Optional.of(offHeapTable);
+    }
+
+    private OffHeapTable map(Path path)
+            throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            return new OffHeapTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena));
+        }
+    }
+
+    private Path getPath(Table table)
+    {
+        return directory.orElseThrow().resolve(table.getName() + FILE_SUFFIX);
+    }
+
+    private int getFlags()
+    {
+        return session.isSexist() ? 0 : FLAG_NO_SEXISM;
+    }
+}
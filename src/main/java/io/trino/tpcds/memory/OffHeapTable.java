@@ -0,0 +1,299 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.memory;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.batch.ColumnBatch;
+import io.trino.tpcds.batch.ColumnVector;
+import io.trino.tpcds.batch.LongColumnVector;
+import io.trino.tpcds.batch.VarcharColumnVector;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Iterator;
+import java.util.OptionalLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.output.BinaryFormat.getSlotSize;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Objects.requireNonNull;
+
+// A table materialized column by column in a single off-heap MemorySegment, which is either
+// allocated in memory or a memory-mapped file. All numbers are little-endian and every
+// section starts at a multiple of 8 bytes.
+//
+// The segment starts with a header:
+//   8 bytes   magic "TPCDSMEM"
+//   int32     layout version
+//   int32     table ordinal
+//   float64   scale
+//   int64     row count
+//   int32     column count
+//   int32     flags: FLAG_SURROGATE_KEY when the first column is a strictly increasing key, and
+//             the options the data was generated with (see OffHeapDatabase)
+//   per column: int64 offset of the values, int64 offset of the null bitmap,
+//               int64 offset of the string heap (-1 when absent), int64 size of the string heap
+//
+// followed by the sections of the columns:
+//   values    fixed width slots as in BinaryFormat (INTEGER, DATE and TIME int32; IDENTIFIER
+//             and DECIMAL int64 unscaled), or for CHAR and VARCHAR columns row count + 1
+//             int64 offsets into the string heap
+//   nulls     one bit per row, least significant bit first
+//   heap      the ISO-8859-1 bytes of the CHAR and VARCHAR values
+//
+// Rows are addressed by their position in the table, starting at 0. For the sales tables a
+// row is a line item, not an order.
+public final class OffHeapTable
+{
+    static final byte[] MAGIC = "TPCDSMEM".getBytes(US_ASCII);
+    static final int VERSION = 1;
+    static final int FLAG_SURROGATE_KEY = 1;
+    static final int HEADER_SIZE = 40;
+    static final int COLUMN_HEADER_SIZE = 4 * Long.BYTES;
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(LITTLE_ENDIAN);
+    static final ValueLayout.OfDouble DOUBLE = ValueLayout.JAVA_DOUBLE.withOrder(LITTLE_ENDIAN);
+
+    private final Table table;
+    private final double scale;
+    private final long rowCount;
+    private final int flags;
+    private final boolean surrogateKey;
+    private final ColumnType[] types;
+    private final MemorySegment[] values;
+    private final MemorySegment[] nulls;
+    private final MemorySegment[] heaps;
+
+    OffHeapTable(MemorySegment segment)
+    {
+        requireNonNull(segment, "segment is null");
+        checkFormat(segment.byteSize() >= HEADER_SIZE, "segment is smaller than the header");
+        checkFormat(segment.asSlice(0, MAGIC.length).mismatch(MemorySegment.ofArray(MAGIC)) == -1, "bad magic");
+        checkFormat(segment.get(INT, 8) == VERSION, "unsupported layout version");
+        int tableOrdinal = segment.get(INT, 12);
+        checkFormat(tableOrdinal >= 0 && tableOrdinal < Table.values().length, "unknown table");
+        this.table = Table.values()[tableOrdinal];
+        this.scale = segment.get(DOUBLE, 16);
+        this.rowCount = segment.get(LONG, 24);
+        int columnCount = segment.get(INT, 32);
+        checkFormat(columnCount == table.getColumns().length, "column count does not match the table");
+        checkFormat(segment.byteSize() >= HEADER_SIZE + (long) columnCount * COLUMN_HEADER_SIZE, "segment is smaller than the header");
+        this.flags = segment.get(INT, 36);
+        this.surrogateKey = (flags & FLAG_SURROGATE_KEY) != 0;
+
+        this.types = new ColumnType[columnCount];
+        this.values = new MemorySegment[columnCount];
+        this.nulls = new MemorySegment[columnCount];
+        this.heaps = new MemorySegment[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            ColumnType type = table.getColumns()[i].getType();
+            long columnHeader = HEADER_SIZE + (long) i * COLUMN_HEADER_SIZE;
+            types[i] = type;
+            values[i] = slice(segment, segment.get(LONG, columnHeader), getValuesSize(type, rowCount));
+            nulls[i] = slice(segment, segment.get(LONG, columnHeader + 8), getNullsSize(rowCount));
+            if (isVariableWidth(type)) {
+                heaps[i] = slice(segment, segment.get(LONG, columnHeader + 16), segment.get(LONG, columnHeader + 24));
+            }
+        }
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    public double getScale()
+    {
+        return scale;
+    }
+
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    // the options the data was generated with
+    int getFlags()
+    {
+        return flags & ~FLAG_SURROGATE_KEY;
+    }
+
+    public boolean isNull(Column column, long row)
+    {
+        return isNull(getColumnIndex(column), row);
+    }
+
+    // The value of an INTEGER or IDENTIFIER column, a DATE as julian days, a TIME as seconds of
+    // the day or a DECIMAL as its unscaled value at the scale of the column. Null values are 0.
+    public long getLong(Column column, long row)
+    {
+        int index = getColumnIndex(column);
+        checkArgument(!isVariableWidth(types[index]), "Column %s is not fixed width", column.getName());
+        return getLong(index, row);
+    }
+
+    // The value of a CHAR or VARCHAR column, or null
+    public String getString(Column column, long row)
+    {
+        int index = getColumnIndex(column);
+        checkArgument(isVariableWidth(types[index]), "Column %s is not a CHAR or VARCHAR column", column.getName());
+        if (isNull(index, row)) {
+            return null;
+        }
+        long start = values[index].getAtIndex(LONG, row);
+        int length = toIntExact(values[index].getAtIndex(LONG, row + 1) - start);
+        byte[] bytes = new byte[length];
+        MemorySegment.copy(heaps[index], JAVA_BYTE, start, bytes, 0, length);
+        return new String(bytes, ISO_8859_1);
+    }
+
+    // Whether the first column is a surrogate key that rows can be looked up by
+    public boolean hasSurrogateKey()
+    {
+        return surrogateKey;
+    }
+
+    // The row holding the given value of the surrogate key, found by binary search
+    public OptionalLong findRow(long surrogateKey)
+    {
+        if (!this.surrogateKey) {
+            throw new TpcdsException(format("The first column of %s is not a surrogate key", table.getName()));
+        }
+        long low = 0;
+        long high = rowCount - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long key = values[0].getAtIndex(LONG, middle);
+            if (key < surrogateKey) {
+                low = middle + 1;
+            }
+            else if (key > surrogateKey) {
+                high = middle - 1;
+            }
+            else {
+                return OptionalLong.of(middle);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    // Copies the rows onto the heap as column batches of up to batchSize rows
+    public Iterator<ColumnBatch> scan(int batchSize)
+    {
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        return new AbstractIterator<>()
+        {
+            private long position;
+
+            @Override
+            protected ColumnBatch computeNext()
+            {
+                if (position >= rowCount) {
+                    return endOfData();
+                }
+                int positionCount = (int) Math.min(batchSize, rowCount - position);
+                ImmutableList.Builder<ColumnVector> columns = ImmutableList.builder();
+                for (int i = 0; i < types.length; i++) {
+                    columns.add(readVector(i, position, positionCount));
+                }
+                position += positionCount;
+                return new ColumnBatch(positionCount, columns.build());
+            }
+        };
+    }
+
+    private ColumnVector readVector(int column, long firstRow, int positionCount)
+    {
+        boolean[] columnNulls = new boolean[positionCount];
+        for (int i = 0; i < positionCount; i++) {
+            columnNulls[i] = isNull(column, firstRow + i);
+        }
+        if (isVariableWidth(types[column])) {
+            long start = values[column].getAtIndex(LONG, firstRow);
+            int[] offsets = new int[positionCount + 1];
+            for (int i = 0; i <= positionCount; i++) {
+                offsets[i] = toIntExact(values[column].getAtIndex(LONG, firstRow + i) - start);
+            }
+            byte[] data = new byte[offsets[positionCount]];
+            MemorySegment.copy(heaps[column], JAVA_BYTE, start, data, 0, data.length);
+            return new VarcharColumnVector(types[column], columnNulls, data, offsets);
+        }
+        long[] longs = new long[positionCount];
+        for (int i = 0; i < positionCount; i++) {
+            longs[i] = getLong(column, firstRow + i);
+        }
+        return new LongColumnVector(types[column], columnNulls, longs);
+    }
+
+    private boolean isNull(int column, long row)
+    {
+        checkRow(row);
+        return (nulls[column].get(JAVA_BYTE, row >>> 3) & (1 << (row & 7))) != 0;
+    }
+
+    private long getLong(int column, long row)
+    {
+        checkRow(row);
+        return getSlotSize(types[column]) == Long.BYTES ? values[column].getAtIndex(LONG, row) : values[column].getAtIndex(INT, row);
+    }
+
+    private void checkRow(long row)
+    {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException(format("Row %d is not within the %d rows of %s", row, rowCount, table.getName()));
+        }
+    }
+
+    private int getColumnIndex(Column column)
+    {
+        checkArgument(column.getTable() == table, "Column %s is not a column of %s", column.getName(), table.getName());
+        return column.getPosition();
+    }
+
+    static long getValuesSize(ColumnType type, long rowCount)
+    {
+        return isVariableWidth(type) ? (rowCount + 1) * Long.BYTES : rowCount * getSlotSize(type);
+    }
+
+    static long getNullsSize(long rowCount)
+    {
+        return (rowCount + 7) / 8;
+    }
+
+    private static MemorySegment slice(MemorySegment segment, long offset, long size)
+    {
+        checkFormat(offset >= 0 && size >= 0 && offset + size <= segment.byteSize(), "section is outside of the segment");
+        return segment.asSlice(offset, size);
+    }
+
+    private static void checkFormat(boolean condition, String message)
+    {
+        if (!condition) {
+            throw new TpcdsException("Invalid off-heap table: " + message);
+        }
+    }
+}
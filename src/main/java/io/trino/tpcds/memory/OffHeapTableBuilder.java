@@ -0,0 +1,261 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.memory;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.io.Closeable;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.trino.tpcds.memory.OffHeapTable.COLUMN_HEADER_SIZE;
+import static io.trino.tpcds.memory.OffHeapTable.DOUBLE;
+import static io.trino.tpcds.memory.OffHeapTable.FLAG_SURROGATE_KEY;
+import static io.trino.tpcds.memory.OffHeapTable.HEADER_SIZE;
+import static io.trino.tpcds.memory.OffHeapTable.INT;
+import static io.trino.tpcds.memory.OffHeapTable.LONG;
+import static io.trino.tpcds.memory.OffHeapTable.MAGIC;
+import static io.trino.tpcds.memory.OffHeapTable.VERSION;
+import static io.trino.tpcds.memory.OffHeapTable.getNullsSize;
+import static io.trino.tpcds.memory.OffHeapTable.getValuesSize;
+import static io.trino.tpcds.output.BinaryFormat.getSlotSize;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseJulianDays;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseSecondsOfDay;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+// Collects the rows of a table column by column in off-heap buffers that grow as rows are
+// added, then lays them out as described in OffHeapTable. The buffers are owned by the
+// thread building the table and freed by close.
+final class OffHeapTableBuilder
+        implements Closeable
+{
+    private static final long INITIAL_CAPACITY = 64 * 1024;
+
+    private final Table table;
+    private final ColumnType[] types;
+    private final GrowableSegment[] values;
+    private final GrowableSegment[] nulls;
+    private final GrowableSegment[] heaps;
+    private long rowCount;
+    private boolean surrogateKey;
+    private long lastKey = Long.MIN_VALUE;
+
+    OffHeapTableBuilder(Table table)
+    {
+        this.table = table;
+        this.types = Arrays.stream(table.getColumns())
+                .map(Column::getType)
+                .toArray(ColumnType[]::new);
+        this.values = new GrowableSegment[types.length];
+        this.nulls = new GrowableSegment[types.length];
+        this.heaps = new GrowableSegment[types.length];
+        for (int i = 0; i < types.length; i++) {
+            values[i] = new GrowableSegment();
+            nulls[i] = new GrowableSegment();
+            if (isVariableWidth(types[i])) {
+                heaps[i] = new GrowableSegment();
+                values[i].appendLong(0);
+            }
+        }
+        this.surrogateKey = types.length > 0 && types[0].getBase() == ColumnType.Base.IDENTIFIER;
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    public void append(List<String> row)
+    {
+        for (int i = 0; i < types.length; i++) {
+            String value = row.get(i);
+            ColumnType type = types[i];
+            if (value == null) {
+                nulls[i].setBit(rowCount);
+            }
+            if (isVariableWidth(type)) {
+                if (value != null) {
+                    heaps[i].appendBytes(value.getBytes(ISO_8859_1));
+                }
+                values[i].appendLong(heaps[i].size);
+                continue;
+            }
+            long slot = value == null ? 0 : parseSlot(type, value);
+            if (getSlotSize(type) == Long.BYTES) {
+                values[i].appendLong(slot);
+            }
+            else {
+                values[i].appendInt((int) slot);
+            }
+        }
+        if (surrogateKey) {
+            // the first column can only be searched by key if it is never null and strictly increasing
+            String key = row.get(0);
+            surrogateKey = key != null && Long.parseLong(key) > lastKey;
+            lastKey = surrogateKey ? Long.parseLong(key) : lastKey;
+        }
+        rowCount++;
+    }
+
+    // the size of the layout of the rows added so far
+    public long getLayoutSize()
+    {
+        long offset = getSectionsStart();
+        for (int i = 0; i < types.length; i++) {
+            offset = align(offset + getValuesSize(types[i], rowCount));
+            offset = align(offset + getNullsSize(rowCount));
+            if (isVariableWidth(types[i])) {
+                offset = align(offset + heaps[i].size);
+            }
+        }
+        return offset;
+    }
+
+    // writes the layout to target, which must be at least getLayoutSize() bytes
+    public void writeTo(MemorySegment target, double scale, int flags)
+    {
+        MemorySegment.copy(MemorySegment.ofArray(MAGIC), 0, target, 0, MAGIC.length);
+        target.set(INT, 8, VERSION);
+        target.set(INT, 12, table.ordinal());
+        target.set(DOUBLE, 16, scale);
+        target.set(LONG, 24, rowCount);
+        target.set(INT, 32, types.length);
+        target.set(INT, 36, flags | (surrogateKey ? FLAG_SURROGATE_KEY : 0));
+
+        long offset = getSectionsStart();
+        for (int i = 0; i < types.length; i++) {
+            long columnHeader = HEADER_SIZE + (long) i * COLUMN_HEADER_SIZE;
+            target.set(LONG, columnHeader, offset);
+            offset = copySection(values[i], getValuesSize(types[i], rowCount), target, offset);
+            target.set(LONG, columnHeader + 8, offset);
+            offset = copySection(nulls[i], getNullsSize(rowCount), target, offset);
+            if (isVariableWidth(types[i])) {
+                target.set(LONG, columnHeader + 16, offset);
+                target.set(LONG, columnHeader + 24, heaps[i].size);
+                offset = copySection(heaps[i], heaps[i].size, target, offset);
+            }
+            else {
+                target.set(LONG, columnHeader + 16, -1);
+                target.set(LONG, columnHeader + 24, 0);
+            }
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        for (int i = 0; i < types.length; i++) {
+            values[i].close();
+            nulls[i].close();
+            if (heaps[i] != null) {
+                heaps[i].close();
+            }
+        }
+    }
+
+    private long getSectionsStart()
+    {
+        return align(HEADER_SIZE + (long) types.length * COLUMN_HEADER_SIZE);
+    }
+
+    private static long copySection(GrowableSegment source, long size, MemorySegment target, long offset)
+    {
+        // the null bitmap is only grown when a null is set, so it can be shorter than its section
+        long available = Math.min(size, source.segment.byteSize());
+        MemorySegment.copy(source.segment, 0, target, offset, available);
+        target.asSlice(offset + available, size - available).fill((byte) 0);
+        return align(offset + size);
+    }
+
+    private static long parseSlot(ColumnType type, String value)
+    {
+        return switch (type.getBase()) {
+            case INTEGER -> Integer.parseInt(value);
+            case IDENTIFIER -> Long.parseLong(value);
+            case DATE -> parseJulianDays(value);
+            case TIME -> parseSecondsOfDay(value);
+            case DECIMAL -> parseUnscaledDecimal(value, type.getScale().get());
+            case VARCHAR, CHAR -> throw new IllegalArgumentException("Not a fixed width type: " + type.getBase());
+        };
+    }
+
+    private static long align(long offset)
+    {
+        return (offset + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    // A buffer in its own confined arena, so that the old memory can be freed as soon as the
+    // buffer has been grown
+    private static class GrowableSegment
+            implements Closeable
+    {
+        private Arena arena = Arena.ofConfined();
+        private MemorySegment segment = arena.allocate(INITIAL_CAPACITY, Long.BYTES);
+        private long size;
+
+        private void appendInt(int value)
+        {
+            ensureCapacity(size + Integer.BYTES);
+            segment.set(INT, size, value);
+            size += Integer.BYTES;
+        }
+
+        private void appendLong(long value)
+        {
+            ensureCapacity(size + Long.BYTES);
+            segment.set(LONG, size, value);
+            size += Long.BYTES;
+        }
+
+        private void appendBytes(byte[] bytes)
+        {
+            ensureCapacity(size + bytes.length);
+            MemorySegment.copy(bytes, 0, segment, JAVA_BYTE, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private void setBit(long bit)
+        {
+            ensureCapacity((bit >>> 3) + 1);
+            segment.set(JAVA_BYTE, bit >>> 3, (byte) (segment.get(JAVA_BYTE, bit >>> 3) | (1 << (bit & 7))));
+        }
+
+        private void ensureCapacity(long capacity)
+        {
+            if (capacity <= segment.byteSize()) {
+                return;
+            }
+            Arena grownArena = Arena.ofConfined();
+            MemorySegment grown = grownArena.allocate(Math.max(capacity, segment.byteSize() * 2), Long.BYTES);
+            MemorySegment.copy(segment, 0, grown, 0, segment.byteSize());
+            arena.close();
+            arena = grownArena;
+            segment = grown;
+        }
+
+        @Override
+        public void close()
+        {
+            arena.close();
+        }
+    }
+}
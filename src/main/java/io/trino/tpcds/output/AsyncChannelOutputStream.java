@@ -0,0 +1,201 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+// Fills one direct buffer while the buffers filled before it are written to the channel on a
+// dedicated I/O thread, so that generating rows overlaps with the kernel writing them back.
+// Once all the buffers of the pool are waiting to be written, writes block until the I/O
+// thread hands one back. A failure of the I/O thread is reported by the next write or by
+// close.
+final class AsyncChannelOutputStream
+        extends OutputStream
+{
+    // tells the I/O thread that no more buffers will follow
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final BlockingQueue<ByteBuffer> filledBuffers;
+    private final Thread ioThread;
+    private volatile Throwable failure;
+    private ByteBuffer current;
+    private boolean closed;
+
+    AsyncChannelOutputStream(FileChannel channel, int bufferSize, int bufferCount, FsyncPolicy fsyncPolicy, String name)
+    {
+        checkArgument(bufferCount >= 2, "bufferCount must be at least 2");
+        this.channel = requireNonNull(channel, "channel is null");
+        this.fsyncPolicy = requireNonNull(fsyncPolicy, "fsyncPolicy is null");
+        this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+        this.filledBuffers = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 1; i < bufferCount; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(bufferSize));
+        }
+        this.current = ByteBuffer.allocateDirect(bufferSize);
+        this.ioThread = new Thread(this::writeBuffers, "tpcds-writer-" + name);
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    @Override
+    public void write(int b)
+            throws IOException
+    {
+        if (!current.hasRemaining()) {
+            submitCurrent();
+        }
+        current.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length)
+            throws IOException
+    {
+        while (length > 0) {
+            if (!current.hasRemaining()) {
+                submitCurrent();
+            }
+            int count = Math.min(length, current.remaining());
+            current.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    // hands the buffered bytes to the I/O thread without waiting for them to be written
+    @Override
+    public void flush()
+            throws IOException
+    {
+        if (current.position() > 0) {
+            submitCurrent();
+        }
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            try {
+                if (current != null && current.position() > 0) {
+                    current.flip();
+                    put(filledBuffers, current);
+                }
+            }
+            finally {
+                // always stop the I/O thread, even if the last buffer could not be handed over
+                put(filledBuffers, END);
+                ioThread.join();
+            }
+            checkFailure();
+            if (fsyncPolicy == FsyncPolicy.CLOSE) {
+                channel.force(false);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for writes to finish");
+        }
+    }
+
+    private void submitCurrent()
+            throws IOException
+    {
+        checkFailure();
+        current.flip();
+        put(filledBuffers, current);
+        current = null;
+        try {
+            current = freeBuffers.take();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+        }
+        checkFailure();
+    }
+
+    private void writeBuffers()
+    {
+        try {
+            while (true) {
+                ByteBuffer buffer = filledBuffers.take();
+                if (buffer == END) {
+                    return;
+                }
+                // after a failure, keep recycling buffers so the writer never blocks on the pool
+                if (failure == null) {
+                    try {
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer);
+                        }
+                        if (fsyncPolicy == FsyncPolicy.BUFFER) {
+                            channel.force(false);
+                        }
+                    }
+                    catch (Throwable t) {
+                        failure = t;
+                    }
+                }
+                buffer.clear();
+                freeBuffers.put(buffer);
+            }
+        }
+        catch (InterruptedException e) {
+            failure = e;
+        }
+    }
+
+    private void checkFailure()
+            throws IOException
+    {
+        Throwable throwable = failure;
+        if (throwable instanceof IOException ioException) {
+            throw new IOException(ioException.getMessage(), ioException);
+        }
+        if (throwable != null) {
+            throw new IOException("Writing failed", throwable);
+        }
+    }
+
+    private static void put(BlockingQueue<ByteBuffer> queue, ByteBuffer buffer)
+            throws InterruptedIOException
+    {
+        try {
+            queue.put(buffer);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handing a buffer to the I/O thread");
+        }
+    }
+}
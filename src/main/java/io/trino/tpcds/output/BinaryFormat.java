@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.column.ColumnTypes;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+// Layout of the binary row format. All numbers are little-endian.
+//
+// A file starts with a header:
+//   8 bytes   magic "TPCDSBIN"
+//   int32     format version
+//   int32     column count
+//   per column: int8 type (ColumnType.Base ordinal), int32 precision, int32 scale (-1 when absent)
+//
+// followed by the rows:
+//   int32     length of the rest of the row in bytes
+//   bytes     null bitmap, one bit per column, least significant bit first
+//   slots     one fixed width slot per INTEGER, IDENTIFIER, DATE, TIME or DECIMAL column, in column order:
+//             INTEGER int32, IDENTIFIER int64, DATE int32 julian day, TIME int32 seconds of the day,
+//             DECIMAL int64 unscaled value at the scale of the column. Null values are zero.
+//   offsets   one int32 per CHAR or VARCHAR column: the end offset of its bytes in the string area
+//   bytes     the string area, holding the ISO-8859-1 bytes of the CHAR and VARCHAR values
+public final class BinaryFormat
+{
+    public static final byte[] MAGIC = "TPCDSBIN".getBytes(US_ASCII);
+    public static final int VERSION = 1;
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private BinaryFormat() {}
+
+    public static boolean isVariableWidth(ColumnType type)
+    {
+        return type.getBase() == ColumnType.Base.VARCHAR || type.getBase() == ColumnType.Base.CHAR;
+    }
+
+    public static int getSlotSize(ColumnType type)
+    {
+        return switch (type.getBase()) {
+            case INTEGER, DATE, TIME -> Integer.BYTES;
+            case IDENTIFIER, DECIMAL -> Long.BYTES;
+            case VARCHAR, CHAR -> 0;
+        };
+    }
+
+    public static int getNullBitmapSize(int columnCount)
+    {
+        return (columnCount + 7) / 8;
+    }
+
+    public static int getHeaderSize(int columnCount)
+    {
+        return MAGIC.length + Integer.BYTES * 2 + columnCount * (1 + Integer.BYTES * 2);
+    }
+
+    public static byte[] createHeader(List<ColumnType> types)
+    {
+        ByteBuffer header = ByteBuffer.allocate(getHeaderSize(types.size())).order(BYTE_ORDER);
+        header.put(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(types.size());
+        for (ColumnType type : types) {
+            header.put((byte) type.getBase().ordinal());
+            header.putInt(type.getPrecision().orElse(-1));
+            header.putInt(type.getScale().orElse(-1));
+        }
+        return header.array();
+    }
+
+    // Reads the header at the current position of the buffer, which must use BYTE_ORDER
+    public static List<ColumnType> readHeader(ByteBuffer buffer)
+    {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!new String(magic, US_ASCII).equals(new String(MAGIC, US_ASCII))) {
+            throw new TpcdsException("Not a binary TPC-DS file");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new TpcdsException(format("Unsupported binary format version %d", version));
+        }
+        int columnCount = buffer.getInt();
+        ImmutableList.Builder<ColumnType> types = ImmutableList.builder();
+        for (int i = 0; i < columnCount; i++) {
+            ColumnType.Base base = ColumnType.Base.values()[buffer.get()];
+            int precision = buffer.getInt();
+            int scale = buffer.getInt();
+            types.add(switch (base) {
+                case INTEGER -> ColumnTypes.INTEGER;
+                case IDENTIFIER -> ColumnTypes.IDENTIFIER;
+                case DATE -> ColumnTypes.DATE;
+                case TIME -> ColumnTypes.TIME;
+                case DECIMAL -> ColumnTypes.decimal(precision, scale);
+                case VARCHAR -> ColumnTypes.varchar(precision);
+                case CHAR -> ColumnTypes.character(precision);
+            });
+        }
+        return types.build();
+    }
+}
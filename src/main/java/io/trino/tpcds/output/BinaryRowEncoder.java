@@ -0,0 +1,196 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.row.TableRow;
+import io.trino.tpcds.type.Date;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.trino.tpcds.output.BinaryFormat.BYTE_ORDER;
+import static io.trino.tpcds.output.BinaryFormat.createHeader;
+import static io.trino.tpcds.output.BinaryFormat.getNullBitmapSize;
+import static io.trino.tpcds.output.BinaryFormat.getSlotSize;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static java.lang.Integer.parseInt;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+
+// Encodes rows in the layout described in BinaryFormat
+public class BinaryRowEncoder
+        implements RowEncoder
+{
+    private final Column[] columns;
+    private final List<ColumnType> types;
+    private final int nullBitmapSize;
+    private final int fixedSize;
+    private final int variableWidthColumns;
+    private final byte[] header;
+    // the values of the variable width columns of the row being written, by column position
+    private final String[] variableWidthValues;
+    private ByteBuffer buffer;
+
+    public BinaryRowEncoder(Table table)
+    {
+        this.columns = table.getColumns();
+        this.types = Arrays.stream(columns)
+                .map(Column::getType)
+                .collect(ImmutableList.toImmutableList());
+        this.nullBitmapSize = getNullBitmapSize(types.size());
+        this.fixedSize = types.stream().mapToInt(BinaryFormat::getSlotSize).sum();
+        this.variableWidthColumns = (int) types.stream().filter(BinaryFormat::isVariableWidth).count();
+        this.header = createHeader(types);
+        this.variableWidthValues = new String[columns.length];
+        this.buffer = ByteBuffer.allocate(1024).order(BYTE_ORDER);
+    }
+
+    @Override
+    public void writeHeader(OutputStream out)
+            throws IOException
+    {
+        out.write(header);
+    }
+
+    @Override
+    public void writeRow(List<String> values, OutputStream out)
+            throws IOException
+    {
+        // the default accessors of TableRow parse the formatted values
+        writeRow((TableRow) () -> values, out);
+    }
+
+    // Reads the fixed width values from the typed accessors of the row, so that they are
+    // not formatted and parsed back
+    @Override
+    public void writeRow(TableRow row, OutputStream out)
+            throws IOException
+    {
+        buffer.clear();
+        int rowSize = nullBitmapSize + fixedSize + variableWidthColumns * Integer.BYTES;
+        for (int i = 0; i < columns.length; i++) {
+            if (isVariableWidth(types.get(i))) {
+                String value = row.getString(columns[i]);
+                variableWidthValues[i] = value;
+                if (value != null) {
+                    rowSize += value.length();
+                }
+            }
+        }
+        ensureCapacity(Integer.BYTES + rowSize);
+
+        buffer.putInt(rowSize);
+        int nullBitmapStart = buffer.position();
+        for (int i = 0; i < columns.length; i++) {
+            if (isNull(row, i)) {
+                int index = nullBitmapStart + i / 8;
+                buffer.put(index, (byte) (buffer.get(index) | (1 << (i % 8))));
+            }
+        }
+        buffer.position(nullBitmapStart + nullBitmapSize);
+
+        for (int i = 0; i < columns.length; i++) {
+            ColumnType type = types.get(i);
+            if (isVariableWidth(type)) {
+                continue;
+            }
+            Column column = columns[i];
+            if (row.isNull(column)) {
+                buffer.position(buffer.position() + getSlotSize(type));
+                continue;
+            }
+            switch (type.getBase()) {
+                case INTEGER -> buffer.putInt(row.getInt(column));
+                case IDENTIFIER -> buffer.putLong(row.getLong(column));
+                case DATE -> buffer.putInt(row.getJulianDay(column));
+                case TIME -> buffer.putInt(toIntExact(row.getLong(column)));
+                case DECIMAL -> buffer.putLong(row.getDecimalUnscaled(column));
+                default -> throw new TpcdsException("Unexpected fixed width type " + type.getBase());
+            }
+        }
+
+        int offset = 0;
+        for (int i = 0; i < columns.length; i++) {
+            if (isVariableWidth(types.get(i))) {
+                String value = variableWidthValues[i];
+                offset += value == null ? 0 : value.length();
+                buffer.putInt(offset);
+            }
+        }
+        for (int i = 0; i < columns.length; i++) {
+            String value = variableWidthValues[i];
+            if (value != null) {
+                for (int j = 0; j < value.length(); j++) {
+                    buffer.put((byte) value.charAt(j)); // ISO-8859-1
+                }
+            }
+        }
+
+        out.write(buffer.array(), 0, buffer.position());
+    }
+
+    private boolean isNull(TableRow row, int position)
+    {
+        if (isVariableWidth(types.get(position))) {
+            return variableWidthValues[position] == null;
+        }
+        return row.isNull(columns[position]);
+    }
+
+    private void ensureCapacity(int size)
+    {
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(Math.max(size, buffer.capacity() * 2)).order(BYTE_ORDER);
+        }
+        // slots of null values are skipped rather than written, so they must start out as zeros
+        Arrays.fill(buffer.array(), 0, size, (byte) 0);
+    }
+
+    // yyyy-mm-dd, as produced by Date.toString
+    public static int parseJulianDays(String value)
+    {
+        return Date.toJulianDays(new Date(parseInt(value.substring(0, 4).trim()), parseInt(value.substring(5, 7)), parseInt(value.substring(8, 10))));
+    }
+
+    // HH:mm:ss
+    public static int parseSecondsOfDay(String value)
+    {
+        return parseInt(value.substring(0, 2)) * 3600 + parseInt(value.substring(3, 5)) * 60 + parseInt(value.substring(6, 8));
+    }
+
+    public static long parseUnscaledDecimal(String value, int scale)
+    {
+        int pointIndex = value.indexOf('.');
+        String integerPart = pointIndex == -1 ? value : value.substring(0, pointIndex);
+        String fractionalPart = pointIndex == -1 ? "" : value.substring(pointIndex + 1);
+        if (fractionalPart.length() > scale) {
+            throw new TpcdsException(format("Decimal value %s has more than %d fractional digits", value, scale));
+        }
+        boolean negative = integerPart.startsWith("-");
+        long unscaled = Math.abs(Long.parseLong(integerPart));
+        for (int i = 0; i < scale; i++) {
+            unscaled = unscaled * 10 + (i < fractionalPart.length() ? fractionalPart.charAt(i) - '0' : 0);
+        }
+        return negative ? -unscaled : unscaled;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes the rows of a table into one file per bucket, <table>/<bucket>_<chunk - 1><suffix>,
+// following the file naming of Hive. Every chunk writes its own set of bucket files, so a
+// parallel build produces a bucketed table without any shuffle between the chunks.
+public class BucketedTableWriter
+        implements TableWriter
+{
+    // smaller than the buffer of a flat file, since there is one open file per bucket
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final Bucketing bucketing;
+    private final RowEncoder encoder;
+    private final OutputStream[] buckets;
+
+    public BucketedTableWriter(Path targetDirectory, Table table, Session session, Bucketing bucketing, RowEncoder encoder)
+            throws IOException
+    {
+        this.bucketing = requireNonNull(bucketing, "bucketing is null");
+        this.encoder = requireNonNull(encoder, "encoder is null");
+
+        Path directory = targetDirectory.resolve(table.getName());
+        Files.createDirectories(directory);
+        int chunk = session.getParallelism() > 1 ? session.getChunkNumber() - 1 : 0;
+        this.buckets = new OutputStream[bucketing.getBucketCount()];
+        try {
+            // every bucket file has to exist, even if no rows hash to it
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                Path path = directory.resolve(format("%06d_%d%s", bucket, chunk, session.getSuffix()));
+                buckets[bucket] = OutputFiles.createFile(path, session.shouldOverwrite(), OUTPUT_BUFFER_SIZE, 1, session.getFsyncPolicy());
+                encoder.writeHeader(buckets[bucket]);
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            try {
+                closeBuckets();
+            }
+            catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(List<String> values)
+            throws IOException
+    {
+        int bucket = bucketing.getBucket(values.get(bucketing.getColumn().getPosition()));
+        encoder.writeRow(values, buckets[bucket]);
+    }
+
+    @Override
+    public void write(TableRow row)
+            throws IOException
+    {
+        int bucket = bucketing.getBucket(row.getString(bucketing.getColumn()));
+        encoder.writeRow(row, buckets[bucket]);
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        closeBuckets();
+    }
+
+    // also called by the constructor, so it must not be overridable
+    private void closeBuckets()
+            throws IOException
+    {
+        IOException failure = null;
+        for (OutputStream bucket : buckets) {
+            if (bucket == null) {
+                continue;
+            }
+            try {
+                bucket.close();
+            }
+            catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
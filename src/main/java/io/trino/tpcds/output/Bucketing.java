@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+// Assigns rows to buckets the way Hive (bucketing version 1) does, so that the generated
+// files can be registered as a bucketed table without rewriting them
+public class Bucketing
+{
+    private final Column column;
+    private final int bucketCount;
+
+    public Bucketing(Column column, int bucketCount)
+    {
+        this.column = requireNonNull(column, "column is null");
+        checkArgument(bucketCount > 0, "bucketCount must be positive");
+        ColumnType.Base base = column.getType().getBase();
+        checkArgument(base == ColumnType.Base.INTEGER || base == ColumnType.Base.IDENTIFIER || base == ColumnType.Base.VARCHAR || base == ColumnType.Base.CHAR,
+                "Cannot bucket by column %s of type %s", column.getName(), base);
+        this.bucketCount = bucketCount;
+    }
+
+    public Column getColumn()
+    {
+        return column;
+    }
+
+    public int getBucketCount()
+    {
+        return bucketCount;
+    }
+
+    public int getBucket(String value)
+    {
+        return (hash(value) & Integer.MAX_VALUE) % bucketCount;
+    }
+
+    // ObjectInspectorUtils.hashCode: int for INTEGER, bigint for IDENTIFIER, string otherwise
+    private int hash(String value)
+    {
+        if (value == null) {
+            return 0;
+        }
+        return switch (column.getType().getBase()) {
+            case INTEGER -> Integer.parseInt(value);
+            case IDENTIFIER -> {
+                long longValue = Long.parseLong(value);
+                yield (int) ((longValue >>> 32) ^ longValue);
+            }
+            default -> hashBytes(value.getBytes(UTF_8));
+        };
+    }
+
+    // WritableComparator.hashBytes
+    private static int hashBytes(byte[] bytes)
+    {
+        int hash = 1;
+        for (byte b : bytes) {
+            hash = (31 * hash) + b;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Bucketing that = (Bucketing) o;
+        return bucketCount == that.bucketCount && column.equals(that.column);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(column, bucketCount);
+    }
+
+    // the form accepted by --bucket-by
+    @Override
+    public String toString()
+    {
+        return column.getTable().getName() + "=" + column.getName() + ":" + bucketCount;
+    }
+}
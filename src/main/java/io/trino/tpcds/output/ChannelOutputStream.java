@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.util.Objects.requireNonNull;
+
+// Buffers writes in a direct buffer, so that the channel can hand it to the operating system
+// without copying it first
+final class ChannelOutputStream
+        extends OutputStream
+{
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final ByteBuffer buffer;
+    private boolean closed;
+
+    ChannelOutputStream(FileChannel channel, int bufferSize, FsyncPolicy fsyncPolicy)
+    {
+        this.channel = requireNonNull(channel, "channel is null");
+        this.fsyncPolicy = requireNonNull(fsyncPolicy, "fsyncPolicy is null");
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    @Override
+    public void write(int b)
+            throws IOException
+    {
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length)
+            throws IOException
+    {
+        while (length > 0) {
+            if (!buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    @Override
+    public void flush()
+            throws IOException
+    {
+        flushBuffer();
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            flushBuffer();
+            if (fsyncPolicy == FsyncPolicy.CLOSE) {
+                channel.force(false);
+            }
+        }
+    }
+
+    private void flushBuffer()
+            throws IOException
+    {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        if (fsyncPolicy == FsyncPolicy.BUFFER) {
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.trino.tpcds.TableGenerator.getChunkBaseName;
+import static io.trino.tpcds.output.BinaryFormat.getHeaderSize;
+import static io.trino.tpcds.output.ManifestEntry.readManifest;
+import static io.trino.tpcds.output.OutputFiles.withSuffix;
+import static io.trino.tpcds.output.TableFileWriter.MANIFEST_SUFFIX;
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.READ;
+
+// Concatenates the chunk files of a parallel build into a single file per table, in chunk
+// order. Before anything is merged, the manifest of every chunk is checked: every chunk must
+// have finished, its file must have the size the manifest lists, and the row ranges of the
+// chunks must cover the table without gaps. The bytes are moved with FileChannel.transferTo,
+// so on most platforms they never pass through the JVM. Once the table file is complete, the
+// chunk files and their manifests are deleted.
+public final class ChunkMerger
+{
+    private ChunkMerger() {}
+
+    public static Path mergeChunks(Path targetDirectory, Table table, Session session)
+            throws IOException
+    {
+        int parallelism = session.getParallelism();
+        // the binary format repeats its header at the start of every chunk
+        long headerSize = session.getOutputFormat() == OutputFormat.BINARY ? getHeaderSize(table.getColumns().length) : 0;
+
+        List<Path> chunkFiles = new ArrayList<>();
+        List<Path> manifests = new ArrayList<>();
+        long nextRow = 1;
+        long totalBytes = 0;
+        for (int chunk = 1; chunk <= parallelism; chunk++) {
+            Path manifest = targetDirectory.resolve(getChunkBaseName(table, chunk, parallelism) + MANIFEST_SUFFIX);
+            if (!Files.exists(manifest)) {
+                throw new TpcdsException(format("Cannot merge %s: chunk %d has not finished, %s does not exist", table.getName(), chunk, manifest));
+            }
+            List<ManifestEntry> entries = readManifest(manifest);
+            if (entries.size() != 1) {
+                throw new TpcdsException(format("Cannot merge %s: manifest %s lists %d files", table.getName(), manifest, entries.size()));
+            }
+            ManifestEntry entry = entries.get(0);
+            Path chunkFile = targetDirectory.resolve(entry.getFileName());
+            long size = Files.size(chunkFile);
+            if (size != entry.getBytes()) {
+                throw new TpcdsException(format("Cannot merge %s: %s has %d bytes, but its manifest lists %d", table.getName(), chunkFile, size, entry.getBytes()));
+            }
+            // chunks past the end of a small table have no rows, while a chunk of a returns
+            // table can have rows without lines, when none of its orders has returns
+            if (entry.getLastRow() >= entry.getFirstRow()) {
+                if (entry.getFirstRow() != nextRow) {
+                    throw new TpcdsException(format("Cannot merge %s: chunk %d starts at row %d, expected row %d", table.getName(), chunk, entry.getFirstRow(), nextRow));
+                }
+                nextRow = entry.getLastRow() + 1;
+            }
+            totalBytes += chunk == 1 ? size : size - headerSize;
+            chunkFiles.add(chunkFile);
+            manifests.add(manifest);
+        }
+        // the row numbers of a child table are the row numbers of its parent
+        long rowCount = session.getScaling().getRowCount(table.isChild() ? table.getParent() : table);
+        if (nextRow - 1 != rowCount) {
+            throw new TpcdsException(format("Cannot merge %s: the chunks end at row %d, but the table has %d rows", table.getName(), nextRow - 1, rowCount));
+        }
+
+        Path destination = withSuffix(targetDirectory.resolve(table.getName()), session.getSuffix());
+        try (FileChannel output = OutputFiles.createFileChannel(destination, session.shouldOverwrite())) {
+            if (totalBytes > 0) {
+                // set the final length up front, so the file system can lay the file out in one piece
+                output.write(ByteBuffer.allocate(1), totalBytes - 1);
+            }
+            for (int i = 0; i < chunkFiles.size(); i++) {
+                try (FileChannel input = FileChannel.open(chunkFiles.get(i), READ)) {
+                    long position = i == 0 ? 0 : headerSize;
+                    long size = input.size();
+                    while (position < size) {
+                        position += input.transferTo(position, size - position, output);
+                    }
+                }
+            }
+            if (output.position() != totalBytes) {
+                throw new TpcdsException(format("Merged %d bytes into %s, expected %d", output.position(), destination, totalBytes));
+            }
+        }
+
+        for (int i = 0; i < chunkFiles.size(); i++) {
+            Files.delete(chunkFiles.get(i));
+            Files.delete(manifests.get(i));
+        }
+        return destination;
+    }
+}
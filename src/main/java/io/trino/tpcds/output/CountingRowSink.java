@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+// Counts the rows of all the tables it is given before passing them on to another sink
+public class CountingRowSink
+        implements RowSink
+{
+    private final RowSink delegate;
+    private long parentRows;
+    private long childRows;
+    private long rows;
+    // the row number of the last endOfRow() of the current table
+    private long lastEndedRowNumber;
+
+    public CountingRowSink()
+    {
+        this(new NullRowSink());
+    }
+
+    public CountingRowSink(RowSink delegate)
+    {
+        this.delegate = requireNonNull(delegate, "delegate is null");
+    }
+
+    @Override
+    public void beginTable(Table table, Optional<Table> childTable, long firstRowNumber)
+            throws IOException
+    {
+        lastEndedRowNumber = firstRowNumber - 1;
+        delegate.beginTable(table, childTable, firstRowNumber);
+    }
+
+    @Override
+    public void acceptParentRow(TableRow row)
+            throws IOException
+    {
+        parentRows++;
+        delegate.acceptParentRow(row);
+    }
+
+    @Override
+    public void acceptChildRow(TableRow row)
+            throws IOException
+    {
+        childRows++;
+        delegate.acceptChildRow(row);
+    }
+
+    @Override
+    public void endOfRow(long rowNumber)
+            throws IOException
+    {
+        // one call can end several row numbers, e.g. the orders without returns before it
+        // when a returns table is generated on its own
+        rows += rowNumber - lastEndedRowNumber;
+        lastEndedRowNumber = rowNumber;
+        delegate.endOfRow(rowNumber);
+    }
+
+    @Override
+    public void endTable()
+            throws IOException
+    {
+        delegate.endTable();
+    }
+
+    // the number of lines of the tables, e.g. line items for the sales tables
+    public long getParentRowCount()
+    {
+        return parentRows;
+    }
+
+    public long getChildRowCount()
+    {
+        return childRows;
+    }
+
+    // the number of row numbers that were ended, e.g. orders for the sales and returns tables,
+    // including the ones that produced no rows
+    public long getRowCount()
+    {
+        return rows;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static io.trino.tpcds.TableGenerator.getChunkBaseName;
+import static java.util.Objects.requireNonNull;
+
+// Writes the rows to files under targetDirectory, which can be on any java.nio file system,
+// in the format of the session: delimited text or binary rows, split into part files,
+// partitioned by date, bucketed or sorted as the session asks.
+public class FileRowSink
+        implements RowSink
+{
+    private final Session session;
+    private final Path targetDirectory;
+
+    private TableWriter parentWriter;
+    private TableWriter childWriter;
+
+    public FileRowSink(Session session, Path targetDirectory)
+    {
+        this.session = requireNonNull(session, "session is null");
+        this.targetDirectory = requireNonNull(targetDirectory, "targetDirectory is null");
+    }
+
+    @Override
+    public void beginTable(Table table, Optional<Table> childTable, long firstRowNumber)
+            throws IOException
+    {
+        parentWriter = addFileWriterForTable(table, firstRowNumber);
+        if (childTable.isPresent()) {
+            childWriter = addFileWriterForTable(childTable.get(), firstRowNumber);
+        }
+    }
+
+    @Override
+    public void acceptParentRow(TableRow row)
+            throws IOException
+    {
+        parentWriter.write(row);
+    }
+
+    @Override
+    public void acceptChildRow(TableRow row)
+            throws IOException
+    {
+        requireNonNull(childWriter, "childWriter is null, but a child row was produced");
+        childWriter.write(row);
+    }
+
+    @Override
+    public void endOfRow(long rowNumber)
+            throws IOException
+    {
+        parentWriter.endOfRow(rowNumber);
+        if (childWriter != null) {
+            childWriter.endOfRow(rowNumber);
+        }
+    }
+
+    @Override
+    public void endTable()
+            throws IOException
+    {
+        // closes both writers, also when the table failed part way through beginTable()
+        TableWriter parent = parentWriter;
+        TableWriter child = childWriter;
+        parentWriter = null;
+        childWriter = null;
+        try (parent; child) {}
+    }
+
+    private TableWriter addFileWriterForTable(Table table, long firstRowNumber)
+            throws IOException
+    {
+        SortKey sortKey = session.getSortKeys().get(table);
+        if (sortKey != null) {
+            // runs are spilled next to the output, unless it goes to a file system other than the default one
+            Path spillDirectory = targetDirectory.getFileSystem() == FileSystems.getDefault() ? targetDirectory : Paths.get(System.getProperty("java.io.tmpdir"));
+            return new SortingTableWriter(createWriter(table, firstRowNumber), sortKey, session.getSortMemory(), spillDirectory);
+        }
+        return createWriter(table, firstRowNumber);
+    }
+
+    private TableWriter createWriter(Table table, long firstRowNumber)
+            throws IOException
+    {
+        if (session.shouldPartitionByDate() && PartitionedTableWriter.getPartitionColumn(table).isPresent()) {
+            return new PartitionedTableWriter(targetDirectory, table, session, createEncoder(table));
+        }
+        Bucketing bucketing = session.getBucketing().get(table);
+        if (bucketing != null) {
+            return new BucketedTableWriter(targetDirectory, table, session, bucketing, createEncoder(table));
+        }
+        return new TableFileWriter(getBasePath(table), table, session, createEncoder(table), firstRowNumber);
+    }
+
+    private RowEncoder createEncoder(Table table)
+    {
+        return switch (session.getOutputFormat()) {
+            case TEXT -> new TextRowEncoder(session);
+            case BINARY -> new BinaryRowEncoder(table);
+        };
+    }
+
+    // the path of the output file without the suffix
+    private Path getBasePath(Table table)
+    {
+        if (session.getParallelism() > 1) {
+            return targetDirectory.resolve(getChunkBaseName(table, session.getChunkNumber(), session.getParallelism()));
+        }
+
+        // TODO: path names for update case
+        return targetDirectory.resolve(table.getName());
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+public enum FsyncPolicy
+{
+    // leave writeback to the operating system
+    NONE,
+    // force the data of a file to disk when the file is closed
+    CLOSE,
+    // force the data to disk after every buffer written
+    BUFFER;
+
+    public String getName()
+    {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.trino.tpcds.Parallel.ChunkBoundaries;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.trino.tpcds.Parallel.splitWork;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.SlowlyChangingDimensionUtils.getFirstRowOfBusinessKey;
+import static io.trino.tpcds.output.JdbcTableWriter.getCreateTableStatement;
+import static java.util.Objects.requireNonNull;
+
+// Loads tables straight into a JDBC target instead of writing files. The rows of the chunk of
+// a table are split into contiguous ranges, one per connection, and every range is generated
+// and inserted on its own thread. By default the connections commit only once all the ranges
+// have been inserted, and if any range fails all of them are rolled back, so a failed load
+// leaves nothing behind. The commits of the connections are not one transaction though: if
+// one of them fails, the connections that committed before it stay committed. When commitRows
+// is set, a connection also commits once commitRows rows have been inserted since its last
+// commit, but only at the end of a row, so an order and its returns are always committed
+// together. The rows committed that way stay in the target if the load fails later.
+public class JdbcLoader
+{
+    public interface ConnectionFactory
+    {
+        Connection openConnection()
+                throws SQLException;
+    }
+
+    private final Session session;
+    private final ConnectionFactory connectionFactory;
+
+    public JdbcLoader(Session session, ConnectionFactory connectionFactory)
+    {
+        this.session = requireNonNull(session, "session is null");
+        this.connectionFactory = requireNonNull(connectionFactory, "connectionFactory is null");
+    }
+
+    // Creates the tables that loading the given tables inserts into, unless they already exist
+    public void createTables(List<Table> tables)
+    {
+        try (Connection connection = connectionFactory.openConnection()) {
+            for (Table table : tables) {
+                if (table.isChild() && !session.generateOnlyOneTable()) {
+                    continue;
+                }
+                createTable(connection, table);
+                if (table.hasChild() && !session.generateOnlyOneTable()) {
+                    createTable(connection, table.getChild());
+                }
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+        catch (SQLException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    public void loadTable(Table table)
+    {
+        // If this is a child table and not the only table being loaded, it will be loaded with its parent, so move on.
+        if (table.isChild() && !session.generateOnlyOneTable()) {
+            return;
+        }
+
+        ChunkBoundaries chunk = splitWork(table, session);
+        long rowCount = chunk.getLastRow() - chunk.getFirstRow() + 1;
+        if (rowCount <= 0) {
+            return;
+        }
+        int connectionCount = (int) Math.min(session.getJdbcConnections(), rowCount);
+        // a range of a slowly changing dimension starts at the first revision of a business key
+        long[] firstRows = new long[connectionCount + 1];
+        firstRows[0] = chunk.getFirstRow();
+        firstRows[connectionCount] = chunk.getLastRow() + 1;
+        for (int i = 1; i < connectionCount; i++) {
+            firstRows[i] = Math.max(firstRows[i - 1], getFirstRowOfBusinessKey(table, chunk.getFirstRow() + rowCount * i / connectionCount));
+        }
+
+        List<Connection> connections = new ArrayList<>();
+        TpcdsException failure = null;
+        try {
+            for (int i = 0; i < connectionCount; i++) {
+                if (firstRows[i] < firstRows[i + 1]) {
+                    Connection connection = connectionFactory.openConnection();
+                    connections.add(connection);
+                    connection.setAutoCommit(false);
+                }
+            }
+        }
+        catch (SQLException e) {
+            failure = new TpcdsException(e.getMessage());
+        }
+        if (failure == null) {
+            failure = loadRanges(table, firstRows, connections);
+        }
+        endLoad(connections, failure);
+    }
+
+    // Returns the failure of the first range that failed, with the failures of the others suppressed
+    private TpcdsException loadRanges(Table table, long[] firstRows, List<Connection> connections)
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(connections.size(), new ThreadFactoryBuilder()
+                .setNameFormat("tpcds-jdbc-" + table.getName() + "-%s")
+                .setDaemon(true)
+                .build());
+        // set once a range fails, so the other ranges stop inserting rows that will be rolled back
+        AtomicBoolean aborted = new AtomicBoolean();
+        TpcdsException failure = null;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            int connection = 0;
+            for (int i = 0; i + 1 < firstRows.length; i++) {
+                long firstRow = firstRows[i];
+                long lastRow = firstRows[i + 1] - 1;
+                if (firstRow <= lastRow) {
+                    Connection rangeConnection = connections.get(connection++);
+                    futures.add(executor.submit(() -> loadRows(rangeConnection, table, firstRow, lastRow, aborted)));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                }
+                catch (ExecutionException e) {
+                    aborted.set(true);
+                    TpcdsException rangeFailure = e.getCause() instanceof TpcdsException tpcdsException ? tpcdsException : new TpcdsException(e.getCause().toString());
+                    if (failure == null) {
+                        failure = rangeFailure;
+                    }
+                    else {
+                        failure.addSuppressed(rangeFailure);
+                    }
+                }
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aborted.set(true);
+            failure = new TpcdsException("Interrupted while loading " + table.getName());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        return failure;
+    }
+
+    private void loadRows(Connection connection, Table table, long firstRow, long lastRow, AtomicBoolean aborted)
+    {
+        long commitRows = session.getJdbcCommitRows();
+        try (JdbcTableWriter parentWriter = new JdbcTableWriter(connection, table, session.getJdbcBatchSize());
+                JdbcTableWriter childWriter = table.hasChild() && !session.generateOnlyOneTable() ? new JdbcTableWriter(connection, table.getChild(), session.getJdbcBatchSize()) : null) {
+            RowIterator iterator = constructResults(table, firstRow, lastRow, session).rowIterator();
+            long uncommittedRows = 0;
+            while (iterator.hasNext()) {
+                List<TableRow> parentAndChildRows = iterator.next();
+                if (parentAndChildRows.size() > 0) {
+                    parentWriter.write(parentAndChildRows.get(0));
+                    uncommittedRows++;
+                }
+                if (parentAndChildRows.size() > 1) {
+                    requireNonNull(childWriter, "childWriter is null, but a child row was produced");
+                    childWriter.write(parentAndChildRows.get(1));
+                    uncommittedRows++;
+                }
+                if (iterator.isEndOfRow()) {
+                    if (aborted.get()) {
+                        return;
+                    }
+                    if (commitRows > 0 && uncommittedRows >= commitRows) {
+                        parentWriter.flush();
+                        if (childWriter != null) {
+                            childWriter.flush();
+                        }
+                        connection.commit();
+                        uncommittedRows = 0;
+                    }
+                }
+            }
+        }
+        catch (SQLException | IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    // Commits all the connections if no range failed, and rolls them back otherwise
+    private static void endLoad(List<Connection> connections, TpcdsException failure)
+    {
+        for (Connection connection : connections) {
+            if (failure == null) {
+                try {
+                    connection.commit();
+                    continue;
+                }
+                catch (SQLException e) {
+                    // the connections before this one stay committed
+                    failure = new TpcdsException(e.getMessage());
+                }
+            }
+            try {
+                connection.rollback();
+            }
+            catch (SQLException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        for (Connection connection : connections) {
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                if (failure == null) {
+                    failure = new TpcdsException(e.getMessage());
+                }
+                else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void createTable(Connection connection, Table table)
+            throws SQLException
+    {
+        if (tableExists(connection.getMetaData(), table.getName())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(getCreateTableStatement(table));
+        }
+    }
+
+    private static boolean tableExists(DatabaseMetaData metadata, String name)
+            throws SQLException
+    {
+        // unquoted identifiers are stored in upper case by some databases and in lower case by others
+        for (String candidate : List.of(name, name.toUpperCase(Locale.ENGLISH))) {
+            try (ResultSet tables = metadata.getTables(null, null, candidate, null)) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
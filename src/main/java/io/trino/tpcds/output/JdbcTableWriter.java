@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.row.TableRow;
+import io.trino.tpcds.type.Date;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.type.Date.fromJulianDays;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+// Inserts the rows of one table through a batched PreparedStatement. Values are read from the
+// generated rows with the typed accessors of TableRow and bound with the JDBC type of their
+// column, so they are never formatted as strings and parsed back. The writer never commits:
+// the caller owns the connection and commits at row boundaries, after calling flush.
+public class JdbcTableWriter
+        implements Closeable
+{
+    private final Column[] columns;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int batchedRows;
+    private long insertedRows;
+
+    public JdbcTableWriter(Connection connection, Table table, int batchSize)
+            throws SQLException
+    {
+        requireNonNull(connection, "connection is null");
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        this.columns = table.getColumns();
+        this.statement = connection.prepareStatement(getInsertStatement(table));
+        this.batchSize = batchSize;
+    }
+
+    public void write(TableRow row)
+            throws IOException
+    {
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                bind(i + 1, columns[i], row);
+            }
+            statement.addBatch();
+            batchedRows++;
+            if (batchedRows >= batchSize) {
+                flush();
+            }
+        }
+        catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    // sends the batched rows to the target
+    public void flush()
+            throws IOException
+    {
+        if (batchedRows == 0) {
+            return;
+        }
+        try {
+            statement.executeBatch();
+        }
+        catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        insertedRows += batchedRows;
+        batchedRows = 0;
+    }
+
+    public long getInsertedRows()
+    {
+        return insertedRows;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        try (statement) {
+            flush();
+        }
+        catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void bind(int parameter, Column column, TableRow row)
+            throws SQLException
+    {
+        ColumnType type = column.getType();
+        if (row.isNull(column)) {
+            statement.setNull(parameter, getSqlType(type));
+            return;
+        }
+        switch (type.getBase()) {
+            case INTEGER -> statement.setInt(parameter, row.getInt(column));
+            case IDENTIFIER -> statement.setLong(parameter, row.getLong(column));
+            case DECIMAL -> statement.setBigDecimal(parameter, BigDecimal.valueOf(row.getDecimalUnscaled(column), type.getScale().get()));
+            case DATE -> {
+                Date date = fromJulianDays(row.getJulianDay(column));
+                statement.setDate(parameter, java.sql.Date.valueOf(LocalDate.of(date.getYear(), date.getMonth(), date.getDay())));
+            }
+            // getLong() is the seconds of the day of a time
+            case TIME -> statement.setTime(parameter, Time.valueOf(LocalTime.ofSecondOfDay(row.getLong(column))));
+            case VARCHAR, CHAR -> statement.setString(parameter, row.getString(column));
+        }
+    }
+
+    public static String getInsertStatement(Table table)
+    {
+        return Arrays.stream(table.getColumns())
+                .map(Column::getName)
+                .collect(joining(", ", "INSERT INTO " + table.getName() + " (", ")"))
+                + Arrays.stream(table.getColumns())
+                .map(column -> "?")
+                .collect(joining(", ", " VALUES (", ")"));
+    }
+
+    public static String getCreateTableStatement(Table table)
+    {
+        return Arrays.stream(table.getColumns())
+                .map(column -> column.getName() + " " + getSqlTypeName(column.getType()))
+                .collect(joining(", ", "CREATE TABLE " + table.getName() + " (", ")"));
+    }
+
+    private static String getSqlTypeName(ColumnType type)
+    {
+        return switch (type.getBase()) {
+            case INTEGER -> "INTEGER";
+            case IDENTIFIER -> "BIGINT";
+            case DATE -> "DATE";
+            case TIME -> "TIME";
+            case DECIMAL -> "DECIMAL(" + type.getPrecision().get() + ", " + type.getScale().get() + ")";
+            case VARCHAR -> "VARCHAR(" + type.getPrecision().get() + ")";
+            case CHAR -> "CHAR(" + type.getPrecision().get() + ")";
+        };
+    }
+
+    private static int getSqlType(ColumnType type)
+    {
+        return switch (type.getBase()) {
+            case INTEGER -> Types.INTEGER;
+            case IDENTIFIER -> Types.BIGINT;
+            case DATE -> Types.DATE;
+            case TIME -> Types.TIME;
+            case DECIMAL -> Types.DECIMAL;
+            case VARCHAR -> Types.VARCHAR;
+            case CHAR -> Types.CHAR;
+        };
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.base.Splitter;
+import io.trino.tpcds.TpcdsException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// One line of a part file manifest. The row range refers to row numbers of the generated
+// table, which for the sales and returns tables are order numbers rather than line numbers.
+public class ManifestEntry
+{
+    static final String HEADER = "# file\tfirst_row\tlast_row\tlines\tbytes\n";
+
+    private final String fileName;
+    private final long firstRow;
+    private final long lastRow;
+    private final long lines;
+    private final long bytes;
+
+    public ManifestEntry(String fileName, long firstRow, long lastRow, long lines, long bytes)
+    {
+        this.fileName = requireNonNull(fileName, "fileName is null");
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.lines = lines;
+        this.bytes = bytes;
+    }
+
+    public String getFileName()
+    {
+        return fileName;
+    }
+
+    public long getFirstRow()
+    {
+        return firstRow;
+    }
+
+    public long getLastRow()
+    {
+        return lastRow;
+    }
+
+    public long getLines()
+    {
+        return lines;
+    }
+
+    public long getBytes()
+    {
+        return bytes;
+    }
+
+    ManifestEntry withLastRow(long lastRow)
+    {
+        return new ManifestEntry(fileName, firstRow, lastRow, lines, bytes);
+    }
+
+    public static List<ManifestEntry> readManifest(Path manifest)
+            throws IOException
+    {
+        return Files.readAllLines(manifest, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(ManifestEntry::parse)
+                .collect(toImmutableList());
+    }
+
+    private static ManifestEntry parse(String line)
+    {
+        List<String> fields = Splitter.on('\t').splitToList(line);
+        if (fields.size() != 5) {
+            throw new TpcdsException(format("Invalid manifest line: %s", line));
+        }
+        return new ManifestEntry(fields.get(0), Long.parseLong(fields.get(1)), Long.parseLong(fields.get(2)), Long.parseLong(fields.get(3)), Long.parseLong(fields.get(4)));
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ManifestEntry that = (ManifestEntry) o;
+        return firstRow == that.firstRow &&
+                lastRow == that.lastRow &&
+                lines == that.lines &&
+                bytes == that.bytes &&
+                Objects.equals(fileName, that.fileName);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(fileName, firstRow, lastRow, lines, bytes);
+    }
+
+    String toManifestLine()
+    {
+        return format("%s\t%d\t%d\t%d\t%d\n", fileName, firstRow, lastRow, lines, bytes);
+    }
+}
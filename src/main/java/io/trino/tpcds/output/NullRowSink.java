@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.util.Optional;
+
+// Discards the rows, e.g. to measure the cost of generating them alone
+public class NullRowSink
+        implements RowSink
+{
+    @Override
+    public void beginTable(Table table, Optional<Table> childTable, long firstRowNumber) {}
+
+    @Override
+    public void acceptParentRow(TableRow row) {}
+
+    @Override
+    public void acceptChildRow(TableRow row) {}
+
+    @Override
+    public void endTable() {}
+}
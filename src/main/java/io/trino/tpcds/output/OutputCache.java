@@ -0,0 +1,264 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.google.common.base.MoreObjects.firstNonNull;
+import static io.trino.tpcds.Table.DBGEN_VERSION;
+import static io.trino.tpcds.output.OutputFiles.fileExists;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.Objects.requireNonNull;
+import static java.util.UUID.randomUUID;
+
+// Keeps the files generated for a table (or a chunk of it), along with those of its child
+// table, in a directory named after a hash of everything that changes their contents: the
+// version of the generator, the table and the options of the session that affect the output.
+// When the same files are generated again they are hard linked, or copied when that is not
+// possible, into the output directory instead. New entries are generated into a temporary
+// directory that is renamed into place once complete, so a process never sees a partial entry,
+// and the least recently used entries are removed once the cache grows over its maximum size.
+public class OutputCache
+{
+    private static final String TEMPORARY_PREFIX = ".tmp-";
+    private static final String GENERATOR_VERSION = getGeneratorVersion();
+
+    private final Path cacheDirectory;
+    private final long maxBytes;
+
+    public interface FileGenerator
+    {
+        void generate(Path directory)
+                throws IOException;
+    }
+
+    public OutputCache(Path cacheDirectory, long maxBytes)
+    {
+        this.cacheDirectory = requireNonNull(cacheDirectory, "cacheDirectory is null");
+        this.maxBytes = maxBytes;
+    }
+
+    // dbgen_version holds the time it was generated at, and only files can be cached
+    public static boolean isCacheable(Table table, Session session)
+    {
+        return table != DBGEN_VERSION && session.getOutputType() == OutputType.FILE;
+    }
+
+    public static String getKey(Table table, Session session)
+    {
+        StringBuilder description = new StringBuilder()
+                .append("version=").append(GENERATOR_VERSION).append('\n')
+                .append("table=").append(table.getName()).append('\n')
+                .append("child=").append(table.hasChild() && !session.generateOnlyOneTable()).append('\n')
+                .append("scale=").append(session.getScaling().getScale()).append('\n')
+                .append("suffix=").append(session.getSuffix()).append('\n')
+                .append("null=").append(session.getNullString()).append('\n')
+                .append("separator=").append(session.getSeparator()).append('\n')
+                .append("terminate=").append(session.terminateRowsWithSeparator()).append('\n')
+                .append("sexist=").append(session.isSexist()).append('\n')
+                .append("parallelism=").append(session.getParallelism()).append('\n')
+                .append("chunk=").append(session.getChunkNumber()).append('\n')
+                .append("mergeChunks=").append(session.shouldMergeChunks()).append('\n')
+                .append("maxFileBytes=").append(session.getMaxFileBytes()).append('\n')
+                .append("maxFileRows=").append(session.getMaxFileRows()).append('\n')
+                .append("format=").append(session.getOutputFormat().getName()).append('\n')
+                .append("partitionByDate=").append(session.shouldPartitionByDate()).append('\n')
+                .append("zoneMapBlockRows=").append(session.getZoneMapBlockRows()).append('\n');
+        for (Table outputTable : table.hasChild() ? ImmutableList.of(table, table.getChild()) : ImmutableList.of(table)) {
+            description.append("bucketBy=").append(session.getBucketing().get(outputTable)).append('\n');
+            description.append("sortBy=").append(session.getSortKeys().get(outputTable)).append('\n');
+        }
+        description.append("projection=").append(session.getProjection()
+                .map(columns -> columns.stream().map(Column::getName).sorted().toList()))
+                .append('\n');
+        return Hashing.sha256().hashString(description, UTF_8).toString();
+    }
+
+    // Puts the files of the table into targetDirectory, calling the generator to write them
+    // into a directory of the cache first when they are not cached yet
+    public void generateTable(Table table, Session session, Path targetDirectory, FileGenerator generator)
+            throws IOException
+    {
+        Path entry = cacheDirectory.resolve(getKey(table, session));
+        if (Files.isDirectory(entry)) {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        else {
+            populate(entry, generator);
+            evict(entry);
+        }
+        linkFiles(entry, targetDirectory, session.shouldOverwrite());
+    }
+
+    private void populate(Path entry, FileGenerator generator)
+            throws IOException
+    {
+        Files.createDirectories(cacheDirectory);
+        Path temporary = cacheDirectory.resolve(TEMPORARY_PREFIX + randomUUID());
+        Files.createDirectory(temporary);
+        try {
+            generator.generate(temporary);
+            try {
+                Files.move(temporary, entry, ATOMIC_MOVE);
+            }
+            catch (FileSystemException e) {
+                // another process cached the same files first
+                if (!Files.isDirectory(entry)) {
+                    throw e;
+                }
+            }
+        }
+        finally {
+            if (Files.exists(temporary)) {
+                MoreFiles.deleteRecursively(temporary);
+            }
+        }
+    }
+
+    private void evict(Path keep)
+            throws IOException
+    {
+        List<Path> entries = new ArrayList<>();
+        long totalBytes = 0;
+        try (Stream<Path> paths = Files.list(cacheDirectory)) {
+            for (Path path : paths.filter(Files::isDirectory).toList()) {
+                if (!path.getFileName().toString().startsWith(TEMPORARY_PREFIX)) {
+                    entries.add(path);
+                    totalBytes += getSize(path);
+                }
+            }
+        }
+        entries.sort(Comparator.comparing(OutputCache::getLastModifiedTime));
+        for (Path path : entries) {
+            if (totalBytes <= maxBytes) {
+                break;
+            }
+            if (!path.equals(keep)) {
+                long bytes = getSize(path);
+                // renamed first, so no process links files from an entry that is half deleted
+                Path deleted = cacheDirectory.resolve(TEMPORARY_PREFIX + randomUUID());
+                try {
+                    Files.move(path, deleted, ATOMIC_MOVE);
+                }
+                catch (NoSuchFileException e) {
+                    // removed by another process
+                    continue;
+                }
+                MoreFiles.deleteRecursively(deleted);
+                totalBytes -= bytes;
+            }
+        }
+    }
+
+    private static void linkFiles(Path entry, Path targetDirectory, boolean overwrite)
+            throws IOException
+    {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(entry)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        for (Path file : files) {
+            // resolved by name, since the target can be on another file system
+            Path target = targetDirectory.resolve(entry.relativize(file).toString());
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            if (Files.exists(target)) {
+                if (!overwrite) {
+                    throw fileExists(target);
+                }
+                Files.delete(target);
+            }
+            if (!createLink(target, file)) {
+                Files.copy(file, target);
+            }
+        }
+    }
+
+    private static boolean createLink(Path link, Path existing)
+    {
+        if (link.getFileSystem() != existing.getFileSystem()) {
+            return false;
+        }
+        try {
+            Files.createLink(link, existing);
+            return true;
+        }
+        catch (UnsupportedOperationException | IOException e) {
+            // e.g. the cache is on another device
+            return false;
+        }
+    }
+
+    private static long getSize(Path directory)
+            throws IOException
+    {
+        long bytes = 0;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.filter(Files::isRegularFile).toList()) {
+                bytes += Files.size(path);
+            }
+        }
+        catch (NoSuchFileException e) {
+            // removed by another process
+        }
+        return bytes;
+    }
+
+    private static FileTime getLastModifiedTime(Path path)
+    {
+        try {
+            return Files.getLastModifiedTime(path);
+        }
+        catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    // the version of the jar and the time its classes were built, so that a rebuilt snapshot
+    // does not reuse the files of an older one
+    private static String getGeneratorVersion()
+    {
+        String version = firstNonNull(OutputCache.class.getPackage().getImplementationVersion(), "unknown");
+        URL classFile = OutputCache.class.getResource(OutputCache.class.getSimpleName() + ".class");
+        if (classFile == null) {
+            return version;
+        }
+        try {
+            return version + "-" + classFile.openConnection().getLastModified();
+        }
+        catch (IOException e) {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.TpcdsException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Opens output files on the file system of the path, which can be the default file system,
+// a zip or in-memory file system, or any other FileSystemProvider. Files are written through
+// a FileChannel and a direct buffer when the provider supports file channels, and through
+// a buffered stream otherwise. With more than one buffer, the buffers are written on a
+// separate I/O thread while the next one is filled (see AsyncChannelOutputStream).
+public final class OutputFiles
+{
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    private OutputFiles() {}
+
+    public static OutputStream createFile(Path path, boolean overwrite)
+            throws IOException
+    {
+        return createFile(path, overwrite, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static OutputStream createFile(Path path, boolean overwrite, int bufferSize)
+            throws IOException
+    {
+        return createFile(path, overwrite, bufferSize, 1, FsyncPolicy.NONE);
+    }
+
+    // When overwriting, an existing file is deleted rather than truncated, so that the files of
+    // the output cache, which are hard linked into the output directory, are never written through
+    public static OutputStream createFile(Path path, boolean overwrite, int bufferSize, int bufferCount, FsyncPolicy fsyncPolicy)
+            throws IOException
+    {
+        try {
+            deleteIfOverwriting(path, overwrite);
+            return open(path, bufferSize, bufferCount, fsyncPolicy, WRITE, CREATE_NEW);
+        }
+        catch (FileAlreadyExistsException e) {
+            throw fileExists(path);
+        }
+    }
+
+    public static FileChannel createFileChannel(Path path, boolean overwrite)
+            throws IOException
+    {
+        try {
+            deleteIfOverwriting(path, overwrite);
+            return FileChannel.open(path, WRITE, CREATE_NEW);
+        }
+        catch (FileAlreadyExistsException e) {
+            throw fileExists(path);
+        }
+    }
+
+    public static OutputStream appendFile(Path path, int bufferSize, FsyncPolicy fsyncPolicy)
+            throws IOException
+    {
+        return open(path, bufferSize, 1, fsyncPolicy, WRITE, APPEND);
+    }
+
+    // opening a named pipe blocks until a reader has opened the other end
+    public static OutputStream openPipe(Path path, int bufferSize, int bufferCount)
+            throws IOException
+    {
+        try {
+            return open(path, bufferSize, bufferCount, FsyncPolicy.NONE, WRITE);
+        }
+        catch (NoSuchFileException e) {
+            throw new TpcdsException(format("Named pipe %s does not exist.  Create it (e.g. with mkfifo) before generating", path));
+        }
+    }
+
+    // appends the suffix to the last element of the path
+    public static Path withSuffix(Path path, String suffix)
+    {
+        return path.resolveSibling(path.getFileName().toString() + suffix);
+    }
+
+    private static void deleteIfOverwriting(Path path, boolean overwrite)
+            throws IOException
+    {
+        if (overwrite) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    static TpcdsException fileExists(Path path)
+    {
+        return new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
+    }
+
+    private static OutputStream open(Path path, int bufferSize, int bufferCount, FsyncPolicy fsyncPolicy, OpenOption... options)
+            throws IOException
+    {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, options);
+        }
+        catch (UnsupportedOperationException e) {
+            return new BufferedOutputStream(Files.newOutputStream(path, options), bufferSize);
+        }
+        if (bufferCount > 1) {
+            return new AsyncChannelOutputStream(channel, bufferSize, bufferCount, fsyncPolicy, path.getFileName().toString());
+        }
+        return new ChannelOutputStream(channel, bufferSize, fsyncPolicy);
+    }
+}
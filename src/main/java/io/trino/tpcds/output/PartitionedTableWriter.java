@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.InventoryColumn.INV_DATE_SK;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURNED_DATE_SK;
+import static io.trino.tpcds.column.WebSalesColumn.WS_SOLD_DATE_SK;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes the rows of a fact or returns table into Hive-style directories keyed by the date
+// surrogate key of the row: <table>/<date_column>=<julian day>/part-<chunk><suffix>. Rows
+// without a date go to the Hive default partition. The rows of consecutive orders go to
+// different dates, so the encoded rows are buffered in memory per partition, and the largest
+// buffer is written out whenever the buffers hold more than bufferMemory bytes. Up to
+// session.getMaxOpenPartitions() partition files are kept open; the least recently used one
+// is closed when another one has to be opened, and is reopened for appending when its
+// partition is written out again.
+public class PartitionedTableWriter
+        implements TableWriter
+{
+    public static final String DEFAULT_PARTITION_NAME = "__HIVE_DEFAULT_PARTITION__";
+    // per writer, so a chunk of a table with returns buffers twice this much
+    public static final long DEFAULT_BUFFER_MEMORY = 16L * 1024 * 1024;
+    // the buffers are written out in large pieces, so the files need little buffering of their own
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
+    private static final Map<Table, Column> PARTITION_COLUMNS = ImmutableMap.<Table, Column>builder()
+            .put(Table.STORE_SALES, SS_SOLD_DATE_SK)
+            .put(Table.STORE_RETURNS, SR_RETURNED_DATE_SK)
+            .put(Table.CATALOG_SALES, CS_SOLD_DATE_SK)
+            .put(Table.CATALOG_RETURNS, CR_RETURNED_DATE_SK)
+            .put(Table.WEB_SALES, WS_SOLD_DATE_SK)
+            .put(Table.WEB_RETURNS, WR_RETURNED_DATE_SK)
+            .put(Table.INVENTORY, INV_DATE_SK)
+            .buildOrThrow();
+
+    private final Path tableDirectory;
+    private final String fileName;
+    private final Column partitionColumn;
+    private final RowEncoder encoder;
+    private final boolean overwrite;
+    private final FsyncPolicy fsyncPolicy;
+    private final int maxOpenPartitions;
+    private final long bufferMemory;
+    private final Map<String, ByteArrayOutputStream> buffers = new HashMap<>();
+    // access ordered, so iteration starts at the least recently used partition
+    private final LinkedHashMap<String, OutputStream> openPartitions = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> partitions = new HashSet<>();
+    private final Set<String> createdPartitions = new HashSet<>();
+    private long bufferedBytes;
+    private long reopenedPartitions;
+
+    public PartitionedTableWriter(Path targetDirectory, Table table, Session session, RowEncoder encoder)
+    {
+        this(targetDirectory, table, session, encoder, DEFAULT_BUFFER_MEMORY);
+    }
+
+    public PartitionedTableWriter(Path targetDirectory, Table table, Session session, RowEncoder encoder, long bufferMemory)
+    {
+        this.partitionColumn = getPartitionColumn(table).orElseThrow(() -> new IllegalArgumentException("Table is not partitioned by date: " + table.getName()));
+        this.tableDirectory = targetDirectory.resolve(table.getName());
+        this.fileName = format("part-%05d%s", session.getParallelism() > 1 ? session.getChunkNumber() : 1, session.getSuffix());
+        this.encoder = requireNonNull(encoder, "encoder is null");
+        this.overwrite = session.shouldOverwrite();
+        this.fsyncPolicy = session.getFsyncPolicy();
+        this.maxOpenPartitions = session.getMaxOpenPartitions();
+        checkArgument(bufferMemory > 0, "bufferMemory must be positive");
+        this.bufferMemory = bufferMemory;
+    }
+
+    public static Optional<Column> getPartitionColumn(Table table)
+    {
+        return Optional.ofNullable(PARTITION_COLUMNS.get(table));
+    }
+
+    @Override
+    public void write(List<String> values)
+            throws IOException
+    {
+        ByteArrayOutputStream buffer = getBuffer(values.get(partitionColumn.getPosition()));
+        int size = buffer.size();
+        encoder.writeRow(values, buffer);
+        addBufferedBytes(buffer.size() - size);
+    }
+
+    @Override
+    public void write(TableRow row)
+            throws IOException
+    {
+        ByteArrayOutputStream buffer = getBuffer(row.getString(partitionColumn));
+        int size = buffer.size();
+        encoder.writeRow(row, buffer);
+        addBufferedBytes(buffer.size() - size);
+    }
+
+    private ByteArrayOutputStream getBuffer(String value)
+            throws IOException
+    {
+        String partition = format("%s=%s", partitionColumn.getName(), value == null ? DEFAULT_PARTITION_NAME : value);
+        ByteArrayOutputStream buffer = buffers.get(partition);
+        if (buffer == null) {
+            buffer = new ByteArrayOutputStream();
+            if (partitions.add(partition)) {
+                encoder.writeHeader(buffer);
+            }
+            buffers.put(partition, buffer);
+        }
+        return buffer;
+    }
+
+    private void addBufferedBytes(long bytes)
+            throws IOException
+    {
+        bufferedBytes += bytes;
+        while (bufferedBytes > bufferMemory) {
+            // the largest buffer frees the most memory for a single file (re)opened
+            Map.Entry<String, ByteArrayOutputStream> largest = null;
+            for (Map.Entry<String, ByteArrayOutputStream> entry : buffers.entrySet()) {
+                if (largest == null || entry.getValue().size() > largest.getValue().size()) {
+                    largest = entry;
+                }
+            }
+            flush(largest.getKey(), largest.getValue());
+            buffers.remove(largest.getKey());
+        }
+    }
+
+    private void flush(String partition, ByteArrayOutputStream buffer)
+            throws IOException
+    {
+        OutputStream output = openPartitions.get(partition);
+        if (output == null) {
+            output = openPartition(partition);
+        }
+        buffer.writeTo(output);
+        bufferedBytes -= buffer.size();
+    }
+
+    private OutputStream openPartition(String partition)
+            throws IOException
+    {
+        if (openPartitions.size() >= maxOpenPartitions) {
+            Iterator<OutputStream> leastRecentlyUsed = openPartitions.values().iterator();
+            leastRecentlyUsed.next().close();
+            leastRecentlyUsed.remove();
+        }
+
+        Path directory = tableDirectory.resolve(partition);
+        Path path = directory.resolve(fileName);
+        OutputStream output;
+        if (createdPartitions.add(partition)) {
+            Files.createDirectories(directory);
+            output = OutputFiles.createFile(path, overwrite, OUTPUT_BUFFER_SIZE, 1, fsyncPolicy);
+        }
+        else {
+            output = OutputFiles.appendFile(path, OUTPUT_BUFFER_SIZE, fsyncPolicy);
+            reopenedPartitions++;
+        }
+        openPartitions.put(partition, output);
+        return output;
+    }
+
+    public Set<String> getPartitions()
+    {
+        return partitions;
+    }
+
+    // The number of times a partition file was closed to make room for another one and opened again
+    public long getReopenedPartitions()
+    {
+        return reopenedPartitions;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        IOException failure = null;
+        try {
+            for (Map.Entry<String, ByteArrayOutputStream> entry : buffers.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+            buffers.clear();
+        }
+        catch (IOException e) {
+            failure = e;
+        }
+        for (OutputStream output : openPartitions.values()) {
+            try {
+                output.close();
+            }
+            catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        openPartitions.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+// Turns the values of a generated row into the bytes of an output format
+public interface RowEncoder
+{
+    // written at the start of every output file
+    default void writeHeader(OutputStream out)
+            throws IOException
+    {}
+
+    void writeRow(List<String> values, OutputStream out)
+            throws IOException;
+
+    // Encodes a generated row, for encoders that can read its values without formatting them
+    default void writeRow(TableRow row, OutputStream out)
+            throws IOException
+    {
+        writeRow(row.getValues(), out);
+    }
+}
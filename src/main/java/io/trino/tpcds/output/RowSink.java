@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// Receives the rows of a table, or of one chunk of it in a parallel build, from
+// TableGenerator, which iterates over the chunk and routes the rows of a child table that
+// is generated along with its parent. The rows are passed unformatted, so a sink only pays
+// for the conversions it needs. When the session reuses rows the same row objects are passed
+// again for the next row, so a sink copies what it keeps.
+public interface RowSink
+{
+    // childTable is present when the rows of the child table are generated along with the table
+    void beginTable(Table table, Optional<Table> childTable, long firstRowNumber)
+            throws IOException;
+
+    void acceptParentRow(TableRow row)
+            throws IOException;
+
+    void acceptChildRow(TableRow row)
+            throws IOException;
+
+    // Called after the rows of a row (e.g. all the line items of an order) have been accepted.
+    default void endOfRow(long rowNumber)
+            throws IOException
+    {}
+
+    // Called once the rows of the table are done, also when generating them failed
+    void endTable()
+            throws IOException;
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.stream.Collectors.joining;
+
+// The columns the rows of a table are sorted by before they are written
+public class SortKey
+{
+    private final Table table;
+    private final List<Column> columns;
+
+    public SortKey(Table table, List<Column> columns)
+    {
+        this.table = table;
+        this.columns = ImmutableList.copyOf(columns);
+        checkArgument(!this.columns.isEmpty(), "columns is empty");
+        for (Column column : this.columns) {
+            checkArgument(column.getTable() == table, "Column %s does not belong to table %s", column.getName(), table.getName());
+        }
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    public List<Column> getColumns()
+    {
+        return columns;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SortKey that = (SortKey) o;
+        return table == that.table && columns.equals(that.columns);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(table, columns);
+    }
+
+    // the form accepted by --sort-by
+    @Override
+    public String toString()
+    {
+        return table.getName() + "=" + columns.stream().map(Column::getName).collect(joining(","));
+    }
+}
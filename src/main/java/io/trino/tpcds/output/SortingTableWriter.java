@@ -0,0 +1,330 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.io.MoreFiles;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Sorts the rows of a table (or of one chunk of a table) before handing them to another
+// writer. Rows are buffered until their estimated size reaches the memory budget, then
+// sorted and spilled to a run file in a temporary directory. When the writer is closed, the
+// runs are merged into the output. Rows with equal keys keep the order they were generated
+// in, and null keys sort first. A run stores every value as its ISO-8859-1 bytes after an
+// unsigned 16-bit length, which is all ones for a null. The runs hold the values as text rather
+// than in BinaryFormat, because the binary slots do not keep the text of every value, e.g.
+// the -7 of an integral GMT offset would come back as -7.00.
+// Since the rows are written out of order, the delegate is only told where the rows end once
+// all of them have been written, with the last row number passed to endOfRow().
+public class SortingTableWriter
+        implements TableWriter
+{
+    private static final int SPILL_BUFFER_SIZE = 256 * 1024;
+    // rough heap cost of a buffered row and of each of its values, on top of the characters
+    private static final long ROW_OVERHEAD = 96;
+    private static final long VALUE_OVERHEAD = 48;
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private final TableWriter delegate;
+    private final int columnCount;
+    private final int[] keyPositions;
+    private final boolean[] numericKeys;
+    private final int[] decimalScales;
+    private final long memoryBudget;
+    private final Path spillParent;
+    private final String spillPrefix;
+    private final Comparator<SortEntry> comparator = this::compare;
+
+    private final List<SortEntry> buffer = new ArrayList<>();
+    private long bufferedBytes;
+    private Path spillDirectory;
+    private final List<Run> runs = new ArrayList<>();
+    private long lastRowNumber = -1;
+
+    public SortingTableWriter(TableWriter delegate, SortKey sortKey, long memoryBudget, Path spillParent)
+    {
+        this.delegate = requireNonNull(delegate, "delegate is null");
+        checkArgument(memoryBudget > 0, "memoryBudget must be positive");
+        this.memoryBudget = memoryBudget;
+        this.spillParent = requireNonNull(spillParent, "spillParent is null");
+
+        Table table = sortKey.getTable();
+        this.columnCount = table.getColumns().length;
+        this.spillPrefix = "." + table.getName() + "_sort";
+        List<Column> columns = sortKey.getColumns();
+        this.keyPositions = new int[columns.size()];
+        this.numericKeys = new boolean[columns.size()];
+        this.decimalScales = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnType type = columns.get(i).getType();
+            keyPositions[i] = columns.get(i).getPosition();
+            // dates and times are written as yyyy-mm-dd and HH:mm:ss, which already sort as strings
+            numericKeys[i] = switch (type.getBase()) {
+                case INTEGER, IDENTIFIER, DECIMAL -> true;
+                case DATE, TIME, VARCHAR, CHAR -> false;
+            };
+            decimalScales[i] = type.getBase() == ColumnType.Base.DECIMAL ? type.getScale().get() : 0;
+        }
+    }
+
+    @Override
+    public void write(List<String> values)
+            throws IOException
+    {
+        List<String> row = Arrays.asList(values.toArray(new String[0]));
+        buffer.add(new SortEntry(extractKeys(row), row));
+        bufferedBytes += estimateSize(row);
+        if (bufferedBytes >= memoryBudget) {
+            spill();
+        }
+    }
+
+    @Override
+    public void endOfRow(long rowNumber)
+    {
+        lastRowNumber = rowNumber;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        try (delegate) {
+            if (runs.isEmpty()) {
+                buffer.sort(comparator);
+                for (SortEntry entry : buffer) {
+                    delegate.write(entry.values);
+                }
+                buffer.clear();
+            }
+            else {
+                spill();
+                merge();
+            }
+            if (lastRowNumber >= 0) {
+                delegate.endOfRow(lastRowNumber);
+            }
+        }
+        finally {
+            if (spillDirectory != null) {
+                MoreFiles.deleteRecursively(spillDirectory);
+            }
+        }
+    }
+
+    public int getRunCount()
+    {
+        return runs.size();
+    }
+
+    private void spill()
+            throws IOException
+    {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        if (spillDirectory == null) {
+            spillDirectory = Files.createTempDirectory(spillParent, spillPrefix);
+        }
+        buffer.sort(comparator);
+        Path path = spillDirectory.resolve(format("run-%05d", runs.size()));
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), SPILL_BUFFER_SIZE))) {
+            for (SortEntry entry : buffer) {
+                for (String value : entry.values) {
+                    if (value == null) {
+                        output.writeShort(NULL_LENGTH);
+                    }
+                    else {
+                        checkArgument(value.length() < NULL_LENGTH, "Value of %s characters is too long to sort", value.length());
+                        output.writeShort(value.length());
+                        output.write(value.getBytes(ISO_8859_1));
+                    }
+                }
+            }
+        }
+        runs.add(new Run(path, buffer.size()));
+        buffer.clear();
+        bufferedBytes = 0;
+    }
+
+    private void merge()
+            throws IOException
+    {
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            // ties between runs go to the earlier run, which holds the earlier generated rows
+            PriorityQueue<RunReader> queue = new PriorityQueue<>(runs.size(), Comparator.<RunReader, SortEntry>comparing(reader -> reader.current, comparator)
+                    .thenComparingInt(reader -> reader.runIndex));
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i), i);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                delegate.write(reader.current.values);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        }
+        finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private Object[] extractKeys(List<String> values)
+    {
+        Object[] keys = new Object[keyPositions.length];
+        for (int i = 0; i < keyPositions.length; i++) {
+            String value = values.get(keyPositions[i]);
+            if (value != null && numericKeys[i]) {
+                keys[i] = decimalScales[i] > 0 ? parseUnscaledDecimal(value, decimalScales[i]) : Long.parseLong(value);
+            }
+            else {
+                keys[i] = value;
+            }
+        }
+        return keys;
+    }
+
+    private int compare(SortEntry left, SortEntry right)
+    {
+        for (int i = 0; i < keyPositions.length; i++) {
+            Object leftKey = left.keys[i];
+            Object rightKey = right.keys[i];
+            if (leftKey == rightKey) {
+                continue;
+            }
+            if (leftKey == null) {
+                return -1;
+            }
+            if (rightKey == null) {
+                return 1;
+            }
+            int result = numericKeys[i] ? Long.compare((Long) leftKey, (Long) rightKey) : ((String) leftKey).compareTo((String) rightKey);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static long estimateSize(List<String> values)
+    {
+        long size = ROW_OVERHEAD;
+        for (String value : values) {
+            if (value != null) {
+                size += VALUE_OVERHEAD + value.length();
+            }
+        }
+        return size;
+    }
+
+    private static class SortEntry
+    {
+        private final Object[] keys;
+        private final List<String> values;
+
+        private SortEntry(Object[] keys, List<String> values)
+        {
+            this.keys = keys;
+            this.values = values;
+        }
+    }
+
+    private static class Run
+    {
+        private final Path path;
+        private final long rowCount;
+
+        private Run(Path path, long rowCount)
+        {
+            this.path = path;
+            this.rowCount = rowCount;
+        }
+    }
+
+    private class RunReader
+            implements Closeable
+    {
+        private final DataInputStream input;
+        private final int runIndex;
+        private long remainingRows;
+        private SortEntry current;
+
+        private RunReader(Run run, int runIndex)
+                throws IOException
+        {
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run.path), SPILL_BUFFER_SIZE));
+            this.runIndex = runIndex;
+            this.remainingRows = run.rowCount;
+        }
+
+        private boolean advance()
+                throws IOException
+        {
+            if (remainingRows == 0) {
+                current = null;
+                return false;
+            }
+            remainingRows--;
+            String[] values = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                int length = input.readUnsignedShort();
+                if (length != NULL_LENGTH) {
+                    byte[] bytes = new byte[length];
+                    input.readFully(bytes);
+                    values[i] = new String(bytes, ISO_8859_1);
+                }
+            }
+            List<String> row = Arrays.asList(values);
+            current = new SortEntry(extractKeys(row), row);
+            return true;
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            input.close();
+        }
+    }
+}
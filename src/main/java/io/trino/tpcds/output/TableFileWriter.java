@@ -0,0 +1,217 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.io.CountingOutputStream;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.row.TableRow;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.trino.tpcds.output.OutputFiles.withSuffix;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes the rows of one table (or one chunk of a table) to files. When the session sets a
+// maximum file size or row count, the output is rolled into numbered part files and a
+// manifest listing the row range of every part is written when the writer is closed.
+// Parts are only rolled at row boundaries, so an order is never split between two files.
+// Depending on the output type the rows go to regular files, to pre-created named pipes or
+// to stdout. Writes go through a pool of large buffers, written on an I/O thread when there is
+// more than one, and a slow consumer of a pipe or of stdout simply blocks the generator once
+// the buffers are full rather than letting memory grow.
+// Rows are encoded by a RowEncoder, which writes its header at the start of every file.
+// When the session asks for zone maps, a ZoneMapCollector sidecar is written for every file.
+public class TableFileWriter
+        implements TableWriter
+{
+    public static final String MANIFEST_SUFFIX = ".manifest";
+
+    private final Path basePath;
+    private final RowEncoder encoder;
+    private final String suffix;
+    private final boolean overwrite;
+    private final OutputType outputType;
+    private final int bufferSize;
+    private final int bufferCount;
+    private final FsyncPolicy fsyncPolicy;
+    private final long maxFileBytes;
+    private final long maxFileRows;
+    private final boolean rolling;
+    private final boolean manifest;
+    private final List<ManifestEntry> parts = new ArrayList<>();
+    private final ZoneMapCollector zoneMaps;
+
+    private CountingOutputStream output;
+    private Path currentPath;
+    private long currentFirstRow;
+    private long currentRows;
+    private long lastCompletedRow;
+
+    // basePath is the path of the output file without the suffix
+    public TableFileWriter(Path basePath, Table table, Session session, RowEncoder encoder, long firstRowNumber)
+            throws IOException
+    {
+        this.basePath = requireNonNull(basePath, "basePath is null");
+        this.encoder = requireNonNull(encoder, "encoder is null");
+        this.suffix = session.getSuffix();
+        this.overwrite = session.shouldOverwrite();
+        this.outputType = session.getOutputType();
+        this.bufferSize = session.getWriteBufferSize();
+        this.bufferCount = session.getWriteBufferCount();
+        this.fsyncPolicy = session.getFsyncPolicy();
+        this.maxFileBytes = session.getMaxFileBytes();
+        this.maxFileRows = session.getMaxFileRows();
+        this.rolling = session.shouldRollFiles();
+        // merging the chunks of a parallel build checks their manifests
+        this.manifest = rolling || session.shouldMergeChunks();
+        this.lastCompletedRow = firstRowNumber - 1;
+        this.zoneMaps = session.getZoneMapBlockRows() > 0 ? new ZoneMapCollector(table, session.getZoneMapBlockRows()) : null;
+        openNextFile();
+    }
+
+    @Override
+    public void write(List<String> values)
+            throws IOException
+    {
+        if (output == null) {
+            openNextFile();
+        }
+        encoder.writeRow(values, output);
+        currentRows++;
+        if (zoneMaps != null) {
+            zoneMaps.add(values);
+        }
+    }
+
+    @Override
+    public void write(TableRow row)
+            throws IOException
+    {
+        if (output == null) {
+            openNextFile();
+        }
+        encoder.writeRow(row, output);
+        currentRows++;
+        if (zoneMaps != null) {
+            zoneMaps.add(row.getValues());
+        }
+    }
+
+    @Override
+    public void endOfRow(long rowNumber)
+            throws IOException
+    {
+        lastCompletedRow = rowNumber;
+        if (output == null) {
+            // the rows since the last part was closed produced no output, e.g. orders without
+            // returns, so the part covers them too
+            if (!parts.isEmpty()) {
+                parts.set(parts.size() - 1, parts.get(parts.size() - 1).withLastRow(rowNumber));
+            }
+            return;
+        }
+        if (!rolling) {
+            return;
+        }
+        if ((maxFileBytes > 0 && output.getCount() >= maxFileBytes) || (maxFileRows > 0 && currentRows >= maxFileRows)) {
+            closeCurrentFile();
+        }
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (output != null) {
+            closeCurrentFile();
+        }
+        if (manifest) {
+            writeManifest();
+        }
+    }
+
+    public List<ManifestEntry> getParts()
+    {
+        return parts;
+    }
+
+    private void openNextFile()
+            throws IOException
+    {
+        currentPath = rolling ? getPartPath(basePath, parts.size() + 1, suffix) : withSuffix(basePath, suffix);
+        currentFirstRow = lastCompletedRow + 1;
+        currentRows = 0;
+        output = new CountingOutputStream(openOutput(currentPath));
+        encoder.writeHeader(output);
+    }
+
+    private void closeCurrentFile()
+            throws IOException
+    {
+        output.close();
+        parts.add(new ManifestEntry(currentPath.getFileName().toString(), currentFirstRow, lastCompletedRow, currentRows, output.getCount()));
+        if (zoneMaps != null) {
+            zoneMaps.writeSidecar(currentPath, overwrite);
+        }
+        output = null;
+    }
+
+    private void writeManifest()
+            throws IOException
+    {
+        try (Writer manifestWriter = new OutputStreamWriter(OutputFiles.createFile(withSuffix(basePath, MANIFEST_SUFFIX), overwrite), StandardCharsets.UTF_8)) {
+            manifestWriter.write(ManifestEntry.HEADER);
+            for (ManifestEntry part : parts) {
+                manifestWriter.write(part.toManifestLine());
+            }
+        }
+    }
+
+    private OutputStream openOutput(Path path)
+            throws IOException
+    {
+        return switch (outputType) {
+            case FILE -> OutputFiles.createFile(path, overwrite, bufferSize, bufferCount, fsyncPolicy);
+            case PIPE -> OutputFiles.openPipe(path, bufferSize, bufferCount);
+            case STDOUT -> new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)
+            {
+                @Override
+                public void close()
+                        throws IOException
+                {
+                    // other tables may still be written to stdout, so only flush
+                    flush();
+                }
+            }, bufferSize);
+        };
+    }
+
+    public static Path getPartPath(Path basePath, int partNumber, String suffix)
+    {
+        return withSuffix(basePath, format("_part_%05d%s", partNumber, suffix));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.row.TableRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// Receives the rows of one table (or one chunk of a table) as they are generated. The list
+// passed to write() may be reused for the next row, so a writer copies the rows it keeps.
+public interface TableWriter
+        extends Closeable
+{
+    void write(List<String> values)
+            throws IOException;
+
+    // The row is only valid until the next row is generated. Writers that encode the row as it
+    // is written override this to pass the row itself to RowEncoder.writeRow().
+    default void write(TableRow row)
+            throws IOException
+    {
+        write(row.getValues());
+    }
+
+    // Called after the rows of a row (e.g. all the line items of an order) have been written.
+    default void endOfRow(long rowNumber)
+            throws IOException
+    {}
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Session;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static io.trino.tpcds.TableGenerator.formatRow;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// The delimited text format of the reference C implementation
+public class TextRowEncoder
+        implements RowEncoder
+{
+    private final Session session;
+
+    public TextRowEncoder(Session session)
+    {
+        this.session = requireNonNull(session, "session is null");
+    }
+
+    @Override
+    public void writeRow(List<String> values, OutputStream out)
+            throws IOException
+    {
+        out.write(formatRow(values, session).getBytes(ISO_8859_1));
+    }
+}
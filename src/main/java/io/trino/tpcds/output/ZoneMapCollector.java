@@ -0,0 +1,272 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static io.trino.tpcds.output.OutputFiles.withSuffix;
+import static java.util.Objects.requireNonNull;
+
+// Collects min, max, null count and an estimate of the distinct count of every column while
+// the rows of a file are written, both for the whole file and for every block of blockRows
+// rows, and writes them to a JSON sidecar next to the file:
+//
+// {"file": "store_sales.dat", "rows": 120527,
+//  "columns": {"ss_sold_date_sk": {"min": 2450816, "max": 2452642, "null_count": 5386, "distinct_count": 1823}, ...},
+//  "blocks": [
+//   {"first_row": 0, "rows": 10000, "columns": {...}},
+//   ...
+//  ]}
+//
+// first_row counts the lines of the file from zero. Values of INTEGER, IDENTIFIER and DECIMAL
+// columns are written as JSON numbers and compared as numbers; all other values are strings.
+// min and max are null when every value of the column is null.
+public class ZoneMapCollector
+{
+    public static final String SIDECAR_SUFFIX = ".zonemap.json";
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final Column[] columns;
+    private final int blockRows;
+    private final ColumnStatistics[] fileStatistics;
+    private final ColumnStatistics[] blockStatistics;
+    private final StringBuilder blocks = new StringBuilder();
+    private long rows;
+    private long blockFirstRow;
+    private int currentBlockRows;
+
+    public ZoneMapCollector(Table table, int blockRows)
+    {
+        checkArgument(blockRows > 0, "blockRows must be positive");
+        this.columns = table.getColumns();
+        this.blockRows = blockRows;
+        this.fileStatistics = new ColumnStatistics[columns.length];
+        this.blockStatistics = new ColumnStatistics[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fileStatistics[i] = new ColumnStatistics(columns[i].getType());
+            blockStatistics[i] = new ColumnStatistics(columns[i].getType());
+        }
+    }
+
+    public void add(List<String> values)
+    {
+        for (int i = 0; i < columns.length; i++) {
+            blockStatistics[i].add(values.get(i));
+        }
+        rows++;
+        currentBlockRows++;
+        if (currentBlockRows == blockRows) {
+            finishBlock();
+        }
+    }
+
+    // writes the sidecar of the data file at dataPath, and starts over for the next file
+    public void writeSidecar(Path dataPath, boolean overwrite)
+            throws IOException
+    {
+        if (currentBlockRows > 0) {
+            finishBlock();
+        }
+        try (Writer writer = new OutputStreamWriter(OutputFiles.createFile(withSuffix(dataPath, SIDECAR_SUFFIX), overwrite), StandardCharsets.UTF_8)) {
+            StringBuilder json = new StringBuilder();
+            json.append("{\"file\": ");
+            appendString(json, dataPath.getFileName().toString());
+            json.append(", \"rows\": ").append(rows).append(",\n \"columns\": ");
+            appendColumns(json, fileStatistics);
+            json.append(",\n \"blocks\": [\n");
+            json.append(blocks);
+            json.append(" ]}\n");
+            writer.write(json.toString());
+        }
+
+        for (ColumnStatistics statistics : fileStatistics) {
+            statistics.reset();
+        }
+        blocks.setLength(0);
+        rows = 0;
+        blockFirstRow = 0;
+    }
+
+    private void finishBlock()
+    {
+        if (blocks.length() > 0) {
+            blocks.setLength(blocks.length() - 1);
+            blocks.append(",\n");
+        }
+        blocks.append("  {\"first_row\": ").append(blockFirstRow).append(", \"rows\": ").append(currentBlockRows).append(", \"columns\": ");
+        appendColumns(blocks, blockStatistics);
+        blocks.append("}\n");
+
+        for (int i = 0; i < columns.length; i++) {
+            fileStatistics[i].merge(blockStatistics[i]);
+            blockStatistics[i].reset();
+        }
+        blockFirstRow += currentBlockRows;
+        currentBlockRows = 0;
+    }
+
+    private void appendColumns(StringBuilder json, ColumnStatistics[] statistics)
+    {
+        json.append('{');
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            appendString(json, columns[i].getName());
+            json.append(": ");
+            statistics[i].appendJson(json);
+        }
+        json.append('}');
+    }
+
+    private static void appendString(StringBuilder json, String value)
+    {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private static class ColumnStatistics
+    {
+        private final boolean numeric;
+        private final int decimalScale;
+        private final HyperLogLog distinctValues = new HyperLogLog();
+        private long nullCount;
+        private String min;
+        private String max;
+        private long minNumber;
+        private long maxNumber;
+
+        private ColumnStatistics(ColumnType type)
+        {
+            this.numeric = switch (requireNonNull(type, "type is null").getBase()) {
+                case INTEGER, IDENTIFIER, DECIMAL -> true;
+                case DATE, TIME, VARCHAR, CHAR -> false;
+            };
+            this.decimalScale = type.getBase() == ColumnType.Base.DECIMAL ? type.getScale().get() : 0;
+        }
+
+        private void add(String value)
+        {
+            if (value == null) {
+                nullCount++;
+                return;
+            }
+            distinctValues.add(HASH.hashUnencodedChars(value).asLong());
+            if (numeric) {
+                long number = decimalScale > 0 ? parseUnscaledDecimal(value, decimalScale) : Long.parseLong(value);
+                updateNumber(value, number);
+            }
+            else {
+                updateString(value);
+            }
+        }
+
+        private void updateNumber(String value, long number)
+        {
+            if (min == null || number < minNumber) {
+                min = value;
+                minNumber = number;
+            }
+            if (max == null || number > maxNumber) {
+                max = value;
+                maxNumber = number;
+            }
+        }
+
+        private void updateString(String value)
+        {
+            if (min == null || value.compareTo(min) < 0) {
+                min = value;
+            }
+            if (max == null || value.compareTo(max) > 0) {
+                max = value;
+            }
+        }
+
+        private void merge(ColumnStatistics other)
+        {
+            nullCount += other.nullCount;
+            distinctValues.merge(other.distinctValues);
+            if (other.min == null) {
+                return;
+            }
+            if (numeric) {
+                updateNumber(other.min, other.minNumber);
+                updateNumber(other.max, other.maxNumber);
+            }
+            else {
+                updateString(other.min);
+                updateString(other.max);
+            }
+        }
+
+        private void reset()
+        {
+            distinctValues.reset();
+            nullCount = 0;
+            min = null;
+            max = null;
+        }
+
+        private void appendJson(StringBuilder json)
+        {
+            json.append("{\"min\": ");
+            appendValue(json, min);
+            json.append(", \"max\": ");
+            appendValue(json, max);
+            json.append(", \"null_count\": ").append(nullCount);
+            json.append(", \"distinct_count\": ").append(min == null ? 0 : distinctValues.estimate());
+            json.append('}');
+        }
+
+        private void appendValue(StringBuilder json, String value)
+        {
+            if (value == null) {
+                json.append("null");
+            }
+            else if (numeric) {
+                json.append(value);
+            }
+            else {
+                appendString(json, value);
+            }
+        }
+    }
+}
@@ -22,6 +22,9 @@ public interface RandomNumberStream
 
     void skipRows(long numberOfRows);
 
+    // moves the stream past the next numberOfSeeds random numbers as if they had been drawn
+    void skipSeeds(long numberOfSeeds);
+
     void resetSeed();
 
     int getSeedsUsed();
@@ -76,8 +76,21 @@ public class RandomNumberStreamImpl
     @Override
     public void skipRows(long numberOfRows)
     {
-        long numberOfValuesToSkip = numberOfRows * seedsPerRow;
-        long nextSeed = initialSeed;
+        seed = skip(initialSeed, numberOfRows * seedsPerRow);
+        seedsUsed = 0;
+    }
+
+    @Override
+    public void skipSeeds(long numberOfSeeds)
+    {
+        seed = skip(seed, numberOfSeeds);
+        seedsUsed += (int) numberOfSeeds;
+    }
+
+    // the seed numberOfValuesToSkip draws after the given one, in O(log n) multiplications
+    private static long skip(long seed, long numberOfValuesToSkip)
+    {
+        long nextSeed = seed;
         long multiplier = MULTIPLIER;
         while (numberOfValuesToSkip > 0) {
             if (numberOfValuesToSkip % 2 != 0) { // n is odd
@@ -86,8 +99,7 @@ public class RandomNumberStreamImpl
             numberOfValuesToSkip = numberOfValuesToSkip / 2;
             multiplier = (multiplier * multiplier) % Integer.MAX_VALUE;
         }
-        seed = nextSeed;
-        seedsUsed = 0;
+        return nextSeed;
     }
 
     @Override
@@ -14,12 +14,11 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.CallCenterColumn;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_ADDRESS;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_ID;
 import static io.trino.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_SK;
@@ -239,39 +238,41 @@ public class CallCenterRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(ccCallCenterSk, CC_CALL_CENTER_SK),
-                getStringOrNull(ccCallCenterId, CC_CALL_CENTER_ID),
-                getDateStringOrNullFromJulianDays(ccRecStartDateId, CC_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(ccRecEndDateId, CC_REC_END_DATE_ID),
-                getStringOrNullForKey(ccClosedDateId, CC_CLOSED_DATE_ID),
-                getStringOrNullForKey(ccOpenDateId, CC_OPEN_DATE_ID),
-                getStringOrNull(ccName, CC_NAME),
-                getStringOrNull(ccClass, CC_CLASS),
-                getStringOrNull(ccEmployees, CC_EMPLOYEES),
-                getStringOrNull(ccSqFt, CC_SQ_FT),
-                getStringOrNull(ccHours, CC_HOURS),
-                getStringOrNull(ccManager, CC_MANAGER),
-                getStringOrNull(ccMarketId, CC_MARKET_ID),
-                getStringOrNull(ccMarketClass, CC_MARKET_CLASS),
-                getStringOrNull(ccMarketDesc, CC_MARKET_DESC),
-                getStringOrNull(ccMarketManager, CC_MARKET_MANAGER),
-                getStringOrNull(ccDivisionId, CC_DIVISION),
-                getStringOrNull(ccDivisionName, CC_DIVISION_NAME),
-                getStringOrNull(ccCompany, CC_COMPANY),
-                getStringOrNull(ccCompanyName, CC_COMPANY_NAME),
-                getStringOrNull(ccAddress.getStreetNumber(), CC_STREET_NUMBER),
-                getStringOrNull(ccAddress.getStreetName(), CC_STREET_NAME),
-                getStringOrNull(ccAddress.getStreetType(), CC_STREET_TYPE),
-                getStringOrNull(ccAddress.getSuiteNumber(), CC_SUITE_NUMBER),
-                getStringOrNull(ccAddress.getCity(), CC_CITY),
-                getStringOrNull(ccAddress.getCounty(), CC_ADDRESS),
-                getStringOrNull(ccAddress.getState(), CC_STATE),
-                getStringOrNull(format("%05d", ccAddress.getZip()), CC_ZIP),
-                getStringOrNull(ccAddress.getCountry(), CC_COUNTRY),
-                getStringOrNull(ccAddress.getGmtOffset(), CC_GMT_OFFSET),
-                getStringOrNull(ccTaxPercentage, CC_TAX_PERCENTAGE));
+        return switch ((CallCenterColumn) column) {
+            case CC_CALL_CENTER_SK -> getStringOrNullForKey(ccCallCenterSk, CC_CALL_CENTER_SK);
+            case CC_CALL_CENTER_ID -> getStringOrNull(ccCallCenterId, CC_CALL_CENTER_ID);
+            case CC_REC_START_DATE -> getDateStringOrNullFromJulianDays(ccRecStartDateId, CC_REC_START_DATE_ID);
+            case CC_REC_END_DATE -> getDateStringOrNullFromJulianDays(ccRecEndDateId, CC_REC_END_DATE_ID);
+            case CC_CLOSED_DATE_SK -> getStringOrNullForKey(ccClosedDateId, CC_CLOSED_DATE_ID);
+            case CC_OPEN_DATE_SK -> getStringOrNullForKey(ccOpenDateId, CC_OPEN_DATE_ID);
+            case CC_NAME -> getStringOrNull(ccName, CC_NAME);
+            case CC_CLASS -> getStringOrNull(ccClass, CC_CLASS);
+            case CC_EMPLOYEES -> getStringOrNull(ccEmployees, CC_EMPLOYEES);
+            case CC_SQ_FT -> getStringOrNull(ccSqFt, CC_SQ_FT);
+            case CC_HOURS -> getStringOrNull(ccHours, CC_HOURS);
+            case CC_MANAGER -> getStringOrNull(ccManager, CC_MANAGER);
+            case CC_MKT_ID -> getStringOrNull(ccMarketId, CC_MARKET_ID);
+            case CC_MKT_CLASS -> getStringOrNull(ccMarketClass, CC_MARKET_CLASS);
+            case CC_MKT_DESC -> getStringOrNull(ccMarketDesc, CC_MARKET_DESC);
+            case CC_MARKET_MANAGER -> getStringOrNull(ccMarketManager, CC_MARKET_MANAGER);
+            case CC_DIVISION -> getStringOrNull(ccDivisionId, CC_DIVISION);
+            case CC_DIVISION_NAME -> getStringOrNull(ccDivisionName, CC_DIVISION_NAME);
+            case CC_COMPANY -> getStringOrNull(ccCompany, CC_COMPANY);
+            case CC_COMPANY_NAME -> getStringOrNull(ccCompanyName, CC_COMPANY_NAME);
+            case CC_STREET_NUMBER -> getStringOrNull(ccAddress.getStreetNumber(), CC_STREET_NUMBER);
+            case CC_STREET_NAME -> getStringOrNull(ccAddress.getStreetName(), CC_STREET_NAME);
+            case CC_STREET_TYPE -> getStringOrNull(ccAddress.getStreetType(), CC_STREET_TYPE);
+            case CC_SUITE_NUMBER -> getStringOrNull(ccAddress.getSuiteNumber(), CC_SUITE_NUMBER);
+            case CC_CITY -> getStringOrNull(ccAddress.getCity(), CC_CITY);
+            case CC_COUNTY -> getStringOrNull(ccAddress.getCounty(), CC_ADDRESS);
+            case CC_STATE -> getStringOrNull(ccAddress.getState(), CC_STATE);
+            case CC_ZIP -> getStringOrNull(format("%05d", ccAddress.getZip()), CC_ZIP);
+            case CC_COUNTRY -> getStringOrNull(ccAddress.getCountry(), CC_COUNTRY);
+            case CC_GMT_OFFSET -> getStringOrNull(ccAddress.getGmtOffset(), CC_GMT_OFFSET);
+            case CC_TAX_PERCENTAGE -> getStringOrNull(ccTaxPercentage, CC_TAX_PERCENTAGE);
+        };
     }
 
     public static class Builder
@@ -442,4 +443,62 @@ public class CallCenterRow
             this.nullBitMap = nullBitMap;
         }
     }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CallCenterColumn) column) {
+            case CC_CALL_CENTER_SK -> isNullForKey(ccCallCenterSk, CC_CALL_CENTER_SK);
+            case CC_CALL_CENTER_ID -> isNull(CC_CALL_CENTER_ID);
+            case CC_REC_START_DATE -> isNullForJulianDays(ccRecStartDateId, CC_REC_START_DATE_ID);
+            case CC_REC_END_DATE -> isNullForJulianDays(ccRecEndDateId, CC_REC_END_DATE_ID);
+            case CC_CLOSED_DATE_SK -> isNullForKey(ccClosedDateId, CC_CLOSED_DATE_ID);
+            case CC_OPEN_DATE_SK -> isNullForKey(ccOpenDateId, CC_OPEN_DATE_ID);
+            case CC_NAME -> isNull(CC_NAME);
+            case CC_CLASS -> isNull(CC_CLASS);
+            case CC_EMPLOYEES -> isNull(CC_EMPLOYEES);
+            case CC_SQ_FT -> isNull(CC_SQ_FT);
+            case CC_HOURS -> isNull(CC_HOURS);
+            case CC_MANAGER -> isNull(CC_MANAGER);
+            case CC_MKT_ID -> isNull(CC_MARKET_ID);
+            case CC_MKT_CLASS -> isNull(CC_MARKET_CLASS);
+            case CC_MKT_DESC -> isNull(CC_MARKET_DESC);
+            case CC_MARKET_MANAGER -> isNull(CC_MARKET_MANAGER);
+            case CC_DIVISION -> isNull(CC_DIVISION);
+            case CC_DIVISION_NAME -> isNull(CC_DIVISION_NAME);
+            case CC_COMPANY -> isNull(CC_COMPANY);
+            case CC_COMPANY_NAME -> isNull(CC_COMPANY_NAME);
+            case CC_STREET_NUMBER -> isNull(CC_STREET_NUMBER);
+            case CC_STREET_NAME -> isNull(CC_STREET_NAME);
+            case CC_STREET_TYPE -> isNull(CC_STREET_TYPE);
+            case CC_SUITE_NUMBER -> isNull(CC_SUITE_NUMBER);
+            case CC_CITY -> isNull(CC_CITY);
+            case CC_COUNTY -> isNull(CC_ADDRESS);
+            case CC_STATE -> isNull(CC_STATE);
+            case CC_ZIP -> isNull(CC_ZIP);
+            case CC_COUNTRY -> isNull(CC_COUNTRY);
+            case CC_GMT_OFFSET -> isNull(CC_GMT_OFFSET);
+            case CC_TAX_PERCENTAGE -> isNull(CC_TAX_PERCENTAGE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((CallCenterColumn) column) {
+            case CC_CALL_CENTER_SK -> ccCallCenterSk;
+            case CC_REC_START_DATE -> ccRecStartDateId;
+            case CC_REC_END_DATE -> ccRecEndDateId;
+            case CC_CLOSED_DATE_SK -> ccClosedDateId;
+            case CC_OPEN_DATE_SK -> ccOpenDateId;
+            case CC_EMPLOYEES -> ccEmployees;
+            case CC_SQ_FT -> ccSqFt;
+            case CC_MKT_ID -> ccMarketId;
+            case CC_DIVISION -> ccDivisionId;
+            case CC_COMPANY -> ccCompany;
+            case CC_GMT_OFFSET -> getUnscaled(ccAddress.getGmtOffset(), column);
+            case CC_TAX_PERCENTAGE -> getUnscaled(ccTaxPercentage, column);
+            default -> throw notFixedWidth(column);
+        };
+    }
 }
@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.CatalogPageColumn;
+import io.trino.tpcds.column.Column;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_NUMBER;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_ID;
 import static io.trino.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_NUMBER;
@@ -64,16 +64,47 @@ public class CatalogPageRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(cpCatalogPageSk, CP_CATALOG_PAGE_SK),
-                getStringOrNull(cpCatalogPageId, CP_CATALOG_PAGE_ID),
-                getStringOrNullForKey(cpStartDateId, CP_START_DATE_ID),
-                getStringOrNullForKey(cpEndDateId, CP_END_DATE_ID),
-                getStringOrNull(cpDepartment, CP_DEPARTMENT),
-                getStringOrNull(cpCatalogNumber, CP_CATALOG_NUMBER),
-                getStringOrNull(cpCatalogPageNumber, CP_CATALOG_PAGE_NUMBER),
-                getStringOrNull(cpDescription, CP_DESCRIPTION),
-                getStringOrNull(cpType, CP_TYPE));
+        return switch ((CatalogPageColumn) column) {
+            case CP_CATALOG_PAGE_SK -> getStringOrNullForKey(cpCatalogPageSk, CP_CATALOG_PAGE_SK);
+            case CP_CATALOG_PAGE_ID -> getStringOrNull(cpCatalogPageId, CP_CATALOG_PAGE_ID);
+            case CP_START_DATE_SK -> getStringOrNullForKey(cpStartDateId, CP_START_DATE_ID);
+            case CP_END_DATE_SK -> getStringOrNullForKey(cpEndDateId, CP_END_DATE_ID);
+            case CP_DEPARTMENT -> getStringOrNull(cpDepartment, CP_DEPARTMENT);
+            case CP_CATALOG_NUMBER -> getStringOrNull(cpCatalogNumber, CP_CATALOG_NUMBER);
+            case CP_CATALOG_PAGE_NUMBER -> getStringOrNull(cpCatalogPageNumber, CP_CATALOG_PAGE_NUMBER);
+            case CP_DESCRIPTION -> getStringOrNull(cpDescription, CP_DESCRIPTION);
+            case CP_TYPE -> getStringOrNull(cpType, CP_TYPE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CatalogPageColumn) column) {
+            case CP_CATALOG_PAGE_SK -> isNullForKey(cpCatalogPageSk, CP_CATALOG_PAGE_SK);
+            case CP_CATALOG_PAGE_ID -> isNull(CP_CATALOG_PAGE_ID);
+            case CP_START_DATE_SK -> isNullForKey(cpStartDateId, CP_START_DATE_ID);
+            case CP_END_DATE_SK -> isNullForKey(cpEndDateId, CP_END_DATE_ID);
+            case CP_DEPARTMENT -> isNull(CP_DEPARTMENT);
+            case CP_CATALOG_NUMBER -> isNull(CP_CATALOG_NUMBER);
+            case CP_CATALOG_PAGE_NUMBER -> isNull(CP_CATALOG_PAGE_NUMBER);
+            case CP_DESCRIPTION -> isNull(CP_DESCRIPTION);
+            case CP_TYPE -> isNull(CP_TYPE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((CatalogPageColumn) column) {
+            case CP_CATALOG_PAGE_SK -> cpCatalogPageSk;
+            case CP_START_DATE_SK -> cpStartDateId;
+            case CP_END_DATE_SK -> cpEndDateId;
+            case CP_CATALOG_NUMBER -> cpCatalogNumber;
+            case CP_CATALOG_PAGE_NUMBER -> cpCatalogPageNumber;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.CatalogReturnsColumn;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CALL_CENTER_SK;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CATALOG_PAGE_SK;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_ITEM_SK;
@@ -50,24 +49,30 @@ import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WAREHOUS
 public class CatalogReturnsRow
         extends TableRowWithNulls
 {
-    private final long crReturnedDateSk;
-    private final long crReturnedTimeSk;
-    private final long crItemSk;
-    private final long crRefundedCustomerSk;
-    private final long crRefundedCdemoSk;
-    private final long crRefundedHdemoSk;
-    private final long crRefundedAddrSk;
-    private final long crReturningCustomerSk;
-    private final long crReturningCdemoSk;
-    private final long crReturningHdemoSk;
-    private final long crReturningAddrSk;
-    private final long crCallCenterSk;
-    private final long crCatalogPageSk;
-    private final long crShipModeSk;
-    private final long crWarehouseSk;
-    private final long crReasonSk;
-    private final long crOrderNumber;
-    private final Pricing crPricing;
+    private long crReturnedDateSk;
+    private long crReturnedTimeSk;
+    private long crItemSk;
+    private long crRefundedCustomerSk;
+    private long crRefundedCdemoSk;
+    private long crRefundedHdemoSk;
+    private long crRefundedAddrSk;
+    private long crReturningCustomerSk;
+    private long crReturningCdemoSk;
+    private long crReturningHdemoSk;
+    private long crReturningAddrSk;
+    private long crCallCenterSk;
+    private long crCatalogPageSk;
+    private long crShipModeSk;
+    private long crWarehouseSk;
+    private long crReasonSk;
+    private long crOrderNumber;
+    private Pricing crPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public CatalogReturnsRow()
+    {
+        super(0, CR_RETURNED_DATE_SK);
+    }
 
     public CatalogReturnsRow(long crReturnedDateSk,
             long crReturnedTimeSk,
@@ -89,7 +94,31 @@ public class CatalogReturnsRow
             Pricing crPricing,
             long nullBitMap)
     {
-        super(nullBitMap, CR_RETURNED_DATE_SK);
+        this();
+        set(crReturnedDateSk, crReturnedTimeSk, crItemSk, crRefundedCustomerSk, crRefundedCdemoSk, crRefundedHdemoSk, crRefundedAddrSk, crReturningCustomerSk, crReturningCdemoSk, crReturningHdemoSk, crReturningAddrSk, crCallCenterSk, crCatalogPageSk, crShipModeSk, crWarehouseSk, crReasonSk, crOrderNumber, crPricing, nullBitMap);
+    }
+
+    public final void set(long crReturnedDateSk,
+            long crReturnedTimeSk,
+            long crItemSk,
+            long crRefundedCustomerSk,
+            long crRefundedCdemoSk,
+            long crRefundedHdemoSk,
+            long crRefundedAddrSk,
+            long crReturningCustomerSk,
+            long crReturningCdemoSk,
+            long crReturningHdemoSk,
+            long crReturningAddrSk,
+            long crCallCenterSk,
+            long crCatalogPageSk,
+            long crShipModeSk,
+            long crWarehouseSk,
+            long crReasonSk,
+            long crOrderNumber,
+            Pricing crPricing,
+            long nullBitMap)
+    {
+        setNullBitMap(nullBitMap);
         this.crReturnedDateSk = crReturnedDateSk;
         this.crReturnedTimeSk = crReturnedTimeSk;
         this.crItemSk = crItemSk;
@@ -111,34 +140,104 @@ public class CatalogReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((CatalogReturnsColumn) column) {
+            case CR_RETURNED_DATE_SK -> getStringOrNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK);
+            case CR_RETURNED_TIME_SK -> getStringOrNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK);
+            case CR_ITEM_SK -> getStringOrNullForKey(crItemSk, CR_ITEM_SK);
+            case CR_REFUNDED_CUSTOMER_SK -> getStringOrNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK);
+            case CR_REFUNDED_CDEMO_SK -> getStringOrNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK);
+            case CR_REFUNDED_HDEMO_SK -> getStringOrNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK);
+            case CR_REFUNDED_ADDR_SK -> getStringOrNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK);
+            case CR_RETURNING_CUSTOMER_SK -> getStringOrNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK);
+            case CR_RETURNING_CDEMO_SK -> getStringOrNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK);
+            case CR_RETURNING_HDEMO_SK -> getStringOrNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK);
+            case CR_RETURNING_ADDR_SK -> getStringOrNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK);
+            case CR_CALL_CENTER_SK -> getStringOrNullForKey(crCallCenterSk, CR_CALL_CENTER_SK);
+            case CR_CATALOG_PAGE_SK -> getStringOrNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK);
+            case CR_SHIP_MODE_SK -> getStringOrNullForKey(crShipModeSk, CR_SHIP_MODE_SK);
+            case CR_WAREHOUSE_SK -> getStringOrNullForKey(crWarehouseSk, CR_WAREHOUSE_SK);
+            case CR_REASON_SK -> getStringOrNullForKey(crReasonSk, CR_REASON_SK);
+            case CR_ORDER_NUMBER -> getStringOrNull(crOrderNumber, CR_ORDER_NUMBER);
+            case CR_RETURN_QUANTITY -> getStringOrNull(crPricing.getQuantity(), CR_PRICING_QUANTITY);
+            case CR_RETURN_AMOUNT -> getStringOrNull(crPricing.getNetPaid(), CR_PRICING_NET_PAID);
+            case CR_RETURN_TAX -> getStringOrNull(crPricing.getExtTax(), CR_PRICING_EXT_TAX);
+            case CR_RETURN_AMT_INC_TAX -> getStringOrNull(crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX);
+            case CR_FEE -> getStringOrNull(crPricing.getFee(), CR_PRICING_FEE);
+            case CR_RETURN_SHIP_COST -> getStringOrNull(crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST);
+            case CR_REFUNDED_CASH -> getStringOrNull(crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH);
+            case CR_REVERSED_CHARGE -> getStringOrNull(crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE);
+            case CR_STORE_CREDIT -> getStringOrNull(crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT);
+            case CR_NET_LOSS -> getStringOrNull(crPricing.getNetLoss(), CR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CatalogReturnsColumn) column) {
+            case CR_RETURNED_DATE_SK -> isNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK);
+            case CR_RETURNED_TIME_SK -> isNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK);
+            case CR_ITEM_SK -> isNullForKey(crItemSk, CR_ITEM_SK);
+            case CR_REFUNDED_CUSTOMER_SK -> isNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK);
+            case CR_REFUNDED_CDEMO_SK -> isNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK);
+            case CR_REFUNDED_HDEMO_SK -> isNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK);
+            case CR_REFUNDED_ADDR_SK -> isNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK);
+            case CR_RETURNING_CUSTOMER_SK -> isNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK);
+            case CR_RETURNING_CDEMO_SK -> isNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK);
+            case CR_RETURNING_HDEMO_SK -> isNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK);
+            case CR_RETURNING_ADDR_SK -> isNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK);
+            case CR_CALL_CENTER_SK -> isNullForKey(crCallCenterSk, CR_CALL_CENTER_SK);
+            case CR_CATALOG_PAGE_SK -> isNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK);
+            case CR_SHIP_MODE_SK -> isNullForKey(crShipModeSk, CR_SHIP_MODE_SK);
+            case CR_WAREHOUSE_SK -> isNullForKey(crWarehouseSk, CR_WAREHOUSE_SK);
+            case CR_REASON_SK -> isNullForKey(crReasonSk, CR_REASON_SK);
+            case CR_ORDER_NUMBER -> isNull(CR_ORDER_NUMBER);
+            case CR_RETURN_QUANTITY -> isNull(CR_PRICING_QUANTITY);
+            case CR_RETURN_AMOUNT -> isNull(CR_PRICING_NET_PAID);
+            case CR_RETURN_TAX -> isNull(CR_PRICING_EXT_TAX);
+            case CR_RETURN_AMT_INC_TAX -> isNull(CR_PRICING_NET_PAID_INC_TAX);
+            case CR_FEE -> isNull(CR_PRICING_FEE);
+            case CR_RETURN_SHIP_COST -> isNull(CR_PRICING_EXT_SHIP_COST);
+            case CR_REFUNDED_CASH -> isNull(CR_PRICING_REFUNDED_CASH);
+            case CR_REVERSED_CHARGE -> isNull(CR_PRICING_REVERSED_CHARGE);
+            case CR_STORE_CREDIT -> isNull(CR_PRICING_STORE_CREDIT);
+            case CR_NET_LOSS -> isNull(CR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK),
-                getStringOrNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK),
-                getStringOrNullForKey(crItemSk, CR_ITEM_SK),
-                getStringOrNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(crCallCenterSk, CR_CALL_CENTER_SK),
-                getStringOrNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK),
-                getStringOrNullForKey(crShipModeSk, CR_SHIP_MODE_SK),
-                getStringOrNullForKey(crWarehouseSk, CR_WAREHOUSE_SK),
-                getStringOrNullForKey(crReasonSk, CR_REASON_SK),
-                getStringOrNull(crOrderNumber, CR_ORDER_NUMBER),
-                getStringOrNull(crPricing.getQuantity(), CR_PRICING_QUANTITY),
-                getStringOrNull(crPricing.getNetPaid(), CR_PRICING_NET_PAID),
-                getStringOrNull(crPricing.getExtTax(), CR_PRICING_EXT_TAX),
-                getStringOrNull(crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(crPricing.getFee(), CR_PRICING_FEE),
-                getStringOrNull(crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH),
-                getStringOrNull(crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT),
-                getStringOrNull(crPricing.getNetLoss(), CR_PRICING_NET_LOSS));
+        return switch ((CatalogReturnsColumn) column) {
+            case CR_RETURNED_DATE_SK -> crReturnedDateSk;
+            case CR_RETURNED_TIME_SK -> crReturnedTimeSk;
+            case CR_ITEM_SK -> crItemSk;
+            case CR_REFUNDED_CUSTOMER_SK -> crRefundedCustomerSk;
+            case CR_REFUNDED_CDEMO_SK -> crRefundedCdemoSk;
+            case CR_REFUNDED_HDEMO_SK -> crRefundedHdemoSk;
+            case CR_REFUNDED_ADDR_SK -> crRefundedAddrSk;
+            case CR_RETURNING_CUSTOMER_SK -> crReturningCustomerSk;
+            case CR_RETURNING_CDEMO_SK -> crReturningCdemoSk;
+            case CR_RETURNING_HDEMO_SK -> crReturningHdemoSk;
+            case CR_RETURNING_ADDR_SK -> crReturningAddrSk;
+            case CR_CALL_CENTER_SK -> crCallCenterSk;
+            case CR_CATALOG_PAGE_SK -> crCatalogPageSk;
+            case CR_SHIP_MODE_SK -> crShipModeSk;
+            case CR_WAREHOUSE_SK -> crWarehouseSk;
+            case CR_REASON_SK -> crReasonSk;
+            case CR_ORDER_NUMBER -> crOrderNumber;
+            case CR_RETURN_QUANTITY -> crPricing.getQuantity();
+            case CR_RETURN_AMOUNT -> getUnscaled(crPricing.getNetPaid(), column);
+            case CR_RETURN_TAX -> getUnscaled(crPricing.getExtTax(), column);
+            case CR_RETURN_AMT_INC_TAX -> getUnscaled(crPricing.getNetPaidIncludingTax(), column);
+            case CR_FEE -> getUnscaled(crPricing.getFee(), column);
+            case CR_RETURN_SHIP_COST -> getUnscaled(crPricing.getExtShipCost(), column);
+            case CR_REFUNDED_CASH -> getUnscaled(crPricing.getRefundedCash(), column);
+            case CR_REVERSED_CHARGE -> getUnscaled(crPricing.getReversedCharge(), column);
+            case CR_STORE_CREDIT -> getUnscaled(crPricing.getStoreCredit(), column);
+            case CR_NET_LOSS -> getUnscaled(crPricing.getNetLoss(), column);
+        };
     }
 }
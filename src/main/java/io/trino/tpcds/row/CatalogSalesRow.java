@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.CatalogSalesColumn;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CDEMO_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CUSTOMER_SK;
@@ -57,25 +56,31 @@ import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_WAREHOUSE_
 public class CatalogSalesRow
         extends TableRowWithNulls
 {
-    private final long csSoldDateSk;
-    private final long csSoldTimeSk;
-    private final long csShipDateSk;
-    private final long csBillCustomerSk;
-    private final long csBillCdemoSk;
-    private final long csBillHdemoSk;
-    private final long csBillAddrSk;
-    private final long csShipCustomerSk;
-    private final long csShipCdemoSk;
-    private final long csShipHdemoSk;
-    private final long csShipAddrSk;
-    private final long csCallCenterSk;
-    private final long csCatalogPageSk;
-    private final long csShipModeSk;
-    private final long csWarehouseSk;
-    private final long csSoldItemSk;
-    private final long csPromoSk;
-    private final long csOrderNumber;
-    private final Pricing csPricing;
+    private long csSoldDateSk;
+    private long csSoldTimeSk;
+    private long csShipDateSk;
+    private long csBillCustomerSk;
+    private long csBillCdemoSk;
+    private long csBillHdemoSk;
+    private long csBillAddrSk;
+    private long csShipCustomerSk;
+    private long csShipCdemoSk;
+    private long csShipHdemoSk;
+    private long csShipAddrSk;
+    private long csCallCenterSk;
+    private long csCatalogPageSk;
+    private long csShipModeSk;
+    private long csWarehouseSk;
+    private long csSoldItemSk;
+    private long csPromoSk;
+    private long csOrderNumber;
+    private Pricing csPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public CatalogSalesRow()
+    {
+        super(0, CS_SOLD_DATE_SK);
+    }
 
     public CatalogSalesRow(long csSoldDateSk,
             long csSoldTimeSk,
@@ -98,7 +103,32 @@ public class CatalogSalesRow
             Pricing csPricing,
             long nullBitMap)
     {
-        super(nullBitMap, CS_SOLD_DATE_SK);
+        this();
+        set(csSoldDateSk, csSoldTimeSk, csShipDateSk, csBillCustomerSk, csBillCdemoSk, csBillHdemoSk, csBillAddrSk, csShipCustomerSk, csShipCdemoSk, csShipHdemoSk, csShipAddrSk, csCallCenterSk, csCatalogPageSk, csShipModeSk, csWarehouseSk, csSoldItemSk, csPromoSk, csOrderNumber, csPricing, nullBitMap);
+    }
+
+    public final void set(long csSoldDateSk,
+            long csSoldTimeSk,
+            long csShipDateSk,
+            long csBillCustomerSk,
+            long csBillCdemoSk,
+            long csBillHdemoSk,
+            long csBillAddrSk,
+            long csShipCustomerSk,
+            long csShipCdemoSk,
+            long csShipHdemoSk,
+            long csShipAddrSk,
+            long csCallCenterSk,
+            long csCatalogPageSk,
+            long csShipModeSk,
+            long csWarehouseSk,
+            long csSoldItemSk,
+            long csPromoSk,
+            long csOrderNumber,
+            Pricing csPricing,
+            long nullBitMap)
+    {
+        setNullBitMap(nullBitMap);
         this.csSoldDateSk = csSoldDateSk;
         this.csSoldTimeSk = csSoldTimeSk;
         this.csShipDateSk = csShipDateSk;
@@ -121,42 +151,44 @@ public class CatalogSalesRow
     }
 
     @Override
-    public List<String> getValues()
-    {
-        return newArrayList(getStringOrNullForKey(csSoldDateSk, CS_SOLD_DATE_SK),
-                getStringOrNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK),
-                getStringOrNullForKey(csShipDateSk, CS_SHIP_DATE_SK),
-                getStringOrNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK),
-                getStringOrNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK),
-                getStringOrNullForKey(csBillAddrSk, CS_BILL_ADDR_SK),
-                getStringOrNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK),
-                getStringOrNullForKey(csCallCenterSk, CS_CALL_CENTER_SK),
-                getStringOrNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK),
-                getStringOrNullForKey(csShipModeSk, CS_SHIP_MODE_SK),
-                getStringOrNull(csWarehouseSk, CS_WAREHOUSE_SK),
-                getStringOrNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK),
-                getStringOrNullForKey(csPromoSk, CS_PROMO_SK),
-                getStringOrNull(csOrderNumber, CS_ORDER_NUMBER),
-                getStringOrNull(csPricing.getQuantity(), CS_PRICING_QUANTITY),
-                getStringOrNull(csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST),
-                getStringOrNull(csPricing.getListPrice(), CS_PRICING_LIST_PRICE),
-                getStringOrNull(csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE),
-                getStringOrNull(csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT),
-                getStringOrNull(csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(csPricing.getExtTax(), CS_PRICING_EXT_TAX),
-                getStringOrNull(csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT),
-                getStringOrNull(csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(csPricing.getNetPaid(), CS_PRICING_NET_PAID),
-                getStringOrNull(csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(csPricing.getNetProfit(), CS_PRICING_NET_PROFIT));
+    protected String getStringValue(Column column)
+    {
+        return switch ((CatalogSalesColumn) column) {
+            case CS_SOLD_DATE_SK -> getStringOrNullForKey(csSoldDateSk, CS_SOLD_DATE_SK);
+            case CS_SOLD_TIME_SK -> getStringOrNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK);
+            case CS_SHIP_DATE_SK -> getStringOrNullForKey(csShipDateSk, CS_SHIP_DATE_SK);
+            case CS_BILL_CUSTOMER_SK -> getStringOrNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK);
+            case CS_BILL_CDEMO_SK -> getStringOrNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK);
+            case CS_BILL_HDEMO_SK -> getStringOrNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK);
+            case CS_BILL_ADDR_SK -> getStringOrNullForKey(csBillAddrSk, CS_BILL_ADDR_SK);
+            case CS_SHIP_CUSTOMER_SK -> getStringOrNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK);
+            case CS_SHIP_CDEMO_SK -> getStringOrNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK);
+            case CS_SHIP_HDEMO_SK -> getStringOrNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK);
+            case CS_SHIP_ADDR_SK -> getStringOrNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK);
+            case CS_CALL_CENTER_SK -> getStringOrNullForKey(csCallCenterSk, CS_CALL_CENTER_SK);
+            case CS_CATALOG_PAGE_SK -> getStringOrNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK);
+            case CS_SHIP_MODE_SK -> getStringOrNullForKey(csShipModeSk, CS_SHIP_MODE_SK);
+            case CS_WAREHOUSE_SK -> getStringOrNull(csWarehouseSk, CS_WAREHOUSE_SK);
+            case CS_ITEM_SK -> getStringOrNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK);
+            case CS_PROMO_SK -> getStringOrNullForKey(csPromoSk, CS_PROMO_SK);
+            case CS_ORDER_NUMBER -> getStringOrNull(csOrderNumber, CS_ORDER_NUMBER);
+            case CS_QUANTITY -> getStringOrNull(csPricing.getQuantity(), CS_PRICING_QUANTITY);
+            case CS_WHOLESALE_COST -> getStringOrNull(csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST);
+            case CS_LIST_PRICE -> getStringOrNull(csPricing.getListPrice(), CS_PRICING_LIST_PRICE);
+            case CS_SALES_PRICE -> getStringOrNull(csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE);
+            case CS_EXT_DISCOUNT_AMT -> getStringOrNull(csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT);
+            case CS_EXT_SALES_PRICE -> getStringOrNull(csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE);
+            case CS_EXT_WHOLESALE_COST -> getStringOrNull(csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST);
+            case CS_EXT_LIST_PRICE -> getStringOrNull(csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE);
+            case CS_EXT_TAX -> getStringOrNull(csPricing.getExtTax(), CS_PRICING_EXT_TAX);
+            case CS_COUPON_AMT -> getStringOrNull(csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT);
+            case CS_EXT_SHIP_COST -> getStringOrNull(csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST);
+            case CS_NET_PAID -> getStringOrNull(csPricing.getNetPaid(), CS_PRICING_NET_PAID);
+            case CS_NET_PAID_INC_TAX -> getStringOrNull(csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX);
+            case CS_NET_PAID_INC_SHIP -> getStringOrNull(csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP);
+            case CS_NET_PAID_INC_SHIP_TAX -> getStringOrNull(csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case CS_NET_PROFIT -> getStringOrNull(csPricing.getNetProfit(), CS_PRICING_NET_PROFIT);
+        };
     }
 
     public Pricing getCsPricing()
@@ -223,4 +255,86 @@ public class CatalogSalesRow
     {
         return csShipDateSk;
     }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CatalogSalesColumn) column) {
+            case CS_SOLD_DATE_SK -> isNullForKey(csSoldDateSk, CS_SOLD_DATE_SK);
+            case CS_SOLD_TIME_SK -> isNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK);
+            case CS_SHIP_DATE_SK -> isNullForKey(csShipDateSk, CS_SHIP_DATE_SK);
+            case CS_BILL_CUSTOMER_SK -> isNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK);
+            case CS_BILL_CDEMO_SK -> isNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK);
+            case CS_BILL_HDEMO_SK -> isNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK);
+            case CS_BILL_ADDR_SK -> isNullForKey(csBillAddrSk, CS_BILL_ADDR_SK);
+            case CS_SHIP_CUSTOMER_SK -> isNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK);
+            case CS_SHIP_CDEMO_SK -> isNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK);
+            case CS_SHIP_HDEMO_SK -> isNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK);
+            case CS_SHIP_ADDR_SK -> isNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK);
+            case CS_CALL_CENTER_SK -> isNullForKey(csCallCenterSk, CS_CALL_CENTER_SK);
+            case CS_CATALOG_PAGE_SK -> isNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK);
+            case CS_SHIP_MODE_SK -> isNullForKey(csShipModeSk, CS_SHIP_MODE_SK);
+            case CS_WAREHOUSE_SK -> isNull(CS_WAREHOUSE_SK);
+            case CS_ITEM_SK -> isNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK);
+            case CS_PROMO_SK -> isNullForKey(csPromoSk, CS_PROMO_SK);
+            case CS_ORDER_NUMBER -> isNull(CS_ORDER_NUMBER);
+            case CS_QUANTITY -> isNull(CS_PRICING_QUANTITY);
+            case CS_WHOLESALE_COST -> isNull(CS_PRICING_WHOLESALE_COST);
+            case CS_LIST_PRICE -> isNull(CS_PRICING_LIST_PRICE);
+            case CS_SALES_PRICE -> isNull(CS_PRICING_SALES_PRICE);
+            case CS_EXT_DISCOUNT_AMT -> isNull(CS_PRICING_EXT_DISCOUNT_AMOUNT);
+            case CS_EXT_SALES_PRICE -> isNull(CS_PRICING_EXT_SALES_PRICE);
+            case CS_EXT_WHOLESALE_COST -> isNull(CS_PRICING_EXT_WHOLESALE_COST);
+            case CS_EXT_LIST_PRICE -> isNull(CS_PRICING_EXT_LIST_PRICE);
+            case CS_EXT_TAX -> isNull(CS_PRICING_EXT_TAX);
+            case CS_COUPON_AMT -> isNull(CS_PRICING_COUPON_AMT);
+            case CS_EXT_SHIP_COST -> isNull(CS_PRICING_EXT_SHIP_COST);
+            case CS_NET_PAID -> isNull(CS_PRICING_NET_PAID);
+            case CS_NET_PAID_INC_TAX -> isNull(CS_PRICING_NET_PAID_INC_TAX);
+            case CS_NET_PAID_INC_SHIP -> isNull(CS_PRICING_NET_PAID_INC_SHIP);
+            case CS_NET_PAID_INC_SHIP_TAX -> isNull(CS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case CS_NET_PROFIT -> isNull(CS_PRICING_NET_PROFIT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((CatalogSalesColumn) column) {
+            case CS_SOLD_DATE_SK -> csSoldDateSk;
+            case CS_SOLD_TIME_SK -> csSoldTimeSk;
+            case CS_SHIP_DATE_SK -> csShipDateSk;
+            case CS_BILL_CUSTOMER_SK -> csBillCustomerSk;
+            case CS_BILL_CDEMO_SK -> csBillCdemoSk;
+            case CS_BILL_HDEMO_SK -> csBillHdemoSk;
+            case CS_BILL_ADDR_SK -> csBillAddrSk;
+            case CS_SHIP_CUSTOMER_SK -> csShipCustomerSk;
+            case CS_SHIP_CDEMO_SK -> csShipCdemoSk;
+            case CS_SHIP_HDEMO_SK -> csShipHdemoSk;
+            case CS_SHIP_ADDR_SK -> csShipAddrSk;
+            case CS_CALL_CENTER_SK -> csCallCenterSk;
+            case CS_CATALOG_PAGE_SK -> csCatalogPageSk;
+            case CS_SHIP_MODE_SK -> csShipModeSk;
+            case CS_WAREHOUSE_SK -> csWarehouseSk;
+            case CS_ITEM_SK -> csSoldItemSk;
+            case CS_PROMO_SK -> csPromoSk;
+            case CS_ORDER_NUMBER -> csOrderNumber;
+            case CS_QUANTITY -> csPricing.getQuantity();
+            case CS_WHOLESALE_COST -> getUnscaled(csPricing.getWholesaleCost(), column);
+            case CS_LIST_PRICE -> getUnscaled(csPricing.getListPrice(), column);
+            case CS_SALES_PRICE -> getUnscaled(csPricing.getSalesPrice(), column);
+            case CS_EXT_DISCOUNT_AMT -> getUnscaled(csPricing.getExtDiscountAmount(), column);
+            case CS_EXT_SALES_PRICE -> getUnscaled(csPricing.getExtSalesPrice(), column);
+            case CS_EXT_WHOLESALE_COST -> getUnscaled(csPricing.getExtWholesaleCost(), column);
+            case CS_EXT_LIST_PRICE -> getUnscaled(csPricing.getExtListPrice(), column);
+            case CS_EXT_TAX -> getUnscaled(csPricing.getExtTax(), column);
+            case CS_COUPON_AMT -> getUnscaled(csPricing.getCouponAmount(), column);
+            case CS_EXT_SHIP_COST -> getUnscaled(csPricing.getExtShipCost(), column);
+            case CS_NET_PAID -> getUnscaled(csPricing.getNetPaid(), column);
+            case CS_NET_PAID_INC_TAX -> getUnscaled(csPricing.getNetPaidIncludingTax(), column);
+            case CS_NET_PAID_INC_SHIP -> getUnscaled(csPricing.getNetPaidIncludingShipping(), column);
+            case CS_NET_PAID_INC_SHIP_TAX -> getUnscaled(csPricing.getNetPaidIncludingShippingAndTax(), column);
+            case CS_NET_PROFIT -> getUnscaled(csPricing.getNetProfit(), column);
+        };
+    }
 }
@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.CustomerAddressColumn;
 import io.trino.tpcds.type.Address;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_CITY;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTY;
@@ -52,20 +51,52 @@ public class CustomerAddressRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((CustomerAddressColumn) column) {
+            case CA_ADDRESS_SK -> getStringOrNullForKey(caAddrSk, CA_ADDRESS_SK);
+            case CA_ADDRESS_ID -> getStringOrNull(caAddrId, CA_ADDRESS_ID);
+            case CA_STREET_NUMBER -> getStringOrNull(caAddress.getStreetNumber(), CA_ADDRESS_STREET_NUM);
+            case CA_STREET_NAME -> getStringOrNull(caAddress.getStreetName(), CA_ADDRESS_STREET_NAME);
+            case CA_STREET_TYPE -> getStringOrNull(caAddress.getStreetType(), CA_ADDRESS_STREET_TYPE);
+            case CA_SUITE_NUMBER -> getStringOrNull(caAddress.getSuiteNumber(), CA_ADDRESS_SUITE_NUM);
+            case CA_CITY -> getStringOrNull(caAddress.getCity(), CA_ADDRESS_CITY);
+            case CA_COUNTY -> getStringOrNull(caAddress.getCounty(), CA_ADDRESS_COUNTY);
+            case CA_STATE -> getStringOrNull(caAddress.getState(), CA_ADDRESS_STATE);
+            case CA_ZIP -> getStringOrNull(format("%05d", caAddress.getZip()), CA_ADDRESS_ZIP);
+            case CA_COUNTRY -> getStringOrNull(caAddress.getCountry(), CA_ADDRESS_COUNTRY);
+            case CA_GMT_OFFSET -> getStringOrNull(caAddress.getGmtOffset(), CA_ADDRESS_GMT_OFFSET);
+            case CA_LOCATION_TYPE -> getStringOrNull(caLocationType, CA_LOCATION_TYPE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CustomerAddressColumn) column) {
+            case CA_ADDRESS_SK -> isNullForKey(caAddrSk, CA_ADDRESS_SK);
+            case CA_ADDRESS_ID -> isNull(CA_ADDRESS_ID);
+            case CA_STREET_NUMBER -> isNull(CA_ADDRESS_STREET_NUM);
+            case CA_STREET_NAME -> isNull(CA_ADDRESS_STREET_NAME);
+            case CA_STREET_TYPE -> isNull(CA_ADDRESS_STREET_TYPE);
+            case CA_SUITE_NUMBER -> isNull(CA_ADDRESS_SUITE_NUM);
+            case CA_CITY -> isNull(CA_ADDRESS_CITY);
+            case CA_COUNTY -> isNull(CA_ADDRESS_COUNTY);
+            case CA_STATE -> isNull(CA_ADDRESS_STATE);
+            case CA_ZIP -> isNull(CA_ADDRESS_ZIP);
+            case CA_COUNTRY -> isNull(CA_ADDRESS_COUNTRY);
+            case CA_GMT_OFFSET -> isNull(CA_ADDRESS_GMT_OFFSET);
+            case CA_LOCATION_TYPE -> isNull(CA_LOCATION_TYPE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(caAddrSk, CA_ADDRESS_SK),
-                getStringOrNull(caAddrId, CA_ADDRESS_ID),
-                getStringOrNull(caAddress.getStreetNumber(), CA_ADDRESS_STREET_NUM),
-                getStringOrNull(caAddress.getStreetName(), CA_ADDRESS_STREET_NAME),
-                getStringOrNull(caAddress.getStreetType(), CA_ADDRESS_STREET_TYPE),
-                getStringOrNull(caAddress.getSuiteNumber(), CA_ADDRESS_SUITE_NUM),
-                getStringOrNull(caAddress.getCity(), CA_ADDRESS_CITY),
-                getStringOrNull(caAddress.getCounty(), CA_ADDRESS_COUNTY),
-                getStringOrNull(caAddress.getState(), CA_ADDRESS_STATE),
-                getStringOrNull(format("%05d", caAddress.getZip()), CA_ADDRESS_ZIP),
-                getStringOrNull(caAddress.getCountry(), CA_ADDRESS_COUNTRY),
-                getStringOrNull(caAddress.getGmtOffset(), CA_ADDRESS_GMT_OFFSET),
-                getStringOrNull(caLocationType, CA_LOCATION_TYPE));
+        return switch ((CustomerAddressColumn) column) {
+            case CA_ADDRESS_SK -> caAddrSk;
+            case CA_GMT_OFFSET -> getUnscaled(caAddress.getGmtOffset(), column);
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.CustomerDemographicsColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_CREDIT_RATING;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEMO_SK;
 import static io.trino.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEP_COLLEGE_COUNT;
@@ -64,16 +64,47 @@ public class CustomerDemographicsRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(cdDemoSk, CD_DEMO_SK),
-                getStringOrNull(cdGender, CD_GENDER),
-                getStringOrNull(cdMaritalStatus, CD_MARITAL_STATUS),
-                getStringOrNull(cdEducationStatus, CD_EDUCATION_STATUS),
-                getStringOrNull(cdPurchaseEstimate, CD_PURCHASE_ESTIMATE),
-                getStringOrNull(cdCreditRating, CD_CREDIT_RATING),
-                getStringOrNull(cdDepCount, CD_DEP_COUNT),
-                getStringOrNull(cdDepEmployedCount, CD_DEP_EMPLOYED_COUNT),
-                getStringOrNull(cdDepCollegeCount, CD_DEP_COLLEGE_COUNT));
+        return switch ((CustomerDemographicsColumn) column) {
+            case CD_DEMO_SK -> getStringOrNullForKey(cdDemoSk, CD_DEMO_SK);
+            case CD_GENDER -> getStringOrNull(cdGender, CD_GENDER);
+            case CD_MARITAL_STATUS -> getStringOrNull(cdMaritalStatus, CD_MARITAL_STATUS);
+            case CD_EDUCATION_STATUS -> getStringOrNull(cdEducationStatus, CD_EDUCATION_STATUS);
+            case CD_PURCHASE_ESTIMATE -> getStringOrNull(cdPurchaseEstimate, CD_PURCHASE_ESTIMATE);
+            case CD_CREDIT_RATING -> getStringOrNull(cdCreditRating, CD_CREDIT_RATING);
+            case CD_DEP_COUNT -> getStringOrNull(cdDepCount, CD_DEP_COUNT);
+            case CD_DEP_EMPLOYED_COUNT -> getStringOrNull(cdDepEmployedCount, CD_DEP_EMPLOYED_COUNT);
+            case CD_DEP_COLLEGE_COUNT -> getStringOrNull(cdDepCollegeCount, CD_DEP_COLLEGE_COUNT);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CustomerDemographicsColumn) column) {
+            case CD_DEMO_SK -> isNullForKey(cdDemoSk, CD_DEMO_SK);
+            case CD_GENDER -> isNull(CD_GENDER);
+            case CD_MARITAL_STATUS -> isNull(CD_MARITAL_STATUS);
+            case CD_EDUCATION_STATUS -> isNull(CD_EDUCATION_STATUS);
+            case CD_PURCHASE_ESTIMATE -> isNull(CD_PURCHASE_ESTIMATE);
+            case CD_CREDIT_RATING -> isNull(CD_CREDIT_RATING);
+            case CD_DEP_COUNT -> isNull(CD_DEP_COUNT);
+            case CD_DEP_EMPLOYED_COUNT -> isNull(CD_DEP_EMPLOYED_COUNT);
+            case CD_DEP_COLLEGE_COUNT -> isNull(CD_DEP_COLLEGE_COUNT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((CustomerDemographicsColumn) column) {
+            case CD_DEMO_SK -> cdDemoSk;
+            case CD_PURCHASE_ESTIMATE -> cdPurchaseEstimate;
+            case CD_DEP_COUNT -> cdDepCount;
+            case CD_DEP_EMPLOYED_COUNT -> cdDepEmployedCount;
+            case CD_DEP_COLLEGE_COUNT -> cdDepCollegeCount;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.CustomerColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_COUNTRY;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_DAY;
 import static io.trino.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_MONTH;
@@ -98,25 +98,70 @@ public class CustomerRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(cCustomerSk, C_CUSTOMER_SK),
-                getStringOrNull(cCustomerId, C_CUSTOMER_ID),
-                getStringOrNullForKey(cCurrentCdemoSk, C_CURRENT_CDEMO_SK),
-                getStringOrNullForKey(cCurrentHdemoSk, C_CURRENT_HDEMO_SK),
-                getStringOrNullForKey(cCurrentAddrSk, C_CURRENT_ADDR_SK),
-                getStringOrNull(cFirstShiptoDateId, C_FIRST_SHIPTO_DATE_ID),
-                getStringOrNull(cFirstSalesDateId, C_FIRST_SALES_DATE_ID),
-                getStringOrNull(cSalutation, C_SALUTATION),
-                getStringOrNull(cFirstName, C_FIRST_NAME),
-                getStringOrNull(cLastName, C_LAST_NAME),
-                getStringOrNullForBoolean(cPreferredCustFlag, C_PREFERRED_CUST_FLAG),
-                getStringOrNull(cBirthDay, C_BIRTH_DAY),
-                getStringOrNull(cBirthMonth, C_BIRTH_MONTH),
-                getStringOrNull(cBirthYear, C_BIRTH_YEAR),
-                getStringOrNull(cBirthCountry, C_BIRTH_COUNTRY),
-                cLogin,
-                getStringOrNull(cEmailAddress, C_EMAIL_ADDRESS),
-                getStringOrNull(cLastReviewDate, C_LAST_REVIEW_DATE));
+        return switch ((CustomerColumn) column) {
+            case C_CUSTOMER_SK -> getStringOrNullForKey(cCustomerSk, C_CUSTOMER_SK);
+            case C_CUSTOMER_ID -> getStringOrNull(cCustomerId, C_CUSTOMER_ID);
+            case C_CURRENT_CDEMO_SK -> getStringOrNullForKey(cCurrentCdemoSk, C_CURRENT_CDEMO_SK);
+            case C_CURRENT_HDEMO_SK -> getStringOrNullForKey(cCurrentHdemoSk, C_CURRENT_HDEMO_SK);
+            case C_CURRENT_ADDR_SK -> getStringOrNullForKey(cCurrentAddrSk, C_CURRENT_ADDR_SK);
+            case C_FIRST_SHIPTO_DATE_SK -> getStringOrNull(cFirstShiptoDateId, C_FIRST_SHIPTO_DATE_ID);
+            case C_FIRST_SALES_DATE_SK -> getStringOrNull(cFirstSalesDateId, C_FIRST_SALES_DATE_ID);
+            case C_SALUTATION -> getStringOrNull(cSalutation, C_SALUTATION);
+            case C_FIRST_NAME -> getStringOrNull(cFirstName, C_FIRST_NAME);
+            case C_LAST_NAME -> getStringOrNull(cLastName, C_LAST_NAME);
+            case C_PREFERRED_CUST_FLAG -> getStringOrNullForBoolean(cPreferredCustFlag, C_PREFERRED_CUST_FLAG);
+            case C_BIRTH_DAY -> getStringOrNull(cBirthDay, C_BIRTH_DAY);
+            case C_BIRTH_MONTH -> getStringOrNull(cBirthMonth, C_BIRTH_MONTH);
+            case C_BIRTH_YEAR -> getStringOrNull(cBirthYear, C_BIRTH_YEAR);
+            case C_BIRTH_COUNTRY -> getStringOrNull(cBirthCountry, C_BIRTH_COUNTRY);
+            case C_LOGIN -> cLogin;
+            case C_EMAIL_ADDRESS -> getStringOrNull(cEmailAddress, C_EMAIL_ADDRESS);
+            case C_LAST_REVIEW_DATE_SK -> getStringOrNull(cLastReviewDate, C_LAST_REVIEW_DATE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((CustomerColumn) column) {
+            case C_CUSTOMER_SK -> isNullForKey(cCustomerSk, C_CUSTOMER_SK);
+            case C_CUSTOMER_ID -> isNull(C_CUSTOMER_ID);
+            case C_CURRENT_CDEMO_SK -> isNullForKey(cCurrentCdemoSk, C_CURRENT_CDEMO_SK);
+            case C_CURRENT_HDEMO_SK -> isNullForKey(cCurrentHdemoSk, C_CURRENT_HDEMO_SK);
+            case C_CURRENT_ADDR_SK -> isNullForKey(cCurrentAddrSk, C_CURRENT_ADDR_SK);
+            case C_FIRST_SHIPTO_DATE_SK -> isNull(C_FIRST_SHIPTO_DATE_ID);
+            case C_FIRST_SALES_DATE_SK -> isNull(C_FIRST_SALES_DATE_ID);
+            case C_SALUTATION -> isNull(C_SALUTATION);
+            case C_FIRST_NAME -> isNull(C_FIRST_NAME);
+            case C_LAST_NAME -> isNull(C_LAST_NAME);
+            case C_PREFERRED_CUST_FLAG -> isNull(C_PREFERRED_CUST_FLAG);
+            case C_BIRTH_DAY -> isNull(C_BIRTH_DAY);
+            case C_BIRTH_MONTH -> isNull(C_BIRTH_MONTH);
+            case C_BIRTH_YEAR -> isNull(C_BIRTH_YEAR);
+            case C_BIRTH_COUNTRY -> isNull(C_BIRTH_COUNTRY);
+            case C_LOGIN -> cLogin == null;
+            case C_EMAIL_ADDRESS -> isNull(C_EMAIL_ADDRESS);
+            case C_LAST_REVIEW_DATE_SK -> isNull(C_LAST_REVIEW_DATE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((CustomerColumn) column) {
+            case C_CUSTOMER_SK -> cCustomerSk;
+            case C_CURRENT_CDEMO_SK -> cCurrentCdemoSk;
+            case C_CURRENT_HDEMO_SK -> cCurrentHdemoSk;
+            case C_CURRENT_ADDR_SK -> cCurrentAddrSk;
+            case C_FIRST_SHIPTO_DATE_SK -> cFirstShiptoDateId;
+            case C_FIRST_SALES_DATE_SK -> cFirstSalesDateId;
+            case C_BIRTH_DAY -> cBirthDay;
+            case C_BIRTH_MONTH -> cBirthMonth;
+            case C_BIRTH_YEAR -> cBirthYear;
+            case C_LAST_REVIEW_DATE_SK -> cLastReviewDate;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
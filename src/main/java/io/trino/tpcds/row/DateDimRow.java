@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.DateDimColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_DAY;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_MONTH;
 import static io.trino.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_QUARTER;
@@ -134,35 +134,97 @@ public class DateDimRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(dDateSk, D_DATE_SK),
-                getStringOrNull(dDateId, D_DATE_ID),
-                getDateStringOrNullFromJulianDays(dDateSk, D_DATE_SK),
-                getStringOrNull(dMonthSeq, D_MONTH_SEQ),
-                getStringOrNull(dWeekSeq, D_WEEK_SEQ),
-                getStringOrNull(dQuarterSeq, D_QUARTER_SEQ),
-                getStringOrNull(dYear, D_YEAR),
-                getStringOrNull(dDow, D_DOW),
-                getStringOrNull(dMoy, D_MOY),
-                getStringOrNull(dDom, D_DOM),
-                getStringOrNull(dQoy, D_QOY),
-                getStringOrNull(dFyYear, D_FY_YEAR),
-                getStringOrNull(dFyQuarterSeq, D_FY_QUARTER_SEQ),
-                getStringOrNull(dFyWeekSeq, D_FY_WEEK_SEQ),
-                getStringOrNull(dDayName, D_DAY_NAME),
-                getStringOrNull(format("%4dQ%d", dYear, dQoy), D_QUARTER_NAME),
-                getStringOrNullForBoolean(dHoliday, D_HOLIDAY),
-                getStringOrNullForBoolean(dWeekend, D_WEEKEND),
-                getStringOrNullForBoolean(dFollowingHoliday, D_FOLLOWING_HOLIDAY),
-                getStringOrNull(dFirstDom, D_FIRST_DOM),
-                getStringOrNull(dLastDom, D_LAST_DOM),
-                getStringOrNull(dSameDayLy, D_SAME_DAY_LY),
-                getStringOrNull(dSameDayLq, D_SAME_DAY_LQ),
-                getStringOrNullForBoolean(dCurrentDay, D_CURRENT_DAY),
-                getStringOrNullForBoolean(dCurrentWeek, D_CURRENT_WEEK),
-                getStringOrNullForBoolean(dCurrentMonth, D_CURRENT_MONTH),
-                getStringOrNullForBoolean(dCurrentQuarter, D_CURRENT_QUARTER),
-                getStringOrNullForBoolean(dCurrentYear, D_CURRENT_YEAR));
+        return switch ((DateDimColumn) column) {
+            case D_DATE_SK -> getStringOrNullForKey(dDateSk, D_DATE_SK);
+            case D_DATE_ID -> getStringOrNull(dDateId, D_DATE_ID);
+            case D_DATE -> getDateStringOrNullFromJulianDays(dDateSk, D_DATE_SK);
+            case D_MONTH_SEQ -> getStringOrNull(dMonthSeq, D_MONTH_SEQ);
+            case D_WEEK_SEQ -> getStringOrNull(dWeekSeq, D_WEEK_SEQ);
+            case D_QUARTER_SEQ -> getStringOrNull(dQuarterSeq, D_QUARTER_SEQ);
+            case D_YEAR -> getStringOrNull(dYear, D_YEAR);
+            case D_DOW -> getStringOrNull(dDow, D_DOW);
+            case D_MOY -> getStringOrNull(dMoy, D_MOY);
+            case D_DOM -> getStringOrNull(dDom, D_DOM);
+            case D_QOY -> getStringOrNull(dQoy, D_QOY);
+            case D_FY_YEAR -> getStringOrNull(dFyYear, D_FY_YEAR);
+            case D_FY_QUARTER_SEQ -> getStringOrNull(dFyQuarterSeq, D_FY_QUARTER_SEQ);
+            case D_FY_WEEK_SEQ -> getStringOrNull(dFyWeekSeq, D_FY_WEEK_SEQ);
+            case D_DAY_NAME -> getStringOrNull(dDayName, D_DAY_NAME);
+            case D_QUARTER_NAME -> getStringOrNull(format("%4dQ%d", dYear, dQoy), D_QUARTER_NAME);
+            case D_HOLIDAY -> getStringOrNullForBoolean(dHoliday, D_HOLIDAY);
+            case D_WEEKEND -> getStringOrNullForBoolean(dWeekend, D_WEEKEND);
+            case D_FOLLOWING_HOLIDAY -> getStringOrNullForBoolean(dFollowingHoliday, D_FOLLOWING_HOLIDAY);
+            case D_FIRST_DOM -> getStringOrNull(dFirstDom, D_FIRST_DOM);
+            case D_LAST_DOM -> getStringOrNull(dLastDom, D_LAST_DOM);
+            case D_SAME_DAY_LY -> getStringOrNull(dSameDayLy, D_SAME_DAY_LY);
+            case D_SAME_DAY_LQ -> getStringOrNull(dSameDayLq, D_SAME_DAY_LQ);
+            case D_CURRENT_DAY -> getStringOrNullForBoolean(dCurrentDay, D_CURRENT_DAY);
+            case D_CURRENT_WEEK -> getStringOrNullForBoolean(dCurrentWeek, D_CURRENT_WEEK);
+            case D_CURRENT_MONTH -> getStringOrNullForBoolean(dCurrentMonth, D_CURRENT_MONTH);
+            case D_CURRENT_QUARTER -> getStringOrNullForBoolean(dCurrentQuarter, D_CURRENT_QUARTER);
+            case D_CURRENT_YEAR -> getStringOrNullForBoolean(dCurrentYear, D_CURRENT_YEAR);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((DateDimColumn) column) {
+            case D_DATE_SK -> isNullForKey(dDateSk, D_DATE_SK);
+            case D_DATE_ID -> isNull(D_DATE_ID);
+            case D_DATE -> isNullForJulianDays(dDateSk, D_DATE_SK);
+            case D_MONTH_SEQ -> isNull(D_MONTH_SEQ);
+            case D_WEEK_SEQ -> isNull(D_WEEK_SEQ);
+            case D_QUARTER_SEQ -> isNull(D_QUARTER_SEQ);
+            case D_YEAR -> isNull(D_YEAR);
+            case D_DOW -> isNull(D_DOW);
+            case D_MOY -> isNull(D_MOY);
+            case D_DOM -> isNull(D_DOM);
+            case D_QOY -> isNull(D_QOY);
+            case D_FY_YEAR -> isNull(D_FY_YEAR);
+            case D_FY_QUARTER_SEQ -> isNull(D_FY_QUARTER_SEQ);
+            case D_FY_WEEK_SEQ -> isNull(D_FY_WEEK_SEQ);
+            case D_DAY_NAME -> isNull(D_DAY_NAME);
+            case D_QUARTER_NAME -> isNull(D_QUARTER_NAME);
+            case D_HOLIDAY -> isNull(D_HOLIDAY);
+            case D_WEEKEND -> isNull(D_WEEKEND);
+            case D_FOLLOWING_HOLIDAY -> isNull(D_FOLLOWING_HOLIDAY);
+            case D_FIRST_DOM -> isNull(D_FIRST_DOM);
+            case D_LAST_DOM -> isNull(D_LAST_DOM);
+            case D_SAME_DAY_LY -> isNull(D_SAME_DAY_LY);
+            case D_SAME_DAY_LQ -> isNull(D_SAME_DAY_LQ);
+            case D_CURRENT_DAY -> isNull(D_CURRENT_DAY);
+            case D_CURRENT_WEEK -> isNull(D_CURRENT_WEEK);
+            case D_CURRENT_MONTH -> isNull(D_CURRENT_MONTH);
+            case D_CURRENT_QUARTER -> isNull(D_CURRENT_QUARTER);
+            case D_CURRENT_YEAR -> isNull(D_CURRENT_YEAR);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((DateDimColumn) column) {
+            case D_DATE_SK -> dDateSk;
+            case D_DATE -> dDateSk;
+            case D_MONTH_SEQ -> dMonthSeq;
+            case D_WEEK_SEQ -> dWeekSeq;
+            case D_QUARTER_SEQ -> dQuarterSeq;
+            case D_YEAR -> dYear;
+            case D_DOW -> dDow;
+            case D_MOY -> dMoy;
+            case D_DOM -> dDom;
+            case D_QOY -> dQoy;
+            case D_FY_YEAR -> dFyYear;
+            case D_FY_QUARTER_SEQ -> dFyQuarterSeq;
+            case D_FY_WEEK_SEQ -> dFyWeekSeq;
+            case D_FIRST_DOM -> dFirstDom;
+            case D_LAST_DOM -> dLastDom;
+            case D_SAME_DAY_LY -> dSameDayLy;
+            case D_SAME_DAY_LQ -> dSameDayLq;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
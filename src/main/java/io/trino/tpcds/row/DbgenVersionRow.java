@@ -13,13 +13,15 @@
  */
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.DbgenVersionColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CMDLINE_ARGS;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_DATE;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_TIME;
 import static io.trino.tpcds.generator.DbgenVersionGeneratorColumn.DV_VERSION;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseJulianDays;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseSecondsOfDay;
 
 public class DbgenVersionRow
         extends TableRowWithNulls
@@ -39,11 +41,34 @@ public class DbgenVersionRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNull(dvVersion, DV_VERSION),
-                getStringOrNull(dvCreateDate, DV_CREATE_DATE),
-                getStringOrNull(dvCreateTime, DV_CREATE_TIME),
-                getStringOrNull(dvCmdlineArgs, DV_CMDLINE_ARGS));
+        return switch ((DbgenVersionColumn) column) {
+            case DV_VERSION -> getStringOrNull(dvVersion, DV_VERSION);
+            case DV_CREATE_DATE -> getStringOrNull(dvCreateDate, DV_CREATE_DATE);
+            case DV_CREATE_TIME -> getStringOrNull(dvCreateTime, DV_CREATE_TIME);
+            case DV_CMDLINE_ARGS -> getStringOrNull(dvCmdlineArgs, DV_CMDLINE_ARGS);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((DbgenVersionColumn) column) {
+            case DV_VERSION -> isNull(DV_VERSION);
+            case DV_CREATE_DATE -> isNull(DV_CREATE_DATE);
+            case DV_CREATE_TIME -> isNull(DV_CREATE_TIME);
+            case DV_CMDLINE_ARGS -> isNull(DV_CMDLINE_ARGS);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((DbgenVersionColumn) column) {
+            case DV_CREATE_DATE -> parseJulianDays(dvCreateDate);
+            case DV_CREATE_TIME -> parseSecondsOfDay(dvCreateTime);
+            default -> throw notFixedWidth(column);
+        };
     }
 }
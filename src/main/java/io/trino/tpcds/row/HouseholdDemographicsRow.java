@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.HouseholdDemographicsColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_BUY_POTENTIAL;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEMO_SK;
 import static io.trino.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEP_COUNT;
@@ -43,12 +43,38 @@ public class HouseholdDemographicsRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(hdDemoSk, HD_DEMO_SK),
-                getStringOrNullForKey(hdIncomeBandId, HD_INCOME_BAND_ID),
-                getStringOrNull(hdBuyPotential, HD_BUY_POTENTIAL),
-                getStringOrNull(hdDepCount, HD_DEP_COUNT),
-                getStringOrNull(hdVehicleCount, HD_VEHICLE_COUNT));
+        return switch ((HouseholdDemographicsColumn) column) {
+            case HD_DEMO_SK -> getStringOrNullForKey(hdDemoSk, HD_DEMO_SK);
+            case HD_INCOME_BAND_SK -> getStringOrNullForKey(hdIncomeBandId, HD_INCOME_BAND_ID);
+            case HD_BUY_POTENTIAL -> getStringOrNull(hdBuyPotential, HD_BUY_POTENTIAL);
+            case HD_DEP_COUNT -> getStringOrNull(hdDepCount, HD_DEP_COUNT);
+            case HD_VEHICLE_COUNT -> getStringOrNull(hdVehicleCount, HD_VEHICLE_COUNT);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((HouseholdDemographicsColumn) column) {
+            case HD_DEMO_SK -> isNullForKey(hdDemoSk, HD_DEMO_SK);
+            case HD_INCOME_BAND_SK -> isNullForKey(hdIncomeBandId, HD_INCOME_BAND_ID);
+            case HD_BUY_POTENTIAL -> isNull(HD_BUY_POTENTIAL);
+            case HD_DEP_COUNT -> isNull(HD_DEP_COUNT);
+            case HD_VEHICLE_COUNT -> isNull(HD_VEHICLE_COUNT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((HouseholdDemographicsColumn) column) {
+            case HD_DEMO_SK -> hdDemoSk;
+            case HD_INCOME_BAND_SK -> hdIncomeBandId;
+            case HD_DEP_COUNT -> hdDepCount;
+            case HD_VEHICLE_COUNT -> hdVehicleCount;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
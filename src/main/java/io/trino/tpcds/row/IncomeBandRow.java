@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.IncomeBandColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_INCOME_BAND_ID;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_LOWER_BOUND;
 import static io.trino.tpcds.generator.IncomeBandGeneratorColumn.IB_UPPER_BOUND;
@@ -37,10 +37,32 @@ public class IncomeBandRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNull(ibIncomeBandId, IB_INCOME_BAND_ID),
-                getStringOrNull(ibLowerBound, IB_LOWER_BOUND),
-                getStringOrNull(ibUpperBound, IB_UPPER_BOUND));
+        return switch ((IncomeBandColumn) column) {
+            case IB_INCOME_BAND_SK -> getStringOrNull(ibIncomeBandId, IB_INCOME_BAND_ID);
+            case IB_LOWER_BOUND -> getStringOrNull(ibLowerBound, IB_LOWER_BOUND);
+            case IB_UPPER_BOUND -> getStringOrNull(ibUpperBound, IB_UPPER_BOUND);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((IncomeBandColumn) column) {
+            case IB_INCOME_BAND_SK -> isNull(IB_INCOME_BAND_ID);
+            case IB_LOWER_BOUND -> isNull(IB_LOWER_BOUND);
+            case IB_UPPER_BOUND -> isNull(IB_UPPER_BOUND);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((IncomeBandColumn) column) {
+            case IB_INCOME_BAND_SK -> ibIncomeBandId;
+            case IB_LOWER_BOUND -> ibLowerBound;
+            case IB_UPPER_BOUND -> ibUpperBound;
+        };
     }
 }
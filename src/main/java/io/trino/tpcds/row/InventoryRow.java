@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.InventoryColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_DATE_SK;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_ITEM_SK;
 import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_QUANTITY_ON_HAND;
@@ -25,14 +25,26 @@ import static io.trino.tpcds.generator.InventoryGeneratorColumn.INV_WAREHOUSE_SK
 public class InventoryRow
         extends TableRowWithNulls
 {
-    private final long invDateSk;
-    private final long invItemSk;
-    private final long invWarehouseSk;
-    private final int invQuantityOnHand;
+    private long invDateSk;
+    private long invItemSk;
+    private long invWarehouseSk;
+    private int invQuantityOnHand;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public InventoryRow()
+    {
+        super(0, INV_DATE_SK);
+    }
 
     public InventoryRow(long nullBitMap, long invDateSk, long invItemSk, long invWarehouseSk, int invQuantityOnHand)
     {
-        super(nullBitMap, INV_DATE_SK);
+        this();
+        set(nullBitMap, invDateSk, invItemSk, invWarehouseSk, invQuantityOnHand);
+    }
+
+    public final void set(long nullBitMap, long invDateSk, long invItemSk, long invWarehouseSk, int invQuantityOnHand)
+    {
+        setNullBitMap(nullBitMap);
         this.invDateSk = invDateSk;
         this.invItemSk = invItemSk;
         this.invWarehouseSk = invWarehouseSk;
@@ -40,11 +52,35 @@ public class InventoryRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((InventoryColumn) column) {
+            case INV_DATE_SK -> getStringOrNullForKey(invDateSk, INV_DATE_SK);
+            case INV_ITEM_SK -> getStringOrNullForKey(invItemSk, INV_ITEM_SK);
+            case INV_WAREHOUSE_SK -> getStringOrNullForKey(invWarehouseSk, INV_WAREHOUSE_SK);
+            case INV_QUANTITY_ON_HAND -> getStringOrNull(invQuantityOnHand, INV_QUANTITY_ON_HAND);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((InventoryColumn) column) {
+            case INV_DATE_SK -> isNullForKey(invDateSk, INV_DATE_SK);
+            case INV_ITEM_SK -> isNullForKey(invItemSk, INV_ITEM_SK);
+            case INV_WAREHOUSE_SK -> isNullForKey(invWarehouseSk, INV_WAREHOUSE_SK);
+            case INV_QUANTITY_ON_HAND -> isNull(INV_QUANTITY_ON_HAND);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(invDateSk, INV_DATE_SK),
-                getStringOrNullForKey(invItemSk, INV_ITEM_SK),
-                getStringOrNullForKey(invWarehouseSk, INV_WAREHOUSE_SK),
-                getStringOrNull(invQuantityOnHand, INV_QUANTITY_ON_HAND));
+        return switch ((InventoryColumn) column) {
+            case INV_DATE_SK -> invDateSk;
+            case INV_ITEM_SK -> invItemSk;
+            case INV_WAREHOUSE_SK -> invWarehouseSk;
+            case INV_QUANTITY_ON_HAND -> invQuantityOnHand;
+        };
     }
 }
@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ItemColumn;
 import io.trino.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_BRAND;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_BRAND_ID;
 import static io.trino.tpcds.generator.ItemGeneratorColumn.I_CATEGORY;
@@ -176,29 +175,78 @@ public class ItemRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((ItemColumn) column) {
+            case I_ITEM_SK -> getStringOrNullForKey(iItemSk, I_ITEM_SK);
+            case I_ITEM_ID -> getStringOrNull(iItemId, I_ITEM_ID);
+            case I_REC_START_DATE -> getDateStringOrNullFromJulianDays(iRecStartDateId, I_REC_START_DATE_ID);
+            case I_REC_END_DATE -> getDateStringOrNullFromJulianDays(iRecEndDateId, I_REC_END_DATE_ID);
+            case I_ITEM_DESC -> getStringOrNull(iItemDesc, I_ITEM_DESC);
+            case I_CURRENT_PRICE -> getStringOrNull(iCurrentPrice, I_CURRENT_PRICE);
+            case I_WHOLESALE_COST -> getStringOrNull(iWholesaleCost, I_WHOLESALE_COST);
+            case I_BRAND_ID -> getStringOrNullForKey(iBrandId, I_BRAND_ID);
+            case I_BRAND -> getStringOrNull(iBrand, I_BRAND);
+            case I_CLASS_ID -> getStringOrNullForKey(iClassId, I_CLASS_ID);
+            case I_CLASS -> getStringOrNull(iClass, I_CLASS);
+            case I_CATEGORY_ID -> getStringOrNullForKey(iCategoryId, I_CATEGORY_ID);
+            case I_CATEGORY -> getStringOrNull(iCategory, I_CATEGORY);
+            case I_MANUFACT_ID -> getStringOrNullForKey(iManufactId, I_MANUFACT_ID);
+            case I_MANUFACT -> getStringOrNull(iManufact, I_MANUFACT);
+            case I_SIZE -> getStringOrNull(iSize, I_SIZE);
+            case I_FORMULATION -> getStringOrNull(iFormulation, I_FORMULATION);
+            case I_COLOR -> getStringOrNull(iColor, I_COLOR);
+            case I_UNITS -> getStringOrNull(iUnits, I_UNITS);
+            case I_CONTAINER -> getStringOrNull(iContainer, I_CONTAINER);
+            case I_MANAGER_ID -> getStringOrNullForKey(iManagerId, I_MANAGER_ID);
+            case I_PRODUCT_NAME -> getStringOrNull(iProductName, I_PRODUCT_NAME);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((ItemColumn) column) {
+            case I_ITEM_SK -> isNullForKey(iItemSk, I_ITEM_SK);
+            case I_ITEM_ID -> isNull(I_ITEM_ID);
+            case I_REC_START_DATE -> isNullForJulianDays(iRecStartDateId, I_REC_START_DATE_ID);
+            case I_REC_END_DATE -> isNullForJulianDays(iRecEndDateId, I_REC_END_DATE_ID);
+            case I_ITEM_DESC -> isNull(I_ITEM_DESC);
+            case I_CURRENT_PRICE -> isNull(I_CURRENT_PRICE);
+            case I_WHOLESALE_COST -> isNull(I_WHOLESALE_COST);
+            case I_BRAND_ID -> isNullForKey(iBrandId, I_BRAND_ID);
+            case I_BRAND -> isNull(I_BRAND);
+            case I_CLASS_ID -> isNullForKey(iClassId, I_CLASS_ID);
+            case I_CLASS -> isNull(I_CLASS);
+            case I_CATEGORY_ID -> isNullForKey(iCategoryId, I_CATEGORY_ID);
+            case I_CATEGORY -> isNull(I_CATEGORY);
+            case I_MANUFACT_ID -> isNullForKey(iManufactId, I_MANUFACT_ID);
+            case I_MANUFACT -> isNull(I_MANUFACT);
+            case I_SIZE -> isNull(I_SIZE);
+            case I_FORMULATION -> isNull(I_FORMULATION);
+            case I_COLOR -> isNull(I_COLOR);
+            case I_UNITS -> isNull(I_UNITS);
+            case I_CONTAINER -> isNull(I_CONTAINER);
+            case I_MANAGER_ID -> isNullForKey(iManagerId, I_MANAGER_ID);
+            case I_PRODUCT_NAME -> isNull(I_PRODUCT_NAME);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(iItemSk, I_ITEM_SK),
-                getStringOrNull(iItemId, I_ITEM_ID),
-                getDateStringOrNullFromJulianDays(iRecStartDateId, I_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(iRecEndDateId, I_REC_END_DATE_ID),
-                getStringOrNull(iItemDesc, I_ITEM_DESC),
-                getStringOrNull(iCurrentPrice, I_CURRENT_PRICE),
-                getStringOrNull(iWholesaleCost, I_WHOLESALE_COST),
-                getStringOrNullForKey(iBrandId, I_BRAND_ID),
-                getStringOrNull(iBrand, I_BRAND),
-                getStringOrNullForKey(iClassId, I_CLASS_ID),
-                getStringOrNull(iClass, I_CLASS),
-                getStringOrNullForKey(iCategoryId, I_CATEGORY_ID),
-                getStringOrNull(iCategory, I_CATEGORY),
-                getStringOrNullForKey(iManufactId, I_MANUFACT_ID),
-                getStringOrNull(iManufact, I_MANUFACT),
-                getStringOrNull(iSize, I_SIZE),
-                getStringOrNull(iFormulation, I_FORMULATION),
-                getStringOrNull(iColor, I_COLOR),
-                getStringOrNull(iUnits, I_UNITS),
-                getStringOrNull(iContainer, I_CONTAINER),
-                getStringOrNullForKey(iManagerId, I_MANAGER_ID),
-                getStringOrNull(iProductName, I_PRODUCT_NAME));
+        return switch ((ItemColumn) column) {
+            case I_ITEM_SK -> iItemSk;
+            case I_REC_START_DATE -> iRecStartDateId;
+            case I_REC_END_DATE -> iRecEndDateId;
+            case I_CURRENT_PRICE -> getUnscaled(iCurrentPrice, column);
+            case I_WHOLESALE_COST -> getUnscaled(iWholesaleCost, column);
+            case I_BRAND_ID -> iBrandId;
+            case I_CLASS_ID -> iClassId;
+            case I_CATEGORY_ID -> iCategoryId;
+            case I_MANUFACT_ID -> iManufactId;
+            case I_MANAGER_ID -> iManagerId;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
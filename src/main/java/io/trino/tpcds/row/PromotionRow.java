@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.PromotionColumn;
 import io.trino.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_CATALOG;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DEMO;
 import static io.trino.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DETAILS;
@@ -106,26 +105,68 @@ public class PromotionRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((PromotionColumn) column) {
+            case P_PROMO_SK -> getStringOrNullForKey(pPromoSk, P_PROMO_SK);
+            case P_PROMO_ID -> getStringOrNull(pPromoId, P_PROMO_ID);
+            case P_START_DATE_SK -> getStringOrNullForKey(pStartDateId, P_START_DATE_ID);
+            case P_END_DATE_SK -> getStringOrNullForKey(pEndDateId, P_END_DATE_ID);
+            case P_ITEM_SK -> getStringOrNullForKey(pItemSk, P_ITEM_SK);
+            case P_COST -> getStringOrNull(pCost, P_COST);
+            case P_RESPONSE_TARGE -> getStringOrNull(pResponseTarget, P_RESPONSE_TARGET);
+            case P_PROMO_NAME -> getStringOrNull(pPromoName, P_PROMO_NAME);
+            case P_CHANNEL_DMAIL -> getStringOrNullForBoolean(pChannelDmail, P_CHANNEL_DMAIL);
+            case P_CHANNEL_EMAIL -> getStringOrNullForBoolean(pChannelEmail, P_CHANNEL_EMAIL);
+            case P_CHANNEL_CATALOG -> getStringOrNullForBoolean(pChannelCatalog, P_CHANNEL_CATALOG);
+            case P_CHANNEL_TV -> getStringOrNullForBoolean(pChannelTv, P_CHANNEL_TV);
+            case P_CHANNEL_RADIO -> getStringOrNullForBoolean(pChannelRadio, P_CHANNEL_RADIO);
+            case P_CHANNEL_PRESS -> getStringOrNullForBoolean(pChannelPress, P_CHANNEL_PRESS);
+            case P_CHANNEL_EVENT -> getStringOrNullForBoolean(pChannelEvent, P_CHANNEL_EVENT);
+            case P_CHANNEL_DEMO -> getStringOrNullForBoolean(pChannelDemo, P_CHANNEL_DEMO);
+            case P_CHANNEL_DETAILS -> getStringOrNull(pChannelDetails, P_CHANNEL_DETAILS);
+            case P_PURPOSE -> getStringOrNull(pPurpose, P_PURPOSE);
+            case P_DISCOUNT_ACTIVE -> getStringOrNullForBoolean(pDiscountActive, P_DISCOUNT_ACTIVE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((PromotionColumn) column) {
+            case P_PROMO_SK -> isNullForKey(pPromoSk, P_PROMO_SK);
+            case P_PROMO_ID -> isNull(P_PROMO_ID);
+            case P_START_DATE_SK -> isNullForKey(pStartDateId, P_START_DATE_ID);
+            case P_END_DATE_SK -> isNullForKey(pEndDateId, P_END_DATE_ID);
+            case P_ITEM_SK -> isNullForKey(pItemSk, P_ITEM_SK);
+            case P_COST -> isNull(P_COST);
+            case P_RESPONSE_TARGE -> isNull(P_RESPONSE_TARGET);
+            case P_PROMO_NAME -> isNull(P_PROMO_NAME);
+            case P_CHANNEL_DMAIL -> isNull(P_CHANNEL_DMAIL);
+            case P_CHANNEL_EMAIL -> isNull(P_CHANNEL_EMAIL);
+            case P_CHANNEL_CATALOG -> isNull(P_CHANNEL_CATALOG);
+            case P_CHANNEL_TV -> isNull(P_CHANNEL_TV);
+            case P_CHANNEL_RADIO -> isNull(P_CHANNEL_RADIO);
+            case P_CHANNEL_PRESS -> isNull(P_CHANNEL_PRESS);
+            case P_CHANNEL_EVENT -> isNull(P_CHANNEL_EVENT);
+            case P_CHANNEL_DEMO -> isNull(P_CHANNEL_DEMO);
+            case P_CHANNEL_DETAILS -> isNull(P_CHANNEL_DETAILS);
+            case P_PURPOSE -> isNull(P_PURPOSE);
+            case P_DISCOUNT_ACTIVE -> isNull(P_DISCOUNT_ACTIVE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(pPromoSk, P_PROMO_SK),
-                getStringOrNull(pPromoId, P_PROMO_ID),
-                getStringOrNullForKey(pStartDateId, P_START_DATE_ID),
-                getStringOrNullForKey(pEndDateId, P_END_DATE_ID),
-                getStringOrNullForKey(pItemSk, P_ITEM_SK),
-                getStringOrNull(pCost, P_COST),
-                getStringOrNull(pResponseTarget, P_RESPONSE_TARGET),
-                getStringOrNull(pPromoName, P_PROMO_NAME),
-                getStringOrNullForBoolean(pChannelDmail, P_CHANNEL_DMAIL),
-                getStringOrNullForBoolean(pChannelEmail, P_CHANNEL_EMAIL),
-                getStringOrNullForBoolean(pChannelCatalog, P_CHANNEL_CATALOG),
-                getStringOrNullForBoolean(pChannelTv, P_CHANNEL_TV),
-                getStringOrNullForBoolean(pChannelRadio, P_CHANNEL_RADIO),
-                getStringOrNullForBoolean(pChannelPress, P_CHANNEL_PRESS),
-                getStringOrNullForBoolean(pChannelEvent, P_CHANNEL_EVENT),
-                getStringOrNullForBoolean(pChannelDemo, P_CHANNEL_DEMO),
-                getStringOrNull(pChannelDetails, P_CHANNEL_DETAILS),
-                getStringOrNull(pPurpose, P_PURPOSE),
-                getStringOrNullForBoolean(pDiscountActive, P_DISCOUNT_ACTIVE));
+        return switch ((PromotionColumn) column) {
+            case P_PROMO_SK -> pPromoSk;
+            case P_START_DATE_SK -> pStartDateId;
+            case P_END_DATE_SK -> pEndDateId;
+            case P_ITEM_SK -> pItemSk;
+            case P_COST -> getUnscaled(pCost, column);
+            case P_RESPONSE_TARGE -> pResponseTarget;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ReasonColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_DESCRIPTION;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_ID;
 import static io.trino.tpcds.generator.ReasonGeneratorColumn.R_REASON_SK;
@@ -37,10 +37,31 @@ public class ReasonRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(rReasonSk, R_REASON_SK),
-                getStringOrNull(rReasonId, R_REASON_ID),
-                getStringOrNull(rReasonDescription, R_REASON_DESCRIPTION));
+        return switch ((ReasonColumn) column) {
+            case R_REASON_SK -> getStringOrNullForKey(rReasonSk, R_REASON_SK);
+            case R_REASON_ID -> getStringOrNull(rReasonId, R_REASON_ID);
+            case R_REASON_DESC -> getStringOrNull(rReasonDescription, R_REASON_DESCRIPTION);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((ReasonColumn) column) {
+            case R_REASON_SK -> isNullForKey(rReasonSk, R_REASON_SK);
+            case R_REASON_ID -> isNull(R_REASON_ID);
+            case R_REASON_DESC -> isNull(R_REASON_DESCRIPTION);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((ReasonColumn) column) {
+            case R_REASON_SK -> rReasonSk;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
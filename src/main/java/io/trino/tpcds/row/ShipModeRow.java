@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ShipModeColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CARRIER;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CODE;
 import static io.trino.tpcds.generator.ShipModeGeneratorColumn.SM_CONTRACT;
@@ -46,13 +46,37 @@ public class ShipModeRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(smShipModeSk, SM_SHIP_MODE_SK),
-                getStringOrNull(smShipModeId, SM_SHIP_MODE_ID),
-                getStringOrNull(smType, SM_TYPE),
-                getStringOrNull(smCode, SM_CODE),
-                getStringOrNull(smCarrier, SM_CARRIER),
-                getStringOrNull(smContract, SM_CONTRACT));
+        return switch ((ShipModeColumn) column) {
+            case SM_SHIP_MODE_SK -> getStringOrNullForKey(smShipModeSk, SM_SHIP_MODE_SK);
+            case SM_SHIP_MODE_ID -> getStringOrNull(smShipModeId, SM_SHIP_MODE_ID);
+            case SM_TYPE -> getStringOrNull(smType, SM_TYPE);
+            case SM_CODE -> getStringOrNull(smCode, SM_CODE);
+            case SM_CARRIER -> getStringOrNull(smCarrier, SM_CARRIER);
+            case SM_CONTRACT -> getStringOrNull(smContract, SM_CONTRACT);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((ShipModeColumn) column) {
+            case SM_SHIP_MODE_SK -> isNullForKey(smShipModeSk, SM_SHIP_MODE_SK);
+            case SM_SHIP_MODE_ID -> isNull(SM_SHIP_MODE_ID);
+            case SM_TYPE -> isNull(SM_TYPE);
+            case SM_CODE -> isNull(SM_CODE);
+            case SM_CARRIER -> isNull(SM_CARRIER);
+            case SM_CONTRACT -> isNull(SM_CONTRACT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((ShipModeColumn) column) {
+            case SM_SHIP_MODE_SK -> smShipModeSk;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
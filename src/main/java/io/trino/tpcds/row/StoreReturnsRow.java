@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.StoreReturnsColumn;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_ADDR_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CDEMO_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CUSTOMER_SK;
@@ -43,17 +42,23 @@ import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET_NUM
 public class StoreReturnsRow
         extends TableRowWithNulls
 {
-    private final long srReturnedDateSk;
-    private final long srReturnedTimeSk;
-    private final long srItemSk;
-    private final long srCustomerSk;
-    private final long srCdemoSk;
-    private final long srHdemoSk;
-    private final long srAddrSk;
-    private final long srStoreSk;
-    private final long srReasonSk;
-    private final long srTicketNumber;
-    private final Pricing srPricing;
+    private long srReturnedDateSk;
+    private long srReturnedTimeSk;
+    private long srItemSk;
+    private long srCustomerSk;
+    private long srCdemoSk;
+    private long srHdemoSk;
+    private long srAddrSk;
+    private long srStoreSk;
+    private long srReasonSk;
+    private long srTicketNumber;
+    private Pricing srPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public StoreReturnsRow()
+    {
+        super(0, SR_RETURNED_DATE_SK);
+    }
 
     public StoreReturnsRow(long nullBitMap,
             long srReturnedDateSk,
@@ -68,7 +73,24 @@ public class StoreReturnsRow
             long srTicketNumber,
             Pricing srPricing)
     {
-        super(nullBitMap, SR_RETURNED_DATE_SK);
+        this();
+        set(nullBitMap, srReturnedDateSk, srReturnedTimeSk, srItemSk, srCustomerSk, srCdemoSk, srHdemoSk, srAddrSk, srStoreSk, srReasonSk, srTicketNumber, srPricing);
+    }
+
+    public final void set(long nullBitMap,
+            long srReturnedDateSk,
+            long srReturnedTimeSk,
+            long srItemSk,
+            long srCustomerSk,
+            long srCdemoSk,
+            long srHdemoSk,
+            long srAddrSk,
+            long srStoreSk,
+            long srReasonSk,
+            long srTicketNumber,
+            Pricing srPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.srReturnedDateSk = srReturnedDateSk;
         this.srReturnedTimeSk = srReturnedTimeSk;
         this.srItemSk = srItemSk;
@@ -83,27 +105,83 @@ public class StoreReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((StoreReturnsColumn) column) {
+            case SR_RETURNED_DATE_SK -> getStringOrNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK);
+            case SR_RETURN_TIME_SK -> getStringOrNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK);
+            case SR_ITEM_SK -> getStringOrNullForKey(srItemSk, SR_ITEM_SK);
+            case SR_CUSTOMER_SK -> getStringOrNullForKey(srCustomerSk, SR_CUSTOMER_SK);
+            case SR_CDEMO_SK -> getStringOrNullForKey(srCdemoSk, SR_CDEMO_SK);
+            case SR_HDEMO_SK -> getStringOrNullForKey(srHdemoSk, SR_HDEMO_SK);
+            case SR_ADDR_SK -> getStringOrNullForKey(srAddrSk, SR_ADDR_SK);
+            case SR_STORE_SK -> getStringOrNullForKey(srStoreSk, SR_STORE_SK);
+            case SR_REASON_SK -> getStringOrNullForKey(srReasonSk, SR_REASON_SK);
+            case SR_TICKET_NUMBER -> getStringOrNullForKey(srTicketNumber, SR_TICKET_NUMBER);
+            case SR_RETURN_QUANTITY -> getStringOrNull(srPricing.getQuantity(), SR_PRICING_QUANTITY);
+            case SR_RETURN_AMT -> getStringOrNull(srPricing.getNetPaid(), SR_PRICING_NET_PAID);
+            case SR_RETURN_TAX -> getStringOrNull(srPricing.getExtTax(), SR_PRICING_EXT_TAX);
+            case SR_RETURN_AMT_INC_TAX -> getStringOrNull(srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX);
+            case SR_FEE -> getStringOrNull(srPricing.getFee(), SR_PRICING_FEE);
+            case SR_RETURN_SHIP_COST -> getStringOrNull(srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST);
+            case SR_REFUNDED_CASH -> getStringOrNull(srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH);
+            case SR_REVERSED_CHARGE -> getStringOrNull(srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE);
+            case SR_STORE_CREDIT -> getStringOrNull(srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT);
+            case SR_NET_LOSS -> getStringOrNull(srPricing.getNetLoss(), SR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((StoreReturnsColumn) column) {
+            case SR_RETURNED_DATE_SK -> isNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK);
+            case SR_RETURN_TIME_SK -> isNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK);
+            case SR_ITEM_SK -> isNullForKey(srItemSk, SR_ITEM_SK);
+            case SR_CUSTOMER_SK -> isNullForKey(srCustomerSk, SR_CUSTOMER_SK);
+            case SR_CDEMO_SK -> isNullForKey(srCdemoSk, SR_CDEMO_SK);
+            case SR_HDEMO_SK -> isNullForKey(srHdemoSk, SR_HDEMO_SK);
+            case SR_ADDR_SK -> isNullForKey(srAddrSk, SR_ADDR_SK);
+            case SR_STORE_SK -> isNullForKey(srStoreSk, SR_STORE_SK);
+            case SR_REASON_SK -> isNullForKey(srReasonSk, SR_REASON_SK);
+            case SR_TICKET_NUMBER -> isNullForKey(srTicketNumber, SR_TICKET_NUMBER);
+            case SR_RETURN_QUANTITY -> isNull(SR_PRICING_QUANTITY);
+            case SR_RETURN_AMT -> isNull(SR_PRICING_NET_PAID);
+            case SR_RETURN_TAX -> isNull(SR_PRICING_EXT_TAX);
+            case SR_RETURN_AMT_INC_TAX -> isNull(SR_PRICING_NET_PAID_INC_TAX);
+            case SR_FEE -> isNull(SR_PRICING_FEE);
+            case SR_RETURN_SHIP_COST -> isNull(SR_PRICING_EXT_SHIP_COST);
+            case SR_REFUNDED_CASH -> isNull(SR_PRICING_REFUNDED_CASH);
+            case SR_REVERSED_CHARGE -> isNull(SR_PRICING_REVERSED_CHARGE);
+            case SR_STORE_CREDIT -> isNull(SR_PRICING_STORE_CREDIT);
+            case SR_NET_LOSS -> isNull(SR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK),
-                getStringOrNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK),
-                getStringOrNullForKey(srItemSk, SR_ITEM_SK),
-                getStringOrNullForKey(srCustomerSk, SR_CUSTOMER_SK),
-                getStringOrNullForKey(srCdemoSk, SR_CDEMO_SK),
-                getStringOrNullForKey(srHdemoSk, SR_HDEMO_SK),
-                getStringOrNullForKey(srAddrSk, SR_ADDR_SK),
-                getStringOrNullForKey(srStoreSk, SR_STORE_SK),
-                getStringOrNullForKey(srReasonSk, SR_REASON_SK),
-                getStringOrNullForKey(srTicketNumber, SR_TICKET_NUMBER),
-                getStringOrNull(srPricing.getQuantity(), SR_PRICING_QUANTITY),
-                getStringOrNull(srPricing.getNetPaid(), SR_PRICING_NET_PAID),
-                getStringOrNull(srPricing.getExtTax(), SR_PRICING_EXT_TAX),
-                getStringOrNull(srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(srPricing.getFee(), SR_PRICING_FEE),
-                getStringOrNull(srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH),
-                getStringOrNull(srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT),
-                getStringOrNull(srPricing.getNetLoss(), SR_PRICING_NET_LOSS));
+        return switch ((StoreReturnsColumn) column) {
+            case SR_RETURNED_DATE_SK -> srReturnedDateSk;
+            case SR_RETURN_TIME_SK -> srReturnedTimeSk;
+            case SR_ITEM_SK -> srItemSk;
+            case SR_CUSTOMER_SK -> srCustomerSk;
+            case SR_CDEMO_SK -> srCdemoSk;
+            case SR_HDEMO_SK -> srHdemoSk;
+            case SR_ADDR_SK -> srAddrSk;
+            case SR_STORE_SK -> srStoreSk;
+            case SR_REASON_SK -> srReasonSk;
+            case SR_TICKET_NUMBER -> srTicketNumber;
+            case SR_RETURN_QUANTITY -> srPricing.getQuantity();
+            case SR_RETURN_AMT -> getUnscaled(srPricing.getNetPaid(), column);
+            case SR_RETURN_TAX -> getUnscaled(srPricing.getExtTax(), column);
+            case SR_RETURN_AMT_INC_TAX -> getUnscaled(srPricing.getNetPaidIncludingTax(), column);
+            case SR_FEE -> getUnscaled(srPricing.getFee(), column);
+            case SR_RETURN_SHIP_COST -> getUnscaled(srPricing.getExtShipCost(), column);
+            case SR_REFUNDED_CASH -> getUnscaled(srPricing.getRefundedCash(), column);
+            case SR_REVERSED_CHARGE -> getUnscaled(srPricing.getReversedCharge(), column);
+            case SR_STORE_CREDIT -> getUnscaled(srPricing.getStoreCredit(), column);
+            case SR_NET_LOSS -> getUnscaled(srPricing.getNetLoss(), column);
+        };
     }
 }
@@ -14,12 +14,11 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.StoreColumn;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_CITY;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTY;
@@ -176,36 +175,93 @@ public class StoreRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((StoreColumn) column) {
+            case S_STORE_SK -> getStringOrNullForKey(storeSk, W_STORE_SK);
+            case S_STORE_ID -> getStringOrNull(storeId, W_STORE_ID);
+            case S_REC_START_DATE -> getDateStringOrNullFromJulianDays(recStartDateId, W_STORE_REC_START_DATE_ID);
+            case S_REC_END_DATE -> getDateStringOrNullFromJulianDays(recEndDateId, W_STORE_REC_END_DATE_ID);
+            case S_CLOSED_DATE_SK -> getStringOrNullForKey(closedDateId, W_STORE_CLOSED_DATE_ID);
+            case S_STORE_NAME -> getStringOrNull(storeName, W_STORE_NAME);
+            case S_NUMBER_EMPLOYEES -> getStringOrNull(employees, W_STORE_EMPLOYEES);
+            case S_FLOOR_SPACE -> getStringOrNull(floorSpace, W_STORE_FLOOR_SPACE);
+            case S_HOURS -> getStringOrNull(hours, W_STORE_HOURS);
+            case S_MANAGER -> getStringOrNull(storeManager, W_STORE_MANAGER);
+            case S_MARKET_ID -> getStringOrNull(marketId, W_STORE_MARKET_ID);
+            case S_GEOGRAPHY_CLASS -> getStringOrNull(geographyClass, W_STORE_GEOGRAPHY_CLASS);
+            case S_MARKET_DESC -> getStringOrNull(marketDesc, W_STORE_MARKET_DESC);
+            case S_MARKET_MANAGER -> getStringOrNull(marketManager, W_STORE_MARKET_MANAGER);
+            case S_DIVISION_ID -> getStringOrNullForKey(divisionId, W_STORE_DIVISION_ID);
+            case S_DIVISION_NAME -> getStringOrNull(divisionName, W_STORE_DIVISION_NAME);
+            case S_COMPANY_ID -> getStringOrNullForKey(companyId, W_STORE_COMPANY_ID);
+            case S_COMPANY_NAME -> getStringOrNull(companyName, W_STORE_COMPANY_NAME);
+            case S_STREET_NUMBER -> getStringOrNull(address.getStreetNumber(), W_STORE_ADDRESS_STREET_NUM);
+            case S_STREET_NAME -> getStringOrNull(address.getStreetName(), W_STORE_ADDRESS_STREET_NAME1);
+            case S_STREET_TYPE -> getStringOrNull(address.getStreetType(), W_STORE_ADDRESS_STREET_TYPE);
+            case S_SUITE_NUMBER -> getStringOrNull(address.getSuiteNumber(), W_STORE_ADDRESS_SUITE_NUM);
+            case S_CITY -> getStringOrNull(address.getCity(), W_STORE_ADDRESS_CITY);
+            case S_COUNTY -> getStringOrNull(address.getCounty(), W_STORE_ADDRESS_COUNTY);
+            case S_STATE -> getStringOrNull(address.getState(), W_STORE_ADDRESS_STATE);
+            case S_ZIP -> getStringOrNull(format("%05d", address.getZip()), W_STORE_ADDRESS_ZIP);
+            case S_COUNTRY -> getStringOrNull(address.getCountry(), W_STORE_ADDRESS_COUNTRY);
+            case S_GMT_OFFSET -> getStringOrNull(address.getGmtOffset(), W_STORE_ADDRESS_GMT_OFFSET);
+            case S_TAX_PRECENTAGE -> getStringOrNull(dTaxPercentage, W_STORE_TAX_PERCENTAGE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((StoreColumn) column) {
+            case S_STORE_SK -> isNullForKey(storeSk, W_STORE_SK);
+            case S_STORE_ID -> isNull(W_STORE_ID);
+            case S_REC_START_DATE -> isNullForJulianDays(recStartDateId, W_STORE_REC_START_DATE_ID);
+            case S_REC_END_DATE -> isNullForJulianDays(recEndDateId, W_STORE_REC_END_DATE_ID);
+            case S_CLOSED_DATE_SK -> isNullForKey(closedDateId, W_STORE_CLOSED_DATE_ID);
+            case S_STORE_NAME -> isNull(W_STORE_NAME);
+            case S_NUMBER_EMPLOYEES -> isNull(W_STORE_EMPLOYEES);
+            case S_FLOOR_SPACE -> isNull(W_STORE_FLOOR_SPACE);
+            case S_HOURS -> isNull(W_STORE_HOURS);
+            case S_MANAGER -> isNull(W_STORE_MANAGER);
+            case S_MARKET_ID -> isNull(W_STORE_MARKET_ID);
+            case S_GEOGRAPHY_CLASS -> isNull(W_STORE_GEOGRAPHY_CLASS);
+            case S_MARKET_DESC -> isNull(W_STORE_MARKET_DESC);
+            case S_MARKET_MANAGER -> isNull(W_STORE_MARKET_MANAGER);
+            case S_DIVISION_ID -> isNullForKey(divisionId, W_STORE_DIVISION_ID);
+            case S_DIVISION_NAME -> isNull(W_STORE_DIVISION_NAME);
+            case S_COMPANY_ID -> isNullForKey(companyId, W_STORE_COMPANY_ID);
+            case S_COMPANY_NAME -> isNull(W_STORE_COMPANY_NAME);
+            case S_STREET_NUMBER -> isNull(W_STORE_ADDRESS_STREET_NUM);
+            case S_STREET_NAME -> isNull(W_STORE_ADDRESS_STREET_NAME1);
+            case S_STREET_TYPE -> isNull(W_STORE_ADDRESS_STREET_TYPE);
+            case S_SUITE_NUMBER -> isNull(W_STORE_ADDRESS_SUITE_NUM);
+            case S_CITY -> isNull(W_STORE_ADDRESS_CITY);
+            case S_COUNTY -> isNull(W_STORE_ADDRESS_COUNTY);
+            case S_STATE -> isNull(W_STORE_ADDRESS_STATE);
+            case S_ZIP -> isNull(W_STORE_ADDRESS_ZIP);
+            case S_COUNTRY -> isNull(W_STORE_ADDRESS_COUNTRY);
+            case S_GMT_OFFSET -> isNull(W_STORE_ADDRESS_GMT_OFFSET);
+            case S_TAX_PRECENTAGE -> isNull(W_STORE_TAX_PERCENTAGE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(storeSk, W_STORE_SK),
-                getStringOrNull(storeId, W_STORE_ID),
-                getDateStringOrNullFromJulianDays(recStartDateId, W_STORE_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(recEndDateId, W_STORE_REC_END_DATE_ID),
-                getStringOrNullForKey(closedDateId, W_STORE_CLOSED_DATE_ID),
-                getStringOrNull(storeName, W_STORE_NAME),
-                getStringOrNull(employees, W_STORE_EMPLOYEES),
-                getStringOrNull(floorSpace, W_STORE_FLOOR_SPACE),
-                getStringOrNull(hours, W_STORE_HOURS),
-                getStringOrNull(storeManager, W_STORE_MANAGER),
-                getStringOrNull(marketId, W_STORE_MARKET_ID),
-                getStringOrNull(geographyClass, W_STORE_GEOGRAPHY_CLASS),
-                getStringOrNull(marketDesc, W_STORE_MARKET_DESC),
-                getStringOrNull(marketManager, W_STORE_MARKET_MANAGER),
-                getStringOrNullForKey(divisionId, W_STORE_DIVISION_ID),
-                getStringOrNull(divisionName, W_STORE_DIVISION_NAME),
-                getStringOrNullForKey(companyId, W_STORE_COMPANY_ID),
-                getStringOrNull(companyName, W_STORE_COMPANY_NAME),
-                getStringOrNull(address.getStreetNumber(), W_STORE_ADDRESS_STREET_NUM),
-                getStringOrNull(address.getStreetName(), W_STORE_ADDRESS_STREET_NAME1),
-                getStringOrNull(address.getStreetType(), W_STORE_ADDRESS_STREET_TYPE),
-                getStringOrNull(address.getSuiteNumber(), W_STORE_ADDRESS_SUITE_NUM),
-                getStringOrNull(address.getCity(), W_STORE_ADDRESS_CITY),
-                getStringOrNull(address.getCounty(), W_STORE_ADDRESS_COUNTY),
-                getStringOrNull(address.getState(), W_STORE_ADDRESS_STATE),
-                getStringOrNull(format("%05d", address.getZip()), W_STORE_ADDRESS_ZIP),
-                getStringOrNull(address.getCountry(), W_STORE_ADDRESS_COUNTRY),
-                getStringOrNull(address.getGmtOffset(), W_STORE_ADDRESS_GMT_OFFSET),
-                getStringOrNull(dTaxPercentage, W_STORE_TAX_PERCENTAGE));
+        return switch ((StoreColumn) column) {
+            case S_STORE_SK -> storeSk;
+            case S_REC_START_DATE -> recStartDateId;
+            case S_REC_END_DATE -> recEndDateId;
+            case S_CLOSED_DATE_SK -> closedDateId;
+            case S_NUMBER_EMPLOYEES -> employees;
+            case S_FLOOR_SPACE -> floorSpace;
+            case S_MARKET_ID -> marketId;
+            case S_DIVISION_ID -> divisionId;
+            case S_COMPANY_ID -> companyId;
+            case S_GMT_OFFSET -> getUnscaled(address.getGmtOffset(), column);
+            case S_TAX_PRECENTAGE -> getUnscaled(dTaxPercentage, column);
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.StoreSalesColumn;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_COUPON_AMT;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_LIST_PRICE;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_SALES_PRICE;
@@ -45,17 +44,23 @@ import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_TICKET_NUMBE
 public class StoreSalesRow
         extends TableRowWithNulls
 {
-    private final long ssSoldDateSk;
-    private final long ssSoldTimeSk;
-    private final long ssSoldItemSk;
-    private final long ssSoldCustomerSk;
-    private final long ssSoldCdemoSk;
-    private final long ssSoldHdemoSk;
-    private final long ssSoldAddrSk;
-    private final long ssSoldStoreSk;
-    private final long ssSoldPromoSk;
-    private final long ssTicketNumber;
-    private final Pricing ssPricing;
+    private long ssSoldDateSk;
+    private long ssSoldTimeSk;
+    private long ssSoldItemSk;
+    private long ssSoldCustomerSk;
+    private long ssSoldCdemoSk;
+    private long ssSoldHdemoSk;
+    private long ssSoldAddrSk;
+    private long ssSoldStoreSk;
+    private long ssSoldPromoSk;
+    private long ssTicketNumber;
+    private Pricing ssPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public StoreSalesRow()
+    {
+        super(0, SS_SOLD_DATE_SK);
+    }
 
     public StoreSalesRow(long nullBitMap,
             long ssSoldDateSk,
@@ -70,7 +75,24 @@ public class StoreSalesRow
             long ssTicketNumber,
             Pricing ssPricing)
     {
-        super(nullBitMap, SS_SOLD_DATE_SK);
+        this();
+        set(nullBitMap, ssSoldDateSk, ssSoldTimeSk, ssSoldItemSk, ssSoldCustomerSk, ssSoldCdemoSk, ssSoldHdemoSk, ssSoldAddrSk, ssSoldStoreSk, ssSoldPromoSk, ssTicketNumber, ssPricing);
+    }
+
+    public final void set(long nullBitMap,
+            long ssSoldDateSk,
+            long ssSoldTimeSk,
+            long ssSoldItemSk,
+            long ssSoldCustomerSk,
+            long ssSoldCdemoSk,
+            long ssSoldHdemoSk,
+            long ssSoldAddrSk,
+            long ssSoldStoreSk,
+            long ssSoldPromoSk,
+            long ssTicketNumber,
+            Pricing ssPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.ssSoldDateSk = ssSoldDateSk;
         this.ssSoldTimeSk = ssSoldTimeSk;
         this.ssSoldItemSk = ssSoldItemSk;
@@ -85,31 +107,33 @@ public class StoreSalesRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK),
-                getStringOrNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK),
-                getStringOrNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK),
-                getStringOrNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK),
-                getStringOrNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK),
-                getStringOrNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK),
-                getStringOrNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK),
-                getStringOrNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK),
-                getStringOrNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK),
-                getStringOrNullForKey(ssTicketNumber, SS_TICKET_NUMBER),
-                getStringOrNull(ssPricing.getQuantity(), SS_PRICING_QUANTITY),
-                getStringOrNull(ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getListPrice(), SS_PRICING_LIST_PRICE),
-                getStringOrNull(ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(ssPricing.getExtTax(), SS_PRICING_EXT_TAX),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getNetPaid(), SS_PRICING_NET_PAID),
-                getStringOrNull(ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT));
+        return switch ((StoreSalesColumn) column) {
+            case SS_SOLD_DATE_SK -> getStringOrNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK);
+            case SS_SOLD_TIME_SK -> getStringOrNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK);
+            case SS_ITEM_SK -> getStringOrNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK);
+            case SS_CUSTOMER_SK -> getStringOrNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK);
+            case SS_CDEMO_SK -> getStringOrNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK);
+            case SS_HDEMO_SK -> getStringOrNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK);
+            case SS_ADDR_SK -> getStringOrNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK);
+            case SS_STORE_SK -> getStringOrNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK);
+            case SS_PROMO_SK -> getStringOrNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK);
+            case SS_TICKET_NUMBER -> getStringOrNullForKey(ssTicketNumber, SS_TICKET_NUMBER);
+            case SS_QUANTITY -> getStringOrNull(ssPricing.getQuantity(), SS_PRICING_QUANTITY);
+            case SS_WHOLESALE_COST -> getStringOrNull(ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST);
+            case SS_LIST_PRICE -> getStringOrNull(ssPricing.getListPrice(), SS_PRICING_LIST_PRICE);
+            case SS_SALES_PRICE -> getStringOrNull(ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE);
+            case SS_EXT_DISCOUNT_AMT -> getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+            case SS_EXT_SALES_PRICE -> getStringOrNull(ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE);
+            case SS_EXT_WHOLESALE_COST -> getStringOrNull(ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST);
+            case SS_EXT_LIST_PRICE -> getStringOrNull(ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE);
+            case SS_EXT_TAX -> getStringOrNull(ssPricing.getExtTax(), SS_PRICING_EXT_TAX);
+            case SS_COUPON_AMT -> getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+            case SS_NET_PAID -> getStringOrNull(ssPricing.getNetPaid(), SS_PRICING_NET_PAID);
+            case SS_NET_PAID_INC_TAX -> getStringOrNull(ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX);
+            case SS_NET_PROFIT -> getStringOrNull(ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT);
+        };
     }
 
     public long getSsTicketNumber()
@@ -136,4 +160,64 @@ public class StoreSalesRow
     {
         return ssPricing;
     }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((StoreSalesColumn) column) {
+            case SS_SOLD_DATE_SK -> isNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK);
+            case SS_SOLD_TIME_SK -> isNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK);
+            case SS_ITEM_SK -> isNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK);
+            case SS_CUSTOMER_SK -> isNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK);
+            case SS_CDEMO_SK -> isNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK);
+            case SS_HDEMO_SK -> isNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK);
+            case SS_ADDR_SK -> isNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK);
+            case SS_STORE_SK -> isNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK);
+            case SS_PROMO_SK -> isNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK);
+            case SS_TICKET_NUMBER -> isNullForKey(ssTicketNumber, SS_TICKET_NUMBER);
+            case SS_QUANTITY -> isNull(SS_PRICING_QUANTITY);
+            case SS_WHOLESALE_COST -> isNull(SS_PRICING_WHOLESALE_COST);
+            case SS_LIST_PRICE -> isNull(SS_PRICING_LIST_PRICE);
+            case SS_SALES_PRICE -> isNull(SS_PRICING_SALES_PRICE);
+            case SS_EXT_DISCOUNT_AMT -> isNull(SS_PRICING_COUPON_AMT);
+            case SS_EXT_SALES_PRICE -> isNull(SS_PRICING_EXT_SALES_PRICE);
+            case SS_EXT_WHOLESALE_COST -> isNull(SS_PRICING_EXT_WHOLESALE_COST);
+            case SS_EXT_LIST_PRICE -> isNull(SS_PRICING_EXT_LIST_PRICE);
+            case SS_EXT_TAX -> isNull(SS_PRICING_EXT_TAX);
+            case SS_COUPON_AMT -> isNull(SS_PRICING_COUPON_AMT);
+            case SS_NET_PAID -> isNull(SS_PRICING_NET_PAID);
+            case SS_NET_PAID_INC_TAX -> isNull(SS_PRICING_NET_PAID_INC_TAX);
+            case SS_NET_PROFIT -> isNull(SS_PRICING_NET_PROFIT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((StoreSalesColumn) column) {
+            case SS_SOLD_DATE_SK -> ssSoldDateSk;
+            case SS_SOLD_TIME_SK -> ssSoldTimeSk;
+            case SS_ITEM_SK -> ssSoldItemSk;
+            case SS_CUSTOMER_SK -> ssSoldCustomerSk;
+            case SS_CDEMO_SK -> ssSoldCdemoSk;
+            case SS_HDEMO_SK -> ssSoldHdemoSk;
+            case SS_ADDR_SK -> ssSoldAddrSk;
+            case SS_STORE_SK -> ssSoldStoreSk;
+            case SS_PROMO_SK -> ssSoldPromoSk;
+            case SS_TICKET_NUMBER -> ssTicketNumber;
+            case SS_QUANTITY -> ssPricing.getQuantity();
+            case SS_WHOLESALE_COST -> getUnscaled(ssPricing.getWholesaleCost(), column);
+            case SS_LIST_PRICE -> getUnscaled(ssPricing.getListPrice(), column);
+            case SS_SALES_PRICE -> getUnscaled(ssPricing.getSalesPrice(), column);
+            case SS_EXT_DISCOUNT_AMT -> getUnscaled(ssPricing.getCouponAmount(), column);
+            case SS_EXT_SALES_PRICE -> getUnscaled(ssPricing.getExtSalesPrice(), column);
+            case SS_EXT_WHOLESALE_COST -> getUnscaled(ssPricing.getExtWholesaleCost(), column);
+            case SS_EXT_LIST_PRICE -> getUnscaled(ssPricing.getExtListPrice(), column);
+            case SS_EXT_TAX -> getUnscaled(ssPricing.getExtTax(), column);
+            case SS_COUPON_AMT -> getUnscaled(ssPricing.getCouponAmount(), column);
+            case SS_NET_PAID -> getUnscaled(ssPricing.getNetPaid(), column);
+            case SS_NET_PAID_INC_TAX -> getUnscaled(ssPricing.getNetPaidIncludingTax(), column);
+            case SS_NET_PROFIT -> getUnscaled(ssPricing.getNetProfit(), column);
+        };
+    }
 }
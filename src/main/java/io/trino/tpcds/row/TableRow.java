@@ -14,9 +14,102 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static io.trino.tpcds.column.ColumnType.Base.DATE;
+import static io.trino.tpcds.column.ColumnType.Base.DECIMAL;
+import static io.trino.tpcds.column.ColumnType.Base.INTEGER;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseJulianDays;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseSecondsOfDay;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 
+// Only getValues() has to be implemented. The other methods read the formatted values, and
+// the rows of the generators override them to read the column without formatting it.
 public interface TableRow
 {
+    // The columns outside the projection of the session read as null, since the generators
+    // may have skipped them. getLong() and the typed accessors throw IllegalStateException for them.
     List<String> getValues();
+
+    // The values of getValues(), with nulls for the columns of the table of the row that are
+    // not in the projection
+    default List<String> getValues(Set<Column> projection)
+    {
+        List<String> values = getValues();
+        List<String> projected = new ArrayList<>(Collections.nCopies(values.size(), null));
+        for (Column column : projection) {
+            projected.set(column.getPosition(), values.get(column.getPosition()));
+        }
+        return projected;
+    }
+
+    // The value of one column of the table of the row, formatted as in getValues(),
+    // without formatting the other columns. Null for a null value.
+    default String getString(Column column)
+    {
+        return getValues().get(column.getPosition());
+    }
+
+    default boolean isNull(Column column)
+    {
+        return getString(column) == null;
+    }
+
+    // The value of a numeric, date or time column without formatting it: the value of an
+    // integer or identifier, the julian day of a date, the seconds of the day of a time and
+    // the unscaled value of a decimal, at the scale of the column type. Undefined for a null.
+    default long getLong(Column column)
+    {
+        String value = getString(column);
+        checkState(value != null, "Column %s is null", column.getName());
+        ColumnType type = column.getType();
+        return switch (type.getBase()) {
+            case INTEGER, IDENTIFIER -> Long.parseLong(value);
+            case DATE -> parseJulianDays(value);
+            case TIME -> parseSecondsOfDay(value);
+            case DECIMAL -> parseUnscaledDecimal(value, type.getScale().get());
+            case VARCHAR, CHAR -> throw new IllegalArgumentException(format("Column %s is not a numeric, date or time column", column.getName()));
+        };
+    }
+
+    default int getInt(Column column)
+    {
+        checkColumnType(column, INTEGER);
+        return toIntExact(getLong(column));
+    }
+
+    default long getDecimalUnscaled(Column column)
+    {
+        checkColumnType(column, DECIMAL);
+        return getLong(column);
+    }
+
+    default int getJulianDay(Column column)
+    {
+        checkColumnType(column, DATE);
+        return toIntExact(getLong(column));
+    }
+
+    // The value of a column as written to the text output, in ISO-8859-1. Null for a null value.
+    default byte[] getBytes(Column column)
+    {
+        String value = getString(column);
+        return value == null ? null : value.getBytes(ISO_8859_1);
+    }
+
+    private static void checkColumnType(Column column, ColumnType.Base base)
+    {
+        checkArgument(column.getType().getBase() == base, "Column %s is not of type %s", column.getName(), base);
+    }
 }
@@ -14,15 +14,30 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.generator.GeneratorColumn;
+import io.trino.tpcds.type.Decimal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static io.trino.tpcds.type.Date.fromJulianDays;
+import static java.lang.String.format;
 
 public abstract class TableRowWithNulls
         implements TableRow
 {
     private long nullBitMap;
     private GeneratorColumn firstColumn;
+    // a bit per column position for the columns outside the projection of the session,
+    // which the generators may have skipped
+    private long unprojectedColumns;
 
     protected TableRowWithNulls(long nullBitMap, GeneratorColumn firstColumn)
     {
@@ -30,12 +45,132 @@ public abstract class TableRowWithNulls
         this.firstColumn = firstColumn;
     }
 
-    private boolean isNull(GeneratorColumn column)
+    @Override
+    public List<String> getValues()
+    {
+        Column[] columns = firstColumn.getTable().getColumns();
+        List<String> values = new ArrayList<>(columns.length);
+        for (Column column : columns) {
+            values.add(getString(column));
+        }
+        return values;
+    }
+
+    @Override
+    public List<String> getValues(Set<Column> projection)
+    {
+        Column[] columns = firstColumn.getTable().getColumns();
+        List<String> values = new ArrayList<>(columns.length);
+        for (Column column : columns) {
+            values.add(projection.contains(column) ? getString(column) : null);
+        }
+        return values;
+    }
+
+    @Override
+    public final String getString(Column column)
+    {
+        return isUnprojected(column) ? null : getStringValue(column);
+    }
+
+    @Override
+    public final boolean isNull(Column column)
+    {
+        return isUnprojected(column) || isNullValue(column);
+    }
+
+    @Override
+    public final long getLong(Column column)
+    {
+        checkState(!isUnprojected(column), "Column %s is outside the projection of the session", column.getName());
+        return getLongValue(column);
+    }
+
+    public Table getTable()
+    {
+        return firstColumn.getTable();
+    }
+
+    public void setUnprojectedColumns(long unprojectedColumns)
+    {
+        this.unprojectedColumns = unprojectedColumns;
+    }
+
+    // A bit per column position for the columns of the table outside the projection of the
+    // session, for setUnprojectedColumns()
+    public static long getUnprojectedColumns(Table table, Session session)
+    {
+        Column[] columns = table.getColumns();
+        checkArgument(columns.length <= Long.SIZE, "Table %s has more than %s columns", table.getName(), Long.SIZE);
+        long unprojectedColumns = 0;
+        for (Column column : columns) {
+            if (!session.isProjected(column)) {
+                unprojectedColumns |= 1L << column.getPosition();
+            }
+        }
+        return unprojectedColumns;
+    }
+
+    protected abstract String getStringValue(Column column);
+
+    protected abstract boolean isNullValue(Column column);
+
+    protected abstract long getLongValue(Column column);
+
+    protected final void setNullBitMap(long nullBitMap)
+    {
+        this.nullBitMap = nullBitMap;
+    }
+
+    private boolean isUnprojected(Column column)
+    {
+        return (unprojectedColumns & (1L << column.getPosition())) != 0;
+    }
+
+    protected boolean isNull(GeneratorColumn column)
     {
         long kBitMask = 1L << (column.getGlobalColumnNumber() - firstColumn.getGlobalColumnNumber());
         return (nullBitMap & kBitMask) != 0;
     }
 
+    protected boolean isNullForKey(long value, GeneratorColumn column)
+    {
+        return isNull(column) || value == -1;
+    }
+
+    protected boolean isNullForJulianDays(long value, GeneratorColumn column)
+    {
+        return isNull(column) || value < 0;
+    }
+
+    protected static long getUnscaled(Decimal value, Column column)
+    {
+        return rescale(value.getNumber(), value.getPrecision(), column);
+    }
+
+    protected static long getUnscaled(int value, Column column)
+    {
+        return rescale(value, 0, column);
+    }
+
+    protected static IllegalArgumentException notFixedWidth(Column column)
+    {
+        return new IllegalArgumentException(format("Column %s is not a numeric, date or time column", column.getName()));
+    }
+
+    // Decimal calls the number of fractional digits its precision
+    private static long rescale(long number, int fractionalDigits, Column column)
+    {
+        int scale = column.getType().getScale().get();
+        if (fractionalDigits > scale) {
+            throw new TpcdsException(format("Value of %s has more than %d fractional digits", column.getName(), scale));
+        }
+        for (int i = fractionalDigits; i < scale; i++) {
+            number *= 10;
+        }
+        return number;
+    }
+
     protected <T> String getStringOrNull(T value, GeneratorColumn column)
     {
         return isNull(column) ? null : value.toString();
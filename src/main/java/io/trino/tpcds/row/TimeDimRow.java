@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.TimeDimColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_AM_PM;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_HOUR;
 import static io.trino.tpcds.generator.TimeDimGeneratorColumn.T_MEAL_TIME;
@@ -58,17 +58,49 @@ public class TimeDimRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(tTimeSk, T_TIME_SK),
-                getStringOrNull(tTimeId, T_TIME_ID),
-                getStringOrNull(tTime, T_TIME),
-                getStringOrNull(tHour, T_HOUR),
-                getStringOrNull(tMinute, T_MINUTE),
-                getStringOrNull(tSecond, T_SECOND),
-                getStringOrNull(tAmPm, T_AM_PM),
-                getStringOrNull(tShift, T_SHIFT),
-                getStringOrNull(tSubShift, T_SUB_SHIFT),
-                getStringOrNull(tMealTime, T_MEAL_TIME));
+        return switch ((TimeDimColumn) column) {
+            case T_TIME_SK -> getStringOrNullForKey(tTimeSk, T_TIME_SK);
+            case T_TIME_ID -> getStringOrNull(tTimeId, T_TIME_ID);
+            case T_TIME -> getStringOrNull(tTime, T_TIME);
+            case T_HOUR -> getStringOrNull(tHour, T_HOUR);
+            case T_MINUTE -> getStringOrNull(tMinute, T_MINUTE);
+            case T_SECOND -> getStringOrNull(tSecond, T_SECOND);
+            case T_AM_PM -> getStringOrNull(tAmPm, T_AM_PM);
+            case T_SHIFT -> getStringOrNull(tShift, T_SHIFT);
+            case T_SUB_SHIFT -> getStringOrNull(tSubShift, T_SUB_SHIFT);
+            case T_MEAL_TIME -> getStringOrNull(tMealTime, T_MEAL_TIME);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((TimeDimColumn) column) {
+            case T_TIME_SK -> isNullForKey(tTimeSk, T_TIME_SK);
+            case T_TIME_ID -> isNull(T_TIME_ID);
+            case T_TIME -> isNull(T_TIME);
+            case T_HOUR -> isNull(T_HOUR);
+            case T_MINUTE -> isNull(T_MINUTE);
+            case T_SECOND -> isNull(T_SECOND);
+            case T_AM_PM -> isNull(T_AM_PM);
+            case T_SHIFT -> isNull(T_SHIFT);
+            case T_SUB_SHIFT -> isNull(T_SUB_SHIFT);
+            case T_MEAL_TIME -> isNull(T_MEAL_TIME);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((TimeDimColumn) column) {
+            case T_TIME_SK -> tTimeSk;
+            case T_TIME -> tTime;
+            case T_HOUR -> tHour;
+            case T_MINUTE -> tMinute;
+            case T_SECOND -> tSecond;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WarehouseColumn;
 import io.trino.tpcds.type.Address;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_CITY;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTY;
@@ -55,21 +54,55 @@ public class WarehouseRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((WarehouseColumn) column) {
+            case W_WAREHOUSE_SK -> getStringOrNullForKey(wWarehouseSk, W_WAREHOUSE_SK);
+            case W_WAREHOUSE_ID -> getStringOrNull(wWarehouseId, W_WAREHOUSE_ID);
+            case W_WAREHOUSE_NAME -> getStringOrNull(wWarehouseName, W_WAREHOUSE_NAME);
+            case W_WAREHOUSE_SQ_FT -> getStringOrNull(wWarehouseSqFt, W_WAREHOUSE_SQ_FT);
+            case W_STREET_NUMBER -> getStringOrNull(wAddress.getStreetNumber(), W_ADDRESS_STREET_NUM);
+            case W_STREET_NAME -> getStringOrNull(wAddress.getStreetName(), W_ADDRESS_STREET_NAME1);
+            case W_STREET_TYPE -> getStringOrNull(wAddress.getStreetType(), W_ADDRESS_STREET_TYPE);
+            case W_SUITE_NUMBER -> getStringOrNull(wAddress.getSuiteNumber(), W_ADDRESS_SUITE_NUM);
+            case W_CITY -> getStringOrNull(wAddress.getCity(), W_ADDRESS_CITY);
+            case W_COUNTY -> getStringOrNull(wAddress.getCounty(), W_ADDRESS_COUNTY);
+            case W_STATE -> getStringOrNull(wAddress.getState(), W_ADDRESS_STATE);
+            case W_ZIP -> getStringOrNull(format("%05d", wAddress.getZip()), W_ADDRESS_ZIP);
+            case W_COUNTRY -> getStringOrNull(wAddress.getCountry(), W_ADDRESS_COUNTRY);
+            case W_GMT_OFFSET -> getStringOrNull(wAddress.getGmtOffset(), W_ADDRESS_GMT_OFFSET);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((WarehouseColumn) column) {
+            case W_WAREHOUSE_SK -> isNullForKey(wWarehouseSk, W_WAREHOUSE_SK);
+            case W_WAREHOUSE_ID -> isNull(W_WAREHOUSE_ID);
+            case W_WAREHOUSE_NAME -> isNull(W_WAREHOUSE_NAME);
+            case W_WAREHOUSE_SQ_FT -> isNull(W_WAREHOUSE_SQ_FT);
+            case W_STREET_NUMBER -> isNull(W_ADDRESS_STREET_NUM);
+            case W_STREET_NAME -> isNull(W_ADDRESS_STREET_NAME1);
+            case W_STREET_TYPE -> isNull(W_ADDRESS_STREET_TYPE);
+            case W_SUITE_NUMBER -> isNull(W_ADDRESS_SUITE_NUM);
+            case W_CITY -> isNull(W_ADDRESS_CITY);
+            case W_COUNTY -> isNull(W_ADDRESS_COUNTY);
+            case W_STATE -> isNull(W_ADDRESS_STATE);
+            case W_ZIP -> isNull(W_ADDRESS_ZIP);
+            case W_COUNTRY -> isNull(W_ADDRESS_COUNTRY);
+            case W_GMT_OFFSET -> isNull(W_ADDRESS_GMT_OFFSET);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(wWarehouseSk, W_WAREHOUSE_SK),
-                getStringOrNull(wWarehouseId, W_WAREHOUSE_ID),
-                getStringOrNull(wWarehouseName, W_WAREHOUSE_NAME),
-                getStringOrNull(wWarehouseSqFt, W_WAREHOUSE_SQ_FT),
-                getStringOrNull(wAddress.getStreetNumber(), W_ADDRESS_STREET_NUM),
-                getStringOrNull(wAddress.getStreetName(), W_ADDRESS_STREET_NAME1),
-                getStringOrNull(wAddress.getStreetType(), W_ADDRESS_STREET_TYPE),
-                getStringOrNull(wAddress.getSuiteNumber(), W_ADDRESS_SUITE_NUM),
-                getStringOrNull(wAddress.getCity(), W_ADDRESS_CITY),
-                getStringOrNull(wAddress.getCounty(), W_ADDRESS_COUNTY),
-                getStringOrNull(wAddress.getState(), W_ADDRESS_STATE),
-                getStringOrNull(format("%05d", wAddress.getZip()), W_ADDRESS_ZIP),
-                getStringOrNull(wAddress.getCountry(), W_ADDRESS_COUNTRY),
-                getStringOrNull(wAddress.getGmtOffset(), W_ADDRESS_GMT_OFFSET));
+        return switch ((WarehouseColumn) column) {
+            case W_WAREHOUSE_SK -> wWarehouseSk;
+            case W_WAREHOUSE_SQ_FT -> wWarehouseSqFt;
+            case W_GMT_OFFSET -> getUnscaled(wAddress.getGmtOffset(), column);
+            default -> throw notFixedWidth(column);
+        };
     }
 }
@@ -14,9 +14,9 @@
 
 package io.trino.tpcds.row;
 
-import java.util.List;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebPageColumn;
 
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_ACCESS_DATE_SK;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_AUTOGEN_FLAG;
 import static io.trino.tpcds.generator.WebPageGeneratorColumn.WP_CHAR_COUNT;
@@ -124,21 +124,62 @@ public class WebPageRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(wpPageSk, WP_PAGE_SK),
-                getStringOrNull(wpPageId, WP_PAGE_ID),
-                getDateStringOrNullFromJulianDays(wpRecStartDateId, WP_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(wpRecEndDateId, WP_REC_END_DATE_ID),
-                getStringOrNullForKey(wpCreationDateSk, WP_CREATION_DATE_SK),
-                getStringOrNullForKey(wpAccessDateSk, WP_ACCESS_DATE_SK),
-                getStringOrNullForBoolean(wpAutogenFlag, WP_AUTOGEN_FLAG),
-                getStringOrNullForKey(wpCustomerSk, WP_CUSTOMER_SK),
-                getStringOrNull(wpUrl, WP_URL),
-                getStringOrNull(wpType, WP_TYPE),
-                getStringOrNull(wpCharCount, WP_CHAR_COUNT),
-                getStringOrNull(wpLinkCount, WP_LINK_COUNT),
-                getStringOrNull(wpImageCount, WP_IMAGE_COUNT),
-                getStringOrNull(wpMaxAdCount, WP_MAX_AD_COUNT));
+        return switch ((WebPageColumn) column) {
+            case WP_WEB_PAGE_SK -> getStringOrNullForKey(wpPageSk, WP_PAGE_SK);
+            case WP_WEB_PAGE_ID -> getStringOrNull(wpPageId, WP_PAGE_ID);
+            case WP_REC_START_DATE -> getDateStringOrNullFromJulianDays(wpRecStartDateId, WP_REC_START_DATE_ID);
+            case WP_REC_END_DATE -> getDateStringOrNullFromJulianDays(wpRecEndDateId, WP_REC_END_DATE_ID);
+            case WP_CREATION_DATE_SK -> getStringOrNullForKey(wpCreationDateSk, WP_CREATION_DATE_SK);
+            case WP_ACCESS_DATE_SK -> getStringOrNullForKey(wpAccessDateSk, WP_ACCESS_DATE_SK);
+            case WP_AUTOGEN_FLAG -> getStringOrNullForBoolean(wpAutogenFlag, WP_AUTOGEN_FLAG);
+            case WP_CUSTOMER_SK -> getStringOrNullForKey(wpCustomerSk, WP_CUSTOMER_SK);
+            case WP_URL -> getStringOrNull(wpUrl, WP_URL);
+            case WP_TYPE -> getStringOrNull(wpType, WP_TYPE);
+            case WP_CHAR_COUNT -> getStringOrNull(wpCharCount, WP_CHAR_COUNT);
+            case WP_LINK_COUNT -> getStringOrNull(wpLinkCount, WP_LINK_COUNT);
+            case WP_IMAGE_COUNT -> getStringOrNull(wpImageCount, WP_IMAGE_COUNT);
+            case WP_MAX_AD_COUNT -> getStringOrNull(wpMaxAdCount, WP_MAX_AD_COUNT);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((WebPageColumn) column) {
+            case WP_WEB_PAGE_SK -> isNullForKey(wpPageSk, WP_PAGE_SK);
+            case WP_WEB_PAGE_ID -> isNull(WP_PAGE_ID);
+            case WP_REC_START_DATE -> isNullForJulianDays(wpRecStartDateId, WP_REC_START_DATE_ID);
+            case WP_REC_END_DATE -> isNullForJulianDays(wpRecEndDateId, WP_REC_END_DATE_ID);
+            case WP_CREATION_DATE_SK -> isNullForKey(wpCreationDateSk, WP_CREATION_DATE_SK);
+            case WP_ACCESS_DATE_SK -> isNullForKey(wpAccessDateSk, WP_ACCESS_DATE_SK);
+            case WP_AUTOGEN_FLAG -> isNull(WP_AUTOGEN_FLAG);
+            case WP_CUSTOMER_SK -> isNullForKey(wpCustomerSk, WP_CUSTOMER_SK);
+            case WP_URL -> isNull(WP_URL);
+            case WP_TYPE -> isNull(WP_TYPE);
+            case WP_CHAR_COUNT -> isNull(WP_CHAR_COUNT);
+            case WP_LINK_COUNT -> isNull(WP_LINK_COUNT);
+            case WP_IMAGE_COUNT -> isNull(WP_IMAGE_COUNT);
+            case WP_MAX_AD_COUNT -> isNull(WP_MAX_AD_COUNT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((WebPageColumn) column) {
+            case WP_WEB_PAGE_SK -> wpPageSk;
+            case WP_REC_START_DATE -> wpRecStartDateId;
+            case WP_REC_END_DATE -> wpRecEndDateId;
+            case WP_CREATION_DATE_SK -> wpCreationDateSk;
+            case WP_ACCESS_DATE_SK -> wpAccessDateSk;
+            case WP_CUSTOMER_SK -> wpCustomerSk;
+            case WP_CHAR_COUNT -> wpCharCount;
+            case WP_LINK_COUNT -> wpLinkCount;
+            case WP_IMAGE_COUNT -> wpImageCount;
+            case WP_MAX_AD_COUNT -> wpMaxAdCount;
+            default -> throw notFixedWidth(column);
+        };
     }
 }
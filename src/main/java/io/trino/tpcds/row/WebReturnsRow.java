@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebReturnsColumn;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_ITEM_SK;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_ORDER_NUMBER;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_PRICING_EXT_SHIP_COST;
@@ -47,21 +46,27 @@ import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_WEB_PAGE_SK;
 public class WebReturnsRow
         extends TableRowWithNulls
 {
-    private final long wrReturnedDateSk;
-    private final long wrReturnedTimeSk;
-    private final long wrItemSk;
-    private final long wrRefundedCustomerSk;
-    private final long wrRefundedCdemoSk;
-    private final long wrRefundedHdemoSk;
-    private final long wrRefundedAddrSk;
-    private final long wrReturningCustomerSk;
-    private final long wrReturningCdemoSk;
-    private final long wrReturningHdemoSk;
-    private final long wrReturningAddrSk;
-    private final long wrWebPageSk;
-    private final long wrReasonSk;
-    private final long wrOrderNumber;
-    private final Pricing wrPricing;
+    private long wrReturnedDateSk;
+    private long wrReturnedTimeSk;
+    private long wrItemSk;
+    private long wrRefundedCustomerSk;
+    private long wrRefundedCdemoSk;
+    private long wrRefundedHdemoSk;
+    private long wrRefundedAddrSk;
+    private long wrReturningCustomerSk;
+    private long wrReturningCdemoSk;
+    private long wrReturningHdemoSk;
+    private long wrReturningAddrSk;
+    private long wrWebPageSk;
+    private long wrReasonSk;
+    private long wrOrderNumber;
+    private Pricing wrPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public WebReturnsRow()
+    {
+        super(0, WR_RETURNED_DATE_SK);
+    }
 
     public WebReturnsRow(long nullBitMap,
             long wrReturnedDateSk,
@@ -80,7 +85,28 @@ public class WebReturnsRow
             long wrOrderNumber,
             Pricing wrPricing)
     {
-        super(nullBitMap, WR_RETURNED_DATE_SK);
+        this();
+        set(nullBitMap, wrReturnedDateSk, wrReturnedTimeSk, wrItemSk, wrRefundedCustomerSk, wrRefundedCdemoSk, wrRefundedHdemoSk, wrRefundedAddrSk, wrReturningCustomerSk, wrReturningCgdemoSk, wrReturningHdemoSk, wrReturningAddrSk, wrWebPageSk, wrReasonSk, wrOrderNumber, wrPricing);
+    }
+
+    public final void set(long nullBitMap,
+            long wrReturnedDateSk,
+            long wrReturnedTimeSk,
+            long wrItemSk,
+            long wrRefundedCustomerSk,
+            long wrRefundedCdemoSk,
+            long wrRefundedHdemoSk,
+            long wrRefundedAddrSk,
+            long wrReturningCustomerSk,
+            long wrReturningCgdemoSk,
+            long wrReturningHdemoSk,
+            long wrReturningAddrSk,
+            long wrWebPageSk,
+            long wrReasonSk,
+            long wrOrderNumber,
+            Pricing wrPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.wrReturnedDateSk = wrReturnedDateSk;
         this.wrReturnedTimeSk = wrReturnedTimeSk;
         this.wrItemSk = wrItemSk;
@@ -99,31 +125,95 @@ public class WebReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((WebReturnsColumn) column) {
+            case WR_RETURNED_DATE_SK -> getStringOrNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK);
+            case WR_RETURNED_TIME_SK -> getStringOrNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK);
+            case WR_ITEM_SK -> getStringOrNullForKey(wrItemSk, WR_ITEM_SK);
+            case WR_REFUNDED_CUSTOMER_SK -> getStringOrNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK);
+            case WR_REFUNDED_CDEMO_SK -> getStringOrNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK);
+            case WR_REFUNDED_HDEMO_SK -> getStringOrNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK);
+            case WR_REFUNDED_ADDR_SK -> getStringOrNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK);
+            case WR_RETURNING_CUSTOMER_SK -> getStringOrNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK);
+            case WR_RETURNING_CDEMO_SK -> getStringOrNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK);
+            case WR_RETURNING_HDEMO_SK -> getStringOrNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK);
+            case WR_RETURNING_ADDR_SK -> getStringOrNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK);
+            case WR_WEB_PAGE_SK -> getStringOrNullForKey(wrWebPageSk, WR_WEB_PAGE_SK);
+            case WR_REASON_SK -> getStringOrNullForKey(wrReasonSk, WR_REASON_SK);
+            case WR_ORDER_NUMBER -> getStringOrNullForKey(wrOrderNumber, WR_ORDER_NUMBER);
+            case WR_RETURN_QUANTITY -> getStringOrNull(wrPricing.getQuantity(), WR_PRICING_QUANTITY);
+            case WR_RETURN_AMT -> getStringOrNull(wrPricing.getNetPaid(), WR_PRICING_NET_PAID);
+            case WR_RETURN_TAX -> getStringOrNull(wrPricing.getExtTax(), WR_PRICING_EXT_TAX);
+            case WR_RETURN_AMT_INC_TAX -> getStringOrNull(wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX);
+            case WR_FEE -> getStringOrNull(wrPricing.getFee(), WR_PRICING_FEE);
+            case WR_RETURN_SHIP_COST -> getStringOrNull(wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST);
+            case WR_REFUNDED_CASH -> getStringOrNull(wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH);
+            case WR_REVERSED_CHARGE -> getStringOrNull(wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE);
+            case WR_ACCOUNT_CREDIT -> getStringOrNull(wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT);
+            case WR_NET_LOSS -> getStringOrNull(wrPricing.getNetLoss(), WR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((WebReturnsColumn) column) {
+            case WR_RETURNED_DATE_SK -> isNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK);
+            case WR_RETURNED_TIME_SK -> isNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK);
+            case WR_ITEM_SK -> isNullForKey(wrItemSk, WR_ITEM_SK);
+            case WR_REFUNDED_CUSTOMER_SK -> isNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK);
+            case WR_REFUNDED_CDEMO_SK -> isNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK);
+            case WR_REFUNDED_HDEMO_SK -> isNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK);
+            case WR_REFUNDED_ADDR_SK -> isNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK);
+            case WR_RETURNING_CUSTOMER_SK -> isNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK);
+            case WR_RETURNING_CDEMO_SK -> isNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK);
+            case WR_RETURNING_HDEMO_SK -> isNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK);
+            case WR_RETURNING_ADDR_SK -> isNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK);
+            case WR_WEB_PAGE_SK -> isNullForKey(wrWebPageSk, WR_WEB_PAGE_SK);
+            case WR_REASON_SK -> isNullForKey(wrReasonSk, WR_REASON_SK);
+            case WR_ORDER_NUMBER -> isNullForKey(wrOrderNumber, WR_ORDER_NUMBER);
+            case WR_RETURN_QUANTITY -> isNull(WR_PRICING_QUANTITY);
+            case WR_RETURN_AMT -> isNull(WR_PRICING_NET_PAID);
+            case WR_RETURN_TAX -> isNull(WR_PRICING_EXT_TAX);
+            case WR_RETURN_AMT_INC_TAX -> isNull(WR_PRICING_NET_PAID_INC_TAX);
+            case WR_FEE -> isNull(WR_PRICING_FEE);
+            case WR_RETURN_SHIP_COST -> isNull(WR_PRICING_EXT_SHIP_COST);
+            case WR_REFUNDED_CASH -> isNull(WR_PRICING_REFUNDED_CASH);
+            case WR_REVERSED_CHARGE -> isNull(WR_PRICING_REVERSED_CHARGE);
+            case WR_ACCOUNT_CREDIT -> isNull(WR_PRICING_STORE_CREDIT);
+            case WR_NET_LOSS -> isNull(WR_PRICING_NET_LOSS);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK),
-                getStringOrNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK),
-                getStringOrNullForKey(wrItemSk, WR_ITEM_SK),
-                getStringOrNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(wrWebPageSk, WR_WEB_PAGE_SK),
-                getStringOrNullForKey(wrReasonSk, WR_REASON_SK),
-                getStringOrNullForKey(wrOrderNumber, WR_ORDER_NUMBER),
-                getStringOrNull(wrPricing.getQuantity(), WR_PRICING_QUANTITY),
-                getStringOrNull(wrPricing.getNetPaid(), WR_PRICING_NET_PAID),
-                getStringOrNull(wrPricing.getExtTax(), WR_PRICING_EXT_TAX),
-                getStringOrNull(wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wrPricing.getFee(), WR_PRICING_FEE),
-                getStringOrNull(wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH),
-                getStringOrNull(wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT),
-                getStringOrNull(wrPricing.getNetLoss(), WR_PRICING_NET_LOSS));
+        return switch ((WebReturnsColumn) column) {
+            case WR_RETURNED_DATE_SK -> wrReturnedDateSk;
+            case WR_RETURNED_TIME_SK -> wrReturnedTimeSk;
+            case WR_ITEM_SK -> wrItemSk;
+            case WR_REFUNDED_CUSTOMER_SK -> wrRefundedCustomerSk;
+            case WR_REFUNDED_CDEMO_SK -> wrRefundedCdemoSk;
+            case WR_REFUNDED_HDEMO_SK -> wrRefundedHdemoSk;
+            case WR_REFUNDED_ADDR_SK -> wrRefundedAddrSk;
+            case WR_RETURNING_CUSTOMER_SK -> wrReturningCustomerSk;
+            case WR_RETURNING_CDEMO_SK -> wrReturningCdemoSk;
+            case WR_RETURNING_HDEMO_SK -> wrReturningHdemoSk;
+            case WR_RETURNING_ADDR_SK -> wrReturningAddrSk;
+            case WR_WEB_PAGE_SK -> wrWebPageSk;
+            case WR_REASON_SK -> wrReasonSk;
+            case WR_ORDER_NUMBER -> wrOrderNumber;
+            case WR_RETURN_QUANTITY -> wrPricing.getQuantity();
+            case WR_RETURN_AMT -> getUnscaled(wrPricing.getNetPaid(), column);
+            case WR_RETURN_TAX -> getUnscaled(wrPricing.getExtTax(), column);
+            case WR_RETURN_AMT_INC_TAX -> getUnscaled(wrPricing.getNetPaidIncludingTax(), column);
+            case WR_FEE -> getUnscaled(wrPricing.getFee(), column);
+            case WR_RETURN_SHIP_COST -> getUnscaled(wrPricing.getExtShipCost(), column);
+            case WR_REFUNDED_CASH -> getUnscaled(wrPricing.getRefundedCash(), column);
+            case WR_REVERSED_CHARGE -> getUnscaled(wrPricing.getReversedCharge(), column);
+            case WR_ACCOUNT_CREDIT -> getUnscaled(wrPricing.getStoreCredit(), column);
+            case WR_NET_LOSS -> getUnscaled(wrPricing.getNetLoss(), column);
+        };
     }
 }
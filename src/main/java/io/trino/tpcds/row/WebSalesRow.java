@@ -14,11 +14,10 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebSalesColumn;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CDEMO_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CUSTOMER_SK;
@@ -57,25 +56,31 @@ import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_WEB_SITE_SK;
 public class WebSalesRow
         extends TableRowWithNulls
 {
-    private final long wsSoldDateSk;
-    private final long wsSoldTimeSk;
-    private final long wsShipDateSk;
-    private final long wsItemSk;
-    private final long wsBillCustomerSk;
-    private final long wsBillCdemoSk;
-    private final long wsBillHdemoSk;
-    private final long wsBillAddrSk;
-    private final long wsShipCustomerSk;
-    private final long wsShipCdemoSk;
-    private final long wsShipHdemoSk;
-    private final long wsShipAddrSk;
-    private final long wsWebPageSk;
-    private final long wsWebSiteSk;
-    private final long wsShipModeSk;
-    private final long wsWarehouseSk;
-    private final long wsPromoSk;
-    private final long wsOrderNumber;
-    private final Pricing wsPricing;
+    private long wsSoldDateSk;
+    private long wsSoldTimeSk;
+    private long wsShipDateSk;
+    private long wsItemSk;
+    private long wsBillCustomerSk;
+    private long wsBillCdemoSk;
+    private long wsBillHdemoSk;
+    private long wsBillAddrSk;
+    private long wsShipCustomerSk;
+    private long wsShipCdemoSk;
+    private long wsShipHdemoSk;
+    private long wsShipAddrSk;
+    private long wsWebPageSk;
+    private long wsWebSiteSk;
+    private long wsShipModeSk;
+    private long wsWarehouseSk;
+    private long wsPromoSk;
+    private long wsOrderNumber;
+    private Pricing wsPricing;
+
+    // an empty row, filled by set() for every generated row when the session reuses rows
+    public WebSalesRow()
+    {
+        super(0, WS_SOLD_DATE_SK);
+    }
 
     public WebSalesRow(long nullBitMap,
             long wsSoldDateSk,
@@ -98,7 +103,32 @@ public class WebSalesRow
             long wsOrderNumber,
             Pricing wsPricing)
     {
-        super(nullBitMap, WS_SOLD_DATE_SK);
+        this();
+        set(nullBitMap, wsSoldDateSk, wsSoldTimeSk, wsShipDateSk, wsItemSk, wsBillCustomerSk, wsBillCdemoSk, wsBillHdemoSk, wsBillAddrSk, wsShipCustomerSk, wsShipCdemoSk, wsShipHdemoSk, wsShipAddrSk, wsWebPageSk, wsWebSiteSk, wsShipModeSk, wsWarehouseSk, wsPromoSk, wsOrderNumber, wsPricing);
+    }
+
+    public final void set(long nullBitMap,
+            long wsSoldDateSk,
+            long wsSoldTimeSk,
+            long wsShipDateSk,
+            long wsItemSk,
+            long wsBillCustomerSk,
+            long wsBillCdemoSk,
+            long wsBillHdemoSk,
+            long wsBillAddrSk,
+            long wsShipCustomerSk,
+            long wsShipCdemoSk,
+            long wsShipHdemoSk,
+            long wsShipAddrSk,
+            long wsWebPageSk,
+            long wsWebSiteSk,
+            long wsShipModeSk,
+            long wsWarehouseSk,
+            long wsPromoSk,
+            long wsOrderNumber,
+            Pricing wsPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.wsSoldDateSk = wsSoldDateSk;
         this.wsSoldTimeSk = wsSoldTimeSk;
         this.wsShipDateSk = wsShipDateSk;
@@ -166,41 +196,125 @@ public class WebSalesRow
     }
 
     @Override
-    public List<String> getValues()
+    protected String getStringValue(Column column)
+    {
+        return switch ((WebSalesColumn) column) {
+            case WS_SOLD_DATE_SK -> getStringOrNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK);
+            case WS_SOLD_TIME_SK -> getStringOrNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK);
+            case WS_SHIP_DATE_SK -> getStringOrNullForKey(wsShipDateSk, WS_SHIP_DATE_SK);
+            case WS_ITEM_SK -> getStringOrNullForKey(wsItemSk, WS_ITEM_SK);
+            case WS_BILL_CUSTOMER_SK -> getStringOrNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK);
+            case WS_BILL_CDEMO_SK -> getStringOrNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK);
+            case WS_BILL_HDEMO_SK -> getStringOrNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK);
+            case WS_BILL_ADDR_SK -> getStringOrNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK);
+            case WS_SHIP_CUSTOMER_SK -> getStringOrNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK);
+            case WS_SHIP_CDEMO_SK -> getStringOrNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK);
+            case WS_SHIP_HDEMO_SK -> getStringOrNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK);
+            case WS_SHIP_ADDR_SK -> getStringOrNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK);
+            case WS_WEB_PAGE_SK -> getStringOrNullForKey(wsWebPageSk, WS_WEB_PAGE_SK);
+            case WS_WEB_SITE_SK -> getStringOrNullForKey(wsWebSiteSk, WS_WEB_SITE_SK);
+            case WS_SHIP_MODE_SK -> getStringOrNullForKey(wsShipModeSk, WS_SHIP_MODE_SK);
+            case WS_WAREHOUSE_SK -> getStringOrNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK);
+            case WS_PROMO_SK -> getStringOrNullForKey(wsPromoSk, WS_PROMO_SK);
+            case WS_ORDER_NUMBER -> getStringOrNullForKey(wsOrderNumber, WS_ORDER_NUMBER);
+            case WS_QUANTITY -> getStringOrNull(wsPricing.getQuantity(), WS_PRICING_QUANTITY);
+            case WS_WHOLESALE_COST -> getStringOrNull(wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST);
+            case WS_LIST_PRICE -> getStringOrNull(wsPricing.getListPrice(), WS_PRICING_LIST_PRICE);
+            case WS_SALES_PRICE -> getStringOrNull(wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE);
+            case WS_EXT_DISCOUNT_AMT -> getStringOrNull(wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT);
+            case WS_EXT_SALES_PRICE -> getStringOrNull(wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE);
+            case WS_EXT_WHOLESALE_COST -> getStringOrNull(wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST);
+            case WS_EXT_LIST_PRICE -> getStringOrNull(wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE);
+            case WS_EXT_TAX -> getStringOrNull(wsPricing.getExtTax(), WS_PRICING_EXT_TAX);
+            case WS_COUPON_AMT -> getStringOrNull(wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT);
+            case WS_EXT_SHIP_COST -> getStringOrNull(wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST);
+            case WS_NET_PAID -> getStringOrNull(wsPricing.getNetPaid(), WS_PRICING_NET_PAID);
+            case WS_NET_PAID_INC_TAX -> getStringOrNull(wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX);
+            case WS_NET_PAID_INC_SHIP -> getStringOrNull(wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP);
+            case WS_NET_PAID_INC_SHIP_TAX -> getStringOrNull(wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case WS_NET_PROFIT -> getStringOrNull(wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((WebSalesColumn) column) {
+            case WS_SOLD_DATE_SK -> isNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK);
+            case WS_SOLD_TIME_SK -> isNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK);
+            case WS_SHIP_DATE_SK -> isNullForKey(wsShipDateSk, WS_SHIP_DATE_SK);
+            case WS_ITEM_SK -> isNullForKey(wsItemSk, WS_ITEM_SK);
+            case WS_BILL_CUSTOMER_SK -> isNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK);
+            case WS_BILL_CDEMO_SK -> isNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK);
+            case WS_BILL_HDEMO_SK -> isNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK);
+            case WS_BILL_ADDR_SK -> isNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK);
+            case WS_SHIP_CUSTOMER_SK -> isNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK);
+            case WS_SHIP_CDEMO_SK -> isNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK);
+            case WS_SHIP_HDEMO_SK -> isNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK);
+            case WS_SHIP_ADDR_SK -> isNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK);
+            case WS_WEB_PAGE_SK -> isNullForKey(wsWebPageSk, WS_WEB_PAGE_SK);
+            case WS_WEB_SITE_SK -> isNullForKey(wsWebSiteSk, WS_WEB_SITE_SK);
+            case WS_SHIP_MODE_SK -> isNullForKey(wsShipModeSk, WS_SHIP_MODE_SK);
+            case WS_WAREHOUSE_SK -> isNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK);
+            case WS_PROMO_SK -> isNullForKey(wsPromoSk, WS_PROMO_SK);
+            case WS_ORDER_NUMBER -> isNullForKey(wsOrderNumber, WS_ORDER_NUMBER);
+            case WS_QUANTITY -> isNull(WS_PRICING_QUANTITY);
+            case WS_WHOLESALE_COST -> isNull(WS_PRICING_WHOLESALE_COST);
+            case WS_LIST_PRICE -> isNull(WS_PRICING_LIST_PRICE);
+            case WS_SALES_PRICE -> isNull(WS_PRICING_SALES_PRICE);
+            case WS_EXT_DISCOUNT_AMT -> isNull(WS_PRICING_EXT_DISCOUNT_AMT);
+            case WS_EXT_SALES_PRICE -> isNull(WS_PRICING_EXT_SALES_PRICE);
+            case WS_EXT_WHOLESALE_COST -> isNull(WS_PRICING_EXT_WHOLESALE_COST);
+            case WS_EXT_LIST_PRICE -> isNull(WS_PRICING_EXT_LIST_PRICE);
+            case WS_EXT_TAX -> isNull(WS_PRICING_EXT_TAX);
+            case WS_COUPON_AMT -> isNull(WS_PRICING_COUPON_AMT);
+            case WS_EXT_SHIP_COST -> isNull(WS_PRICING_EXT_SHIP_COST);
+            case WS_NET_PAID -> isNull(WS_PRICING_NET_PAID);
+            case WS_NET_PAID_INC_TAX -> isNull(WS_PRICING_NET_PAID_INC_TAX);
+            case WS_NET_PAID_INC_SHIP -> isNull(WS_PRICING_NET_PAID_INC_SHIP);
+            case WS_NET_PAID_INC_SHIP_TAX -> isNull(WS_PRICING_NET_PAID_INC_SHIP_TAX);
+            case WS_NET_PROFIT -> isNull(WS_PRICING_NET_PROFIT);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
     {
-        return newArrayList(getStringOrNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK),
-                getStringOrNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK),
-                getStringOrNullForKey(wsShipDateSk, WS_SHIP_DATE_SK),
-                getStringOrNullForKey(wsItemSk, WS_ITEM_SK),
-                getStringOrNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK),
-                getStringOrNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK),
-                getStringOrNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK),
-                getStringOrNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK),
-                getStringOrNullForKey(wsWebPageSk, WS_WEB_PAGE_SK),
-                getStringOrNullForKey(wsWebSiteSk, WS_WEB_SITE_SK),
-                getStringOrNullForKey(wsShipModeSk, WS_SHIP_MODE_SK),
-                getStringOrNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK),
-                getStringOrNullForKey(wsPromoSk, WS_PROMO_SK),
-                getStringOrNullForKey(wsOrderNumber, WS_ORDER_NUMBER),
-                getStringOrNull(wsPricing.getQuantity(), WS_PRICING_QUANTITY),
-                getStringOrNull(wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getListPrice(), WS_PRICING_LIST_PRICE),
-                getStringOrNull(wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT),
-                getStringOrNull(wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(wsPricing.getExtTax(), WS_PRICING_EXT_TAX),
-                getStringOrNull(wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT),
-                getStringOrNull(wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wsPricing.getNetPaid(), WS_PRICING_NET_PAID),
-                getStringOrNull(wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT));
+        return switch ((WebSalesColumn) column) {
+            case WS_SOLD_DATE_SK -> wsSoldDateSk;
+            case WS_SOLD_TIME_SK -> wsSoldTimeSk;
+            case WS_SHIP_DATE_SK -> wsShipDateSk;
+            case WS_ITEM_SK -> wsItemSk;
+            case WS_BILL_CUSTOMER_SK -> wsBillCustomerSk;
+            case WS_BILL_CDEMO_SK -> wsBillCdemoSk;
+            case WS_BILL_HDEMO_SK -> wsBillHdemoSk;
+            case WS_BILL_ADDR_SK -> wsBillAddrSk;
+            case WS_SHIP_CUSTOMER_SK -> wsShipCustomerSk;
+            case WS_SHIP_CDEMO_SK -> wsShipCdemoSk;
+            case WS_SHIP_HDEMO_SK -> wsShipHdemoSk;
+            case WS_SHIP_ADDR_SK -> wsShipAddrSk;
+            case WS_WEB_PAGE_SK -> wsWebPageSk;
+            case WS_WEB_SITE_SK -> wsWebSiteSk;
+            case WS_SHIP_MODE_SK -> wsShipModeSk;
+            case WS_WAREHOUSE_SK -> wsWarehouseSk;
+            case WS_PROMO_SK -> wsPromoSk;
+            case WS_ORDER_NUMBER -> wsOrderNumber;
+            case WS_QUANTITY -> wsPricing.getQuantity();
+            case WS_WHOLESALE_COST -> getUnscaled(wsPricing.getWholesaleCost(), column);
+            case WS_LIST_PRICE -> getUnscaled(wsPricing.getListPrice(), column);
+            case WS_SALES_PRICE -> getUnscaled(wsPricing.getSalesPrice(), column);
+            case WS_EXT_DISCOUNT_AMT -> getUnscaled(wsPricing.getExtDiscountAmount(), column);
+            case WS_EXT_SALES_PRICE -> getUnscaled(wsPricing.getExtSalesPrice(), column);
+            case WS_EXT_WHOLESALE_COST -> getUnscaled(wsPricing.getExtWholesaleCost(), column);
+            case WS_EXT_LIST_PRICE -> getUnscaled(wsPricing.getExtListPrice(), column);
+            case WS_EXT_TAX -> getUnscaled(wsPricing.getExtTax(), column);
+            case WS_COUPON_AMT -> getUnscaled(wsPricing.getCouponAmount(), column);
+            case WS_EXT_SHIP_COST -> getUnscaled(wsPricing.getExtShipCost(), column);
+            case WS_NET_PAID -> getUnscaled(wsPricing.getNetPaid(), column);
+            case WS_NET_PAID_INC_TAX -> getUnscaled(wsPricing.getNetPaidIncludingTax(), column);
+            case WS_NET_PAID_INC_SHIP -> getUnscaled(wsPricing.getNetPaidIncludingShipping(), column);
+            case WS_NET_PAID_INC_SHIP_TAX -> getUnscaled(wsPricing.getNetPaidIncludingShippingAndTax(), column);
+            case WS_NET_PROFIT -> getUnscaled(wsPricing.getNetProfit(), column);
+        };
     }
 }
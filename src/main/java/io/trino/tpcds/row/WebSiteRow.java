@@ -14,12 +14,11 @@
 
 package io.trino.tpcds.row;
 
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.WebSiteColumn;
 import io.trino.tpcds.type.Address;
 import io.trino.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_CITY;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTRY;
 import static io.trino.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTY;
@@ -174,33 +173,85 @@ public class WebSiteRow
     }
 
     @Override
-    public List<String> getValues()
-    {
-        return newArrayList(getStringOrNullForKey(webSiteSk, WEB_SITE_SK),
-                getStringOrNull(webSiteId, WEB_SITE_ID),
-                getDateStringOrNullFromJulianDays(webRecStartDateId, WEB_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(webRecEndDateId, WEB_REC_END_DATE_ID),
-                getStringOrNull(webName, WEB_NAME),
-                getStringOrNullForKey(webOpenDate, WEB_OPEN_DATE),
-                getStringOrNullForKey(webCloseDate, WEB_CLOSE_DATE),
-                getStringOrNull(webClass, WEB_CLASS),
-                getStringOrNull(webManager, WEB_MANAGER),
-                getStringOrNull(webMarketId, WEB_MARKET_ID),
-                getStringOrNull(webMarketClass, WEB_MARKET_CLASS),
-                getStringOrNull(webMarketDesc, WEB_MARKET_DESC),
-                getStringOrNull(webMarketManager, WEB_MARKET_MANAGER),
-                getStringOrNull(webCompanyId, WEB_COMPANY_ID),
-                getStringOrNull(webCompanyName, WEB_COMPANY_NAME),
-                getStringOrNull(webAddress.getStreetNumber(), WEB_ADDRESS_STREET_NUM),
-                getStringOrNull(webAddress.getStreetName(), WEB_ADDRESS_STREET_NAME1),
-                getStringOrNull(webAddress.getStreetType(), WEB_ADDRESS_STREET_TYPE),
-                getStringOrNull(webAddress.getSuiteNumber(), WEB_ADDRESS_SUITE_NUM),
-                getStringOrNull(webAddress.getCity(), WEB_ADDRESS_CITY),
-                getStringOrNull(webAddress.getCounty(), WEB_ADDRESS_COUNTY),
-                getStringOrNull(webAddress.getState(), WEB_ADDRESS_STATE),
-                getStringOrNull(format("%05d", webAddress.getZip()), WEB_ADDRESS_ZIP),
-                getStringOrNull(webAddress.getCountry(), WEB_ADDRESS_COUNTRY),
-                getStringOrNull(webAddress.getGmtOffset(), WEB_ADDRESS_GMT_OFFSET),
-                getStringOrNull(webTaxPercentage, WEB_TAX_PERCENTAGE));
+    protected String getStringValue(Column column)
+    {
+        return switch ((WebSiteColumn) column) {
+            case WEB_SITE_SK -> getStringOrNullForKey(webSiteSk, WEB_SITE_SK);
+            case WEB_SITE_ID -> getStringOrNull(webSiteId, WEB_SITE_ID);
+            case WEB_REC_START_DATE -> getDateStringOrNullFromJulianDays(webRecStartDateId, WEB_REC_START_DATE_ID);
+            case WEB_REC_END_DATE -> getDateStringOrNullFromJulianDays(webRecEndDateId, WEB_REC_END_DATE_ID);
+            case WEB_NAME -> getStringOrNull(webName, WEB_NAME);
+            case WEB_OPEN_DATE_SK -> getStringOrNullForKey(webOpenDate, WEB_OPEN_DATE);
+            case WEB_CLOSE_DATE_SK -> getStringOrNullForKey(webCloseDate, WEB_CLOSE_DATE);
+            case WEB_CLASS -> getStringOrNull(webClass, WEB_CLASS);
+            case WEB_MANAGER -> getStringOrNull(webManager, WEB_MANAGER);
+            case WEB_MKT_ID -> getStringOrNull(webMarketId, WEB_MARKET_ID);
+            case WEB_MKT_CLASS -> getStringOrNull(webMarketClass, WEB_MARKET_CLASS);
+            case WEB_MKT_DESC -> getStringOrNull(webMarketDesc, WEB_MARKET_DESC);
+            case WEB_MARKET_MANAGER -> getStringOrNull(webMarketManager, WEB_MARKET_MANAGER);
+            case WEB_COMPANY_ID -> getStringOrNull(webCompanyId, WEB_COMPANY_ID);
+            case WEB_COMPANY_NAME -> getStringOrNull(webCompanyName, WEB_COMPANY_NAME);
+            case WEB_STREET_NUMBER -> getStringOrNull(webAddress.getStreetNumber(), WEB_ADDRESS_STREET_NUM);
+            case WEB_STREET_NAME -> getStringOrNull(webAddress.getStreetName(), WEB_ADDRESS_STREET_NAME1);
+            case WEB_STREET_TYPE -> getStringOrNull(webAddress.getStreetType(), WEB_ADDRESS_STREET_TYPE);
+            case WEB_SUITE_NUMBER -> getStringOrNull(webAddress.getSuiteNumber(), WEB_ADDRESS_SUITE_NUM);
+            case WEB_CITY -> getStringOrNull(webAddress.getCity(), WEB_ADDRESS_CITY);
+            case WEB_COUNTY -> getStringOrNull(webAddress.getCounty(), WEB_ADDRESS_COUNTY);
+            case WEB_STATE -> getStringOrNull(webAddress.getState(), WEB_ADDRESS_STATE);
+            case WEB_ZIP -> getStringOrNull(format("%05d", webAddress.getZip()), WEB_ADDRESS_ZIP);
+            case WEB_COUNTRY -> getStringOrNull(webAddress.getCountry(), WEB_ADDRESS_COUNTRY);
+            case WEB_GMT_OFFSET -> getStringOrNull(webAddress.getGmtOffset(), WEB_ADDRESS_GMT_OFFSET);
+            case WEB_TAX_PERCENTAGE -> getStringOrNull(webTaxPercentage, WEB_TAX_PERCENTAGE);
+        };
+    }
+
+    @Override
+    protected boolean isNullValue(Column column)
+    {
+        return switch ((WebSiteColumn) column) {
+            case WEB_SITE_SK -> isNullForKey(webSiteSk, WEB_SITE_SK);
+            case WEB_SITE_ID -> isNull(WEB_SITE_ID);
+            case WEB_REC_START_DATE -> isNullForJulianDays(webRecStartDateId, WEB_REC_START_DATE_ID);
+            case WEB_REC_END_DATE -> isNullForJulianDays(webRecEndDateId, WEB_REC_END_DATE_ID);
+            case WEB_NAME -> isNull(WEB_NAME);
+            case WEB_OPEN_DATE_SK -> isNullForKey(webOpenDate, WEB_OPEN_DATE);
+            case WEB_CLOSE_DATE_SK -> isNullForKey(webCloseDate, WEB_CLOSE_DATE);
+            case WEB_CLASS -> isNull(WEB_CLASS);
+            case WEB_MANAGER -> isNull(WEB_MANAGER);
+            case WEB_MKT_ID -> isNull(WEB_MARKET_ID);
+            case WEB_MKT_CLASS -> isNull(WEB_MARKET_CLASS);
+            case WEB_MKT_DESC -> isNull(WEB_MARKET_DESC);
+            case WEB_MARKET_MANAGER -> isNull(WEB_MARKET_MANAGER);
+            case WEB_COMPANY_ID -> isNull(WEB_COMPANY_ID);
+            case WEB_COMPANY_NAME -> isNull(WEB_COMPANY_NAME);
+            case WEB_STREET_NUMBER -> isNull(WEB_ADDRESS_STREET_NUM);
+            case WEB_STREET_NAME -> isNull(WEB_ADDRESS_STREET_NAME1);
+            case WEB_STREET_TYPE -> isNull(WEB_ADDRESS_STREET_TYPE);
+            case WEB_SUITE_NUMBER -> isNull(WEB_ADDRESS_SUITE_NUM);
+            case WEB_CITY -> isNull(WEB_ADDRESS_CITY);
+            case WEB_COUNTY -> isNull(WEB_ADDRESS_COUNTY);
+            case WEB_STATE -> isNull(WEB_ADDRESS_STATE);
+            case WEB_ZIP -> isNull(WEB_ADDRESS_ZIP);
+            case WEB_COUNTRY -> isNull(WEB_ADDRESS_COUNTRY);
+            case WEB_GMT_OFFSET -> isNull(WEB_ADDRESS_GMT_OFFSET);
+            case WEB_TAX_PERCENTAGE -> isNull(WEB_TAX_PERCENTAGE);
+        };
+    }
+
+    @Override
+    protected long getLongValue(Column column)
+    {
+        return switch ((WebSiteColumn) column) {
+            case WEB_SITE_SK -> webSiteSk;
+            case WEB_REC_START_DATE -> webRecStartDateId;
+            case WEB_REC_END_DATE -> webRecEndDateId;
+            case WEB_OPEN_DATE_SK -> webOpenDate;
+            case WEB_CLOSE_DATE_SK -> webCloseDate;
+            case WEB_MKT_ID -> webMarketId;
+            case WEB_COMPANY_ID -> webCompanyId;
+            case WEB_GMT_OFFSET -> getUnscaled(webAddress.getGmtOffset(), column);
+            case WEB_TAX_PERCENTAGE -> getUnscaled(webTaxPercentage, column);
+            default -> throw notFixedWidth(column);
+        };
     }
 }
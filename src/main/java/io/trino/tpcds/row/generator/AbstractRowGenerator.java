@@ -15,20 +15,31 @@
 package io.trino.tpcds.row.generator;
 
 import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.Session;
 import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.generator.GeneratorColumn;
 import io.trino.tpcds.random.RandomNumberStream;
 import io.trino.tpcds.random.RandomNumberStreamImpl;
+import io.trino.tpcds.row.TableRow;
 
-import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import java.util.ArrayList;
+import java.util.List;
 
 public abstract class AbstractRowGenerator
         implements RowGenerator
 {
+    private final Table table;
     private final ImmutableMap<GeneratorColumn, RandomNumberStream> randomNumberStreamMap;
 
+    // handed out for every row when the session reuses rows
+    private final List<TableRow> reusedRows = new ArrayList<>(2);
+    private final RowGeneratorResult reusedResult = new RowGeneratorResult(reusedRows, false);
+    private final RowGeneratorResult reusedEndOfRowResult = new RowGeneratorResult(reusedRows, true);
+
     public AbstractRowGenerator(Table table)
     {
+        this.table = table;
         ImmutableMap.Builder<GeneratorColumn, RandomNumberStream> mapBuilder = ImmutableMap.builder();
         for (GeneratorColumn column : table.getGeneratorColumns()) {
             mapBuilder.put(column, new RandomNumberStreamImpl(column.getGlobalColumnNumber(), column.getSeedsPerRow()));
@@ -40,8 +51,11 @@ public abstract class AbstractRowGenerator
     public void consumeRemainingSeedsForRow()
     {
         for (RandomNumberStream randomNumberStream : randomNumberStreamMap.values()) {
-            while (randomNumberStream.getSeedsUsed() < randomNumberStream.getSeedsPerRow()) {
-                generateUniformRandomInt(1, 100, randomNumberStream);
+            // jump over the unused seeds of the row, which includes all of them for the
+            // columns a projection left out
+            int remainingSeeds = randomNumberStream.getSeedsPerRow() - randomNumberStream.getSeedsUsed();
+            if (remainingSeeds > 0) {
+                randomNumberStream.skipSeeds(remainingSeeds);
             }
             randomNumberStream.resetSeedsUsed();
         }
@@ -58,4 +72,43 @@ public abstract class AbstractRowGenerator
     {
         return randomNumberStreamMap.get(column);
     }
+
+    // Whether any of the columns is read from the rows, so its value has to be generated. A
+    // table whose child rows are generated as well computes every column, because the child
+    // rows are derived from its values. Skipping a column is only safe when its random number
+    // stream is not used by any other column.
+    protected boolean isProjected(Session session, Column... columns)
+    {
+        if (session.getProjection().isEmpty()) {
+            return true;
+        }
+        if (table.hasChild() && (!session.generateOnlyOneTable() || session.getOnlyTableToGenerate() != table)) {
+            return true;
+        }
+        for (Column column : columns) {
+            if (session.isProjected(column)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The list to collect the rows generated for one row number in. When the session reuses rows,
+    // this is the same list every time, so the rows of the previous call are gone.
+    protected List<TableRow> createRowList(Session session)
+    {
+        if (session.shouldReuseRows()) {
+            reusedRows.clear();
+            return reusedRows;
+        }
+        return new ArrayList<>(2);
+    }
+
+    protected RowGeneratorResult createResult(Session session, List<TableRow> rows, boolean shouldEndRow)
+    {
+        if (session.shouldReuseRows() && rows == reusedRows) {
+            return shouldEndRow ? reusedEndOfRowResult : reusedResult;
+        }
+        return new RowGeneratorResult(rows, shouldEndRow);
+    }
 }
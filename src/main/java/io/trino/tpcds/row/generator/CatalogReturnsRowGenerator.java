@@ -14,14 +14,16 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.CatalogReturnsRow;
 import io.trino.tpcds.row.CatalogSalesRow;
 import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
 import static io.trino.tpcds.Nulls.createNullBitMap;
 import static io.trino.tpcds.Table.CATALOG_RETURNS;
@@ -34,6 +36,16 @@ import static io.trino.tpcds.Table.REASON;
 import static io.trino.tpcds.Table.SHIP_MODE;
 import static io.trino.tpcds.Table.TIME_DIM;
 import static io.trino.tpcds.Table.WAREHOUSE;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_FEE;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_NET_LOSS;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_REFUNDED_CASH;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURN_AMOUNT;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURN_AMT_INC_TAX;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURN_QUANTITY;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURN_SHIP_COST;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_RETURN_TAX;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_REVERSED_CHARGE;
+import static io.trino.tpcds.column.CatalogReturnsColumn.CR_STORE_CREDIT;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_NULLS;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_PRICING;
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_REASON_SK;
@@ -47,12 +59,16 @@ import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_SHIP_MOD
 import static io.trino.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WAREHOUSE_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class CatalogReturnsRowGenerator
         extends AbstractRowGenerator
 {
     public static final int RETURN_PERCENT = 10;
+    private static final Column[] PRICING_COLUMNS = {
+            CR_RETURN_QUANTITY, CR_RETURN_AMOUNT, CR_RETURN_TAX, CR_RETURN_AMT_INC_TAX, CR_FEE,
+            CR_RETURN_SHIP_COST, CR_REFUNDED_CASH, CR_REVERSED_CHARGE, CR_STORE_CREDIT, CR_NET_LOSS};
+
+    private final CatalogReturnsRow reusedRow = new CatalogReturnsRow();
 
     public CatalogReturnsRowGenerator()
     {
@@ -66,12 +82,12 @@ public class CatalogReturnsRowGenerator
         // already been purchased.  This method should only get called if we are generating the catalog_returns table
         // in isolation. Otherwise catalog_returns is generated during the generation of the catalog_sales table
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
+        List<TableRow> rows = createRowList(session);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
         }
+        // otherwise no return occurred for the given sale
+        return createResult(session, rows, salesAndReturnsResult.shouldEndRow());
     }
 
     public TableRow generateRow(Session session, CatalogSalesRow salesRow)
@@ -91,14 +107,19 @@ public class CatalogReturnsRowGenerator
             crReturningAddrSk = salesRow.getCsShipAddrSk();
         }
 
-        Pricing salesPricing = salesRow.getCsPricing();
-        int quantity = salesPricing.getQuantity();
-        if (salesRow.getCsPricing().getQuantity() != -1) {
-            quantity = generateUniformRandomInt(1, quantity, getRandomNumberStream(CR_PRICING));
+        // the pricing is only computed when one of its columns is read
+        Pricing crPricing = null;
+        if (isProjected(session, PRICING_COLUMNS)) {
+            Pricing salesPricing = salesRow.getCsPricing();
+            int quantity = salesPricing.getQuantity();
+            if (salesRow.getCsPricing().getQuantity() != -1) {
+                quantity = generateUniformRandomInt(1, quantity, getRandomNumberStream(CR_PRICING));
+            }
+            crPricing = generatePricingForReturnsTable(CR_PRICING, getRandomNumberStream(CR_PRICING), quantity, salesPricing);
         }
-        Pricing crPricing = generatePricingForReturnsTable(CR_PRICING, getRandomNumberStream(CR_PRICING), quantity, salesPricing);
 
-        return new CatalogReturnsRow(generateJoinKey(CR_RETURNED_DATE_SK, getRandomNumberStream(CR_RETURNED_DATE_SK), DATE_DIM, salesRow.getCsShipDateSk(), scaling), // items cannot be returned until  they are shipped
+        CatalogReturnsRow catalogReturnsRow = session.shouldReuseRows() ? reusedRow : new CatalogReturnsRow();
+        catalogReturnsRow.set(generateJoinKey(CR_RETURNED_DATE_SK, getRandomNumberStream(CR_RETURNED_DATE_SK), DATE_DIM, salesRow.getCsShipDateSk(), scaling), // items cannot be returned until  they are shipped
                 generateJoinKey(CR_RETURNED_TIME_SK, getRandomNumberStream(CR_RETURNED_TIME_SK), TIME_DIM, 1, scaling),
                 salesRow.getCsSoldItemSk(),
                 salesRow.getCsBillCustomerSk(),
@@ -117,5 +138,6 @@ public class CatalogReturnsRowGenerator
                 salesRow.getCsOrderNumber(),
                 crPricing,
                 nullBitMap);
+        return catalogReturnsRow;
     }
 }
@@ -17,6 +17,7 @@ package io.trino.tpcds.row.generator;
 import io.trino.tpcds.Parallel.DateNextIndexPair;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.CatalogSalesRow;
 import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.type.Decimal;
@@ -24,7 +25,6 @@ import io.trino.tpcds.type.Pricing;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
@@ -45,6 +45,22 @@ import static io.trino.tpcds.Table.PROMOTION;
 import static io.trino.tpcds.Table.SHIP_MODE;
 import static io.trino.tpcds.Table.TIME_DIM;
 import static io.trino.tpcds.Table.WAREHOUSE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_COUPON_AMT;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_DISCOUNT_AMT;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_LIST_PRICE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_SALES_PRICE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_SHIP_COST;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_TAX;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_EXT_WHOLESALE_COST;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_LIST_PRICE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_NET_PAID;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_NET_PAID_INC_SHIP;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_NET_PAID_INC_SHIP_TAX;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_NET_PAID_INC_TAX;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_NET_PROFIT;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_QUANTITY;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_SALES_PRICE;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_WHOLESALE_COST;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CR_IS_RETURNED;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CDEMO_SK;
@@ -80,6 +96,11 @@ public class CatalogSalesRowGenerator
     public static final int CS_MIN_SHIP_DELAY = 2;  // minimum days from order to ship
     public static final int CS_MAX_SHIP_DELAY = 90;  // maximum days from order to ship
     public static final int GIFT_PERCENTAGE = 10;
+    private static final Column[] PRICING_COLUMNS = {
+            CS_QUANTITY, CS_WHOLESALE_COST, CS_LIST_PRICE, CS_SALES_PRICE, CS_EXT_DISCOUNT_AMT,
+            CS_EXT_SALES_PRICE, CS_EXT_WHOLESALE_COST, CS_EXT_LIST_PRICE, CS_EXT_TAX, CS_COUPON_AMT,
+            CS_EXT_SHIP_COST, CS_NET_PAID, CS_NET_PAID_INC_TAX, CS_NET_PAID_INC_SHIP,
+            CS_NET_PAID_INC_SHIP_TAX, CS_NET_PROFIT};
 
     // These do not get set in the constructor because it needs session information,
     // which isn't available at construction time.
@@ -91,6 +112,8 @@ public class CatalogSalesRowGenerator
     private OrderInfo orderInfo = new OrderInfo(); // initialize with all zeros because one of the fields is used in generation of new orderInfos.
     private int ticketItemBase;
 
+    private final CatalogSalesRow reusedRow = new CatalogSalesRow();
+
     public CatalogSalesRowGenerator()
     {
         super(CATALOG_SALES);
@@ -136,9 +159,11 @@ public class CatalogSalesRowGenerator
         long csShipModeSk = generateJoinKey(CS_SHIP_MODE_SK, getRandomNumberStream(CS_SHIP_MODE_SK), SHIP_MODE, 1, scaling);
         long csWarehouseSk = generateJoinKey(CS_WAREHOUSE_SK, getRandomNumberStream(CS_WAREHOUSE_SK), WAREHOUSE, 1, scaling);
         long csPromoSk = generateJoinKey(CS_PROMO_SK, getRandomNumberStream(CS_PROMO_SK), PROMOTION, 1, scaling);
-        Pricing csPricing = generatePricingForSalesTable(CS_PRICING, getRandomNumberStream(CS_PRICING));
+        // the pricing is only computed when one of its columns is read
+        Pricing csPricing = isProjected(session, PRICING_COLUMNS) ? generatePricingForSalesTable(CS_PRICING, getRandomNumberStream(CS_PRICING)) : null;
 
-        CatalogSalesRow catalogSalesRow = new CatalogSalesRow(orderInfo.getCsSoldDateSk(),
+        CatalogSalesRow catalogSalesRow = session.shouldReuseRows() ? reusedRow : new CatalogSalesRow();
+        catalogSalesRow.set(orderInfo.getCsSoldDateSk(),
                 orderInfo.getCsSoldTimeSk(),
                 csShipDateSk,
                 orderInfo.getCsBillCustomerSk(),
@@ -159,7 +184,7 @@ public class CatalogSalesRowGenerator
                 csPricing,
                 nullBitMap);
 
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = createRowList(session);
         generatedRows.add(catalogSalesRow);
 
         // if the sale gets returned, generate a return row
@@ -170,7 +195,7 @@ public class CatalogSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+        return createResult(session, generatedRows, isLastRowInOrder());
     }
 
     private boolean isLastRowInOrder()
@@ -15,6 +15,8 @@
 package io.trino.tpcds.row.generator;
 
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.CustomerAddressColumn;
 import io.trino.tpcds.row.CustomerAddressRow;
 import io.trino.tpcds.type.Address;
 
@@ -31,6 +33,12 @@ import static io.trino.tpcds.type.Address.makeAddressForColumn;
 public class CustomerAddressRowGenerator
         extends AbstractRowGenerator
 {
+    private static final Column[] ADDRESS_COLUMNS = {
+            CustomerAddressColumn.CA_STREET_NUMBER, CustomerAddressColumn.CA_STREET_NAME, CustomerAddressColumn.CA_STREET_TYPE,
+            CustomerAddressColumn.CA_SUITE_NUMBER, CustomerAddressColumn.CA_CITY, CustomerAddressColumn.CA_COUNTY,
+            CustomerAddressColumn.CA_STATE, CustomerAddressColumn.CA_ZIP, CustomerAddressColumn.CA_COUNTRY,
+            CustomerAddressColumn.CA_GMT_OFFSET};
+
     public CustomerAddressRowGenerator()
     {
         super(CUSTOMER_ADDRESS);
@@ -41,9 +49,10 @@ public class CustomerAddressRowGenerator
     {
         long nullBitMap = createNullBitMap(CUSTOMER_ADDRESS, getRandomNumberStream(CA_NULLS));
         long caAddrSk = rowNumber;
-        String caAddrId = makeBusinessKey(rowNumber);
-        Address caAddr = makeAddressForColumn(CUSTOMER_ADDRESS, getRandomNumberStream(CA_ADDRESS), session.getScaling());
-        String caLocationType = pickRandomLocationType(getRandomNumberStream(CA_LOCATION_TYPE), UNIFORM);
+        String caAddrId = isProjected(session, CustomerAddressColumn.CA_ADDRESS_ID) ? makeBusinessKey(rowNumber) : null;
+        // the address is only made when one of its columns is read
+        Address caAddr = isProjected(session, ADDRESS_COLUMNS) ? makeAddressForColumn(CUSTOMER_ADDRESS, getRandomNumberStream(CA_ADDRESS), session.getScaling()) : null;
+        String caLocationType = isProjected(session, CustomerAddressColumn.CA_LOCATION_TYPE) ? pickRandomLocationType(getRandomNumberStream(CA_LOCATION_TYPE), UNIFORM) : null;
         return new RowGeneratorResult(new CustomerAddressRow(nullBitMap, caAddrSk, caAddrId, caAddr, caLocationType));
     }
 }
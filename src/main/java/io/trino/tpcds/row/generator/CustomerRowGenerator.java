@@ -16,6 +16,8 @@ package io.trino.tpcds.row.generator;
 
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.CustomerColumn;
 import io.trino.tpcds.row.CustomerRow;
 import io.trino.tpcds.type.Date;
 
@@ -59,6 +61,9 @@ import static io.trino.tpcds.type.Date.toJulianDays;
 public class CustomerRowGenerator
         extends AbstractRowGenerator
 {
+    private static final Column[] NAME_COLUMNS = {
+            CustomerColumn.C_SALUTATION, CustomerColumn.C_FIRST_NAME, CustomerColumn.C_LAST_NAME, CustomerColumn.C_EMAIL_ADDRESS};
+
     public CustomerRowGenerator()
     {
         super(CUSTOMER);
@@ -68,7 +73,7 @@ public class CustomerRowGenerator
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
         long cCustomerSk = rowNumber;
-        String cCustomerId = makeBusinessKey(rowNumber);
+        String cCustomerId = isProjected(session, CustomerColumn.C_CUSTOMER_ID) ? makeBusinessKey(rowNumber) : null;
         int randomInt = generateUniformRandomInt(1, 100, getRandomNumberStream(C_PREFERRED_CUST_FLAG));
         int cPreferredPercent = 50;
         boolean cPreferredCustFlag = randomInt < cPreferredPercent;
@@ -78,11 +83,17 @@ public class CustomerRowGenerator
         long cCurrentCdemoSk = generateJoinKey(C_CURRENT_CDEMO_SK, getRandomNumberStream(C_CURRENT_CDEMO_SK), CUSTOMER_DEMOGRAPHICS, 1, scaling);
         long cCurrentAddrSk = generateJoinKey(C_CURRENT_ADDR_SK, getRandomNumberStream(C_CURRENT_ADDR_SK), CUSTOMER_ADDRESS, cCustomerSk, scaling);
 
-        int nameIndex = pickRandomIndex(GENERAL_FREQUENCY, getRandomNumberStream(C_FIRST_NAME));
-        String cFirstName = getFirstNameFromIndex(nameIndex);
-        String cLastName = pickRandomLastName(getRandomNumberStream(C_LAST_NAME));
-        int femaleNameWeight = getWeightForIndex(nameIndex, FEMALE_FREQUENCY);
-        String cSalutation = pickRandomSalutation(femaleNameWeight == 0 ? MALE : FEMALE, getRandomNumberStream(C_SALUTATION));
+        // the names are only picked when they, or the email address made from them, are read
+        String cFirstName = null;
+        String cLastName = null;
+        String cSalutation = null;
+        if (isProjected(session, NAME_COLUMNS)) {
+            int nameIndex = pickRandomIndex(GENERAL_FREQUENCY, getRandomNumberStream(C_FIRST_NAME));
+            cFirstName = getFirstNameFromIndex(nameIndex);
+            cLastName = pickRandomLastName(getRandomNumberStream(C_LAST_NAME));
+            int femaleNameWeight = getWeightForIndex(nameIndex, FEMALE_FREQUENCY);
+            cSalutation = pickRandomSalutation(femaleNameWeight == 0 ? MALE : FEMALE, getRandomNumberStream(C_SALUTATION));
+        }
 
         Date maxBirthday = new Date(1992, 12, 31);
         Date minBirthday = new Date(1924, 1, 1);
@@ -94,14 +105,14 @@ public class CustomerRowGenerator
         int cBirthMonth = birthday.getMonth();
         int cBirthYear = birthday.getYear();
 
-        String cEmailAddress = generateRandomEmail(cFirstName, cLastName, getRandomNumberStream(C_EMAIL_ADDRESS));
+        String cEmailAddress = isProjected(session, CustomerColumn.C_EMAIL_ADDRESS) ? generateRandomEmail(cFirstName, cLastName, getRandomNumberStream(C_EMAIL_ADDRESS)) : null;
         Date lastReviewDate = generateUniformRandomDate(oneYearAgo, today, getRandomNumberStream(C_LAST_REVIEW_DATE));
         int cLastReviewDate = toJulianDays(lastReviewDate);
         Date firstSalesDate = generateUniformRandomDate(tenYearsAgo, today, getRandomNumberStream(C_FIRST_SALES_DATE_ID));
         int cFirstSalesDateId = toJulianDays(firstSalesDate);
         int cFirstShiptoDateId = cFirstSalesDateId + 30;
 
-        String cBirthCountry = pickRandomCountry(getRandomNumberStream(C_BIRTH_COUNTRY));
+        String cBirthCountry = isProjected(session, CustomerColumn.C_BIRTH_COUNTRY) ? pickRandomCountry(getRandomNumberStream(C_BIRTH_COUNTRY)) : null;
 
         return new RowGeneratorResult(new CustomerRow(cCustomerSk,
                 cCustomerId,
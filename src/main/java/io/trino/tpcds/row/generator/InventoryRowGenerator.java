@@ -18,6 +18,9 @@ import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
 import io.trino.tpcds.SlowlyChangingDimensionUtils;
 import io.trino.tpcds.row.InventoryRow;
+import io.trino.tpcds.row.TableRow;
+
+import java.util.List;
 
 import static io.trino.tpcds.Nulls.createNullBitMap;
 import static io.trino.tpcds.Table.INVENTORY;
@@ -31,6 +34,8 @@ import static io.trino.tpcds.type.Date.JULIAN_DATE_MINIMUM;
 public class InventoryRowGenerator
         extends AbstractRowGenerator
 {
+    private final InventoryRow reusedRow = new InventoryRow();
+
     public InventoryRowGenerator()
     {
         super(INVENTORY);
@@ -60,6 +65,10 @@ public class InventoryRowGenerator
 
         int invQuantityOnHand = generateUniformRandomInt(0, 1000, getRandomNumberStream(INV_QUANTITY_ON_HAND));
 
-        return new RowGeneratorResult(new InventoryRow(nullBitMap, invDateSk, invItemSk, invWarehouseSk, invQuantityOnHand));
+        InventoryRow row = session.shouldReuseRows() ? reusedRow : new InventoryRow();
+        row.set(nullBitMap, invDateSk, invItemSk, invWarehouseSk, invQuantityOnHand);
+        List<TableRow> rows = createRowList(session);
+        rows.add(row);
+        return createResult(session, rows, true);
     }
 }
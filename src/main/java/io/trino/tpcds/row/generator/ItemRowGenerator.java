@@ -16,6 +16,7 @@ package io.trino.tpcds.row.generator;
 
 import io.trino.tpcds.Session;
 import io.trino.tpcds.SlowlyChangingDimensionUtils.SlowlyChangingDimensionKey;
+import io.trino.tpcds.column.ItemColumn;
 import io.trino.tpcds.distribution.CategoriesDistribution;
 import io.trino.tpcds.distribution.CategoryClassDistributions.CategoryClass;
 import io.trino.tpcds.distribution.ItemsDistributions;
@@ -111,7 +112,7 @@ public class ItemRowGenerator
 
         // the rest of the record in a history-keeping dimension can either be a new data value or not;
         // use a random number and its bit pattern to determine which fields to replace and which to retain
-        String iItemDesc = generateRandomText(1, ROW_SIZE_I_ITEM_DESC, getRandomNumberStream(I_ITEM_DESC));
+        String iItemDesc = isProjected(session, ItemColumn.I_ITEM_DESC) ? generateRandomText(1, ROW_SIZE_I_ITEM_DESC, getRandomNumberStream(I_ITEM_DESC)) : null;
         if (previousRow.isPresent()) {
             iItemDesc = getValueForSlowlyChangingDimension(fieldChangeFlags, isNewBusinessKey, previousRow.get().getiItemDesc(), iItemDesc);
         }
@@ -144,8 +145,11 @@ public class ItemRowGenerator
 
         int brandCount = categoryClass.getBrandCount();
         long iBrandId = rowNumber % brandCount + 1;
-        String iBrand = generateWord(iCategoryId * 10 + newClassId, 45, BRAND_SYLLABLES_DISTRIBUTION);
-        iBrand += format(" #%d", iBrandId);
+        String iBrand = null;
+        if (isProjected(session, ItemColumn.I_BRAND)) {
+            iBrand = generateWord(iCategoryId * 10 + newClassId, 45, BRAND_SYLLABLES_DISTRIBUTION);
+            iBrand += format(" #%d", iBrandId);
+        }
         iBrandId += (iCategoryId * 1000 + newClassId) * 1000;
         if (previousRow.isPresent()) {
             iBrandId = getValueForSlowlyChangingDimension(fieldChangeFlags, isNewBusinessKey, previousRow.get().getiBrandId(), iBrandId);
@@ -164,18 +168,21 @@ public class ItemRowGenerator
         }
         fieldChangeFlags >>= 1;
 
-        String iManufact = generateWord(iManufactId, ROW_SIZE_I_MANUFACT, SYLLABLES_DISTRIBUTION);
+        String iManufact = isProjected(session, ItemColumn.I_MANUFACT) ? generateWord(iManufactId, ROW_SIZE_I_MANUFACT, SYLLABLES_DISTRIBUTION) : null;
         if (previousRow.isPresent()) {
             iManufact = getValueForSlowlyChangingDimension(fieldChangeFlags, isNewBusinessKey, previousRow.get().getiManufact(), iManufact);
         }
         fieldChangeFlags >>= 1;
 
-        String iFormulation = generateRandomCharset(DIGITS, ROW_SIZE_I_FORMULATION, ROW_SIZE_I_FORMULATION, getRandomNumberStream(I_FORMULATION));
-        String color = pickRandomColor(SKEWED, getRandomNumberStream(I_FORMULATION));
-        int position = generateUniformRandomInt(0, iFormulation.length() - color.length() - 1, getRandomNumberStream(I_FORMULATION));
-        StringBuilder builder = new StringBuilder(iFormulation);
-        builder.replace(position, color.length() + position, color);
-        iFormulation = builder.toString();
+        String iFormulation = null;
+        if (isProjected(session, ItemColumn.I_FORMULATION)) {
+            iFormulation = generateRandomCharset(DIGITS, ROW_SIZE_I_FORMULATION, ROW_SIZE_I_FORMULATION, getRandomNumberStream(I_FORMULATION));
+            String color = pickRandomColor(SKEWED, getRandomNumberStream(I_FORMULATION));
+            int position = generateUniformRandomInt(0, iFormulation.length() - color.length() - 1, getRandomNumberStream(I_FORMULATION));
+            StringBuilder builder = new StringBuilder(iFormulation);
+            builder.replace(position, color.length() + position, color);
+            iFormulation = builder.toString();
+        }
         if (previousRow.isPresent()) {
             iFormulation = getValueForSlowlyChangingDimension(fieldChangeFlags, isNewBusinessKey, previousRow.get().getiFormulation(), iFormulation);
         }
@@ -184,7 +191,7 @@ public class ItemRowGenerator
         String iColor = pickRandomColor(SKEWED, getRandomNumberStream(I_COLOR));
         String iUnits = pickRandomUnit(getRandomNumberStream(I_UNITS));
         String iContainer = "Unknown";
-        String iProductName = generateWord(rowNumber, ROW_SIZE_I_PRODUCT_NAME, SYLLABLES_DISTRIBUTION);
+        String iProductName = isProjected(session, ItemColumn.I_PRODUCT_NAME) ? generateWord(rowNumber, ROW_SIZE_I_PRODUCT_NAME, SYLLABLES_DISTRIBUTION) : null;
 
         long iPromoSk = generateJoinKey(I_PROMO_SK, getRandomNumberStream(I_PROMO_SK), PROMOTION, 1, session.getScaling());
         int temp = generateUniformRandomInt(1, 100, getRandomNumberStream(I_PROMO_SK));
@@ -14,14 +14,16 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.StoreReturnsRow;
 import io.trino.tpcds.row.StoreSalesRow;
 import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
 import static io.trino.tpcds.Nulls.createNullBitMap;
 import static io.trino.tpcds.Table.CUSTOMER;
@@ -32,6 +34,16 @@ import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
 import static io.trino.tpcds.Table.REASON;
 import static io.trino.tpcds.Table.STORE;
 import static io.trino.tpcds.Table.STORE_RETURNS;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_FEE;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_NET_LOSS;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_REFUNDED_CASH;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURN_AMT;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURN_AMT_INC_TAX;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURN_QUANTITY;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURN_SHIP_COST;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_RETURN_TAX;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_REVERSED_CHARGE;
+import static io.trino.tpcds.column.StoreReturnsColumn.SR_STORE_CREDIT;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_ADDR_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CDEMO_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_CUSTOMER_SK;
@@ -45,12 +57,16 @@ import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_STORE_SK;
 import static io.trino.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET_NUMBER;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class StoreReturnsRowGenerator
         extends AbstractRowGenerator
 {
     private static final int SR_SAME_CUSTOMER = 80;
+    private static final Column[] PRICING_COLUMNS = {
+            SR_RETURN_QUANTITY, SR_RETURN_AMT, SR_RETURN_TAX, SR_RETURN_AMT_INC_TAX, SR_FEE,
+            SR_RETURN_SHIP_COST, SR_REFUNDED_CASH, SR_REVERSED_CHARGE, SR_STORE_CREDIT, SR_NET_LOSS};
+
+    private final StoreReturnsRow reusedRow = new StoreReturnsRow();
 
     public StoreReturnsRowGenerator()
     {
@@ -64,12 +80,12 @@ public class StoreReturnsRowGenerator
         // already been purchased.  This method should only get called if we are generating the store_returns table
         // in isolation. Otherwise store_returns is generated during the generation of the store_sales table
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
+        List<TableRow> rows = createRowList(session);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
         }
+        // otherwise no return occurred for the given sale
+        return createResult(session, rows, salesAndReturnsResult.shouldEndRow());
     }
 
     public TableRow generateRow(Session session, StoreSalesRow salesRow)
@@ -97,11 +113,16 @@ public class StoreReturnsRowGenerator
         long srStoreSk = generateJoinKey(SR_STORE_SK, getRandomNumberStream(SR_STORE_SK), STORE, 1, scaling);
         long srReasonSk = generateJoinKey(SR_REASON_SK, getRandomNumberStream(SR_REASON_SK), REASON, 1, scaling);
 
-        Pricing salesPricing = salesRow.getSsPricing();
-        int quantity = generateUniformRandomInt(1, salesPricing.getQuantity(), getRandomNumberStream(SR_PRICING));
-        Pricing srPricing = generatePricingForReturnsTable(SR_PRICING, getRandomNumberStream(SR_PRICING), quantity, salesPricing);
+        // the pricing is only computed when one of its columns is read
+        Pricing srPricing = null;
+        if (isProjected(session, PRICING_COLUMNS)) {
+            Pricing salesPricing = salesRow.getSsPricing();
+            int quantity = generateUniformRandomInt(1, salesPricing.getQuantity(), getRandomNumberStream(SR_PRICING));
+            srPricing = generatePricingForReturnsTable(SR_PRICING, getRandomNumberStream(SR_PRICING), quantity, salesPricing);
+        }
 
-        return new StoreReturnsRow(nullBitMap,
+        StoreReturnsRow storeReturnsRow = session.shouldReuseRows() ? reusedRow : new StoreReturnsRow();
+        storeReturnsRow.set(nullBitMap,
                 srReturnedDateSk,
                 srReturnedTimeSk,
                 srItemSk,
@@ -113,5 +134,6 @@ public class StoreReturnsRowGenerator
                 srReasonSk,
                 srTicketNumber,
                 srPricing);
+        return storeReturnsRow;
     }
 }
@@ -16,11 +16,11 @@ package io.trino.tpcds.row.generator;
 
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.StoreSalesRow;
 import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.type.Pricing;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
@@ -38,6 +38,19 @@ import static io.trino.tpcds.Table.PROMOTION;
 import static io.trino.tpcds.Table.STORE;
 import static io.trino.tpcds.Table.STORE_SALES;
 import static io.trino.tpcds.Table.TIME_DIM;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_COUPON_AMT;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_EXT_DISCOUNT_AMT;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_EXT_LIST_PRICE;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_EXT_SALES_PRICE;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_EXT_TAX;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_EXT_WHOLESALE_COST;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_LIST_PRICE;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_NET_PAID;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_NET_PAID_INC_TAX;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_NET_PROFIT;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_QUANTITY;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_SALES_PRICE;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_WHOLESALE_COST;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SR_IS_RETURNED;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_NULLS;
 import static io.trino.tpcds.generator.StoreSalesGeneratorColumn.SS_PERMUTATION;
@@ -59,6 +72,10 @@ public class StoreSalesRowGenerator
         extends AbstractRowGenerator
 {
     private static final int SR_RETURN_PCT = 10;
+    private static final Column[] PRICING_COLUMNS = {
+            SS_QUANTITY, SS_WHOLESALE_COST, SS_LIST_PRICE, SS_SALES_PRICE, SS_EXT_DISCOUNT_AMT,
+            SS_EXT_SALES_PRICE, SS_EXT_WHOLESALE_COST, SS_EXT_LIST_PRICE, SS_EXT_TAX, SS_COUPON_AMT,
+            SS_NET_PAID, SS_NET_PAID_INC_TAX, SS_NET_PROFIT};
 
     private int[] itemPermutation;
 
@@ -71,6 +88,8 @@ public class StoreSalesRowGenerator
     private OrderInfo orderInfo = new OrderInfo();
     private int itemIndex;
 
+    private final StoreSalesRow reusedRow = new StoreSalesRow();
+
     public StoreSalesRowGenerator()
     {
         super(STORE_SALES);
@@ -101,9 +120,11 @@ public class StoreSalesRowGenerator
 
         long ssSoldItemSk = matchSurrogateKey(getPermutationEntry(itemPermutation, itemIndex), orderInfo.getSsSoldDateSk(), ITEM, scaling);
         long ssSoldPromoSk = generateJoinKey(SS_SOLD_PROMO_SK, getRandomNumberStream(SS_SOLD_PROMO_SK), PROMOTION, 1, scaling);
-        Pricing ssPricing = generatePricingForSalesTable(SS_PRICING, getRandomNumberStream(SS_PRICING));
+        // the pricing is only computed when one of its columns is read
+        Pricing ssPricing = isProjected(session, PRICING_COLUMNS) ? generatePricingForSalesTable(SS_PRICING, getRandomNumberStream(SS_PRICING)) : null;
 
-        StoreSalesRow storeSalesRow = new StoreSalesRow(nullBitMap,
+        StoreSalesRow storeSalesRow = session.shouldReuseRows() ? reusedRow : new StoreSalesRow();
+        storeSalesRow.set(nullBitMap,
                 orderInfo.getSsSoldDateSk(),
                 orderInfo.getSsSoldTimeSk(),
                 ssSoldItemSk,
@@ -115,7 +136,7 @@ public class StoreSalesRowGenerator
                 ssSoldPromoSk,
                 orderInfo.getSsTicketNumber(),
                 ssPricing);
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = createRowList(session);
         generatedRows.add(storeSalesRow);
 
         // if the sale gets returned, generate a return row
@@ -125,7 +146,7 @@ public class StoreSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+        return createResult(session, generatedRows, isLastRowInOrder());
     }
 
     public OrderInfo generateOrderInfo(long rowNumber, Session session)
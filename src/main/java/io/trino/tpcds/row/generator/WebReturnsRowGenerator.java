@@ -14,13 +14,16 @@
 
 package io.trino.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.row.WebReturnsRow;
 import io.trino.tpcds.row.WebSalesRow;
 import io.trino.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
 import static io.trino.tpcds.Nulls.createNullBitMap;
 import static io.trino.tpcds.Table.CUSTOMER;
@@ -31,6 +34,16 @@ import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
 import static io.trino.tpcds.Table.REASON;
 import static io.trino.tpcds.Table.TIME_DIM;
 import static io.trino.tpcds.Table.WEB_RETURNS;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_ACCOUNT_CREDIT;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_FEE;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_NET_LOSS;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_REFUNDED_CASH;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURN_AMT;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURN_AMT_INC_TAX;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURN_QUANTITY;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURN_SHIP_COST;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_RETURN_TAX;
+import static io.trino.tpcds.column.WebReturnsColumn.WR_REVERSED_CHARGE;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_NULLS;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_PRICING;
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_REASON_SK;
@@ -43,11 +56,16 @@ import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNED_TIM
 import static io.trino.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNING_CUSTOMER_SK;
 import static io.trino.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static io.trino.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class WebReturnsRowGenerator
         extends AbstractRowGenerator
 {
+    private static final Column[] PRICING_COLUMNS = {
+            WR_RETURN_QUANTITY, WR_RETURN_AMT, WR_RETURN_TAX, WR_RETURN_AMT_INC_TAX, WR_FEE,
+            WR_RETURN_SHIP_COST, WR_REFUNDED_CASH, WR_REVERSED_CHARGE, WR_ACCOUNT_CREDIT, WR_NET_LOSS};
+
+    private final WebReturnsRow reusedRow = new WebReturnsRow();
+
     public WebReturnsRowGenerator()
     {
         super(WEB_RETURNS);
@@ -57,12 +75,12 @@ public class WebReturnsRowGenerator
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
+        List<TableRow> rows = createRowList(session);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
-        }
-        else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
         }
+        // otherwise no return occurred for the given sale
+        return createResult(session, rows, salesAndReturnsResult.shouldEndRow());
     }
 
     public WebReturnsRow generateRow(Session session, WebSalesRow salesRow)
@@ -97,10 +115,15 @@ public class WebReturnsRowGenerator
         long wrReturningAddrSk = wrRefundedAddrSk;
 
         long wrReasonSk = generateJoinKey(WR_REASON_SK, getRandomNumberStream(WR_REASON_SK), REASON, 1, scaling);
-        int quantity = generateUniformRandomInt(1, salesRow.getWsPricing().getQuantity(), getRandomNumberStream(WR_PRICING));
-        Pricing wrPricing = generatePricingForReturnsTable(WR_PRICING, getRandomNumberStream(WR_PRICING), quantity, salesRow.getWsPricing());
+        // the pricing is only computed when one of its columns is read
+        Pricing wrPricing = null;
+        if (isProjected(session, PRICING_COLUMNS)) {
+            int quantity = generateUniformRandomInt(1, salesRow.getWsPricing().getQuantity(), getRandomNumberStream(WR_PRICING));
+            wrPricing = generatePricingForReturnsTable(WR_PRICING, getRandomNumberStream(WR_PRICING), quantity, salesRow.getWsPricing());
+        }
 
-        return new WebReturnsRow(nullBitMap,
+        WebReturnsRow webReturnsRow = session.shouldReuseRows() ? reusedRow : new WebReturnsRow();
+        webReturnsRow.set(nullBitMap,
                 wrReturnedDateSk,
                 wrReturnedTimeSk,
                 wrItemSk,
@@ -116,5 +139,6 @@ public class WebReturnsRowGenerator
                 wrReasonSk,
                 wrOrderNumber,
                 wrPricing);
+        return webReturnsRow;
     }
 }
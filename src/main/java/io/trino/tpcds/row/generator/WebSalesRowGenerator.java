@@ -16,13 +16,13 @@ package io.trino.tpcds.row.generator;
 
 import io.trino.tpcds.Scaling;
 import io.trino.tpcds.Session;
+import io.trino.tpcds.column.Column;
 import io.trino.tpcds.row.TableRow;
 import io.trino.tpcds.row.WebSalesRow;
 import io.trino.tpcds.type.Pricing;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static io.trino.tpcds.JoinKeyUtils.generateJoinKey;
@@ -43,6 +43,22 @@ import static io.trino.tpcds.Table.WAREHOUSE;
 import static io.trino.tpcds.Table.WEB_PAGE;
 import static io.trino.tpcds.Table.WEB_SALES;
 import static io.trino.tpcds.Table.WEB_SITE;
+import static io.trino.tpcds.column.WebSalesColumn.WS_COUPON_AMT;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_DISCOUNT_AMT;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_LIST_PRICE;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_SALES_PRICE;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_SHIP_COST;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_TAX;
+import static io.trino.tpcds.column.WebSalesColumn.WS_EXT_WHOLESALE_COST;
+import static io.trino.tpcds.column.WebSalesColumn.WS_LIST_PRICE;
+import static io.trino.tpcds.column.WebSalesColumn.WS_NET_PAID;
+import static io.trino.tpcds.column.WebSalesColumn.WS_NET_PAID_INC_SHIP;
+import static io.trino.tpcds.column.WebSalesColumn.WS_NET_PAID_INC_SHIP_TAX;
+import static io.trino.tpcds.column.WebSalesColumn.WS_NET_PAID_INC_TAX;
+import static io.trino.tpcds.column.WebSalesColumn.WS_NET_PROFIT;
+import static io.trino.tpcds.column.WebSalesColumn.WS_QUANTITY;
+import static io.trino.tpcds.column.WebSalesColumn.WS_SALES_PRICE;
+import static io.trino.tpcds.column.WebSalesColumn.WS_WHOLESALE_COST;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WR_IS_RETURNED;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_ADDR_SK;
 import static io.trino.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CDEMO_SK;
@@ -74,6 +90,11 @@ public class WebSalesRowGenerator
 {
     public static final int GIFT_PERCENTAGE = 7;
     public static final int RETURN_PERCENTAGE = 10;
+    private static final Column[] PRICING_COLUMNS = {
+            WS_QUANTITY, WS_WHOLESALE_COST, WS_LIST_PRICE, WS_SALES_PRICE, WS_EXT_DISCOUNT_AMT,
+            WS_EXT_SALES_PRICE, WS_EXT_WHOLESALE_COST, WS_EXT_LIST_PRICE, WS_EXT_TAX, WS_COUPON_AMT,
+            WS_EXT_SHIP_COST, WS_NET_PAID, WS_NET_PAID_INC_TAX, WS_NET_PAID_INC_SHIP,
+            WS_NET_PAID_INC_SHIP_TAX, WS_NET_PROFIT};
 
     // Note: the following two variables are present in the C generator but unused in
     // a meaningful way. We include them for completeness not to confuse
@@ -85,6 +106,8 @@ public class WebSalesRowGenerator
     private OrderInfo orderInfo;
     private int itemIndex;
 
+    private final WebSalesRow reusedRow = new WebSalesRow();
+
     public WebSalesRowGenerator()
     {
         super(WEB_SALES);
@@ -123,9 +146,11 @@ public class WebSalesRowGenerator
         long wsShipModeSk = generateJoinKey(WS_SHIP_MODE_SK, getRandomNumberStream(WS_SHIP_MODE_SK), SHIP_MODE, 1, scaling);
         long wsWarehouseSk = generateJoinKey(WS_WAREHOUSE_SK, getRandomNumberStream(WS_WAREHOUSE_SK), WAREHOUSE, 1, scaling);
         long wsPromoSk = generateJoinKey(WS_PROMO_SK, getRandomNumberStream(WS_PROMO_SK), PROMOTION, 1, scaling);
-        Pricing wsPricing = generatePricingForSalesTable(WS_PRICING, getRandomNumberStream(WS_PRICING));
+        // the pricing is only computed when one of its columns is read
+        Pricing wsPricing = isProjected(session, PRICING_COLUMNS) ? generatePricingForSalesTable(WS_PRICING, getRandomNumberStream(WS_PRICING)) : null;
 
-        WebSalesRow salesRow = new WebSalesRow(nullBitMap,
+        WebSalesRow salesRow = session.shouldReuseRows() ? reusedRow : new WebSalesRow();
+        salesRow.set(nullBitMap,
                 orderInfo.wsSoldDateSk,
                 orderInfo.wsSoldTimeSk,
                 wsShipDateSk,
@@ -146,7 +171,7 @@ public class WebSalesRowGenerator
                 orderInfo.wsOrderNumber,
                 wsPricing);
 
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = createRowList(session);
         generatedRows.add(salesRow);
 
         // if the item gets returned, generate a returns row
@@ -157,7 +182,7 @@ public class WebSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, remainingLineItems == 0);
+        return createResult(session, generatedRows, remainingLineItems == 0);
     }
 
     private OrderInfo generateOrderInfo(long rowNumber, Session session)
@@ -0,0 +1,380 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.server;
+
+import com.google.common.base.Splitter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.output.BinaryRowEncoder;
+import io.trino.tpcds.output.OutputFormat;
+import io.trino.tpcds.output.RowEncoder;
+import io.trino.tpcds.output.TextRowEncoder;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.SlowlyChangingDimensionUtils.getFirstRowOfBusinessKey;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+// Serves row ranges of tables over HTTP, so that workers can pull splits from a generator
+// instead of reading shared storage:
+//
+//   GET /table/{name}?scale=&start=&end=&format=
+//
+// start and end are the first and last row to generate, as in Results.constructResults. For
+// the sales tables a row is an order, which spans several lines. They default to the whole
+// table, scale and format default to those of the server's session. A request can also
+// ask for rows with a "Range: rows=<start>-[<end>]" header, which is answered with 206 and a
+// Content-Range header, so a client can resume an interrupted stream after the last row it
+// received completely.
+//
+// A row of a slowly changing dimension keeps some of the values of the previous revision of
+// its business key, so a range starting at a later revision is generated from the first one,
+// and the rows before the start are dropped.
+//
+// Rows are streamed with chunked transfer encoding as they are generated. Generation runs on
+// a bounded pool of threads; when every thread is busy and the queue of waiting requests is
+// full, requests are rejected with 503 rather than piling up. A request that fails before its
+// first row is answered with 500; one that fails later is cut off without the last chunk, so
+// the client cannot mistake it for a complete response.
+public class TableServer
+        implements Closeable
+{
+    private static final Pattern TABLE_PATH = Pattern.compile("/table/([a-z_]+)");
+    private static final Pattern ROW_RANGE = Pattern.compile("rows=(\\d+)-(\\d*)");
+    private static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
+
+    // generates the rows of a range; tests replace it to inject failures
+    interface RowSource
+    {
+        Iterator<List<List<String>>> getRows(Table table, long startingRowNumber, long endingRowNumber, Session session);
+    }
+
+    private final Session session;
+    private final RowSource rowSource;
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+
+    public TableServer(InetSocketAddress address, Session session, int maxConcurrentRequests, int maxQueuedRequests)
+            throws IOException
+    {
+        this(address, session, maxConcurrentRequests, maxQueuedRequests, (table, start, end, rowSession) -> constructResults(table, start, end, rowSession).iterator());
+    }
+
+    TableServer(InetSocketAddress address, Session session, int maxConcurrentRequests, int maxQueuedRequests, RowSource rowSource)
+            throws IOException
+    {
+        this.rowSource = requireNonNull(rowSource, "rowSource is null");
+        checkArgument(maxConcurrentRequests > 0, "maxConcurrentRequests must be positive");
+        checkArgument(maxQueuedRequests >= 0, "maxQueuedRequests is negative");
+        this.session = requireNonNull(session, "session is null");
+        BlockingQueue<Runnable> queue = maxQueuedRequests == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(maxQueuedRequests);
+        this.executor = new ThreadPoolExecutor(maxConcurrentRequests, maxConcurrentRequests, 0, TimeUnit.SECONDS, queue, new ThreadFactoryBuilder()
+                .setNameFormat("tpcds-server-%s")
+                .setDaemon(true)
+                .build());
+        this.server = HttpServer.create(address, 0);
+        // requests are parsed on the dispatcher thread, which only hands them to the executor
+        server.createContext("/table/", this::handle);
+        server.start();
+    }
+
+    public int getPort()
+    {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close()
+    {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange)
+            throws IOException
+    {
+        TableRequest request;
+        try {
+            request = parseRequest(exchange);
+        }
+        catch (RequestException e) {
+            sendError(exchange, e.getStatus(), e.getMessage());
+            return;
+        }
+
+        try {
+            executor.execute(() -> streamRows(exchange, request));
+        }
+        catch (RejectedExecutionException e) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "Too many concurrent requests");
+        }
+    }
+
+    private TableRequest parseRequest(HttpExchange exchange)
+            throws RequestException
+    {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            throw new RequestException(405, "Only GET is supported");
+        }
+        Matcher pathMatcher = TABLE_PATH.matcher(exchange.getRequestURI().getPath());
+        if (!pathMatcher.matches()) {
+            throw new RequestException(404, "Not found: " + exchange.getRequestURI().getPath());
+        }
+        Table table;
+        try {
+            table = Table.getTable(pathMatcher.group(1));
+        }
+        catch (IllegalStateException e) {
+            throw new RequestException(404, "Unknown table: " + pathMatcher.group(1));
+        }
+
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getQuery();
+        if (query != null) {
+            for (String parameter : Splitter.on('&').omitEmptyStrings().split(query)) {
+                List<String> nameAndValue = Splitter.on('=').limit(2).splitToList(parameter);
+                parameters.put(nameAndValue.get(0), nameAndValue.size() == 2 ? nameAndValue.get(1) : "");
+            }
+        }
+
+        Session requestSession = session.withTable(table);
+        if (parameters.containsKey("scale")) {
+            double scale = parseNumber(parameters, "scale", Double::parseDouble);
+            if (scale <= 0 || scale > 100000) {
+                throw new RequestException(400, "Scale must be greater than 0 and less than 100000");
+            }
+            requestSession = requestSession.withScale(scale);
+        }
+        if (parameters.containsKey("format")) {
+            try {
+                requestSession = requestSession.withOutputFormat(OutputFormat.valueOf(parameters.get("format").toUpperCase()));
+            }
+            catch (IllegalArgumentException e) {
+                throw new RequestException(400, "Unknown format: " + parameters.get("format"));
+            }
+        }
+
+        long rowCount = requestSession.getScaling().getRowCount(table);
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            Matcher rangeMatcher = ROW_RANGE.matcher(range);
+            if (!rangeMatcher.matches()) {
+                throw new RequestException(416, "Expected a range of the form rows=<start>-[<end>]: " + range);
+            }
+            long start = Long.parseLong(rangeMatcher.group(1));
+            long end = rangeMatcher.group(2).isEmpty() ? rowCount : Long.parseLong(rangeMatcher.group(2));
+            if (start < 1 || start > end || end > rowCount) {
+                exchange.getResponseHeaders().set("Content-Range", "rows */" + rowCount);
+                throw new RequestException(416, format("Range %s is not within rows 1-%d", range, rowCount));
+            }
+            return new TableRequest(table, requestSession, start, end, true);
+        }
+
+        long start = parameters.containsKey("start") ? parseNumber(parameters, "start", Long::parseLong) : 1;
+        long end = parameters.containsKey("end") ? parseNumber(parameters, "end", Long::parseLong) : rowCount;
+        if (start < 1 || end > rowCount || start > end + 1) {
+            throw new RequestException(400, format("Rows %d-%d are not within rows 1-%d", start, end, rowCount));
+        }
+        return new TableRequest(table, requestSession, start, end, false);
+    }
+
+    private void streamRows(HttpExchange exchange, TableRequest request)
+    {
+        RowEncoder encoder;
+        Iterator<List<List<String>>> rows;
+        try {
+            encoder = switch (request.session.getOutputFormat()) {
+                case TEXT -> new TextRowEncoder(request.session);
+                case BINARY -> new BinaryRowEncoder(request.table);
+            };
+            rows = getRows(request);
+        }
+        catch (RuntimeException e) {
+            try {
+                sendError(exchange, 500, format("Failed to generate %s: %s", request.table.getName(), e.getMessage()));
+            }
+            catch (IOException ignored) {
+                // the client went away
+            }
+            return;
+        }
+
+        AbortableOutputStream body = new AbortableOutputStream(exchange.getResponseBody());
+        exchange.setStreams(null, body);
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", request.session.getOutputFormat() == OutputFormat.TEXT ? "text/plain; charset=ISO-8859-1" : "application/octet-stream");
+            if (request.partial) {
+                long rowCount = request.session.getScaling().getRowCount(request.table);
+                exchange.getResponseHeaders().set("Content-Range", format("rows %d-%d/%d", request.start, request.end, rowCount));
+            }
+            // a length of 0 selects chunked transfer encoding
+            exchange.sendResponseHeaders(request.partial ? 206 : 200, 0);
+
+            OutputStream output = new BufferedOutputStream(body, RESPONSE_BUFFER_SIZE);
+            try {
+                encoder.writeHeader(output);
+                while (rows.hasNext()) {
+                    List<List<String>> tableRows = rows.next();
+                    if (!tableRows.isEmpty()) {
+                        encoder.writeRow(tableRows.get(0), output);
+                    }
+                }
+                output.flush();
+            }
+            catch (RuntimeException e) {
+                body.abort();
+            }
+        }
+        catch (IOException e) {
+            // the client went away; closing the exchange releases the connection
+        }
+    }
+
+    // Seeks the generators and generates the first row, so that a request that cannot be
+    // generated fails before the response headers are sent.
+    private Iterator<List<List<String>>> getRows(TableRequest request)
+    {
+        if (request.start > request.end) {
+            return Collections.emptyIterator();
+        }
+        long firstRow = getFirstRowOfBusinessKey(request.table, request.start);
+        Iterator<List<List<String>>> rows = rowSource.getRows(request.table, firstRow, request.end, request.session);
+        // every row number of a slowly changing dimension yields a single row
+        for (long row = firstRow; row < request.start && rows.hasNext(); row++) {
+            rows.next();
+        }
+        rows.hasNext();
+        return rows;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message)
+            throws IOException
+    {
+        try (exchange) {
+            byte[] body = (message + "\n").getBytes(UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private static <T> T parseNumber(Map<String, String> parameters, String name, Function<String, T> parser)
+            throws RequestException
+    {
+        try {
+            return parser.apply(parameters.get(name));
+        }
+        catch (NumberFormatException e) {
+            throw new RequestException(400, format("Invalid value for %s: '%s'", name, parameters.get(name)));
+        }
+    }
+
+    // Closing an exchange closes its response body, which writes the last chunk of the response.
+    // Once aborted, closing the body fails instead, and the exchange closes the connection.
+    private static class AbortableOutputStream
+            extends FilterOutputStream
+    {
+        private boolean aborted;
+
+        private AbortableOutputStream(OutputStream out)
+        {
+            super(out);
+        }
+
+        private void abort()
+        {
+            aborted = true;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length)
+                throws IOException
+        {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            if (aborted) {
+                throw new IOException("Response aborted");
+            }
+            super.close();
+        }
+    }
+
+    private static class TableRequest
+    {
+        private final Table table;
+        private final Session session;
+        private final long start;
+        private final long end;
+        private final boolean partial;
+
+        private TableRequest(Table table, Session session, long start, long end, boolean partial)
+        {
+            this.table = table;
+            this.session = session;
+            this.start = start;
+            this.end = end;
+            this.partial = partial;
+        }
+    }
+
+    private static class RequestException
+            extends Exception
+    {
+        private final int status;
+
+        private RequestException(int status, String message)
+        {
+            super(message);
+            this.status = status;
+        }
+
+        private int getStatus()
+        {
+            return status;
+        }
+    }
+}
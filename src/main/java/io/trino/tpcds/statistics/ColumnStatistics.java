@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.statistics;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static java.util.Objects.requireNonNull;
+
+// Statistics of a column of a table at a scale. min and max are formatted the same way as the
+// values of Results. Any of the values can be unknown, and estimated ones are flagged.
+public class ColumnStatistics
+{
+    private final OptionalLong distinctValuesCount;
+    private final OptionalDouble nullFraction;
+    private final Optional<String> min;
+    private final Optional<String> max;
+    private final boolean estimate;
+
+    public ColumnStatistics(OptionalLong distinctValuesCount, OptionalDouble nullFraction, Optional<String> min, Optional<String> max, boolean estimate)
+    {
+        this.distinctValuesCount = requireNonNull(distinctValuesCount, "distinctValuesCount is null");
+        this.nullFraction = requireNonNull(nullFraction, "nullFraction is null");
+        this.min = requireNonNull(min, "min is null");
+        this.max = requireNonNull(max, "max is null");
+        this.estimate = estimate;
+    }
+
+    public static ColumnStatistics unknown()
+    {
+        return new ColumnStatistics(OptionalLong.empty(), OptionalDouble.empty(), Optional.empty(), Optional.empty(), true);
+    }
+
+    // the number of distinct values that are not null
+    public OptionalLong getDistinctValuesCount()
+    {
+        return distinctValuesCount;
+    }
+
+    public OptionalDouble getNullFraction()
+    {
+        return nullFraction;
+    }
+
+    public Optional<String> getMin()
+    {
+        return min;
+    }
+
+    public Optional<String> getMax()
+    {
+        return max;
+    }
+
+    // whether any of the values was estimated rather than computed exactly
+    public boolean isEstimate()
+    {
+        return estimate;
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("distinctValuesCount", distinctValuesCount)
+                .add("nullFraction", nullFraction)
+                .add("min", min)
+                .add("max", max)
+                .add("estimate", estimate)
+                .toString();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.statistics;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Resources;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.Column;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Statistics of the tables at scale 1, recorded by TableStatisticsRecorder and shipped in
+// statistics.tsv. Every line describes a column:
+// table, column, rows, null rows, distinct values, exact, min, max
+// separated by tabs, with \N for a missing min or max. Rows are lines, e.g. line items for
+// the sales tables. The distinct values of the fact tables are counted with a HyperLogLog, so
+// they are not exact, except for the keys and order numbers, which are counted exactly.
+final class SampleStatistics
+{
+    static final double SAMPLE_SCALE = 1;
+    private static final String FILE_NAME = "statistics.tsv";
+    private static final String NULL_VALUE = "\\N";
+    private static final int FIELD_COUNT = 8;
+
+    private static final SampleStatistics INSTANCE = new SampleStatistics(loadColumns());
+
+    private final Map<String, SampleColumn> columns;
+
+    private SampleStatistics(Map<String, SampleColumn> columns)
+    {
+        this.columns = ImmutableMap.copyOf(requireNonNull(columns, "columns is null"));
+    }
+
+    static SampleStatistics getInstance()
+    {
+        return INSTANCE;
+    }
+
+    SampleColumn getColumn(Column column)
+    {
+        SampleColumn sampleColumn = columns.get(getKey(column.getTable().getName(), column.getName()));
+        if (sampleColumn == null) {
+            throw new TpcdsException(format("No sample statistics for column %s of table %s", column.getName(), column.getTable().getName()));
+        }
+        return sampleColumn;
+    }
+
+    long getRowCount(Table table)
+    {
+        return getColumn(table.getColumns()[0]).getRows();
+    }
+
+    private static Map<String, SampleColumn> loadColumns()
+    {
+        URL resource = Resources.getResource(SampleStatistics.class, FILE_NAME);
+        ImmutableMap.Builder<String, SampleColumn> columns = ImmutableMap.builder();
+        try {
+            for (String line : Resources.asCharSource(resource, ISO_8859_1).readLines()) {
+                if (line.isEmpty() || line.startsWith("--")) {
+                    continue;
+                }
+                List<String> fields = Splitter.on('\t').splitToList(line);
+                if (fields.size() != FIELD_COUNT) {
+                    throw new TpcdsException(format("Expected %d fields in line of %s but found %d: %s", FIELD_COUNT, FILE_NAME, fields.size(), line));
+                }
+                columns.put(getKey(fields.get(0), fields.get(1)), new SampleColumn(
+                        Long.parseLong(fields.get(2)),
+                        Long.parseLong(fields.get(3)),
+                        Long.parseLong(fields.get(4)),
+                        Boolean.parseBoolean(fields.get(5)),
+                        parseValue(fields.get(6)),
+                        parseValue(fields.get(7))));
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return columns.buildOrThrow();
+    }
+
+    private static Optional<String> parseValue(String value)
+    {
+        return value.equals(NULL_VALUE) ? Optional.empty() : Optional.of(value);
+    }
+
+    static String formatValue(Optional<String> value)
+    {
+        return value.orElse(NULL_VALUE);
+    }
+
+    private static String getKey(String tableName, String columnName)
+    {
+        return tableName + "." + columnName;
+    }
+
+    static final class SampleColumn
+    {
+        private final long rows;
+        private final long nullRows;
+        private final long distinctValues;
+        private final boolean exact;
+        private final Optional<String> min;
+        private final Optional<String> max;
+
+        SampleColumn(long rows, long nullRows, long distinctValues, boolean exact, Optional<String> min, Optional<String> max)
+        {
+            this.rows = rows;
+            this.nullRows = nullRows;
+            this.distinctValues = distinctValues;
+            this.exact = exact;
+            this.min = requireNonNull(min, "min is null");
+            this.max = requireNonNull(max, "max is null");
+        }
+
+        long getRows()
+        {
+            return rows;
+        }
+
+        long getNonNullRows()
+        {
+            return rows - nullRows;
+        }
+
+        long getDistinctValues()
+        {
+            return distinctValues;
+        }
+
+        boolean isExact()
+        {
+            return exact;
+        }
+
+        double getNullFraction()
+        {
+            return rows == 0 ? 0 : (double) nullRows / rows;
+        }
+
+        Optional<String> getMin()
+        {
+            return min;
+        }
+
+        Optional<String> getMax()
+        {
+            return max;
+        }
+
+        ColumnStatistics toColumnStatistics()
+        {
+            return new ColumnStatistics(OptionalLong.of(distinctValues), OptionalDouble.of(getNullFraction()), min, max, !exact);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.statistics;
+
+import com.google.common.collect.ImmutableMap;
+import io.trino.tpcds.DimensionLookup;
+import io.trino.tpcds.Scaling;
+import io.trino.tpcds.StaticTableCache;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.statistics.SampleStatistics.SampleColumn;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CATALOG_PAGE;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.CUSTOMER_ADDRESS;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.DBGEN_VERSION;
+import static io.trino.tpcds.Table.HOUSEHOLD_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.INCOME_BAND;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.PROMOTION;
+import static io.trino.tpcds.Table.REASON;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.STORE;
+import static io.trino.tpcds.Table.TIME_DIM;
+import static io.trino.tpcds.Table.WAREHOUSE;
+import static io.trino.tpcds.Table.WEB_PAGE;
+import static io.trino.tpcds.Table.WEB_SITE;
+import static io.trino.tpcds.column.ColumnType.Base.CHAR;
+import static io.trino.tpcds.statistics.SampleStatistics.SAMPLE_SCALE;
+import static java.lang.Math.exp;
+import static java.lang.Math.log1p;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+import static java.util.Objects.requireNonNull;
+
+// Statistics of a table at a scale, computed without generating it. The row counts come from
+// Scaling, and so do the keys: a surrogate key is the row number, a business key takes one value
+// per id, and the order numbers of the sales tables one per order. Everything else is scaled
+// from statistics of the tables at scale 1 that are shipped with the generator (see
+// SampleStatistics), which are exact for the tables that are the same at every scale. The null
+// fraction and the range are kept. The values seen in the sample are taken to be drawn at random
+// from a domain, which grows with the table a foreign key refers to and is fixed otherwise, and
+// the number of distinct values is the one expected for that many draws; a column whose values
+// were nearly all distinct keeps the same ratio of distinct values instead.
+// The sales and returns tables have a varying number of lines per order, so their row counts
+// are estimated from the number of lines per order in the sample.
+public class TableStatistics
+{
+    // the tables referred to by a foreign key, by the end of the name of the column
+    private static final Map<String, Table> FOREIGN_KEY_SUFFIXES = ImmutableMap.<String, Table>builder()
+            .put("_date_sk", DATE_DIM)
+            .put("_time_sk", TIME_DIM)
+            .put("_item_sk", ITEM)
+            .put("_customer_sk", CUSTOMER)
+            .put("_cdemo_sk", CUSTOMER_DEMOGRAPHICS)
+            .put("_hdemo_sk", HOUSEHOLD_DEMOGRAPHICS)
+            .put("_addr_sk", CUSTOMER_ADDRESS)
+            .put("_store_sk", STORE)
+            .put("_promo_sk", PROMOTION)
+            .put("_call_center_sk", CALL_CENTER)
+            .put("_catalog_page_sk", CATALOG_PAGE)
+            .put("_ship_mode_sk", SHIP_MODE)
+            .put("_warehouse_sk", WAREHOUSE)
+            .put("_web_page_sk", WEB_PAGE)
+            .put("_web_site_sk", WEB_SITE)
+            .put("_reason_sk", REASON)
+            .put("_income_band_sk", INCOME_BAND)
+            .buildOrThrow();
+
+    // a column with at least this fraction of distinct values in the sample is taken to have a
+    // distinct value for nearly every row at any scale
+    private static final double UNIQUE_FRACTION = 0.9;
+
+    private static final Scaling SAMPLE_SCALING = new Scaling(SAMPLE_SCALE);
+
+    private final Table table;
+    private final long rowCount;
+    private final boolean rowCountEstimate;
+    private final Map<Column, ColumnStatistics> columnStatistics;
+
+    private TableStatistics(Table table, long rowCount, boolean rowCountEstimate, Map<Column, ColumnStatistics> columnStatistics)
+    {
+        this.table = requireNonNull(table, "table is null");
+        this.rowCount = rowCount;
+        this.rowCountEstimate = rowCountEstimate;
+        this.columnStatistics = ImmutableMap.copyOf(requireNonNull(columnStatistics, "columnStatistics is null"));
+    }
+
+    public static TableStatistics getTableStatistics(Table table, Scaling scaling)
+    {
+        requireNonNull(table, "table is null");
+        requireNonNull(scaling, "scaling is null");
+        checkArgument(!table.getName().startsWith("s_"), "Table %s is a source table", table.getName());
+        SampleStatistics sample = SampleStatistics.getInstance();
+        boolean atSampleScale = scaling.getScale() == SAMPLE_SCALE;
+
+        long rowCount;
+        boolean rowCountEstimate = false;
+        if (table.hasChild() || table.isChild()) {
+            // Scaling counts orders, and the sample counts lines
+            rowCount = atSampleScale ? sample.getRowCount(table) : scaleRows(sample.getRowCount(table), table, scaling);
+            rowCountEstimate = !atSampleScale;
+        }
+        else {
+            rowCount = scaling.getRowCount(table);
+        }
+
+        ImmutableMap.Builder<Column, ColumnStatistics> columns = ImmutableMap.builder();
+        for (Column column : table.getColumns()) {
+            columns.put(column, getColumnStatistics(column, rowCount, scaling, sample, atSampleScale));
+        }
+        return new TableStatistics(table, rowCount, rowCountEstimate, columns.buildOrThrow());
+    }
+
+    private static ColumnStatistics getColumnStatistics(Column column, long rowCount, Scaling scaling, SampleStatistics sample, boolean atSampleScale)
+    {
+        Table table = column.getTable();
+        if (table == DBGEN_VERSION) {
+            // a single row describing the run that generated the data
+            return new ColumnStatistics(OptionalLong.of(1), OptionalDouble.of(0), Optional.empty(), Optional.empty(), false);
+        }
+
+        if (DimensionLookup.supportsLookup(table) && column.getPosition() == 0) {
+            return new ColumnStatistics(OptionalLong.of(rowCount), OptionalDouble.of(0), Optional.of("1"), Optional.of(Long.toString(rowCount)), false);
+        }
+
+        SampleColumn sampleColumn = sample.getColumn(column);
+        if (StaticTableCache.isStaticTable(table) || (atSampleScale && sampleColumn.isExact())) {
+            return sampleColumn.toColumnStatistics();
+        }
+
+        double nullFraction = sampleColumn.getNullFraction();
+        long nonNullRows = round(rowCount * (1 - nullFraction));
+        if (isBusinessKey(column)) {
+            return new ColumnStatistics(OptionalLong.of(scaling.getIdCount(table)), OptionalDouble.of(nullFraction), Optional.empty(), Optional.empty(), false);
+        }
+        if (table.hasChild() && isOrderNumber(column)) {
+            long orders = scaling.getRowCount(table);
+            return new ColumnStatistics(OptionalLong.of(orders), OptionalDouble.of(nullFraction), Optional.of("1"), Optional.of(Long.toString(orders)), false);
+        }
+
+        // the values seen in the sample are drawn from a domain, which grows with the table the
+        // column refers to, if any, and is the same at every scale otherwise
+        double domainSize = getDomainSize(sampleColumn.getDistinctValues(), sampleColumn.getNonNullRows());
+        Optional<String> min = sampleColumn.getMin();
+        Optional<String> max = sampleColumn.getMax();
+        Optional<Table> referencedTable = getReferencedTable(column);
+        if (referencedTable.isPresent()) {
+            long keys = scaling.getRowCount(referencedTable.get());
+            if (!StaticTableCache.isStaticTable(referencedTable.get())) {
+                domainSize = domainSize * keys / SAMPLE_SCALING.getRowCount(referencedTable.get());
+                min = Optional.of("1");
+                max = Optional.of(Long.toString(keys));
+            }
+            domainSize = Math.min(domainSize, keys);
+        }
+
+        long distinctValues;
+        if (Double.isInfinite(domainSize)) {
+            distinctValues = round((double) sampleColumn.getDistinctValues() * nonNullRows / Math.max(1, sampleColumn.getNonNullRows()));
+        }
+        else {
+            distinctValues = getExpectedDistinctValues(domainSize, nonNullRows);
+        }
+        return new ColumnStatistics(OptionalLong.of(min(distinctValues, nonNullRows)), OptionalDouble.of(nullFraction), min, max, true);
+    }
+
+    public Table getTable()
+    {
+        return table;
+    }
+
+    // the number of lines of the table, e.g. line items for the sales tables
+    public long getRowCount()
+    {
+        return rowCount;
+    }
+
+    public boolean isRowCountEstimate()
+    {
+        return rowCountEstimate;
+    }
+
+    public ColumnStatistics getColumnStatistics(Column column)
+    {
+        checkArgument(column.getTable() == table, "Column %s is not a column of table %s", column.getName(), table.getName());
+        return columnStatistics.get(column);
+    }
+
+    public Map<Column, ColumnStatistics> getColumnStatistics()
+    {
+        return columnStatistics;
+    }
+
+    // the column after the surrogate key of a dimension table, e.g. c_customer_id
+    private static boolean isBusinessKey(Column column)
+    {
+        return column.getPosition() == 1 &&
+                column.getType().getBase() == CHAR &&
+                column.getName().endsWith("_id") &&
+                DimensionLookup.supportsLookup(column.getTable());
+    }
+
+    private static boolean isOrderNumber(Column column)
+    {
+        return column.getName().endsWith("_ticket_number") || column.getName().endsWith("_order_number");
+    }
+
+    private static Optional<Table> getReferencedTable(Column column)
+    {
+        // the returns refer to the orders of their sales table
+        if (column.getTable().isChild() && isOrderNumber(column)) {
+            return Optional.of(column.getTable().getParent());
+        }
+        for (Map.Entry<String, Table> entry : FOREIGN_KEY_SUFFIXES.entrySet()) {
+            if (column.getName().endsWith(entry.getKey())) {
+                return Optional.of(entry.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static long scaleRows(long sampleRows, Table table, Scaling scaling)
+    {
+        return round((double) sampleRows * scaling.getRowCount(table) / SAMPLE_SCALING.getRowCount(table));
+    }
+
+    // the number of values that rows drawn at random from them show the given number of distinct
+    // values in, or infinity if nearly every row has a value of its own
+    private static double getDomainSize(long distinctValues, long rows)
+    {
+        if (distinctValues >= UNIQUE_FRACTION * rows) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double low = distinctValues;
+        double high = 2.0 * distinctValues;
+        while (getExpectedDistinctValues(high, rows) < distinctValues) {
+            low = high;
+            high *= 2;
+        }
+        for (int i = 0; i < 64; i++) {
+            double middle = (low + high) / 2;
+            if (getExpectedDistinctValues(middle, rows) < distinctValues) {
+                low = middle;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return high;
+    }
+
+    // the expected number of distinct values among rows drawn at random from values
+    private static long getExpectedDistinctValues(double values, long rows)
+    {
+        if (values < 1 || rows == 0) {
+            return 0;
+        }
+        return round(values * (1 - exp(rows * log1p(-1.0 / values))));
+    }
+}
@@ -34,6 +34,13 @@ public class TestCatalogReturnsGenerator
         assertPartialMD5(1, session.getScaling().getRowCount(CATALOG_RETURNS), CATALOG_RETURNS, session, "87f5ba60ec430157eaf268b1bfebfd1c");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(CATALOG_RETURNS), CATALOG_RETURNS, session, "87f5ba60ec430157eaf268b1bfebfd1c");
+    }
+
     @Test
     public void testScaleFactor1()
     {
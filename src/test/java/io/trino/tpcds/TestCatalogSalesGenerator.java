@@ -34,6 +34,13 @@ public class TestCatalogSalesGenerator
         assertPartialMD5(1, session.getScaling().getRowCount(CATALOG_SALES), CATALOG_SALES, session, "825a0ce949a2cf9ece121fa21466bb59");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(CATALOG_SALES), CATALOG_SALES, session, "825a0ce949a2cf9ece121fa21466bb59");
+    }
+
     @Test
     public void testScaleFactor1()
     {
@@ -0,0 +1,160 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.DateRowRanges.RowRange;
+import io.trino.tpcds.Parallel.ChunkBoundaries;
+import io.trino.tpcds.Results.ResultsIterator;
+import io.trino.tpcds.column.Column;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.trino.tpcds.DateRowRanges.getRowRanges;
+import static io.trino.tpcds.Parallel.splitWork;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.column.CatalogSalesColumn.CS_SOLD_DATE_SK;
+import static io.trino.tpcds.column.InventoryColumn.INV_DATE_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_SOLD_DATE_SK;
+import static io.trino.tpcds.type.Date.JULIAN_DATE_MINIMUM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDateRowRanges
+{
+    @Test
+    public void testCatalogSales()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        assertRowRange(CS_SOLD_DATE_SK, JULIAN_DATE_MINIMUM + 100, JULIAN_DATE_MINIMUM + 130, session);
+        assertRowRange(CS_SOLD_DATE_SK, JULIAN_DATE_MINIMUM + 365, JULIAN_DATE_MINIMUM + 365, session);
+        assertRowRange(CS_SOLD_DATE_SK, 0, JULIAN_DATE_MINIMUM + 10, session);
+        assertAllRowsInRange(CS_SOLD_DATE_SK, JULIAN_DATE_MINIMUM + 500, JULIAN_DATE_MINIMUM + 600, session);
+    }
+
+    @Test
+    public void testCatalogSalesChunk()
+    {
+        Session session = getDefaultSession().withScale(10).withParallelism(4).withChunkNumber(3);
+        ChunkBoundaries chunk = splitWork(CS_SOLD_DATE_SK.getTable(), session);
+        long firstDate = getDate(CS_SOLD_DATE_SK, chunk.getFirstRow(), session);
+        long lastDate = getDate(CS_SOLD_DATE_SK, chunk.getLastRow(), session);
+        assertRowRange(CS_SOLD_DATE_SK, firstDate + 20, firstDate + 40, session);
+        assertRowRange(CS_SOLD_DATE_SK, firstDate - 10, firstDate + 2, session);
+        assertRowRange(CS_SOLD_DATE_SK, lastDate, lastDate + 100, session);
+        assertThat(getRowRanges(CS_SOLD_DATE_SK, 0, firstDate - 1, session)).isEmpty();
+        assertThat(getRowRanges(CS_SOLD_DATE_SK, lastDate + 1, Long.MAX_VALUE, session)).isEmpty();
+    }
+
+    @Test
+    public void testInventory()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        assertRowRange(INV_DATE_SK, JULIAN_DATE_MINIMUM + 100, JULIAN_DATE_MINIMUM + 130, session);
+        assertRowRange(INV_DATE_SK, JULIAN_DATE_MINIMUM + 1, JULIAN_DATE_MINIMUM + 13, session);
+        assertRowRange(INV_DATE_SK, 0, JULIAN_DATE_MINIMUM, session);
+        assertThat(getRowRanges(INV_DATE_SK, JULIAN_DATE_MINIMUM + 1, JULIAN_DATE_MINIMUM + 6, session)).isEmpty();
+        assertAllRowsInRange(INV_DATE_SK, JULIAN_DATE_MINIMUM + 200, JULIAN_DATE_MINIMUM + 250, session);
+
+        Session chunkSession = getDefaultSession().withScale(1).withParallelism(3).withChunkNumber(2);
+        assertRowRange(INV_DATE_SK, JULIAN_DATE_MINIMUM + 700, JULIAN_DATE_MINIMUM + 720, chunkSession);
+        assertThat(getRowRanges(INV_DATE_SK, 0, JULIAN_DATE_MINIMUM + 7, chunkSession)).isEmpty();
+    }
+
+    @Test
+    public void testOpenBounds()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        long rowCount = session.getScaling().getRowCount(INV_DATE_SK.getTable());
+        assertRowRange(INV_DATE_SK, Long.MIN_VALUE, JULIAN_DATE_MINIMUM + 10, session);
+        assertRowRange(INV_DATE_SK, JULIAN_DATE_MINIMUM + 700, Long.MAX_VALUE, session);
+        assertThat(getRowRanges(INV_DATE_SK, Long.MIN_VALUE, Long.MAX_VALUE, session))
+                .singleElement()
+                .satisfies(range -> {
+                    assertThat(range.getFirstRow()).isEqualTo(1);
+                    assertThat(range.getLastRow()).isEqualTo(rowCount);
+                });
+        assertThat(getRowRanges(INV_DATE_SK, Long.MIN_VALUE, JULIAN_DATE_MINIMUM - 1, session)).isEmpty();
+
+        assertRowRange(CS_SOLD_DATE_SK, Long.MIN_VALUE, JULIAN_DATE_MINIMUM + 10, session);
+        assertThat(getRowRanges(CS_SOLD_DATE_SK, Long.MIN_VALUE, Long.MAX_VALUE, session))
+                .singleElement()
+                .satisfies(range -> {
+                    assertThat(range.getFirstRow()).isEqualTo(1);
+                    assertThat(range.getLastRow()).isEqualTo(session.getScaling().getRowCount(CS_SOLD_DATE_SK.getTable()));
+                });
+    }
+
+    @Test
+    public void testRandomDates()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        List<RowRange> ranges = getRowRanges(SS_SOLD_DATE_SK, JULIAN_DATE_MINIMUM, JULIAN_DATE_MINIMUM, session);
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getFirstRow()).isEqualTo(1);
+        assertThat(ranges.get(0).getLastRow()).isEqualTo(session.getScaling().getRowCount(SS_SOLD_DATE_SK.getTable()));
+        assertThat(getRowRanges(SS_SOLD_DATE_SK, JULIAN_DATE_MINIMUM, JULIAN_DATE_MINIMUM - 1, session)).isEmpty();
+    }
+
+    // the dates are ascending, so the range is exact if it is bounded by rows outside of the dates
+    private static void assertRowRange(Column dateColumn, long firstDate, long lastDate, Session session)
+    {
+        List<RowRange> ranges = getRowRanges(dateColumn, firstDate, lastDate, session);
+        assertThat(ranges).hasSize(1);
+        RowRange range = ranges.get(0);
+        ChunkBoundaries chunk = splitWork(dateColumn.getTable(), session);
+        assertThat(getDate(dateColumn, range.getFirstRow(), session)).isBetween(firstDate, lastDate);
+        assertThat(getDate(dateColumn, range.getLastRow(), session)).isBetween(firstDate, lastDate);
+        if (range.getFirstRow() > chunk.getFirstRow()) {
+            assertThat(getDate(dateColumn, range.getFirstRow() - 1, session)).isLessThan(firstDate);
+        }
+        if (range.getLastRow() < chunk.getLastRow()) {
+            assertThat(getDate(dateColumn, range.getLastRow() + 1, session)).isGreaterThan(lastDate);
+        }
+    }
+
+    private static void assertAllRowsInRange(Column dateColumn, long firstDate, long lastDate, Session session)
+    {
+        RowRange range = getRowRanges(dateColumn, firstDate, lastDate, session).get(0);
+        ResultsIterator results = constructResults(dateColumn.getTable(), projectDate(dateColumn, session)).iterator();
+        while (results.hasNext()) {
+            String value = results.next().get(0).get(dateColumn.getPosition());
+            if (value != null) {
+                long date = Long.parseLong(value);
+                boolean inRange = results.getRowNumber() >= range.getFirstRow() && results.getRowNumber() <= range.getLastRow();
+                assertThat(inRange).isEqualTo(date >= firstDate && date <= lastDate);
+            }
+        }
+    }
+
+    // all line items of an order have the same date, but some of them may be null
+    private static long getDate(Column dateColumn, long rowNumber, Session session)
+    {
+        ResultsIterator results = constructResults(dateColumn.getTable(), rowNumber, rowNumber, projectDate(dateColumn, session)).iterator();
+        while (results.hasNext()) {
+            String value = results.next().get(0).get(dateColumn.getPosition());
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        }
+        throw new AssertionError("No date in row " + rowNumber);
+    }
+
+    private static Session projectDate(Column dateColumn, Session session)
+    {
+        return session.withTable(dateColumn.getTable()).withProjection(ImmutableSet.of(dateColumn));
+    }
+}
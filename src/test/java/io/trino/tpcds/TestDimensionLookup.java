@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.Results.ResultsIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.column.ItemColumn.I_CURRENT_PRICE;
+import static io.trino.tpcds.column.ItemColumn.I_ITEM_SK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestDimensionLookup
+{
+    @Test
+    public void testLookupMatchesResults()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            if (!DimensionLookup.supportsLookup(table)) {
+                continue;
+            }
+            // without a cache, every row is generated on its own
+            DimensionLookup lookup = new DimensionLookup(session, 0);
+            ResultsIterator results = constructResults(table, session.withTable(table)).iterator();
+            long rowCount = session.getScaling().getRowCount(table);
+            long step = Math.max(1, rowCount / 200);
+            while (results.hasNext()) {
+                List<String> values = results.next().get(0);
+                long rowNumber = results.getRowNumber();
+                if (rowNumber % step == 0 || rowNumber <= 12 || rowNumber == rowCount) {
+                    assertThat(lookup.lookup(table, rowNumber)).as("%s row %s", table, rowNumber).isEqualTo(values);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSlowlyChangingDimension()
+    {
+        Session session = getDefaultSession().withScale(1);
+        DimensionLookup lookup = new DimensionLookup(session, 0);
+        ResultsIterator results = constructResults(ITEM, 1, 60, session.withTable(ITEM)).iterator();
+        while (results.hasNext()) {
+            List<String> values = results.next().get(0);
+            assertThat(lookup.lookup(ITEM, results.getRowNumber())).isEqualTo(values);
+        }
+    }
+
+    @Test
+    public void testCache()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        DimensionLookup lookup = new DimensionLookup(session);
+        List<String> values = lookup.lookup(CUSTOMER, 42);
+        assertThat(lookup.lookup(CUSTOMER, 42)).isSameAs(values);
+        assertThat(lookup.lookup(ITEM, 42)).isNotEqualTo(values);
+    }
+
+    @Test
+    public void testProjection()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(ITEM).withProjection(ImmutableSet.of(I_ITEM_SK, I_CURRENT_PRICE));
+        List<String> values = new DimensionLookup(session).lookup(ITEM, 6);
+        assertThat(values.get(I_ITEM_SK.getPosition())).isEqualTo("6");
+        assertThat(values.get(I_CURRENT_PRICE.getPosition())).isNotNull();
+        assertThat(values).filteredOn(value -> value != null).hasSize(2);
+    }
+
+    @Test
+    public void testInvalidLookups()
+    {
+        DimensionLookup lookup = new DimensionLookup(getDefaultSession().withScale(0.01));
+        assertThatThrownBy(() -> lookup.lookup(STORE_SALES, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Lookup by surrogate key is not supported for table store_sales");
+        assertThatThrownBy(() -> lookup.lookup(DATE_DIM, 2415022))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lookup.lookup(CUSTOMER, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Surrogate key 0 of table customer is not between 1 and 1000");
+    }
+}
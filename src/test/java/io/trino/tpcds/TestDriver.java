@@ -14,6 +14,8 @@
 
 package io.trino.tpcds;
 
+import io.trino.tpcds.output.FsyncPolicy;
+import io.trino.tpcds.output.OutputType;
 import org.junit.jupiter.api.Test;
 import picocli.CommandLine;
 
@@ -90,6 +92,119 @@ public class TestDriver
                 .hasMessage("Invalid value for scale: '-1.0'. Scale must be greater than 0 and less than 100000");
     }
 
+    @Test
+    public void testStdoutRequiresSingleTableAndChunk()
+    {
+        assertThatThrownBy(parse("--output", "stdout").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for output: 'stdout'. Writing to stdout requires a single table and, for parallel builds, a single chunk");
+        assertThatThrownBy(parse("--output", "stdout", "--table", "call_center", "--parallelism", "4").options::toSession)
+                .isInstanceOf(InvalidOptionException.class);
+
+        Session session = parse("--output", "stdout", "--table", "call_center", "--parallelism", "4", "--chunk", "2").options.toSession();
+        assertThat(session.getOutputType()).isEqualTo(OutputType.STDOUT);
+    }
+
+    @Test
+    public void testInvalidOutput()
+    {
+        assertThatThrownBy(parse("--output", "socket").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for output: 'socket'. ");
+        assertThatThrownBy(parse("--output", "pipe", "--max-file-rows", "10").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for output: 'pipe'. Output can only be split into part files when writing to files");
+    }
+
+    @Test
+    public void testBucketBy()
+    {
+        Session session = parse("--bucket-by", "store_sales=ss_item_sk:32", "--bucket-by", "customer=c_customer_sk:16").options.toSession();
+        assertThat(session.getBucketing()).hasSize(2);
+        assertThat(session.getBucketing().get(Table.STORE_SALES).getBucketCount()).isEqualTo(32);
+        assertThat(session.getCommandLineArguments()).isEqualTo("--bucket-by store_sales=ss_item_sk:32 --bucket-by customer=c_customer_sk:16");
+
+        assertThatThrownBy(parse("--bucket-by", "store_sales:32").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for bucket-by: 'store_sales:32'. Expected <table>=<column>:<bucket count>");
+        assertThatThrownBy(parse("--bucket-by", "store_sales=c_customer_sk:32").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for bucket-by: 'store_sales=c_customer_sk:32'. Unknown table or column");
+        assertThatThrownBy(parse("--bucket-by", "store_sales=ss_sales_price:32").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for bucket-by: 'store_sales=ss_sales_price:32'. Cannot bucket by column ss_sales_price of type DECIMAL");
+    }
+
+    @Test
+    public void testSortBy()
+    {
+        Session session = parse("--sort-by", "store_sales=ss_sold_date_sk, ss_customer_sk", "--sort-memory", "1000000").options.toSession();
+        assertThat(session.getSortKeys().get(Table.STORE_SALES).getColumns()).hasSize(2);
+        assertThat(session.getCommandLineArguments()).isEqualTo("--sort-by store_sales=ss_sold_date_sk,ss_customer_sk --sort-memory 1000000");
+
+        assertThatThrownBy(parse("--sort-by", "store_sales=ss_sold_date").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for sort-by: 'store_sales=ss_sold_date'. Unknown table or column");
+        assertThatThrownBy(parse("--sort-by", "store_sales=ss_sold_date_sk", "--partition-by-date").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for sort-by: 'store_sales=ss_sold_date_sk'. Sorted output cannot be split into part files, partitioned, bucketed or merged");
+        assertThatThrownBy(parse("--sort-by", "store_sales=ss_sold_date_sk", "--parallelism", "2", "--merge-chunks").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for sort-by: 'store_sales=ss_sold_date_sk'. Sorted output cannot be split into part files, partitioned, bucketed or merged");
+    }
+
+    @Test
+    public void testMaxOpenPartitions()
+    {
+        Session session = parse("--partition-by-date", "--max-open-partitions", "64").options.toSession();
+        assertThat(session.getMaxOpenPartitions()).isEqualTo(64);
+        assertThat(session.getCommandLineArguments()).isEqualTo("--partition-by-date --max-open-partitions 64");
+        assertThat(parse().options.toSession().getMaxOpenPartitions()).isEqualTo(Options.DEFAULT_MAX_OPEN_PARTITIONS);
+
+        assertThatThrownBy(parse("--max-open-partitions", "0").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for max-open-partitions: '0'. Max open partitions must be >= 1");
+    }
+
+    @Test
+    public void testWriteBuffers()
+    {
+        Session session = parse("--write-buffer-size", "65536", "--write-buffers", "4", "--fsync", "close").options.toSession();
+        assertThat(session.getWriteBufferSize()).isEqualTo(65536);
+        assertThat(session.getWriteBufferCount()).isEqualTo(4);
+        assertThat(session.getFsyncPolicy()).isEqualTo(FsyncPolicy.CLOSE);
+        assertThat(session.getCommandLineArguments()).isEqualTo("--write-buffer-size 65536 --write-buffers 4 --fsync close");
+
+        assertThatThrownBy(parse("--fsync", "always").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for fsync: 'always'. ");
+        assertThatThrownBy(parse("--write-buffers", "0").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for write-buffers: '0'. Write buffers must be >= 1");
+    }
+
+    @Test
+    public void testJdbc()
+    {
+        Session session = parse("--jdbc-url", "jdbc:test:user=dsdgen;password=secret", "--jdbc-batch-size", "5000", "--jdbc-connections", "8").options.toSession();
+        assertThat(session.getJdbcUrl()).contains("jdbc:test:user=dsdgen;password=secret");
+        assertThat(session.getJdbcBatchSize()).isEqualTo(5000);
+        assertThat(session.getJdbcConnections()).isEqualTo(8);
+        assertThat(session.getCommandLineArguments()).isEqualTo("--jdbc-batch-size 5000 --jdbc-connections 8");
+
+        assertThatThrownBy(parse("--jdbc-url", "jdbc:test:password=secret", "--format", "binary").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for jdbc-url: '...'. Loading into a JDBC target cannot be combined with options for the output files");
+    }
+
+    @Test
+    public void testInvalidServerPort()
+    {
+        assertThatThrownBy(parse("--serve", "65536").options::toSession)
+                .isInstanceOf(InvalidOptionException.class)
+                .hasMessage("Invalid value for serve: '65536'. Port must be between 0 and 65535");
+    }
+
     @Test
     public void testDecimalScale()
     {
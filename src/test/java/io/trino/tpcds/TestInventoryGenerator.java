@@ -34,6 +34,13 @@ public class TestInventoryGenerator
         assertPartialMD5(1, session.getScaling().getRowCount(INVENTORY), INVENTORY, session, "4b30d1ba8ec5743221651fcd7b3c1a57");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(INVENTORY), INVENTORY, session, "4b30d1ba8ec5743221651fcd7b3c1a57");
+    }
+
     @Test
     public void testScaleFactor1()
     {
@@ -0,0 +1,306 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.trino.tpcds.Results.ResultsIterator;
+import io.trino.tpcds.Results.ResultsSpliterator;
+import io.trino.tpcds.Results.RowIterator;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.column.StoreSalesColumn;
+import io.trino.tpcds.output.BinaryRowEncoder;
+import io.trino.tpcds.row.TableRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.SlowlyChangingDimensionUtils.computeScdKey;
+import static io.trino.tpcds.Table.CATALOG_RETURNS;
+import static io.trino.tpcds.Table.CATALOG_SALES;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.CUSTOMER_ADDRESS;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.STORE_RETURNS;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.Table.WEB_RETURNS;
+import static io.trino.tpcds.Table.WEB_SALES;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_ITEM_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_NET_PAID;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_NET_PROFIT;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_QUANTITY;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_SOLD_DATE_SK;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseJulianDays;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseSecondsOfDay;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestResults
+{
+    @Test
+    public void testRowIteratorMatchesValues()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            Session tableSession = session.withTable(table);
+            long rowCount = Math.min(tableSession.getScaling().getRowCount(table), 1000);
+            Results results = constructResults(table, 1, rowCount, tableSession);
+            ResultsIterator values = results.iterator();
+            RowIterator rows = results.rowIterator();
+            while (values.hasNext()) {
+                List<String> expected = values.next().get(0);
+                assertThat(rows.hasNext()).isTrue();
+                TableRow row = rows.next().get(0);
+                for (Column column : table.getColumns()) {
+                    assertThat(row.getString(column)).isEqualTo(expected.get(column.getPosition()));
+                    assertThat(row.isNull(column)).isEqualTo(expected.get(column.getPosition()) == null);
+                }
+                assertThat(rows.getRowNumber()).isEqualTo(values.getRowNumber());
+                assertThat(rows.isEndOfRow()).isEqualTo(values.isEndOfRow());
+            }
+            assertThat(rows.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    public void testSingleColumn()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES);
+        TableRow row = constructResults(STORE_SALES, 1, 1, session).rowIterator().next().get(0);
+        assertThat(row.getString(SS_NET_PAID)).isEqualTo(row.getValues().get(SS_NET_PAID.getPosition()));
+    }
+
+    @Test
+    public void testTypedAccessors()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            Session tableSession = session.withTable(table);
+            long rowCount = Math.min(tableSession.getScaling().getRowCount(table), 1000);
+            RowIterator rows = constructResults(table, 1, rowCount, tableSession).rowIterator();
+            while (rows.hasNext()) {
+                TableRow row = rows.next().get(0);
+                for (Column column : table.getColumns()) {
+                    String value = row.getString(column);
+                    if (value == null) {
+                        assertThat(row.getBytes(column)).isNull();
+                        continue;
+                    }
+                    assertThat(row.getBytes(column)).isEqualTo(value.getBytes(ISO_8859_1));
+                    ColumnType type = column.getType();
+                    if (isVariableWidth(type)) {
+                        continue;
+                    }
+                    switch (type.getBase()) {
+                        case INTEGER -> assertThat(row.getInt(column)).isEqualTo(Integer.parseInt(value));
+                        case IDENTIFIER -> assertThat(row.getLong(column)).isEqualTo(Long.parseLong(value));
+                        case DATE -> assertThat(row.getJulianDay(column)).isEqualTo(parseJulianDays(value));
+                        case TIME -> assertThat(row.getLong(column)).isEqualTo(parseSecondsOfDay(value));
+                        case DECIMAL -> assertThat(row.getDecimalUnscaled(column)).isEqualTo(parseUnscaledDecimal(value, type.getScale().get()));
+                        default -> throw new AssertionError("Unexpected fixed width type " + type.getBase());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultAccessors()
+    {
+        // a row that only implements getValues() reads its columns the same way as a generated one
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            Session tableSession = session.withTable(table);
+            long rowCount = Math.min(tableSession.getScaling().getRowCount(table), 100);
+            RowIterator rows = constructResults(table, 1, rowCount, tableSession).rowIterator();
+            while (rows.hasNext()) {
+                TableRow row = rows.next().get(0);
+                List<String> values = row.getValues();
+                TableRow plainRow = () -> values;
+                for (Column column : table.getColumns()) {
+                    assertThat(plainRow.getString(column)).isEqualTo(row.getString(column));
+                    assertThat(plainRow.isNull(column)).isEqualTo(row.isNull(column));
+                    assertThat(plainRow.getBytes(column)).isEqualTo(row.getBytes(column));
+                    if (!row.isNull(column) && !isVariableWidth(column.getType())) {
+                        assertThat(plainRow.getLong(column)).isEqualTo(row.getLong(column));
+                    }
+                }
+                Column firstColumn = table.getColumns()[0];
+                assertThat(plainRow.getValues(Set.of(firstColumn))).isEqualTo(row.getValues(Set.of(firstColumn)));
+            }
+        }
+    }
+
+    @Test
+    public void testBinaryEncodingOfTypedRows()
+            throws IOException
+    {
+        // encoding from the typed accessors gives the same bytes as parsing the formatted values
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            Session tableSession = session.withTable(table);
+            long rowCount = Math.min(tableSession.getScaling().getRowCount(table), 100);
+            BinaryRowEncoder encoder = new BinaryRowEncoder(table);
+            RowIterator rows = constructResults(table, 1, rowCount, tableSession).rowIterator();
+            while (rows.hasNext()) {
+                TableRow row = rows.next().get(0);
+                ByteArrayOutputStream typed = new ByteArrayOutputStream();
+                encoder.writeRow(row, typed);
+                ByteArrayOutputStream formatted = new ByteArrayOutputStream();
+                encoder.writeRow(row.getValues(), formatted);
+                assertThat(typed.toByteArray()).isEqualTo(formatted.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    public void testTypedAccessorOfWrongType()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES);
+        TableRow row = constructResults(STORE_SALES, 1, 1, session).rowIterator().next().get(0);
+        assertThatThrownBy(() -> row.getInt(SS_NET_PAID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column ss_net_paid is not of type INTEGER");
+        assertThatThrownBy(() -> row.getJulianDay(SS_SOLD_DATE_SK))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> row.getDecimalUnscaled(SS_QUANTITY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testProjection()
+    {
+        for (Table table : ImmutableList.of(STORE_SALES, STORE_RETURNS, CATALOG_SALES, CATALOG_RETURNS, WEB_SALES, WEB_RETURNS, CUSTOMER, CUSTOMER_ADDRESS, ITEM)) {
+            Column[] columns = table.getColumns();
+            assertProjection(table, ImmutableSet.of(columns[0]));
+            assertProjection(table, ImmutableSet.of(columns[1], columns[columns.length - 1]));
+            assertProjection(table, Arrays.stream(columns)
+                    .filter(column -> column.getPosition() % 2 == 0)
+                    .collect(toImmutableSet()));
+        }
+        assertProjection(STORE_SALES, ImmutableSet.of(SS_ITEM_SK, SS_SOLD_DATE_SK, SS_NET_PAID));
+    }
+
+    @Test
+    public void testProjectionOfStartingRow()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES);
+        Session projectedSession = session.withProjection(ImmutableSet.of(SS_ITEM_SK));
+        List<String> expected = constructResults(STORE_SALES, 1000, 1000, session).iterator().next().get(0);
+        List<String> actual = constructResults(STORE_SALES, 1000, 1000, projectedSession).iterator().next().get(0);
+        for (StoreSalesColumn column : StoreSalesColumn.values()) {
+            assertThat(actual.get(column.getPosition())).isEqualTo(column == SS_ITEM_SK ? expected.get(column.getPosition()) : null);
+        }
+    }
+
+    @Test
+    public void testRowIteratorProjection()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES).withProjection(ImmutableSet.of(SS_ITEM_SK));
+        RowIterator rows = constructResults(STORE_SALES, session).rowIterator();
+        for (int i = 0; i < 100; i++) {
+            TableRow row = rows.next().get(0);
+            assertThat(row.isNull(SS_ITEM_SK)).isFalse();
+            assertThat(row.getLong(SS_ITEM_SK)).isPositive();
+            assertThat(row.isNull(SS_NET_PROFIT)).isTrue();
+            assertThat(row.getString(SS_NET_PROFIT)).isNull();
+            assertThat(row.getBytes(SS_NET_PROFIT)).isNull();
+            assertThat(row.getValues().get(SS_NET_PROFIT.getPosition())).isNull();
+            assertThatThrownBy(() -> row.getLong(SS_NET_PROFIT))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Column ss_net_profit is outside the projection of the session");
+            assertThatThrownBy(() -> row.getDecimalUnscaled(SS_NET_PROFIT))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void testParallelStream()
+    {
+        assertParallelStream(STORE_SALES, 0.01);
+        assertParallelStream(CATALOG_RETURNS, 0.01);
+        assertParallelStream(CUSTOMER, 0.1);
+        assertParallelStream(ITEM, 1);
+    }
+
+    @Test
+    public void testSpliterator()
+    {
+        Session session = getDefaultSession().withScale(1).withTable(ITEM);
+        Results results = constructResults(ITEM, session);
+        Spliterator<List<List<String>>> suffix = results.spliterator();
+        assertThat(suffix.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        long rowCount = session.getScaling().getRowCount(ITEM);
+        assertThat(suffix.estimateSize()).isEqualTo(rowCount);
+
+        // the revisions of an item are never split
+        Spliterator<List<List<String>>> prefix = suffix.trySplit();
+        assertThat(prefix).isNotNull();
+        long splitRowNumber = prefix.estimateSize() + 1;
+        assertThat(computeScdKey(ITEM, splitRowNumber).isNewBusinessKey()).isTrue();
+        assertThat(suffix.estimateSize()).isEqualTo(rowCount - prefix.estimateSize());
+
+        assertThat(suffix.tryAdvance(rows -> assertThat(rows.get(0).get(0)).isEqualTo(Long.toString(splitRowNumber)))).isTrue();
+        assertThat(suffix.estimateSize()).isEqualTo(rowCount - splitRowNumber);
+        assertThat(suffix.trySplit()).isNull();
+
+        ResultsSpliterator small = new ResultsSpliterator(ITEM, 1, 100, session);
+        assertThat(small.trySplit()).isNull();
+        assertThat(constructResults(STORE_SALES, session.withTable(STORE_SALES)).spliterator().hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    private static void assertParallelStream(Table table, double scale)
+    {
+        Session session = getDefaultSession().withScale(scale).withTable(table);
+        Results results = constructResults(table, session);
+        List<List<String>> expected = new ArrayList<>();
+        results.forEach(rows -> expected.add(rows.get(0)));
+        List<List<String>> actual = results.parallelStream()
+                .map(rows -> rows.get(0))
+                .collect(toImmutableList());
+        assertThat(actual).as(table.getName()).isEqualTo(expected);
+    }
+
+    private static void assertProjection(Table table, Set<Column> projection)
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(table);
+        long rowCount = Math.min(session.getScaling().getRowCount(table), 1000);
+        ResultsIterator expected = constructResults(table, 1, rowCount, session).iterator();
+        ResultsIterator actual = constructResults(table, 1, rowCount, session.withProjection(projection)).iterator();
+        while (expected.hasNext()) {
+            List<String> expectedValues = expected.next().get(0);
+            List<String> actualValues = actual.next().get(0);
+            for (Column column : table.getColumns()) {
+                String expectedValue = projection.contains(column) ? expectedValues.get(column.getPosition()) : null;
+                assertThat(actualValues.get(column.getPosition())).as(column.getName()).isEqualTo(expectedValue);
+            }
+        }
+        assertThat(actual.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.INCOME_BAND;
+import static io.trino.tpcds.Table.REASON;
+import static io.trino.tpcds.Table.TIME_DIM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestStaticTableCache
+{
+    @Test
+    public void testRowsMatchResults()
+    {
+        StaticTableCache cache = new StaticTableCache(StaticTableCache.DEFAULT_MAXIMUM_BYTES);
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            if (StaticTableCache.isStaticTable(table)) {
+                assertRowsMatchResults(cache.getRows(table, session.withTable(table)), table, session.withTable(table));
+            }
+        }
+
+        // every table stays cached, even customer_demographics, which is larger than a quarter of the cache
+        long size = cache.getSizeInBytes();
+        assertThat(size).isGreaterThan(StaticTableCache.DEFAULT_MAXIMUM_BYTES / 4);
+        cache.getRows(CUSTOMER_DEMOGRAPHICS, session);
+        assertThat(cache.getSizeInBytes()).isEqualTo(size);
+
+        Session chunkSession = session.withTable(CUSTOMER_DEMOGRAPHICS).withParallelism(100).withChunkNumber(42);
+        assertThat(cache.getRows(CUSTOMER_DEMOGRAPHICS, chunkSession)).isEqualTo(getResults(CUSTOMER_DEMOGRAPHICS, chunkSession));
+    }
+
+    @Test
+    public void testSharedAcrossSessions()
+    {
+        StaticTableCache cache = new StaticTableCache(StaticTableCache.DEFAULT_MAXIMUM_BYTES);
+        List<List<String>> rows = cache.getRows(DATE_DIM, 1, 10, getDefaultSession().withScale(1));
+        long size = cache.getSizeInBytes();
+        assertThat(size).isPositive();
+
+        // neither the scale nor the formatting options change the table
+        Options options = new Options();
+        options.scale = 100;
+        options.nullString = "\\N";
+        options.separator = ',';
+        assertThat(cache.getRows(DATE_DIM, 1, 10, options.toSession())).isEqualTo(rows);
+        assertThat(cache.getSizeInBytes()).isEqualTo(size);
+
+        cache.getRows(TIME_DIM, 1, 10, getDefaultSession());
+        assertThat(cache.getSizeInBytes()).isGreaterThan(size);
+        cache.invalidateAll();
+        assertThat(cache.getSizeInBytes()).isZero();
+    }
+
+    @Test
+    public void testSharedAcrossThreads()
+            throws InterruptedException
+    {
+        StaticTableCache cache = new StaticTableCache(StaticTableCache.DEFAULT_MAXIMUM_BYTES);
+        List<List<String>> expected = getResults(REASON, getDefaultSession().withTable(REASON));
+        ImmutableList.Builder<Thread> threads = ImmutableList.builder();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    assertThat(cache.getRows(REASON, getDefaultSession().withTable(REASON))).isEqualTo(expected);
+                }
+                catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads.build()) {
+            thread.join();
+        }
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void testEviction()
+    {
+        StaticTableCache cache = new StaticTableCache(1024);
+        assertThat(cache.getRows(INCOME_BAND, getDefaultSession())).hasSize(20);
+        cache.getRows(TIME_DIM, 1, 1, getDefaultSession());
+        assertThat(cache.getSizeInBytes()).isLessThanOrEqualTo(1024);
+    }
+
+    @Test
+    public void testInvalidRequests()
+    {
+        StaticTableCache cache = StaticTableCache.getInstance();
+        assertThatThrownBy(() -> cache.getRows(CUSTOMER, getDefaultSession()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Table customer is not a static table");
+        assertThatThrownBy(() -> cache.getRows(INCOME_BAND, 1, 21, getDefaultSession()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rows 1 to 21 are not in table income_band of 20 rows");
+    }
+
+    // compares row by row, so that customer_demographics does not have to be held twice
+    private static void assertRowsMatchResults(List<List<String>> rows, Table table, Session session)
+    {
+        int row = 0;
+        for (List<List<String>> parentAndChildRows : constructResults(table, session)) {
+            assertThat(rows.get(row)).as("%s row %s", table.getName(), row + 1).isEqualTo(parentAndChildRows.get(0));
+            row++;
+        }
+        assertThat(rows).as(table.getName()).hasSize(row);
+    }
+
+    private static List<List<String>> getResults(Table table, Session session)
+    {
+        ImmutableList.Builder<List<String>> rows = ImmutableList.builder();
+        for (List<List<String>> parentAndChildRows : constructResults(table, session)) {
+            rows.add(parentAndChildRows.get(0));
+        }
+        return rows.build();
+    }
+}
@@ -34,6 +34,13 @@ public class TestStoreReturnsGenerator
         assertPartialMD5(1, session.getScaling().getRowCount(STORE_RETURNS), STORE_RETURNS, session, "2d6e049368329a08b9775f810fcbb210");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(STORE_RETURNS), STORE_RETURNS, session, "2d6e049368329a08b9775f810fcbb210");
+    }
+
     @Test
     public void testScaleFactor1()
     {
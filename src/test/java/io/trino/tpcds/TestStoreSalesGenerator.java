@@ -34,6 +34,13 @@ public class TestStoreSalesGenerator
         assertPartialMD5(1, session.getScaling().getRowCount(STORE_SALES), STORE_SALES, session, "082d16bc89e2edcdda34b6b752ba13bd");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(STORE_SALES), STORE_SALES, session, "082d16bc89e2edcdda34b6b752ba13bd");
+    }
+
     @Test
     public void testScaleFactor1()
     {
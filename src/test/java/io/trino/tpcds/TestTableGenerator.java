@@ -0,0 +1,507 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds;
+
+import com.google.common.base.Splitter;
+import io.trino.tpcds.batch.BinaryTableReader;
+import io.trino.tpcds.output.ChunkMerger;
+import io.trino.tpcds.output.CountingRowSink;
+import io.trino.tpcds.output.FileRowSink;
+import io.trino.tpcds.output.FsyncPolicy;
+import io.trino.tpcds.output.ManifestEntry;
+import io.trino.tpcds.output.OutputFormat;
+import io.trino.tpcds.output.OutputType;
+import io.trino.tpcds.output.PartitionedTableWriter;
+import io.trino.tpcds.output.TextRowEncoder;
+import io.trino.tpcds.output.ZoneMapCollector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Strings.emptyToNull;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CATALOG_RETURNS;
+import static io.trino.tpcds.Table.CATALOG_SALES;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.STORE_RETURNS;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.Table.WEB_RETURNS;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_DEP_COUNT;
+import static io.trino.tpcds.output.ManifestEntry.readManifest;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestTableGenerator
+{
+    private static Session createSession(Path directory)
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        return options.toSession();
+    }
+
+    @Test
+    public void testRollingByRows(@TempDir Path flatDirectory, @TempDir Path rollingDirectory)
+            throws IOException
+    {
+        new TableGenerator(createSession(flatDirectory)).generateTable(STORE_SALES);
+        Session session = createSession(rollingDirectory).withMaxFileRows(5000);
+        new TableGenerator(session).generateTable(STORE_SALES);
+
+        for (Table table : List.of(STORE_SALES, STORE_RETURNS)) {
+            List<ManifestEntry> parts = readManifest(rollingDirectory.resolve(table.getName() + ".manifest"));
+            assertThat(parts.size()).isGreaterThan(1);
+            assertThat(parts.get(0).getFileName()).isEqualTo(table.getName() + "_part_00001.dat");
+            assertThat(parts.get(0).getFirstRow()).isEqualTo(1);
+            assertThat(parts.get(parts.size() - 1).getLastRow()).isEqualTo(session.getScaling().getRowCount(table.isChild() ? table.getParent() : table));
+
+            ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+            for (int i = 0; i < parts.size(); i++) {
+                ManifestEntry part = parts.get(i);
+                byte[] contents = Files.readAllBytes(rollingDirectory.resolve(part.getFileName()));
+                assertThat(contents.length).isEqualTo(part.getBytes());
+                concatenated.write(contents);
+                if (i > 0) {
+                    assertThat(part.getFirstRow()).isEqualTo(parts.get(i - 1).getLastRow() + 1);
+                }
+            }
+            assertThat(concatenated.toByteArray()).isEqualTo(Files.readAllBytes(flatDirectory.resolve(table.getName() + ".dat")));
+        }
+    }
+
+    @Test
+    public void testRollingDoesNotSplitTickets(@TempDir Path directory)
+            throws IOException
+    {
+        new TableGenerator(createSession(directory).withTable(STORE_SALES).withMaxFileBytes(100_000)).generateTable(STORE_SALES);
+
+        List<ManifestEntry> parts = readManifest(directory.resolve("store_sales.manifest"));
+        assertThat(parts.size()).isGreaterThan(1);
+        String previousTicket = null;
+        for (ManifestEntry part : parts) {
+            if (part != parts.get(parts.size() - 1)) {
+                assertThat(part.getBytes()).isGreaterThanOrEqualTo(100_000);
+            }
+            List<String> lines = Files.readAllLines(directory.resolve(part.getFileName()), ISO_8859_1);
+            assertThat(lines).hasSize((int) part.getLines());
+            String firstTicket = getTicketNumber(lines.get(0));
+            assertThat(firstTicket).isNotEqualTo(previousTicket);
+            assertThat(Long.parseLong(firstTicket)).isEqualTo(part.getFirstRow());
+            previousTicket = getTicketNumber(lines.get(lines.size() - 1));
+            assertThat(Long.parseLong(previousTicket)).isEqualTo(part.getLastRow());
+        }
+    }
+
+    @Test
+    public void testPipeOutput(@TempDir Path directory)
+            throws IOException
+    {
+        Session session = createSession(directory).withTable(CALL_CENTER).withOutputType(OutputType.PIPE);
+        assertThatThrownBy(() -> new TableGenerator(session).generateTable(CALL_CENTER))
+                .isInstanceOf(TpcdsException.class)
+                .hasMessageStartingWith("Named pipe " + directory.resolve("call_center.dat") + " does not exist");
+
+        // the consumer creates the pipe ahead of time; a regular file stands in for a fifo here
+        Path pipe = Files.createFile(directory.resolve("call_center.dat"));
+        new TableGenerator(session).generateTable(CALL_CENTER);
+        assertThat(Files.readAllLines(pipe, ISO_8859_1)).hasSize((int) session.getScaling().getRowCount(CALL_CENTER));
+    }
+
+    @Test
+    public void testPartitionByDate(@TempDir Path flatDirectory, @TempDir Path partitionedDirectory)
+            throws IOException
+    {
+        new TableGenerator(createSession(flatDirectory)).generateTable(STORE_SALES);
+        new TableGenerator(createSession(partitionedDirectory).withPartitionByDate(true)).generateTable(STORE_SALES);
+
+        for (Table table : List.of(STORE_SALES, STORE_RETURNS)) {
+            int dateColumn = PartitionedTableWriter.getPartitionColumn(table).orElseThrow().getPosition();
+            List<Path> partitions;
+            try (Stream<Path> files = Files.list(partitionedDirectory.resolve(table.getName()))) {
+                partitions = files.toList();
+            }
+            // more partitions than can be open at once, so some of them were closed to open others
+            assertThat(partitions.size()).isGreaterThan(Options.DEFAULT_MAX_OPEN_PARTITIONS);
+
+            List<String> partitionedLines = new ArrayList<>();
+            for (Path partition : partitions) {
+                String partitionName = partition.getFileName().toString();
+                assertThat(partitionName).startsWith(PartitionedTableWriter.getPartitionColumn(table).orElseThrow().getName() + "=");
+                String date = partitionName.substring(partitionName.indexOf('=') + 1);
+                for (String line : Files.readAllLines(partition.resolve("part-00001.dat"), ISO_8859_1)) {
+                    String value = Splitter.on('|').splitToList(line).get(dateColumn);
+                    assertThat(value.isEmpty() ? PartitionedTableWriter.DEFAULT_PARTITION_NAME : value).isEqualTo(date);
+                    partitionedLines.add(line);
+                }
+            }
+            List<String> flatLines = new ArrayList<>(Files.readAllLines(flatDirectory.resolve(table.getName() + ".dat"), ISO_8859_1));
+            Collections.sort(partitionedLines);
+            Collections.sort(flatLines);
+            assertThat(partitionedLines).isEqualTo(flatLines);
+        }
+    }
+
+    @Test
+    public void testPartitionReopening(@TempDir Path directory)
+            throws IOException
+    {
+        Session session = createSession(directory).withPartitionByDate(true);
+        // the whole table fits in the default buffers, so every partition file is written once
+        assertThat(writePartitions(directory.resolve("default"), session, PartitionedTableWriter.DEFAULT_BUFFER_MEMORY)).isEqualTo(0);
+        // with buffers for a quarter of the table files are reopened, but far less often than
+        // for every order, which is what writing the rows straight to the files would do
+        long orders = session.getScaling().getRowCount(STORE_SALES);
+        assertThat(writePartitions(directory.resolve("small"), session, 4 * 1024 * 1024))
+                .isPositive()
+                .isLessThan(orders / 5);
+    }
+
+    // Returns the number of reopened partition files
+    private static long writePartitions(Path directory, Session session, long bufferMemory)
+            throws IOException
+    {
+        long rows = 0;
+        PartitionedTableWriter writer = new PartitionedTableWriter(directory, STORE_SALES, session, new TextRowEncoder(session), bufferMemory);
+        try (writer) {
+            for (List<List<String>> tableRows : Results.constructResults(STORE_SALES, session)) {
+                writer.write(tableRows.get(0));
+                rows++;
+            }
+        }
+        long lines = 0;
+        try (Stream<Path> partitions = Files.list(directory.resolve(STORE_SALES.getName()))) {
+            for (Path partition : partitions.toList()) {
+                lines += Files.readAllLines(partition.resolve("part-00001.dat"), ISO_8859_1).size();
+            }
+        }
+        assertThat(lines).isEqualTo(rows);
+        return writer.getReopenedPartitions();
+    }
+
+    @Test
+    public void testBucketing(@TempDir Path directory)
+            throws IOException
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        options.bucketBy = List.of("store_sales=ss_item_sk:8", "store_returns=sr_item_sk:8");
+        Session session = options.toSession();
+        new TableGenerator(session).generateTable(STORE_SALES);
+
+        for (Table table : List.of(STORE_SALES, STORE_RETURNS)) {
+            int itemColumn = table.getColumn(table == STORE_SALES ? "ss_item_sk" : "sr_item_sk").getPosition();
+            long lines = 0;
+            for (int bucket = 0; bucket < 8; bucket++) {
+                for (String line : Files.readAllLines(directory.resolve(table.getName()).resolve(String.format("%06d_0.dat", bucket)), ISO_8859_1)) {
+                    // the bucketing function of Hive for a bigint column
+                    long item = Long.parseLong(Splitter.on('|').splitToList(line).get(itemColumn));
+                    assertThat(((int) (item ^ (item >>> 32)) & Integer.MAX_VALUE) % 8).isEqualTo(bucket);
+                    lines++;
+                }
+            }
+            assertThat(lines).isEqualTo(table == STORE_SALES ? 120527 : 11925);
+        }
+    }
+
+    @Test
+    public void testSortBy(@TempDir Path flatDirectory, @TempDir Path sortedDirectory, @TempDir Path spilledDirectory)
+            throws IOException
+    {
+        new TableGenerator(createSession(flatDirectory).withTable(STORE_SALES)).generateTable(STORE_SALES);
+        Options options = new Options();
+        options.scale = 0.01;
+        options.table = STORE_SALES.getName();
+        options.sortBy = List.of("store_sales=ss_sold_date_sk,ss_customer_sk");
+        options.directory = sortedDirectory.toString();
+        new TableGenerator(options.toSession()).generateTable(STORE_SALES);
+        // a budget this small spills dozens of runs that have to be merged
+        options.directory = spilledDirectory.toString();
+        options.sortMemory = 1024 * 1024;
+        new TableGenerator(options.toSession()).generateTable(STORE_SALES);
+
+        // a stable sort, with null keys first
+        int date = STORE_SALES.getColumn("ss_sold_date_sk").getPosition();
+        int customer = STORE_SALES.getColumn("ss_customer_sk").getPosition();
+        Comparator<String> key = Comparator.nullsFirst(Comparator.comparingLong(Long::parseLong));
+        List<String> expected = Files.readAllLines(flatDirectory.resolve("store_sales.dat"), ISO_8859_1).stream()
+                .map(line -> Splitter.on('|').splitToList(line))
+                .sorted(Comparator.<List<String>, String>comparing(values -> emptyToNull(values.get(date)), key)
+                        .thenComparing(values -> emptyToNull(values.get(customer)), key))
+                .map(values -> String.join("|", values))
+                .toList();
+        assertThat(Files.readAllLines(sortedDirectory.resolve("store_sales.dat"), ISO_8859_1)).isEqualTo(expected);
+        assertThat(Files.readAllLines(spilledDirectory.resolve("store_sales.dat"), ISO_8859_1)).isEqualTo(expected);
+        // the spill directory is removed once the runs are merged
+        try (Stream<Path> files = Files.list(spilledDirectory)) {
+            assertThat(files.map(path -> path.getFileName().toString())).containsExactly("store_sales.dat");
+        }
+    }
+
+    @Test
+    public void testZoneMaps(@TempDir Path directory)
+            throws IOException
+    {
+        new TableGenerator(createSession(directory).withTable(STORE_SALES).withZoneMapBlockRows(10_000)).generateTable(STORE_SALES);
+
+        List<String> lines = Files.readAllLines(directory.resolve("store_sales.dat"), ISO_8859_1);
+        List<String> sidecar = Files.readAllLines(directory.resolve("store_sales.dat" + ZoneMapCollector.SIDECAR_SUFFIX), UTF_8);
+        assertThat(sidecar.get(0)).isEqualTo("{\"file\": \"store_sales.dat\", \"rows\": " + lines.size() + ",");
+        List<String> blocks = sidecar.stream().filter(line -> line.startsWith("  {\"first_row\"")).toList();
+        assertThat(blocks).hasSize((lines.size() + 9_999) / 10_000);
+        assertThat(blocks.get(1)).startsWith("  {\"first_row\": 10000, \"rows\": 10000,");
+
+        for (String columnName : List.of("ss_sold_date_sk", "ss_item_sk", "ss_net_paid")) {
+            int column = STORE_SALES.getColumn(columnName).getPosition();
+            List<String> values = lines.stream()
+                    .map(line -> Splitter.on('|').splitToList(line).get(column))
+                    .filter(value -> !value.isEmpty())
+                    .toList();
+            Matcher matcher = Pattern.compile("\"" + columnName + "\": \\{\"min\": ([^,]+), \"max\": ([^,]+), \"null_count\": (\\d+), \"distinct_count\": (\\d+)}")
+                    .matcher(sidecar.get(1));
+            assertThat(matcher.find()).isTrue();
+            assertThat(new BigDecimal(matcher.group(1))).isEqualByComparingTo(values.stream().map(BigDecimal::new).min(Comparator.naturalOrder()).orElseThrow());
+            assertThat(new BigDecimal(matcher.group(2))).isEqualByComparingTo(values.stream().map(BigDecimal::new).max(Comparator.naturalOrder()).orElseThrow());
+            assertThat(Long.parseLong(matcher.group(3))).isEqualTo(lines.size() - values.size());
+            long distinct = values.stream().distinct().count();
+            assertThat(Long.parseLong(matcher.group(4))).isBetween((long) (distinct * 0.9), (long) (distinct * 1.1));
+        }
+    }
+
+    @Test
+    public void testZipFileSystem(@TempDir Path flatDirectory, @TempDir Path zipDirectory)
+            throws IOException
+    {
+        Session session = createSession(flatDirectory).withTable(STORE_SALES);
+        new TableGenerator(session).generateTable(STORE_SALES);
+
+        try (FileSystem zip = FileSystems.newFileSystem(zipDirectory.resolve("tpcds.zip"), Map.of("create", "true"))) {
+            Path root = zip.getPath("/");
+            new TableGenerator(session, root).generateTable(STORE_SALES);
+            assertThat(Files.readAllBytes(root.resolve("store_sales.dat"))).isEqualTo(Files.readAllBytes(flatDirectory.resolve("store_sales.dat")));
+
+            assertThatThrownBy(() -> new TableGenerator(session, root).generateTable(STORE_SALES))
+                    .isInstanceOf(TpcdsException.class)
+                    .hasMessage("File /store_sales.dat exists.  Remove it or run with the '--overwrite' option");
+            Options options = new Options();
+            options.scale = 0.01;
+            options.table = STORE_SALES.getName();
+            options.overwrite = true;
+            new TableGenerator(options.toSession(), root).generateTable(STORE_SALES);
+            assertThat(Files.size(root.resolve("store_sales.dat"))).isEqualTo(Files.size(flatDirectory.resolve("store_sales.dat")));
+        }
+    }
+
+    @Test
+    public void testMergeChunks(@TempDir Path directory)
+            throws IOException
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        options.table = CUSTOMER_DEMOGRAPHICS.getName();
+        options.parallelism = 4;
+        options.mergeChunks = true;
+        Session session = options.toSession();
+        for (int chunk = 1; chunk <= 3; chunk++) {
+            new TableGenerator(session.withChunkNumber(chunk)).generateTable(CUSTOMER_DEMOGRAPHICS);
+        }
+        assertThatThrownBy(() -> ChunkMerger.mergeChunks(directory, CUSTOMER_DEMOGRAPHICS, session))
+                .isInstanceOf(TpcdsException.class)
+                .hasMessageStartingWith("Cannot merge customer_demographics: chunk 4 has not finished");
+
+        new TableGenerator(session.withChunkNumber(4)).generateTable(CUSTOMER_DEMOGRAPHICS);
+        Path merged = ChunkMerger.mergeChunks(directory, CUSTOMER_DEMOGRAPHICS, session);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).containsExactly(merged);
+        }
+        List<String> lines = Files.readAllLines(merged, ISO_8859_1);
+        assertThat(lines).hasSize((int) session.getScaling().getRowCount(CUSTOMER_DEMOGRAPHICS));
+        for (int i = 0; i < lines.size(); i++) {
+            assertThat(lines.get(i)).startsWith((i + 1) + "|");
+        }
+    }
+
+    @Test
+    public void testMergeReturnsChunks(@TempDir Path directory)
+            throws IOException
+    {
+        // the last orders of the chunk have no returns, so they produce no rows
+        for (Table table : List.of(STORE_RETURNS, WEB_RETURNS)) {
+            Options options = new Options();
+            options.scale = 0.01;
+            options.directory = directory.toString();
+            options.table = table.getName();
+            options.parallelism = 2;
+            options.mergeChunks = true;
+            Session session = options.toSession();
+            new TableGenerator(session.withChunkNumber(1)).generateTable(table);
+            new TableGenerator(session.withChunkNumber(2)).generateTable(table);
+
+            List<String> lines = Files.readAllLines(ChunkMerger.mergeChunks(directory, table, session), ISO_8859_1);
+            List<String> expected = new ArrayList<>();
+            for (List<List<String>> rows : Results.constructResults(table, session.withTable(table))) {
+                expected.add(TableGenerator.formatRow(rows.get(0), session).stripTrailing());
+            }
+            assertThat(lines).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testSortedChunks(@TempDir Path directory)
+            throws IOException
+    {
+        // customer_demographics has enough rows to be split, so both chunks have rows
+        Options options = new Options();
+        options.directory = directory.toString();
+        options.table = CUSTOMER_DEMOGRAPHICS.getName();
+        options.sortBy = List.of("customer_demographics=cd_dep_count");
+        options.parallelism = 2;
+        Session session = options.toSession();
+        List<List<Integer>> chunkKeys = new ArrayList<>();
+        for (int chunk = 1; chunk <= 2; chunk++) {
+            Session chunkSession = session.withChunkNumber(chunk);
+            new TableGenerator(chunkSession).generateTable(CUSTOMER_DEMOGRAPHICS);
+
+            Parallel.ChunkBoundaries boundaries = Parallel.splitWork(CUSTOMER_DEMOGRAPHICS, chunkSession);
+            List<Integer> keys = new ArrayList<>();
+            for (String line : Files.readAllLines(directory.resolve("customer_demographics_" + chunk + "_2.dat"), ISO_8859_1)) {
+                keys.add(Integer.parseInt(Splitter.on('|').splitToList(line).get(CD_DEP_COUNT.getPosition())));
+            }
+            assertThat(keys).hasSize((int) (boundaries.getLastRow() - boundaries.getFirstRow() + 1));
+            assertThat(keys).isSorted();
+            chunkKeys.add(keys);
+        }
+        // every chunk is only sorted on its own, which is why --sort-by cannot be combined with --merge-chunks
+        assertThat(chunkKeys.get(1).get(0)).isLessThan(chunkKeys.get(0).get(chunkKeys.get(0).size() - 1));
+    }
+
+    @Test
+    public void testMergeBinaryChunks(@TempDir Path directory)
+            throws IOException
+    {
+        Options options = new Options();
+        options.directory = directory.toString();
+        options.table = SHIP_MODE.getName();
+        options.parallelism = 2;
+        options.mergeChunks = true;
+        options.format = OutputFormat.BINARY.getName();
+        Session session = options.toSession();
+        new TableGenerator(session.withChunkNumber(1)).generateTable(SHIP_MODE);
+        // a small table is not split, so the second chunk only holds the header
+        new TableGenerator(session.withChunkNumber(2)).generateTable(SHIP_MODE);
+
+        try (BinaryTableReader reader = new BinaryTableReader(ChunkMerger.mergeChunks(directory, SHIP_MODE, session))) {
+            long rows = 0;
+            while (reader.hasNext()) {
+                rows += reader.next().getPositionCount();
+            }
+            assertThat(rows).isEqualTo(session.getScaling().getRowCount(SHIP_MODE));
+        }
+    }
+
+    @Test
+    public void testWriteBuffers(@TempDir Path asyncDirectory, @TempDir Path syncDirectory, @TempDir Path smallBufferDirectory)
+            throws IOException
+    {
+        new TableGenerator(createSession(asyncDirectory).withWriteBufferCount(2)).generateTable(STORE_SALES);
+        new TableGenerator(createSession(syncDirectory).withFsyncPolicy(FsyncPolicy.CLOSE)).generateTable(STORE_SALES);
+        // buffers much smaller than the table, so the writer keeps waiting for the I/O thread to hand one back
+        new TableGenerator(createSession(smallBufferDirectory).withWriteBufferSize(1000).withWriteBufferCount(3).withFsyncPolicy(FsyncPolicy.BUFFER)).generateTable(STORE_SALES);
+
+        for (Table table : List.of(STORE_SALES, STORE_RETURNS)) {
+            byte[] expected = Files.readAllBytes(asyncDirectory.resolve(table.getName() + ".dat"));
+            assertThat(Files.readAllBytes(syncDirectory.resolve(table.getName() + ".dat"))).isEqualTo(expected);
+            assertThat(Files.readAllBytes(smallBufferDirectory.resolve(table.getName() + ".dat"))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testReuseRows(@TempDir Path flatDirectory, @TempDir Path reusedDirectory, @TempDir Path sortedDirectory)
+            throws IOException
+    {
+        new TableGenerator(createSession(flatDirectory)).generateTable(CATALOG_SALES);
+        new TableGenerator(createSession(reusedDirectory).withReuseRows(true)).generateTable(CATALOG_SALES);
+        for (Table table : List.of(CATALOG_SALES, CATALOG_RETURNS)) {
+            assertThat(Files.readAllBytes(reusedDirectory.resolve(table.getName() + ".dat")))
+                    .isEqualTo(Files.readAllBytes(flatDirectory.resolve(table.getName() + ".dat")));
+        }
+
+        // the sorting writer keeps rows across calls, so it must not see them change
+        Options options = new Options();
+        options.scale = 0.01;
+        options.table = CATALOG_SALES.getName();
+        options.sortBy = List.of("catalog_sales=cs_item_sk");
+        options.directory = sortedDirectory.toString();
+        options.reuseRows = true;
+        new TableGenerator(options.toSession()).generateTable(CATALOG_SALES);
+        int item = CATALOG_SALES.getColumn("cs_item_sk").getPosition();
+        List<String> expected = Files.readAllLines(flatDirectory.resolve("catalog_sales.dat"), ISO_8859_1).stream()
+                .sorted(Comparator.comparing(line -> emptyToNull(Splitter.on('|').splitToList(line).get(item)), Comparator.nullsFirst(Comparator.comparingLong(Long::parseLong))))
+                .toList();
+        assertThat(Files.readAllLines(sortedDirectory.resolve("catalog_sales.dat"), ISO_8859_1)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testRowSinks(@TempDir Path directory)
+            throws IOException
+    {
+        Session session = createSession(directory);
+        CountingRowSink fileSink = new CountingRowSink(new FileRowSink(session, directory));
+        new TableGenerator(session, fileSink).generateTable(STORE_SALES);
+        assertThat(fileSink.getParentRowCount()).isEqualTo(Files.readAllLines(directory.resolve("store_sales.dat"), ISO_8859_1).size());
+        assertThat(fileSink.getChildRowCount()).isEqualTo(Files.readAllLines(directory.resolve("store_returns.dat"), ISO_8859_1).size());
+        assertThat(fileSink.getRowCount()).isEqualTo(session.getScaling().getRowCount(STORE_SALES));
+
+        // without any output, the same rows are generated
+        CountingRowSink nullSink = new CountingRowSink();
+        new TableGenerator(session, nullSink).generateTable(STORE_SALES);
+        assertThat(nullSink.getParentRowCount()).isEqualTo(fileSink.getParentRowCount());
+        assertThat(nullSink.getChildRowCount()).isEqualTo(fileSink.getChildRowCount());
+        assertThat(nullSink.getRowCount()).isEqualTo(fileSink.getRowCount());
+
+        // a child table generated on its own is a table of its own
+        CountingRowSink childSink = new CountingRowSink();
+        new TableGenerator(session.withTable(STORE_RETURNS), childSink).generateTable(STORE_RETURNS);
+        assertThat(childSink.getParentRowCount()).isEqualTo(fileSink.getChildRowCount());
+        assertThat(childSink.getChildRowCount()).isZero();
+        // the orders without returns are counted too
+        assertThat(childSink.getRowCount()).isEqualTo(session.getScaling().getRowCount(STORE_SALES));
+    }
+
+    private static String getTicketNumber(String line)
+    {
+        return Splitter.on('|').splitToList(line).get(9);
+    }
+}
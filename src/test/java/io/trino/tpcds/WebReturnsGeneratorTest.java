@@ -34,6 +34,13 @@ public class WebReturnsGeneratorTest
         assertPartialMD5(1, session.getScaling().getRowCount(WEB_RETURNS), WEB_RETURNS, session, "03113cf0514e70768a1ef3269233d88f");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(WEB_RETURNS), WEB_RETURNS, session, "03113cf0514e70768a1ef3269233d88f");
+    }
+
     @Test
     public void testScaleFactor1()
     {
@@ -34,6 +34,13 @@ public class WebSalesGeneratorTest
         assertPartialMD5(1, session.getScaling().getRowCount(WEB_SALES), WEB_SALES, session, "2631e90834e0ef7e16b669b035af23e5");
     }
 
+    @Test
+    public void testReuseRows()
+    {
+        Session session = TEST_SESSION.withScale(0.01).withReuseRows(true);
+        assertPartialMD5(1, session.getScaling().getRowCount(WEB_SALES), WEB_SALES, session, "2631e90834e0ef7e16b669b035af23e5");
+    }
+
     @Test
     public void testScaleFactor1()
     {
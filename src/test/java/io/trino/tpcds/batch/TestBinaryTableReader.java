@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.Options;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TableGenerator;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.output.OutputFormat;
+import io.trino.tpcds.type.Date;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.DBGEN_VERSION;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBinaryTableReader
+{
+    @Test
+    public void testRoundTrip(@TempDir Path directory)
+            throws IOException
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        options.format = OutputFormat.BINARY.getName();
+
+        for (Table table : List.of(CALL_CENTER, DATE_DIM, DBGEN_VERSION, CUSTOMER, STORE_SALES)) {
+            Session session = options.toSession().withTable(table);
+            new TableGenerator(session).generateTable(table);
+
+            Iterator<List<List<String>>> expectedRows = constructResults(table, session).iterator();
+            long rows = 0;
+            try (BinaryTableReader reader = new BinaryTableReader(directory.resolve(table.getName() + ".dat"), 100)) {
+                assertThat(reader.getTypes()).hasSize(table.getColumns().length);
+                while (reader.hasNext()) {
+                    ColumnBatch batch = reader.next();
+                    assertThat(batch.getPositionCount()).isBetween(1, 100);
+                    for (int position = 0; position < batch.getPositionCount(); position++) {
+                        List<String> expected = expectedRows.next().get(0);
+                        for (Column column : table.getColumns()) {
+                            assertValue(batch.getColumn(column.getPosition()), position, expected.get(column.getPosition()));
+                        }
+                        rows++;
+                    }
+                }
+            }
+            assertThat(expectedRows.hasNext()).isFalse();
+            assertThat(rows).isGreaterThan(0);
+        }
+    }
+
+    private static void assertValue(ColumnVector vector, int position, String expected)
+    {
+        assertThat(vector.isNull(position)).isEqualTo(expected == null);
+        if (expected == null) {
+            return;
+        }
+        ColumnType type = vector.getType();
+        if (isVariableWidth(type)) {
+            assertThat(((VarcharColumnVector) vector).getString(position)).isEqualTo(expected);
+            return;
+        }
+        long value = ((LongColumnVector) vector).getLong(position);
+        switch (type.getBase()) {
+            case INTEGER, IDENTIFIER -> assertThat(value).isEqualTo(Long.parseLong(expected));
+            case DATE -> assertThat(Date.fromJulianDays((int) value).toString()).isEqualTo(expected);
+            case TIME -> assertThat(String.format("%02d:%02d:%02d", value / 3600, value / 60 % 60, value % 60)).isEqualTo(expected);
+            case DECIMAL -> assertThat(BigDecimal.valueOf(value, type.getScale().get())).isEqualByComparingTo(expected);
+            default -> throw new AssertionError("Unexpected type " + type);
+        }
+    }
+}
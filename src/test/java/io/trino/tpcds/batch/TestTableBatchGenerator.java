@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.batch;
+
+import io.trino.tpcds.Options;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.type.Date;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CATALOG_RETURNS;
+import static io.trino.tpcds.Table.CUSTOMER_ADDRESS;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.column.CustomerDemographicsColumn.CD_GENDER;
+import static io.trino.tpcds.column.ItemColumn.I_COLOR;
+import static io.trino.tpcds.column.ItemColumn.I_ITEM_DESC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestTableBatchGenerator
+{
+    @Test
+    public void testDictionaries()
+    {
+        assertThat(ColumnDictionaries.getDictionary(CD_GENDER).orElseThrow().getValues()).containsExactly("M", "F");
+        assertThat(ColumnDictionaries.getDictionary(I_ITEM_DESC)).isEmpty();
+
+        Dictionary colors = ColumnDictionaries.getDictionary(I_COLOR).orElseThrow();
+        for (int id = 0; id < colors.size(); id++) {
+            assertThat(colors.getId(colors.getValue(id))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    public void testEveryValueIsInItsDictionary()
+    {
+        Session session = Session.getDefaultSession().withScale(0.01);
+        for (Table table : Table.getBaseTables()) {
+            if (!hasDictionaryColumn(table)) {
+                continue;
+            }
+            Session tableSession = session.withTable(table);
+            // customer_demographics is large at every scale, but its values repeat every few thousand rows
+            long rowCount = Math.min(tableSession.getScaling().getRowCount(table), 20_000);
+            for (List<List<String>> rows : constructResults(table, 1, rowCount, tableSession)) {
+                if (rows.isEmpty()) {
+                    continue;
+                }
+                for (Column column : table.getColumns()) {
+                    String value = rows.get(0).get(column.getPosition());
+                    Optional<Dictionary> dictionary = ColumnDictionaries.getDictionary(column);
+                    if (value != null && dictionary.isPresent()) {
+                        assertThat(dictionary.get().contains(value))
+                                .as("value '%s' of %s", value, column.getName())
+                                .isTrue();
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatchesMatchResults()
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        for (Table table : List.of(CALL_CENTER, SHIP_MODE, ITEM, CUSTOMER_ADDRESS, STORE_SALES, CATALOG_RETURNS)) {
+            Session session = options.toSession().withTable(table);
+            Iterator<List<List<String>>> expectedRows = constructResults(table, session).iterator();
+            TableBatchGenerator generator = new TableBatchGenerator(table, session, 100);
+            long rows = 0;
+            while (generator.hasNext()) {
+                ColumnBatch batch = generator.next();
+                assertThat(batch.getPositionCount()).isBetween(1, 100);
+                for (Column column : table.getColumns()) {
+                    ColumnVector vector = batch.getColumn(column.getPosition());
+                    assertThat(vector instanceof DictionaryColumnVector).isEqualTo(ColumnDictionaries.getDictionary(column).isPresent());
+                }
+                for (int position = 0; position < batch.getPositionCount(); position++) {
+                    List<String> expected = nextRow(expectedRows);
+                    for (Column column : table.getColumns()) {
+                        assertValue(batch.getColumn(column.getPosition()), position, expected.get(column.getPosition()));
+                    }
+                    rows++;
+                }
+            }
+            assertThat(hasNextRow(expectedRows)).isFalse();
+            assertThat(rows).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    public void testDictionaryIsSharedBetweenBatches()
+    {
+        Session session = Session.getDefaultSession().withScale(0.01).withTable(ITEM);
+        TableBatchGenerator generator = new TableBatchGenerator(ITEM, session, 10);
+        DictionaryColumnVector first = (DictionaryColumnVector) generator.next().getColumn(I_COLOR.getPosition());
+        DictionaryColumnVector second = (DictionaryColumnVector) generator.next().getColumn(I_COLOR.getPosition());
+        assertThat(second.getDictionary()).isSameAs(first.getDictionary());
+    }
+
+    private static boolean hasDictionaryColumn(Table table)
+    {
+        for (Column column : table.getColumns()) {
+            if (ColumnDictionaries.getDictionary(column).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // a sales table produces no row for orders that only have returns, so skip the empty entries
+    private static List<String> nextRow(Iterator<List<List<String>>> rows)
+    {
+        while (true) {
+            List<List<String>> next = rows.next();
+            if (!next.isEmpty()) {
+                return next.get(0);
+            }
+        }
+    }
+
+    private static boolean hasNextRow(Iterator<List<List<String>>> rows)
+    {
+        while (rows.hasNext()) {
+            if (!rows.next().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertValue(ColumnVector vector, int position, String expected)
+    {
+        assertThat(vector.isNull(position)).isEqualTo(expected == null);
+        if (expected == null) {
+            return;
+        }
+        ColumnType type = vector.getType();
+        if (vector instanceof DictionaryColumnVector dictionaryVector) {
+            assertThat(dictionaryVector.getString(position)).isEqualTo(expected);
+            return;
+        }
+        if (vector instanceof VarcharColumnVector varcharVector) {
+            assertThat(varcharVector.getString(position)).isEqualTo(expected);
+            return;
+        }
+        long value = ((LongColumnVector) vector).getLong(position);
+        switch (type.getBase()) {
+            case INTEGER, IDENTIFIER -> assertThat(value).isEqualTo(Long.parseLong(expected));
+            case DATE -> assertThat(Date.fromJulianDays((int) value).toString()).isEqualTo(expected);
+            case TIME -> assertThat(String.format("%02d:%02d:%02d", value / 3600, value / 60 % 60, value % 60)).isEqualTo(expected);
+            case DECIMAL -> assertThat(BigDecimal.valueOf(value, type.getScale().get())).isEqualByComparingTo(expected);
+            default -> throw new AssertionError("Unexpected type " + type);
+        }
+    }
+}
@@ -44,6 +44,9 @@ public class TestingRandomNumberStream
     @Override
     public void skipRows(long numberOfValuesToSkip) {}
 
+    @Override
+    public void skipSeeds(long numberOfSeeds) {}
+
     @Override
     public void resetSeed() {}
 
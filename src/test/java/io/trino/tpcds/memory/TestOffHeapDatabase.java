@@ -0,0 +1,185 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.memory;
+
+import io.trino.tpcds.Results;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.batch.ColumnBatch;
+import io.trino.tpcds.batch.LongColumnVector;
+import io.trino.tpcds.batch.VarcharColumnVector;
+import io.trino.tpcds.column.CallCenterColumn;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import io.trino.tpcds.column.ItemColumn;
+import io.trino.tpcds.column.StoreReturnsColumn;
+import io.trino.tpcds.column.StoreSalesColumn;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.STORE_RETURNS;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.output.BinaryFormat.isVariableWidth;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseJulianDays;
+import static io.trino.tpcds.output.BinaryRowEncoder.parseUnscaledDecimal;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestOffHeapDatabase
+{
+    private static final Session SESSION = Session.getDefaultSession().withScale(0.01);
+
+    @Test
+    public void testInMemory()
+    {
+        try (OffHeapDatabase database = OffHeapDatabase.inMemory(SESSION)) {
+            for (Table table : List.of(CALL_CENTER, ITEM, STORE_SALES, STORE_RETURNS)) {
+                assertMatchesGenerator(database.getTable(table));
+            }
+        }
+    }
+
+    @Test
+    public void testPointLookup()
+    {
+        try (OffHeapDatabase database = OffHeapDatabase.inMemory(SESSION)) {
+            OffHeapTable item = database.getTable(ITEM);
+            assertThat(item.hasSurrogateKey()).isTrue();
+            long row = item.findRow(42).orElseThrow();
+            assertThat(item.getLong(ItemColumn.I_ITEM_SK, row)).isEqualTo(42);
+            assertThat(row).isEqualTo(41);
+            assertThat(item.findRow(item.getRowCount() + 1)).isEmpty();
+
+            OffHeapTable callCenter = database.getTable(CALL_CENTER);
+            assertThat(callCenter.isNull(CallCenterColumn.CC_REC_END_DATE, 0)).isTrue();
+            assertThat(callCenter.getLong(CallCenterColumn.CC_REC_START_DATE, 0)).isEqualTo(parseJulianDays("1998-01-01"));
+
+            // the first column of a fact table is not a key
+            OffHeapTable storeSales = database.getTable(STORE_SALES);
+            assertThat(storeSales.hasSurrogateKey()).isFalse();
+            assertThatThrownBy(() -> storeSales.findRow(1))
+                    .hasMessage("The first column of store_sales is not a surrogate key");
+            assertThatThrownBy(() -> storeSales.getLong(StoreSalesColumn.SS_ITEM_SK, storeSales.getRowCount()))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> storeSales.getLong(StoreReturnsColumn.SR_ITEM_SK, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    public void testScan()
+    {
+        try (OffHeapDatabase database = OffHeapDatabase.inMemory(SESSION)) {
+            OffHeapTable table = database.getTable(CALL_CENTER);
+            long rows = 0;
+            Iterator<ColumnBatch> batches = table.scan(4);
+            while (batches.hasNext()) {
+                ColumnBatch batch = batches.next();
+                assertThat(batch.getPositionCount()).isLessThanOrEqualTo(4);
+                for (int position = 0; position < batch.getPositionCount(); position++) {
+                    long row = rows + position;
+                    LongColumnVector sk = (LongColumnVector) batch.getColumn(CallCenterColumn.CC_CALL_CENTER_SK.getPosition());
+                    assertThat(sk.getLong(position)).isEqualTo(table.getLong(CallCenterColumn.CC_CALL_CENTER_SK, row));
+                    VarcharColumnVector name = (VarcharColumnVector) batch.getColumn(CallCenterColumn.CC_NAME.getPosition());
+                    assertThat(name.getString(position)).isEqualTo(table.getString(CallCenterColumn.CC_NAME, row));
+                }
+                rows += batch.getPositionCount();
+            }
+            assertThat(rows).isEqualTo(table.getRowCount());
+        }
+    }
+
+    @Test
+    public void testMappedFilesAreReattached(@TempDir Path directory)
+            throws IOException
+    {
+        Path storeSalesFile = directory.resolve("store_sales" + OffHeapDatabase.FILE_SUFFIX);
+        try (OffHeapDatabase database = OffHeapDatabase.mapped(SESSION, directory)) {
+            assertMatchesGenerator(database.getTable(STORE_SALES));
+        }
+        assertThat(directory.resolve("store_returns" + OffHeapDatabase.FILE_SUFFIX)).exists();
+        FileTime written = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(storeSalesFile, written);
+
+        try (OffHeapDatabase database = OffHeapDatabase.mapped(SESSION, directory)) {
+            assertMatchesGenerator(database.getTable(STORE_SALES));
+            assertMatchesGenerator(database.getTable(STORE_RETURNS));
+        }
+        assertThat(Files.getLastModifiedTime(storeSalesFile)).isEqualTo(written);
+
+        // a different scale generates the tables again
+        try (OffHeapDatabase database = OffHeapDatabase.mapped(SESSION.withScale(0.02), directory)) {
+            assertThat(database.getTable(STORE_SALES).getScale()).isEqualTo(0.02);
+        }
+        assertThat(Files.getLastModifiedTime(storeSalesFile)).isNotEqualTo(written);
+    }
+
+    @Test
+    public void testClosedDatabase()
+    {
+        OffHeapDatabase database = OffHeapDatabase.inMemory(SESSION);
+        OffHeapTable table = database.getTable(CALL_CENTER);
+        database.close();
+        assertThatThrownBy(() -> database.getTable(CALL_CENTER)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> table.getString(CallCenterColumn.CC_NAME, 0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertMatchesGenerator(OffHeapTable offHeapTable)
+    {
+        Table table = offHeapTable.getTable();
+        // a child table is generated with its parent
+        Table root = table.isChild() ? table.getParent() : table;
+        int index = table.isChild() ? 1 : 0;
+        List<List<String>> rows = new ArrayList<>();
+        for (List<List<String>> parentAndChildRows : Results.constructResults(root, 1, SESSION.getScaling().getRowCount(root), SESSION)) {
+            if (parentAndChildRows.size() > index) {
+                rows.add(parentAndChildRows.get(index));
+            }
+        }
+        assertThat(offHeapTable.getRowCount()).isEqualTo(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            for (Column column : table.getColumns()) {
+                String value = rows.get(row).get(column.getPosition());
+                assertThat(offHeapTable.isNull(column, row)).isEqualTo(value == null);
+                if (value == null) {
+                    continue;
+                }
+                ColumnType type = column.getType();
+                if (isVariableWidth(type)) {
+                    assertThat(offHeapTable.getString(column, row)).isEqualTo(value);
+                }
+                else if (type.getBase() == ColumnType.Base.DECIMAL) {
+                    assertThat(offHeapTable.getLong(column, row)).isEqualTo(parseUnscaledDecimal(value, type.getScale().get()));
+                }
+                else if (type.getBase() == ColumnType.Base.DATE) {
+                    assertThat(offHeapTable.getLong(column, row)).isEqualTo(parseJulianDays(value));
+                }
+                else {
+                    assertThat(offHeapTable.getLong(column, row)).isEqualTo(Long.parseLong(value));
+                }
+            }
+        }
+    }
+}
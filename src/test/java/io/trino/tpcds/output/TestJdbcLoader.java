@@ -0,0 +1,323 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+import io.trino.tpcds.Options;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.TableGenerator;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.ITEM;
+import static io.trino.tpcds.Table.STORE_RETURNS;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.Table.WEB_PAGE;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbcLoader
+{
+    @Test
+    public void testLoad(@TempDir Path directory)
+            throws IOException
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        Session session = options.toSession();
+        new TableGenerator(session).generateTable(CALL_CENTER);
+        new TableGenerator(session).generateTable(STORE_SALES);
+
+        FakeDatabase database = new FakeDatabase();
+        JdbcLoader loader = new JdbcLoader(session.withJdbcConnections(3).withJdbcBatchSize(500).withJdbcCommitRows(2000), database::openConnection);
+        loader.createTables(List.of(CALL_CENTER, STORE_SALES, STORE_RETURNS));
+        assertThat(database.statements).containsExactly(
+                JdbcTableWriter.getCreateTableStatement(CALL_CENTER),
+                JdbcTableWriter.getCreateTableStatement(STORE_SALES),
+                JdbcTableWriter.getCreateTableStatement(STORE_RETURNS));
+        // existing tables are left alone
+        loader.createTables(List.of(CALL_CENTER));
+        assertThat(database.statements).hasSize(3);
+
+        loader.loadTable(CALL_CENTER);
+        loader.loadTable(STORE_SALES);
+        loader.loadTable(STORE_RETURNS);
+
+        for (Table table : List.of(CALL_CENTER, STORE_SALES, STORE_RETURNS)) {
+            List<String> expected = new ArrayList<>();
+            for (String line : Files.readAllLines(directory.resolve(table.getName() + ".dat"), ISO_8859_1)) {
+                List<String> values = Splitter.on('|').splitToList(line);
+                expected.add(toRow(table, values.subList(0, table.getColumns().length).stream().map(Strings::emptyToNull).toList()));
+            }
+            List<String> actual = new ArrayList<>();
+            for (List<Object> row : database.committedRows.get(table.getName())) {
+                actual.add(toRow(table, row.stream().map(value -> value == null ? null : value.toString()).toList()));
+            }
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertThat(actual).isEqualTo(expected);
+        }
+        assertThat(database.maxBatchSize.get()).isEqualTo(500);
+        // three connections commit every 2000 rows and once at the end of their range
+        assertThat(database.commits.get()).isGreaterThan(3 + 150_000 / 2000 / 2);
+    }
+
+    @Test
+    public void testSlowlyChangingDimensions()
+    {
+        // more connections than business keys in a range, so most ranges would start at a later revision
+        Session session = getDefaultSession().withScale(1).withJdbcConnections(4);
+        assertLoadMatchesResults(CALL_CENTER, session);
+        assertLoadMatchesResults(WEB_PAGE, session.withJdbcConnections(25));
+        assertLoadMatchesResults(ITEM, session.withScale(0.01).withJdbcConnections(7));
+    }
+
+    @Test
+    public void testFailedLoadIsRolledBack()
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        FakeDatabase database = new FakeDatabase();
+        database.failAfterRows = 1;
+        JdbcLoader loader = new JdbcLoader(options.toSession().withJdbcConnections(1).withJdbcBatchSize(2), database::openConnection);
+        loader.createTables(List.of(CALL_CENTER));
+        assertThatThrownBy(() -> loader.loadTable(CALL_CENTER))
+                .isInstanceOf(TpcdsException.class)
+                .hasMessage("disk full");
+        assertThat(database.committedRows).isEmpty();
+        assertThat(database.rollbacks.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedRangeRollsBackAllRanges()
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        FakeDatabase database = new FakeDatabase();
+        database.failAfterRows = 50_000;
+        JdbcLoader loader = new JdbcLoader(options.toSession().withJdbcConnections(3).withJdbcBatchSize(100), database::openConnection);
+        loader.createTables(List.of(STORE_SALES, STORE_RETURNS));
+        int commits = database.commits.get();
+        int closedConnections = database.closedConnections.get();
+        assertThatThrownBy(() -> loader.loadTable(STORE_SALES))
+                .isInstanceOf(TpcdsException.class)
+                .hasMessage("disk full");
+        // the ranges that were inserted are rolled back along with the one that failed
+        assertThat(database.committedRows).isEmpty();
+        assertThat(database.commits.get()).isEqualTo(commits);
+        assertThat(database.rollbacks.get()).isEqualTo(3);
+        assertThat(database.closedConnections.get()).isEqualTo(closedConnections + 3);
+    }
+
+    @Test
+    public void testFailedRollbackIsSuppressed()
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        FakeDatabase database = new FakeDatabase();
+        database.failAfterRows = 1;
+        database.failRollback = true;
+        JdbcLoader loader = new JdbcLoader(options.toSession().withJdbcConnections(1).withJdbcBatchSize(2), database::openConnection);
+        loader.createTables(List.of(CALL_CENTER));
+        int closedConnections = database.closedConnections.get();
+        assertThatThrownBy(() -> loader.loadTable(CALL_CENTER))
+                .isInstanceOf(TpcdsException.class)
+                .hasMessage("disk full")
+                .satisfies(e -> assertThat(e.getSuppressed())
+                        .extracting(Throwable::getMessage)
+                        .containsExactly("connection lost"));
+        assertThat(database.closedConnections.get()).isEqualTo(closedConnections + 1);
+    }
+
+    @Test
+    public void testStatements()
+    {
+        assertThat(JdbcTableWriter.getInsertStatement(Table.INCOME_BAND))
+                .isEqualTo("INSERT INTO income_band (ib_income_band_sk, ib_lower_bound, ib_upper_bound) VALUES (?, ?, ?)");
+        assertThat(JdbcTableWriter.getCreateTableStatement(Table.SHIP_MODE))
+                .isEqualTo("CREATE TABLE ship_mode (sm_ship_mode_sk BIGINT, sm_ship_mode_id CHAR(16), sm_type CHAR(30), sm_code CHAR(10), sm_carrier CHAR(20), sm_contract CHAR(20))");
+    }
+
+    private static void assertLoadMatchesResults(Table table, Session session)
+    {
+        FakeDatabase database = new FakeDatabase();
+        JdbcLoader loader = new JdbcLoader(session, database::openConnection);
+        loader.createTables(List.of(table));
+        loader.loadTable(table);
+
+        List<String> expected = new ArrayList<>();
+        for (List<List<String>> rows : constructResults(table, session)) {
+            expected.add(toRow(table, rows.get(0)));
+        }
+        List<String> actual = new ArrayList<>();
+        for (List<Object> row : database.committedRows.get(table.getName())) {
+            actual.add(toRow(table, row.stream().map(value -> value == null ? null : value.toString()).toList()));
+        }
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertThat(actual).as(table.getName()).isEqualTo(expected);
+    }
+
+    // decimals are bound at the scale of their column, while the generator drops trailing zeros of some
+    private static String toRow(Table table, List<String> values)
+    {
+        List<String> normalized = new ArrayList<>(values);
+        for (Column column : table.getColumns()) {
+            String value = values.get(column.getPosition());
+            if (value != null && column.getType().getBase() == ColumnType.Base.DECIMAL) {
+                normalized.set(column.getPosition(), new BigDecimal(value).stripTrailingZeros().toPlainString());
+            }
+        }
+        return String.join("|", Lists.transform(normalized, String::valueOf));
+    }
+
+    // Records what a loader does with its connections. Rows become visible on commit.
+    private static class FakeDatabase
+    {
+        private static final Pattern CREATE_TABLE = Pattern.compile("CREATE TABLE (\\w+) ");
+        private static final Pattern INSERT = Pattern.compile("INSERT INTO (\\w+) ");
+
+        private final Set<String> tables = ConcurrentHashMap.newKeySet();
+        private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, List<List<Object>>> committedRows = new ConcurrentHashMap<>();
+        private final AtomicInteger maxBatchSize = new AtomicInteger();
+        private final AtomicInteger commits = new AtomicInteger();
+        private final AtomicInteger rollbacks = new AtomicInteger();
+        private final AtomicInteger closedConnections = new AtomicInteger();
+        private final AtomicInteger insertedRows = new AtomicInteger();
+        private int failAfterRows = Integer.MAX_VALUE;
+        private boolean failRollback;
+
+        public Connection openConnection()
+        {
+            Map<String, List<List<Object>>> pendingRows = new HashMap<>();
+            return proxy(Connection.class, (method, args) -> switch (method) {
+                case "getMetaData" -> proxy(DatabaseMetaData.class, (metadataMethod, metadataArgs) -> {
+                    boolean[] exists = {tables.contains((String) metadataArgs[2])};
+                    return proxy(ResultSet.class, (resultSetMethod, resultSetArgs) -> {
+                        boolean next = exists[0];
+                        exists[0] = false;
+                        return next;
+                    });
+                });
+                case "createStatement" -> proxy(Statement.class, (statementMethod, statementArgs) -> {
+                    if (statementMethod.equals("execute")) {
+                        String sql = (String) statementArgs[0];
+                        statements.add(sql);
+                        Matcher matcher = CREATE_TABLE.matcher(sql);
+                        assertThat(matcher.lookingAt()).isTrue();
+                        tables.add(matcher.group(1));
+                    }
+                    return false;
+                });
+                case "prepareStatement" -> prepareStatement((String) args[0], pendingRows);
+                case "getAutoCommit" -> false;
+                case "commit" -> {
+                    pendingRows.forEach((table, rows) -> committedRows.computeIfAbsent(table, name -> Collections.synchronizedList(new ArrayList<>())).addAll(rows));
+                    pendingRows.clear();
+                    commits.incrementAndGet();
+                    yield null;
+                }
+                case "rollback" -> {
+                    pendingRows.clear();
+                    rollbacks.incrementAndGet();
+                    if (failRollback) {
+                        throw new SQLException("connection lost");
+                    }
+                    yield null;
+                }
+                case "close" -> {
+                    closedConnections.incrementAndGet();
+                    yield null;
+                }
+                default -> null;
+            });
+        }
+
+        private PreparedStatement prepareStatement(String sql, Map<String, List<List<Object>>> pendingRows)
+        {
+            Matcher matcher = INSERT.matcher(sql);
+            assertThat(matcher.lookingAt()).isTrue();
+            String table = matcher.group(1);
+            assertThat(tables).contains(table);
+            Object[] row = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+            List<List<Object>> batch = new ArrayList<>();
+            return proxy(PreparedStatement.class, (method, args) -> {
+                if (method.startsWith("set")) {
+                    row[(int) args[0] - 1] = method.equals("setNull") ? null : args[1];
+                }
+                else if (method.equals("addBatch")) {
+                    batch.add(Arrays.asList(row.clone()));
+                }
+                else if (method.equals("executeBatch")) {
+                    if (insertedRows.addAndGet(batch.size()) > failAfterRows) {
+                        throw new SQLException("disk full");
+                    }
+                    maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+                    pendingRows.computeIfAbsent(table, name -> new ArrayList<>()).addAll(batch);
+                    int[] counts = new int[batch.size()];
+                    batch.clear();
+                    return counts;
+                }
+                return null;
+            });
+        }
+    }
+
+    private interface Handler
+    {
+        Object invoke(String method, Object[] args)
+                throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler)
+    {
+        return type.cast(Proxy.newProxyInstance(TestJdbcLoader.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.output;
+
+import io.trino.tpcds.Options;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.TableGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static io.trino.tpcds.Table.SHIP_MODE;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.output.OutputCache.getKey;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestOutputCache
+{
+    private static Options createOptions(Path directory, Path cacheDirectory)
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        options.directory = directory.toString();
+        options.cacheDirectory = cacheDirectory.toString();
+        return options;
+    }
+
+    @Test
+    public void testCachedFilesAreLinked(@TempDir Path flatDirectory, @TempDir Path firstDirectory, @TempDir Path secondDirectory, @TempDir Path cacheDirectory)
+            throws IOException
+    {
+        Options flatOptions = createOptions(flatDirectory, cacheDirectory);
+        flatOptions.cacheDirectory = null;
+        new TableGenerator(flatOptions.toSession()).generateTable(STORE_SALES);
+
+        Session session = createOptions(firstDirectory, cacheDirectory).toSession();
+        new TableGenerator(session).generateTable(STORE_SALES);
+        Path entry = cacheDirectory.resolve(getKey(STORE_SALES, session));
+        assertThat(listFiles(cacheDirectory)).containsExactly(entry);
+
+        new TableGenerator(createOptions(secondDirectory, cacheDirectory).toSession()).generateTable(STORE_SALES);
+        assertThat(listFiles(cacheDirectory)).containsExactly(entry);
+        for (String fileName : List.of("store_sales.dat", "store_returns.dat")) {
+            assertThat(Files.readAllBytes(firstDirectory.resolve(fileName))).isEqualTo(Files.readAllBytes(flatDirectory.resolve(fileName)));
+            assertThat(Files.isSameFile(secondDirectory.resolve(fileName), entry.resolve(fileName))).isTrue();
+        }
+
+        // overwriting a linked file replaces it instead of writing through to the cache
+        Options overwriteOptions = createOptions(secondDirectory, cacheDirectory);
+        overwriteOptions.cacheDirectory = null;
+        overwriteOptions.overwrite = true;
+        overwriteOptions.separator = ',';
+        new TableGenerator(overwriteOptions.toSession()).generateTable(STORE_SALES);
+        assertThat(Files.readAllBytes(entry.resolve("store_sales.dat"))).isEqualTo(Files.readAllBytes(flatDirectory.resolve("store_sales.dat")));
+    }
+
+    @Test
+    public void testKey(@TempDir Path directory, @TempDir Path otherDirectory)
+    {
+        Session session = createOptions(directory, directory).toSession();
+        assertThat(getKey(STORE_SALES, session)).isNotEqualTo(getKey(CALL_CENTER, session));
+
+        // options that change the contents of the files change the key
+        Options options = createOptions(directory, directory);
+        options.separator = ',';
+        assertThat(getKey(STORE_SALES, options.toSession())).isNotEqualTo(getKey(STORE_SALES, session));
+        assertThat(getKey(STORE_SALES, session.withParallelism(2))).isNotEqualTo(getKey(STORE_SALES, session));
+        assertThat(getKey(STORE_SALES, session.withZoneMapBlockRows(100))).isNotEqualTo(getKey(STORE_SALES, session));
+        assertThat(getKey(STORE_SALES, session.withTable(STORE_SALES))).isNotEqualTo(getKey(STORE_SALES, session));
+
+        // options that only change where and how the files are written do not
+        options = createOptions(otherDirectory, otherDirectory);
+        options.overwrite = true;
+        options.writeBufferCount = 1;
+        options.fsync = "close";
+        assertThat(getKey(STORE_SALES, options.toSession())).isEqualTo(getKey(STORE_SALES, session));
+    }
+
+    @Test
+    public void testMergedChunks(@TempDir Path directory, @TempDir Path mergedDirectory, @TempDir Path cacheDirectory)
+            throws IOException
+    {
+        Options options = createOptions(directory, cacheDirectory);
+        options.parallelism = 2;
+        Session session = options.toSession();
+        for (int chunk = 1; chunk <= 2; chunk++) {
+            new TableGenerator(session.withChunkNumber(chunk)).generateTable(CUSTOMER_DEMOGRAPHICS);
+        }
+
+        // chunks that are merged are written along with a manifest, so they are cached apart
+        Options mergedOptions = createOptions(mergedDirectory, cacheDirectory);
+        mergedOptions.parallelism = 2;
+        mergedOptions.mergeChunks = true;
+        Session mergedSession = mergedOptions.toSession();
+        assertThat(getKey(CUSTOMER_DEMOGRAPHICS, mergedSession)).isNotEqualTo(getKey(CUSTOMER_DEMOGRAPHICS, session));
+        for (int chunk = 1; chunk <= 2; chunk++) {
+            new TableGenerator(mergedSession.withChunkNumber(chunk)).generateTable(CUSTOMER_DEMOGRAPHICS);
+        }
+        Path merged = ChunkMerger.mergeChunks(mergedDirectory, CUSTOMER_DEMOGRAPHICS, mergedSession);
+        assertThat(Files.readAllLines(merged, ISO_8859_1)).hasSize((int) session.getScaling().getRowCount(CUSTOMER_DEMOGRAPHICS));
+    }
+
+    @Test
+    public void testEviction(@TempDir Path directory, @TempDir Path cacheDirectory)
+            throws IOException
+    {
+        Options options = createOptions(directory, cacheDirectory);
+        options.cacheMaxBytes = 1;
+        Session session = options.toSession();
+        new TableGenerator(session).generateTable(CALL_CENTER);
+        new TableGenerator(session).generateTable(SHIP_MODE);
+        assertThat(listFiles(cacheDirectory)).containsExactly(cacheDirectory.resolve(getKey(SHIP_MODE, session)));
+        assertThat(directory.resolve("call_center.dat")).exists();
+        assertThat(directory.resolve("ship_mode.dat")).exists();
+    }
+
+    private static List<Path> listFiles(Path directory)
+            throws IOException
+    {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
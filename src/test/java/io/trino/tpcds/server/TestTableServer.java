@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.server;
+
+import com.google.common.collect.AbstractIterator;
+import io.trino.tpcds.Options;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.TableGenerator;
+import io.trino.tpcds.TpcdsException;
+import io.trino.tpcds.output.BinaryFormat;
+import io.trino.tpcds.server.TableServer.RowSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Table.CALL_CENTER;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestTableServer
+{
+    private Session session;
+    private TableServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        Options options = new Options();
+        options.scale = 0.01;
+        session = options.toSession();
+        server = new TableServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), session, 2, 4);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        server.close();
+    }
+
+    @Test
+    public void testWholeTable(@TempDir Path directory)
+            throws Exception
+    {
+        new TableGenerator(session.withTable(CALL_CENTER), directory).generateTable(CALL_CENTER);
+
+        HttpResponse<byte[]> response = get("/table/call_center", null);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains("text/plain; charset=ISO-8859-1");
+        assertThat(response.body()).isEqualTo(Files.readAllBytes(directory.resolve("call_center.dat")));
+    }
+
+    @Test
+    public void testRowRanges(@TempDir Path directory)
+            throws Exception
+    {
+        new TableGenerator(session.withTable(STORE_SALES), directory).generateTable(STORE_SALES);
+        long rowCount = session.getScaling().getRowCount(STORE_SALES);
+
+        // a client resumes an interrupted stream after the last order it received completely
+        HttpResponse<byte[]> first = get("/table/store_sales?start=1&end=1000", null);
+        assertThat(first.statusCode()).isEqualTo(200);
+        HttpResponse<byte[]> rest = get("/table/store_sales", "rows=1001-");
+        assertThat(rest.statusCode()).isEqualTo(206);
+        assertThat(rest.headers().firstValue("Content-Range")).contains("rows 1001-" + rowCount + "/" + rowCount);
+
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.write(first.body());
+        concatenated.write(rest.body());
+        assertThat(concatenated.toByteArray()).isEqualTo(Files.readAllBytes(directory.resolve("store_sales.dat")));
+    }
+
+    @Test
+    public void testBinaryFormatAndScale()
+            throws Exception
+    {
+        HttpResponse<byte[]> response = get("/table/call_center?format=binary&scale=1", null);
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains("application/octet-stream");
+        assertThat(Arrays.copyOf(response.body(), BinaryFormat.MAGIC.length)).isEqualTo(BinaryFormat.MAGIC);
+    }
+
+    @Test
+    public void testErrors()
+            throws Exception
+    {
+        assertThat(get("/table/no_such_table", null).statusCode()).isEqualTo(404);
+        assertThat(get("/table/call_center?start=abc", null).statusCode()).isEqualTo(400);
+        assertThat(get("/table/call_center?scale=-1", null).statusCode()).isEqualTo(400);
+        assertThat(get("/table/call_center?format=orc", null).statusCode()).isEqualTo(400);
+        assertThat(get("/table/call_center?end=1000000", null).statusCode()).isEqualTo(400);
+        HttpResponse<byte[]> response = get("/table/call_center", "rows=5-1000000");
+        assertThat(response.statusCode()).isEqualTo(416);
+        assertThat(response.headers().firstValue("Content-Range")).contains("rows */" + session.getScaling().getRowCount(CALL_CENTER));
+    }
+
+    @Test
+    public void testResumesSlowlyChangingDimensionWithinBusinessKey(@TempDir Path directory)
+            throws Exception
+    {
+        Session scaledSession = session.withScale(1);
+        new TableGenerator(scaledSession.withTable(CALL_CENTER), directory).generateTable(CALL_CENTER);
+        List<String> lines = Files.readAllLines(directory.resolve("call_center.dat"), ISO_8859_1);
+        long rowCount = scaledSession.getScaling().getRowCount(CALL_CENTER);
+
+        // rows 3 and 5 are later revisions of the business keys starting at rows 2 and 4
+        HttpResponse<byte[]> rest = get("/table/call_center?scale=1", "rows=3-");
+        assertThat(rest.statusCode()).isEqualTo(206);
+        assertThat(rest.headers().firstValue("Content-Range")).contains("rows 3-" + rowCount + "/" + rowCount);
+        assertThat(new String(rest.body(), ISO_8859_1).lines()).isEqualTo(lines.subList(2, lines.size()));
+
+        HttpResponse<byte[]> single = get("/table/call_center?scale=1&start=5&end=5", null);
+        assertThat(single.statusCode()).isEqualTo(200);
+        assertThat(new String(single.body(), ISO_8859_1).lines()).containsExactly(lines.get(4));
+    }
+
+    @Test
+    public void testGenerationFailures()
+            throws Exception
+    {
+        RowSource failingSource = (table, start, end, rowSession) -> {
+            Iterator<List<List<String>>> rows = constructResults(table, start, end, rowSession).iterator();
+            return new AbstractIterator<>()
+            {
+                private long row = start;
+
+                @Override
+                protected List<List<String>> computeNext()
+                {
+                    if (row++ > 1000) {
+                        throw new TpcdsException("generation failed");
+                    }
+                    return rows.hasNext() ? rows.next() : endOfData();
+                }
+            };
+        };
+        try (TableServer failingServer = new TableServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), session, 1, 0, failingSource)) {
+            // a failure before the first row is reported with the status
+            URI failedUri = URI.create("http://localhost:" + failingServer.getPort() + "/table/store_sales?start=2000");
+            HttpResponse<byte[]> failed = client.send(HttpRequest.newBuilder(failedUri).build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(failed.statusCode()).isEqualTo(500);
+
+            // a failure after the headers cuts off the response without its last chunk
+            URI truncatedUri = URI.create("http://localhost:" + failingServer.getPort() + "/table/store_sales");
+            assertThatThrownBy(() -> client.send(HttpRequest.newBuilder(truncatedUri).build(), HttpResponse.BodyHandlers.ofByteArray()))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void testRejectsRequestsWhenBusy()
+            throws Exception
+    {
+        try (TableServer busyServer = new TableServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), session, 1, 0)) {
+            // the only thread is kept busy by a large table nobody reads
+            URI busyUri = URI.create("http://localhost:" + busyServer.getPort() + "/table/store_sales?scale=1");
+            HttpResponse<InputStream> busy = client.send(HttpRequest.newBuilder(busyUri).build(), HttpResponse.BodyHandlers.ofInputStream());
+            assertThat(busy.statusCode()).isEqualTo(200);
+
+            URI rejectedUri = URI.create("http://localhost:" + busyServer.getPort() + "/table/call_center");
+            HttpResponse<byte[]> rejected = client.send(HttpRequest.newBuilder(rejectedUri).build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(rejected.statusCode()).isEqualTo(503);
+            assertThat(rejected.headers().firstValue("Retry-After")).contains("1");
+            busy.body().close();
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, String range)
+            throws IOException, InterruptedException
+    {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path));
+        if (range != null) {
+            request.header("Range", range);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path)
+    {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
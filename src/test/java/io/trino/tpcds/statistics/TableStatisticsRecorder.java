@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.statistics;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.trino.tpcds.Results.ResultsIterator;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.output.HyperLogLog;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.DBGEN_VERSION;
+import static io.trino.tpcds.Table.INVENTORY;
+import static io.trino.tpcds.column.ColumnType.Base.IDENTIFIER;
+import static io.trino.tpcds.column.ColumnType.Base.INTEGER;
+import static io.trino.tpcds.statistics.SampleStatistics.SAMPLE_SCALE;
+import static io.trino.tpcds.statistics.SampleStatistics.formatValue;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+// Generates every table at the scale of SampleStatistics and writes the statistics.tsv read by
+// it. Run it again whenever a change to the generator changes the data:
+// TableStatisticsRecorder [src/main/resources/io/trino/tpcds/statistics/statistics.tsv]
+public final class TableStatisticsRecorder
+{
+    private static final String DEFAULT_OUTPUT = "src/main/resources/io/trino/tpcds/statistics/statistics.tsv";
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private TableStatisticsRecorder() {}
+
+    public static void main(String[] args)
+            throws IOException
+    {
+        Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        Session session = getDefaultSession().withScale(SAMPLE_SCALE);
+        try (Writer writer = Files.newBufferedWriter(output, ISO_8859_1)) {
+            writer.write("-- Statistics of the tables at scale 1, see SampleStatistics. Generated by TableStatisticsRecorder.\n");
+            writer.write("-- table\tcolumn\trows\tnull rows\tdistinct values\texact\tmin\tmax\n");
+            for (Table table : Table.getBaseTables()) {
+                if (table == DBGEN_VERSION || table.isChild()) {
+                    continue;
+                }
+                boolean exact = !(table.hasChild() || table == INVENTORY);
+                ColumnRecorder[] columns = createRecorders(table, exact);
+                ColumnRecorder[] childColumns = table.hasChild() ? createRecorders(table.getChild(), exact) : new ColumnRecorder[0];
+                ResultsIterator results = constructResults(table, session).iterator();
+                while (results.hasNext()) {
+                    List<List<String>> rows = results.next();
+                    record(columns, rows.get(0));
+                    if (rows.size() > 1) {
+                        record(childColumns, rows.get(1));
+                    }
+                }
+                write(writer, columns);
+                write(writer, childColumns);
+            }
+        }
+    }
+
+    private static ColumnRecorder[] createRecorders(Table table, boolean exact)
+    {
+        Column[] columns = table.getColumns();
+        ColumnRecorder[] recorders = new ColumnRecorder[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            recorders[i] = new ColumnRecorder(columns[i], exact);
+        }
+        return recorders;
+    }
+
+    private static void record(ColumnRecorder[] columns, List<String> row)
+    {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].add(row.get(i));
+        }
+    }
+
+    private static void write(Writer writer, ColumnRecorder[] columns)
+            throws IOException
+    {
+        for (ColumnRecorder column : columns) {
+            writer.write(String.join("\t",
+                    column.column.getTable().getName(),
+                    column.column.getName(),
+                    Long.toString(column.rows),
+                    Long.toString(column.nullRows),
+                    Long.toString(column.getDistinctValues()),
+                    Boolean.toString(column.exact),
+                    formatValue(Optional.ofNullable(column.min)),
+                    formatValue(Optional.ofNullable(column.max))));
+            writer.write('\n');
+        }
+    }
+
+    private static final class ColumnRecorder
+    {
+        private final Column column;
+        // keys and order numbers are small non-negative numbers, so they are always counted exactly
+        private final boolean identifier;
+        private final boolean exact;
+        private final Comparator<String> comparator;
+        private final Set<String> values = new HashSet<>();
+        private final BitSet identifiers = new BitSet();
+        private final HyperLogLog distinctValues = new HyperLogLog(16);
+        private long rows;
+        private long nullRows;
+        private String min;
+        private String max;
+
+        private ColumnRecorder(Column column, boolean exact)
+        {
+            this.column = column;
+            this.identifier = column.getType().getBase() == IDENTIFIER;
+            this.exact = exact || identifier;
+            this.comparator = switch (column.getType().getBase()) {
+                case INTEGER, IDENTIFIER -> Comparator.comparing(Long::parseLong);
+                case DECIMAL -> Comparator.comparing(BigDecimal::new);
+                default -> Comparator.naturalOrder();
+            };
+        }
+
+        private void add(String value)
+        {
+            rows++;
+            if (value == null) {
+                nullRows++;
+                return;
+            }
+            if (identifier) {
+                identifiers.set(Math.toIntExact(Long.parseLong(value)));
+            }
+            else if (exact) {
+                values.add(value);
+            }
+            else {
+                distinctValues.add(HASH.hashUnencodedChars(value).asLong());
+            }
+            if (min == null || comparator.compare(value, min) < 0) {
+                min = value;
+            }
+            if (max == null || comparator.compare(value, max) > 0) {
+                max = value;
+            }
+        }
+
+        private long getDistinctValues()
+        {
+            if (identifier) {
+                return identifiers.cardinality();
+            }
+            if (exact) {
+                return values.size();
+            }
+            // the estimate can exceed what the column can hold
+            long estimate = Math.min(distinctValues.estimate(), rows - nullRows);
+            if (column.getType().getBase() == INTEGER && min != null) {
+                estimate = Math.min(estimate, Long.parseLong(max) - Long.parseLong(min) + 1);
+            }
+            return estimate;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.trino.tpcds.statistics;
+
+import io.trino.tpcds.Results.ResultsIterator;
+import io.trino.tpcds.Scaling;
+import io.trino.tpcds.Session;
+import io.trino.tpcds.Table;
+import io.trino.tpcds.column.Column;
+import io.trino.tpcds.column.ColumnType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.trino.tpcds.Results.constructResults;
+import static io.trino.tpcds.Session.getDefaultSession;
+import static io.trino.tpcds.Table.CUSTOMER;
+import static io.trino.tpcds.Table.DATE_DIM;
+import static io.trino.tpcds.Table.STORE_SALES;
+import static io.trino.tpcds.Table.getBaseTables;
+import static io.trino.tpcds.column.ColumnType.Base.IDENTIFIER;
+import static io.trino.tpcds.column.ColumnType.Base.INTEGER;
+import static io.trino.tpcds.column.CustomerColumn.C_BIRTH_COUNTRY;
+import static io.trino.tpcds.column.CustomerColumn.C_CUSTOMER_ID;
+import static io.trino.tpcds.column.CustomerColumn.C_CUSTOMER_SK;
+import static io.trino.tpcds.column.CustomerColumn.C_EMAIL_ADDRESS;
+import static io.trino.tpcds.column.DateDimColumn.D_DATE_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_CUSTOMER_SK;
+import static io.trino.tpcds.column.StoreSalesColumn.SS_TICKET_NUMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Offset.offset;
+
+public class TestTableStatistics
+{
+    @Test
+    public void testAllTables()
+    {
+        Scaling scaling = new Scaling(100);
+        for (Table table : getBaseTables()) {
+            TableStatistics statistics = TableStatistics.getTableStatistics(table, scaling);
+            assertThat(statistics.getRowCount()).isPositive();
+            assertThat(statistics.getColumnStatistics()).hasSize(table.getColumns().length);
+            for (Column column : table.getColumns()) {
+                ColumnStatistics columnStatistics = statistics.getColumnStatistics(column);
+                assertThat(columnStatistics.getDistinctValuesCount().orElseThrow()).isBetween(0L, statistics.getRowCount());
+                assertThat(columnStatistics.getNullFraction().orElseThrow()).isBetween(0.0, 1.0);
+            }
+        }
+    }
+
+    @Test
+    public void testDistinctValuesWithinRange()
+    {
+        // the sample counts keys and order numbers exactly, so they cannot exceed their range
+        Scaling scaling = new Scaling(1);
+        for (Table table : getBaseTables()) {
+            TableStatistics statistics = TableStatistics.getTableStatistics(table, scaling);
+            for (Column column : table.getColumns()) {
+                ColumnStatistics columnStatistics = statistics.getColumnStatistics(column);
+                ColumnType.Base type = column.getType().getBase();
+                if ((type == INTEGER || type == IDENTIFIER) && columnStatistics.getMin().isPresent()) {
+                    long range = Long.parseLong(columnStatistics.getMax().orElseThrow()) - Long.parseLong(columnStatistics.getMin().orElseThrow()) + 1;
+                    assertThat(columnStatistics.getDistinctValuesCount().orElseThrow())
+                            .as(column.getName())
+                            .isLessThanOrEqualTo(range);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStaticTable()
+    {
+        TableStatistics sample = TableStatistics.getTableStatistics(DATE_DIM, new Scaling(1));
+        TableStatistics statistics = TableStatistics.getTableStatistics(DATE_DIM, new Scaling(1000));
+        assertThat(statistics.getRowCount()).isEqualTo(sample.getRowCount());
+        assertThat(statistics.isRowCountEstimate()).isFalse();
+        ColumnStatistics dateKey = statistics.getColumnStatistics(D_DATE_SK);
+        assertThat(dateKey.getDistinctValuesCount()).hasValue(statistics.getRowCount());
+        assertThat(dateKey.getMin()).isEqualTo(sample.getColumnStatistics(D_DATE_SK).getMin());
+        assertThat(dateKey.isEstimate()).isFalse();
+    }
+
+    @Test
+    public void testKeys()
+    {
+        Scaling scaling = new Scaling(1000);
+        TableStatistics customer = TableStatistics.getTableStatistics(CUSTOMER, scaling);
+        long customers = scaling.getRowCount(CUSTOMER);
+        assertThat(customer.getRowCount()).isEqualTo(customers);
+        assertThat(customer.getColumnStatistics(C_CUSTOMER_SK).getDistinctValuesCount()).hasValue(customers);
+        assertThat(customer.getColumnStatistics(C_CUSTOMER_SK).getMax()).hasValue(Long.toString(customers));
+        assertThat(customer.getColumnStatistics(C_CUSTOMER_SK).isEstimate()).isFalse();
+        assertThat(customer.getColumnStatistics(C_CUSTOMER_ID).getDistinctValuesCount()).hasValue(scaling.getIdCount(CUSTOMER));
+
+        TableStatistics storeSales = TableStatistics.getTableStatistics(STORE_SALES, scaling);
+        assertThat(storeSales.isRowCountEstimate()).isTrue();
+        assertThat(storeSales.getColumnStatistics(SS_TICKET_NUMBER).getDistinctValuesCount()).hasValue(scaling.getRowCount(STORE_SALES));
+        ColumnStatistics customerKey = storeSales.getColumnStatistics(SS_CUSTOMER_SK);
+        assertThat(customerKey.getMax()).hasValue(Long.toString(customers));
+        assertThat(customerKey.getDistinctValuesCount().orElseThrow()).isBetween(customers / 2, customers);
+        assertThat(customerKey.isEstimate()).isTrue();
+    }
+
+    @Test
+    public void testEstimates()
+    {
+        Session session = getDefaultSession().withScale(0.1);
+        TableStatistics customer = TableStatistics.getTableStatistics(CUSTOMER, session.getScaling());
+        List<Column> columns = List.of(C_CUSTOMER_ID, C_BIRTH_COUNTRY, C_EMAIL_ADDRESS);
+        List<Set<String>> values = List.of(new HashSet<>(), new HashSet<>(), new HashSet<>());
+        long nullRows = 0;
+        ResultsIterator results = constructResults(CUSTOMER, session).iterator();
+        while (results.hasNext()) {
+            List<String> row = results.next().get(0);
+            for (int i = 0; i < columns.size(); i++) {
+                String value = row.get(columns.get(i).getPosition());
+                if (value != null) {
+                    values.get(i).add(value);
+                }
+            }
+            if (row.get(C_EMAIL_ADDRESS.getPosition()) == null) {
+                nullRows++;
+            }
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            long distinctValues = customer.getColumnStatistics(columns.get(i)).getDistinctValuesCount().orElseThrow();
+            assertThat((double) distinctValues).isCloseTo(values.get(i).size(), offset(values.get(i).size() * 0.1));
+        }
+        double nullFraction = customer.getColumnStatistics(C_EMAIL_ADDRESS).getNullFraction().orElseThrow();
+        assertThat(nullFraction).isCloseTo((double) nullRows / customer.getRowCount(), offset(0.01));
+    }
+
+    @Test
+    public void testSalesRowCount()
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES);
+        long lines = 0;
+        ResultsIterator results = constructResults(STORE_SALES, session).iterator();
+        while (results.hasNext()) {
+            results.next();
+            lines++;
+        }
+        long estimate = TableStatistics.getTableStatistics(STORE_SALES, session.getScaling()).getRowCount();
+        assertThat((double) estimate).isCloseTo(lines, offset(lines * 0.05));
+    }
+
+    @Test
+    public void testWrongColumn()
+    {
+        TableStatistics statistics = TableStatistics.getTableStatistics(CUSTOMER, new Scaling(1));
+        assertThatThrownBy(() -> statistics.getColumnStatistics(D_DATE_SK))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Column d_date_sk is not a column of table customer");
+    }
+}